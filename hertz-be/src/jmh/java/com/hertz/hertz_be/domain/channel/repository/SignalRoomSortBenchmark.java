@@ -0,0 +1,56 @@
+package com.hertz.hertz_be.domain.channel.repository;
+
+import com.hertz.hertz_be.domain.channel.entity.SignalRoom;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 채널 목록 조회 시 fetch join 결과를 id 페이지 순서로 되돌리는 비용 비교
+ * - indexOfSort: 기존 ids.indexOf 기반 정렬 (O(n²))
+ * - mapSort: SignalRoomRepositoryImpl.sortByIds (O(n))
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SignalRoomSortBenchmark {
+
+    @Param({"10", "50", "100", "250", "500"})
+    private int pageSize;
+
+    private List<Long> ids;
+    private List<SignalRoom> fetchedRooms;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        ids = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            ids.add(random.nextLong(1, Long.MAX_VALUE));
+        }
+
+        // DB는 in 절 결과를 id 페이지 순서와 무관하게 돌려주므로 섞어서 재현
+        fetchedRooms = new ArrayList<>(pageSize);
+        for (Long id : ids) {
+            fetchedRooms.add(SignalRoom.builder().id(id).build());
+        }
+        Collections.shuffle(fetchedRooms, random);
+    }
+
+    @Benchmark
+    public List<SignalRoom> indexOfSort() {
+        List<SignalRoom> rooms = new ArrayList<>(fetchedRooms);
+        rooms.sort(Comparator.comparingInt(room -> ids.indexOf(room.getId())));
+        return rooms;
+    }
+
+    @Benchmark
+    public List<SignalRoom> mapSort() {
+        return SignalRoomRepositoryImpl.sortByIds(new ArrayList<>(fetchedRooms), ids);
+    }
+}
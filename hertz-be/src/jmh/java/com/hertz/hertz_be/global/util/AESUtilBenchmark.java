@@ -0,0 +1,71 @@
+package com.hertz.hertz_be.global.util;
+
+import org.openjdk.jmh.annotations.*;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.SecretKeySpec;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 채팅방 한 페이지(20건) 복호화 처리량 비교
+ * - legacy: 호출마다 키 디코딩 + Cipher.getInstance (변경 전 AESUtil)
+ * - ecb / gcm: 키 캐싱 + 스레드별 Cipher 재사용, decryptAll
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(4)
+public class AESUtilBenchmark {
+
+    private static final String SECRET = Base64.getEncoder().encodeToString(new byte[32]);
+    private static final int PAGE_SIZE = 20;
+
+    private AESUtil ecbUtil;
+    private AESUtil gcmUtil;
+    private List<String> ecbPage;
+    private List<String> gcmPage;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ecbUtil = new AESUtil(SECRET, false);
+        gcmUtil = new AESUtil(SECRET, true);
+        ecbPage = new ArrayList<>(PAGE_SIZE);
+        gcmPage = new ArrayList<>(PAGE_SIZE);
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            String message = "오늘 저녁에 같이 밥 먹을래요? #" + i;
+            ecbPage.add(ecbUtil.encrypt(message));
+            gcmPage.add(gcmUtil.encrypt(message));
+        }
+    }
+
+    @Benchmark
+    public List<String> legacyDecryptPage() throws Exception {
+        List<String> result = new ArrayList<>(PAGE_SIZE);
+        for (String encrypted : ecbPage) {
+            byte[] decodedKey = Base64.getDecoder().decode(SECRET);
+            SecretKeySpec keySpec = new SecretKeySpec(decodedKey, "AES");
+            Cipher cipher = Cipher.getInstance("AES");
+            cipher.init(Cipher.DECRYPT_MODE, keySpec);
+            result.add(new String(cipher.doFinal(Base64.getDecoder().decode(encrypted))));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<String> ecbDecryptPage() {
+        return ecbUtil.decryptAll(ecbPage);
+    }
+
+    @Benchmark
+    public List<String> gcmDecryptPage() {
+        return gcmUtil.decryptAll(gcmPage);
+    }
+
+    @Benchmark
+    public String gcmEncrypt() {
+        return gcmUtil.encrypt("오늘 저녁에 같이 밥 먹을래요?");
+    }
+}
@@ -1,5 +1,6 @@
 package com.hertz.hertz_be.domain.auth.repository;
 
+import com.hertz.hertz_be.global.sse.SsePresenceRegistry;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Repository;
@@ -11,6 +12,7 @@ import java.time.Duration;
 public class RefreshTokenRepository {
 
     private final StringRedisTemplate redisTemplate;
+    private final SsePresenceRegistry ssePresenceRegistry;
     private static final String REFRESH_TOKEN_PREFIX = "RT:";
 
     public void saveRefreshToken(Long userId, String refreshToken, long expirationSeconds) {
@@ -23,9 +25,11 @@ public class RefreshTokenRepository {
         return redisTemplate.opsForValue().get(key);
     }
 
+    // 토큰 삭제 = 세션 폐기: 열려 있는 SSE 연결도 종료되도록 알림 (SSE 전송 경로는 토큰을 조회하지 않음)
     public void deleteRefreshToken(Long userId) {
         String key = REFRESH_TOKEN_PREFIX + userId;
         redisTemplate.delete(key);
+        ssePresenceRegistry.publishRevoke(userId);
     }
 
     public void deleteAll() {
@@ -7,7 +7,6 @@ import com.hertz.hertz_be.domain.user.responsecode.UserResponseCode;
 import com.hertz.hertz_be.domain.user.repository.UserRepository;
 import com.hertz.hertz_be.global.auth.token.JwtTokenProvider;
 import com.hertz.hertz_be.global.exception.BusinessException;
-import com.hertz.hertz_be.global.sse.SseService;
 import io.jsonwebtoken.JwtException;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
@@ -27,7 +26,6 @@ public class AuthService {
     private final JwtTokenProvider jwtTokenProvider;
     private final RefreshTokenRepository refreshTokenService;
     private final UserRepository userRepository;
-    private final SseService sseService;
 
     public Map.Entry<ReissueAccessTokenResponseDto, String> reissueAccessToken(String refreshToken) {
         try {
@@ -68,7 +66,7 @@ public class AuthService {
             );
         }
 
+        // 리프레시 토큰 삭제 시 SSE 연결 종료 알림도 함께 발행됨
         refreshTokenService.deleteRefreshToken(userId);
-        sseService.disconnect(userId);
     }
 }
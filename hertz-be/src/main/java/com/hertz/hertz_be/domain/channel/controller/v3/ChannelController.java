@@ -17,6 +17,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
 
 @RestController("channelControllerV3")
 @RequestMapping("/api/v3")
@@ -28,12 +29,15 @@ public class ChannelController {
     private final ChannelService channelService;
 
     @GetMapping("/channel")
-    @Operation(summary = "개인 채널보관함 목록 반환 API")
+    @Operation(summary = "개인 채널보관함 목록 반환 API", description = "cursor 를 빈 값으로 보내면 가장 최근 채널방부터 커서 방식으로 조회")
     public ResponseEntity<ResponseDto<ChannelListResponseDto>> getPersonalSignalRoomList(@AuthenticationPrincipal Long userId,
                                                                                          @RequestParam(defaultValue = "0") int page,
-                                                                                         @RequestParam(defaultValue = "10") int size) {
+                                                                                         @RequestParam(defaultValue = "10") int size,
+                                                                                         @RequestParam(required = false) String cursor) {
 
-        ChannelListResponseDto response = channelService.getPersonalSignalRoomList(userId, page, size);
+        ChannelListResponseDto response = (cursor != null)
+                ? channelService.getPersonalSignalRoomListByCursor(userId, cursor, size)
+                : channelService.getPersonalSignalRoomList(userId, page, size);
 
         if (response == null) {
             return ResponseEntity.ok(new ResponseDto<>(ChannelResponseCode.NO_CHANNEL_ROOM.getCode(), ChannelResponseCode.NO_CHANNEL_ROOM.getMessage(), null));
@@ -42,13 +46,16 @@ public class ChannelController {
     }
 
     @GetMapping("/channel-rooms/{channelRoomId}")
-    @Operation(summary = "특정 채널방 반환 API")
+    @Operation(summary = "특정 채널방 반환 API", description = "cursor 를 빈 값으로 보내면 최신 메세지 페이지부터 커서 방식으로 조회")
     public ResponseEntity<ResponseDto<ChannelRoomResponseDto>> getChannelRoomMessages(@PathVariable Long channelRoomId,
                                                                                       @AuthenticationPrincipal Long userId,
                                                                                       @RequestParam(defaultValue = "0") int page,
-                                                                                      @RequestParam(defaultValue = "20") int size) {
+                                                                                      @RequestParam(defaultValue = "20") int size,
+                                                                                      @RequestParam(required = false) String cursor) {
 
-        ChannelRoomResponseDto response = channelService.getChannelRoom(channelRoomId, userId, page, size);
+        ChannelRoomResponseDto response = (cursor != null)
+                ? channelService.getChannelRoomByCursor(channelRoomId, userId, cursor, size)
+                : channelService.getChannelRoom(channelRoomId, userId, page, size);
         return ResponseEntity.ok(new ResponseDto<>(ChannelResponseCode.CHANNEL_ROOM_SUCCESS.getCode(), ChannelResponseCode.CHANNEL_ROOM_SUCCESS.getMessage(), response));
     }
 
@@ -79,10 +86,11 @@ public class ChannelController {
 
     @PostMapping("/reports")
     @Operation(summary = "메시지 신고 API")
-    public ResponseEntity<ResponseDto<Void>> reportMessage(@AuthenticationPrincipal Long userId,
-                                                            @RequestBody @Valid ChatReportRequestDto requestDto) {
-        channelService.reportMessage(userId, requestDto);
-        return ResponseEntity.ok(new ResponseDto<>(ChannelResponseCode.MESSAGE_REPORTED.getCode(), ChannelResponseCode.MESSAGE_REPORTED.getMessage(), null )
-        );
+    public Mono<ResponseEntity<ResponseDto<Void>>> reportMessage(@AuthenticationPrincipal Long userId,
+                                                                  @RequestBody @Valid ChatReportRequestDto requestDto) {
+        return channelService.reportMessageAsync(userId, requestDto)
+                .then(Mono.fromSupplier(() -> ResponseEntity.ok(
+                        new ResponseDto<Void>(ChannelResponseCode.MESSAGE_REPORTED.getCode(), ChannelResponseCode.MESSAGE_REPORTED.getMessage(), null)
+                )));
     }
 }
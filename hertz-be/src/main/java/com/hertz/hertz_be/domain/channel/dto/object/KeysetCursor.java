@@ -0,0 +1,40 @@
+package com.hertz.hertz_be.domain.channel.dto.object;
+
+import com.hertz.hertz_be.global.common.NewResponseCode;
+import com.hertz.hertz_be.global.exception.BusinessException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * (시간, id) 기반 keyset 페이지네이션 커서. 클라이언트에는 base64url 문자열로 노출
+ * - 채널 목록: (last_message_send_at, signal_room_id)
+ * - 메세지 목록: (send_at, signal_message_id)
+ */
+public record KeysetCursor(LocalDateTime time, Long id) {
+
+    private static final String DELIMITER = "|";
+    private static final String NULL_TIME = "-";
+
+    public String encode() {
+        String raw = (time != null ? time.toString() : NULL_TIME) + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static KeysetCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int idx = raw.lastIndexOf(DELIMITER);
+            String timePart = raw.substring(0, idx);
+            LocalDateTime time = NULL_TIME.equals(timePart) ? null : LocalDateTime.parse(timePart);
+            return new KeysetCursor(time, Long.parseLong(raw.substring(idx + 1)));
+        } catch (Exception e) {
+            throw new BusinessException(
+                    NewResponseCode.BAD_REQUEST.getCode(),
+                    NewResponseCode.BAD_REQUEST.getHttpStatus(),
+                    "유효하지 않은 cursor: " + cursor
+            );
+        }
+    }
+}
@@ -1,9 +1,13 @@
 package com.hertz.hertz_be.domain.channel.dto.response.sse;
 
+import com.fasterxml.jackson.annotation.JsonFormat;
+
 import java.time.LocalDateTime;
 
 public record MatchingConvertedResponseDto(
         Long channelRoomId,
+        // 클라이언트는 [yyyy, M, d, H, m, s] 배열 형식으로 받아 왔으므로 ObjectMapper 설정과 무관하게 고정
+        @JsonFormat(shape = JsonFormat.Shape.ARRAY)
         LocalDateTime matchedAt,
         Long partnerId,
         String partnerNickname
@@ -54,13 +54,18 @@ public class ChannelRoomResponseDto {
             try {
                 decryptedMessage = aesUtil.decrypt(msg.getMessage());
             } catch (Exception e) {
-                decryptedMessage = "메세지를 표시할 수 없습니다.";
+                decryptedMessage = null;
             }
 
+            return of(msg, decryptedMessage);
+        }
+
+        // 미리 복호화한 본문 사용 (null 이면 복호화 실패)
+        public static MessageDto of(SignalMessage msg, String decryptedMessage) {
             return new MessageDto(
                     msg.getId(),
                     msg.getSenderUser().getId(),
-                    decryptedMessage,
+                    decryptedMessage != null ? decryptedMessage : "메세지를 표시할 수 없습니다.",
                     msg.getSendAt().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME)
             );
         }
@@ -14,4 +14,6 @@ public class ChannelListResponseDto {
     private int pageSize;
     @JsonProperty("isLast")
     private boolean isLast;
+    // 다음 목록 조회용 keyset 커서 (마지막 페이지면 null)
+    private String nextCursor;
 }
@@ -31,7 +31,8 @@ public class ChannelRoomResponseDto {
     public static com.hertz.hertz_be.domain.channel.dto.response.v3.ChannelRoomResponseDto of(Long roomId, User partner, String relationType,
                                                                                               boolean hasPartnerExited,
                                                                                               String category,
-                                                                                              List<com.hertz.hertz_be.domain.channel.dto.response.v3.ChannelRoomResponseDto.MessageDto> messages, Page<SignalMessage> page) {
+                                                                                              List<com.hertz.hertz_be.domain.channel.dto.response.v3.ChannelRoomResponseDto.MessageDto> messages, Page<SignalMessage> page,
+                                                                                              String nextCursor) {
         return ChannelRoomResponseDto.builder()
                 .channelRoomId(roomId)
                 .partnerId(partner.getId())
@@ -40,7 +41,27 @@ public class ChannelRoomResponseDto {
                 .relationType(relationType)
                 .hasPartnerExited(hasPartnerExited)
                 .category(category)
-                .messages(new com.hertz.hertz_be.domain.channel.dto.response.v3.ChannelRoomResponseDto.MessagePage(messages, page))
+                .messages(new com.hertz.hertz_be.domain.channel.dto.response.v3.ChannelRoomResponseDto.MessagePage(messages, page, nextCursor))
+                .build();
+    }
+
+    public static com.hertz.hertz_be.domain.channel.dto.response.v3.ChannelRoomResponseDto ofCursor(Long roomId, User partner, String relationType,
+                                                                                                    boolean hasPartnerExited,
+                                                                                                    String category,
+                                                                                                    List<com.hertz.hertz_be.domain.channel.dto.response.v3.ChannelRoomResponseDto.MessageDto> messages,
+                                                                                                    int size, boolean hasNext, String nextCursor) {
+        return ChannelRoomResponseDto.builder()
+                .channelRoomId(roomId)
+                .partnerId(partner.getId())
+                .partnerProfileImage(partner.getProfileImageUrl())
+                .partnerNickname(partner.getNickname())
+                .relationType(relationType)
+                .hasPartnerExited(hasPartnerExited)
+                .category(category)
+                .messages(new com.hertz.hertz_be.domain.channel.dto.response.v3.ChannelRoomResponseDto.MessagePage(
+                        messages,
+                        new com.hertz.hertz_be.domain.channel.dto.response.v3.ChannelRoomResponseDto.PageableInfo(0, size, !hasNext, nextCursor)
+                ))
                 .build();
     }
 
@@ -57,13 +78,18 @@ public class ChannelRoomResponseDto {
             try {
                 decryptedMessage = aesUtil.decrypt(msg.getMessage());
             } catch (Exception e) {
-                decryptedMessage = "메세지를 표시할 수 없습니다.";
+                decryptedMessage = null;
             }
 
+            return of(msg, decryptedMessage);
+        }
+
+        // decryptAll 로 미리 복호화한 본문 사용 (null 이면 복호화 실패)
+        public static com.hertz.hertz_be.domain.channel.dto.response.v3.ChannelRoomResponseDto.MessageDto of(SignalMessage msg, String decryptedMessage) {
             return new com.hertz.hertz_be.domain.channel.dto.response.v3.ChannelRoomResponseDto.MessageDto(
                     msg.getId(),
                     msg.getSenderUser().getId(),
-                    decryptedMessage,
+                    decryptedMessage != null ? decryptedMessage : "메세지를 표시할 수 없습니다.",
                     msg.getSendAt().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME)
             );
         }
@@ -75,9 +101,9 @@ public class ChannelRoomResponseDto {
         private List<com.hertz.hertz_be.domain.channel.dto.response.v3.ChannelRoomResponseDto.MessageDto> list;
         private com.hertz.hertz_be.domain.channel.dto.response.v3.ChannelRoomResponseDto.PageableInfo pageable;
 
-        public MessagePage(List<com.hertz.hertz_be.domain.channel.dto.response.v3.ChannelRoomResponseDto.MessageDto> list, Page<?> page) {
+        public MessagePage(List<com.hertz.hertz_be.domain.channel.dto.response.v3.ChannelRoomResponseDto.MessageDto> list, Page<?> page, String nextCursor) {
             this.list = list;
-            this.pageable = new com.hertz.hertz_be.domain.channel.dto.response.v3.ChannelRoomResponseDto.PageableInfo(page);
+            this.pageable = new com.hertz.hertz_be.domain.channel.dto.response.v3.ChannelRoomResponseDto.PageableInfo(page, nextCursor);
         }
     }
 
@@ -88,11 +114,14 @@ public class ChannelRoomResponseDto {
         private int pageSize;
         @JsonProperty("isLast")
         private boolean isLast;
+        // 이전(더 오래된) 메세지 조회용 keyset 커서
+        private String nextCursor;
 
-        public PageableInfo(Page<?> page) {
+        public PageableInfo(Page<?> page, String nextCursor) {
             this.pageNumber = page.getNumber();
             this.pageSize = page.getSize();
             this.isLast = page.isLast();
+            this.nextCursor = nextCursor;
         }
     }
 }
@@ -33,7 +33,7 @@ public class SignalMessage {
     @JoinColumn(name = "sender_user_id", nullable = false)
     private User senderUser;
 
-    @Column(nullable = false, length = 300)
+    @Column(nullable = false, length = 400)
     private String message;
 
     @Column(name = "is_read", nullable = false)
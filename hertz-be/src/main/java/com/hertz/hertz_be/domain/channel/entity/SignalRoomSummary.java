@@ -0,0 +1,76 @@
+package com.hertz.hertz_be.domain.channel.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 채널 목록 조회용 SignalRoom 요약 정보 (SignalMessage 쓰기 시점에 함께 갱신)
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(
+        name = "signal_room_summary",
+        indexes = {
+                @Index(name = "idx_signal_room_summary_last_send_at", columnList = "last_message_send_at DESC, signal_room_id DESC")
+        }
+)
+public class SignalRoomSummary {
+
+    @Id
+    @Column(name = "signal_room_id")
+    private Long signalRoomId;
+
+    @Column(name = "last_message_id")
+    private Long lastMessageId;
+
+    // 암호화된 상태 그대로 저장
+    @Column(name = "last_message", length = 400)
+    private String lastMessage;
+
+    @Column(name = "last_message_send_at")
+    private LocalDateTime lastMessageSendAt;
+
+    @Column(name = "last_sender_id")
+    private Long lastSenderId;
+
+    @Column(name = "message_count", nullable = false)
+    private long messageCount;
+
+    // SignalRoom.senderUser 기준 안 읽은 메세지 수
+    @Column(name = "sender_user_unread_count", nullable = false)
+    private int senderUserUnreadCount;
+
+    // SignalRoom.receiverUser 기준 안 읽은 메세지 수
+    @Column(name = "receiver_user_unread_count", nullable = false)
+    private int receiverUserUnreadCount;
+
+    /**
+     * 현재 유저 기준 안 읽은 메세지 수를 반환
+     */
+    public int getUnreadCount(SignalRoom room, Long userId) {
+        return room.getSenderUser().getId().equals(userId) ? senderUserUnreadCount : receiverUserUnreadCount;
+    }
+
+    /**
+     * 현재 유저 기준 마지막 메세지 읽음 여부
+     */
+    public boolean isReadBy(SignalRoom room, Long userId) {
+        if (lastMessageId == null) return true;
+        return userId.equals(lastSenderId) || getUnreadCount(room, userId) == 0;
+    }
+
+    /**
+     * 특정 채팅방의 마지막 페이지 번호 계산
+     */
+    public int getLastPageNumber(int pageSize) {
+        return (int) Math.ceil((messageCount * 1.0) / pageSize) - 1;
+    }
+}
@@ -20,6 +20,26 @@ public interface SignalMessageRepository extends JpaRepository<SignalMessage, Lo
     boolean existsBySignalRoomInAndSenderUserNotAndIsReadFalse(List<SignalRoom> signalRooms, User senderUser);
     Page<SignalMessage> findBySignalRoom_Id(Long roomId, Pageable pageable);
 
+    // (send_at, id) 기준 keyset 조회 → idx_signal_message_room_sendat 인덱스 사용, count 쿼리 없음
+    @Query("""
+    SELECT m FROM SignalMessage m
+    WHERE m.signalRoom.id = :roomId
+      AND (m.sendAt < :cursorSendAt OR (m.sendAt = :cursorSendAt AND m.id < :cursorId))
+    ORDER BY m.sendAt DESC, m.id DESC
+    """)
+    List<SignalMessage> findBeforeCursor(@Param("roomId") Long roomId,
+                                         @Param("cursorSendAt") LocalDateTime cursorSendAt,
+                                         @Param("cursorId") Long cursorId,
+                                         Pageable pageable);
+
+    // 커서 없이 최신 메세지부터 keyset 조회를 시작할 때 사용 (같은 인덱스, 같은 정렬)
+    @Query("""
+    SELECT m FROM SignalMessage m
+    WHERE m.signalRoom.id = :roomId
+    ORDER BY m.sendAt DESC, m.id DESC
+    """)
+    List<SignalMessage> findLatest(@Param("roomId") Long roomId, Pageable pageable);
+
     List<SignalMessage> findBySignalRoomIdAndSenderUserIdAndSendAtAfterOrderBySendAtAsc(
             Long signalRoomId,
             Long senderUserId,
@@ -13,6 +13,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -33,6 +34,18 @@ public interface SignalRoomRepository extends JpaRepository<SignalRoom, Long>, S
                                         @Param("user2") User user2,
                                         @Param("category") Category category);
 
+    // 후보 중 이미 해당 카테고리로 채팅방이 있는 상대 id만 한 번에 조회
+    @Query("""
+    SELECT CASE WHEN sr.senderUser.id = :userId THEN sr.receiverUser.id ELSE sr.senderUser.id END
+    FROM SignalRoom sr
+    WHERE sr.category = :category
+      AND ((sr.senderUser.id = :userId AND sr.receiverUser.id IN :partnerIds)
+        OR (sr.receiverUser.id = :userId AND sr.senderUser.id IN :partnerIds))
+""")
+    List<Long> findPartnerIdsWithRoom(@Param("userId") Long userId,
+                                      @Param("partnerIds") Collection<Long> partnerIds,
+                                      @Param("category") Category category);
+
     @Query(value = """
     SELECT sr.*
     FROM signal_room sr
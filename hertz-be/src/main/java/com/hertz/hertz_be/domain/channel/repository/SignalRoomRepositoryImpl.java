@@ -9,8 +9,11 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
-import java.util.Comparator;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Repository
 @RequiredArgsConstructor
@@ -23,10 +26,9 @@ public class SignalRoomRepositoryImpl implements SignalRoomRepositoryCustom {
         return em.createQuery("""
                 select sr.id
                 from SignalRoom sr
-                left join sr.messages m
+                left join SignalRoomSummary s on s.signalRoomId = sr.id
                 where sr.senderUser.id = :userId or sr.receiverUser.id = :userId
-                group by sr.id
-                order by max(m.sendAt) desc
+                order by s.lastMessageSendAt desc, sr.id desc
             """, Long.class)
                 .setParameter("userId", userId)
                 .setFirstResult(offset)
@@ -34,6 +36,51 @@ public class SignalRoomRepositoryImpl implements SignalRoomRepositoryCustom {
                 .getResultList();
     }
 
+    /**
+     * (마지막 메세지 시간, 방 id) 내림차순 keyset 조회. 메세지가 없는 방(시간 null)은 가장 뒤에 위치
+     * - cursorId 가 null 이면 첫 페이지(가장 최근 방)부터 조회
+     */
+    @Override
+    public List<Long> findSignalRoomIdsByCursor(Long userId, LocalDateTime cursorTime, Long cursorId, int limit) {
+        String cursorCondition;
+        if (cursorId == null) {
+            cursorCondition = "";
+        } else if (cursorTime != null) {
+            cursorCondition = "and (s.lastMessageSendAt < :cursorTime or (s.lastMessageSendAt = :cursorTime and sr.id < :cursorId) or s.lastMessageSendAt is null)";
+        } else {
+            cursorCondition = "and (s.lastMessageSendAt is null and sr.id < :cursorId)";
+        }
+
+        var query = em.createQuery("""
+                select sr.id
+                from SignalRoom sr
+                left join SignalRoomSummary s on s.signalRoomId = sr.id
+                where (sr.senderUser.id = :userId or sr.receiverUser.id = :userId)
+                  %s
+                order by s.lastMessageSendAt desc, sr.id desc
+            """.formatted(cursorCondition), Long.class)
+                .setParameter("userId", userId);
+
+        if (cursorId != null) {
+            query.setParameter("cursorId", cursorId);
+        }
+        if (cursorId != null && cursorTime != null) {
+            query.setParameter("cursorTime", cursorTime);
+        }
+
+        return query.setMaxResults(limit).getResultList();
+    }
+
+    @Override
+    public List<SignalRoom> findAllByCursorWithUsers(Long userId, LocalDateTime cursorTime, Long cursorId, int limit) {
+        List<Long> ids = findSignalRoomIdsByCursor(userId, cursorTime, cursorId, limit);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        return sortByIds(findAllWithUsersByIds(ids), ids);
+    }
+
     public List<SignalRoom> findAllWithUsersByIds(List<Long> ids) {
         return em.createQuery("""
         select distinct sr from SignalRoom sr
@@ -48,33 +95,51 @@ public class SignalRoomRepositoryImpl implements SignalRoomRepositoryCustom {
                 .getResultList();
     }
 
-    public Long countSignalRoomsByUser(Long userId) {
-        return em.createQuery("""
-        select count(sr)
-        from SignalRoom sr
-        where sr.senderUser.id = :userId or sr.receiverUser.id = :userId
-        """, Long.class)
-                .setParameter("userId", userId)
-                .getSingleResult();
-    }
-
+    /**
+     * 정렬된 id 페이지와 전체 개수를 window 함수(count over())로 한 번에 조회한 뒤 연관 엔티티를 fetch join
+     * - 별도 count 쿼리 없이 2회 쿼리로 페이지 구성
+     */
     public Page<SignalRoom> findAllOrderByLastMessageTimeWithUsers(Long userId, Pageable pageable) {
-        int offset = (int) pageable.getOffset();
-        int limit = pageable.getPageSize();
-
-        List<Long> ids = findSignalRoomIdsOrderByLastMessageTime(userId, offset, limit);
+        List<Object[]> rows = em.createQuery("""
+                select sr.id, count(sr.id) over ()
+                from SignalRoom sr
+                left join SignalRoomSummary s on s.signalRoomId = sr.id
+                where sr.senderUser.id = :userId or sr.receiverUser.id = :userId
+                order by s.lastMessageSendAt desc, sr.id desc
+            """, Object[].class)
+                .setParameter("userId", userId)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
 
-        if (ids.isEmpty()) {
+        if (rows.isEmpty()) {
             return new PageImpl<>(List.of(), pageable, 0);
         }
 
-        List<SignalRoom> rooms = findAllWithUsersByIds(ids);
-        Long total = countSignalRoomsByUser(userId);
+        List<Long> ids = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            ids.add((Long) row[0]);
+        }
+        long total = ((Number) rows.getFirst()[1]).longValue();
+
+        return new PageImpl<>(sortByIds(findAllWithUsersByIds(ids), ids), pageable, total);
+    }
 
-        // 정렬 보존을 위해 id 순서를 기준으로 다시 정렬
-        rooms.sort(Comparator.comparingInt(room -> ids.indexOf(room.getId())));
+    // 정렬 보존을 위해 id 순서를 기준으로 다시 배치 (id -> 엔티티 맵으로 O(n))
+    static List<SignalRoom> sortByIds(List<SignalRoom> rooms, List<Long> ids) {
+        Map<Long, SignalRoom> roomById = new HashMap<>(rooms.size() * 2);
+        for (SignalRoom room : rooms) {
+            roomById.put(room.getId(), room);
+        }
 
-        return new PageImpl<>(rooms, pageable, total);
+        List<SignalRoom> sorted = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            SignalRoom room = roomById.get(id);
+            if (room != null) {
+                sorted.add(room);
+            }
+        }
+        return sorted;
     }
 
 }
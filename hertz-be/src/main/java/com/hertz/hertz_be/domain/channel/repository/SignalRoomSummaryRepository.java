@@ -0,0 +1,158 @@
+package com.hertz.hertz_be.domain.channel.repository;
+
+import com.hertz.hertz_be.domain.channel.entity.SignalRoomSummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface SignalRoomSummaryRepository extends JpaRepository<SignalRoomSummary, Long> {
+
+    List<SignalRoomSummary> findAllBySignalRoomIdIn(Collection<Long> signalRoomIds);
+
+    // 새 메세지 저장 시 요약 정보 갱신 (last_message_send_at은 비교에 쓰이므로 마지막에 갱신)
+    @Modifying
+    @Query(value = """
+    INSERT INTO signal_room_summary (
+        signal_room_id, last_message_id, last_message, last_message_send_at, last_sender_id,
+        message_count, sender_user_unread_count, receiver_user_unread_count
+    )
+    VALUES (:roomId, :messageId, :message, :sendAt, :senderId, 1, :senderUserUnread, :receiverUserUnread)
+    ON DUPLICATE KEY UPDATE
+        last_message_id = IF(last_message_send_at IS NULL OR VALUES(last_message_send_at) >= last_message_send_at, VALUES(last_message_id), last_message_id),
+        last_message = IF(last_message_send_at IS NULL OR VALUES(last_message_send_at) >= last_message_send_at, VALUES(last_message), last_message),
+        last_sender_id = IF(last_message_send_at IS NULL OR VALUES(last_message_send_at) >= last_message_send_at, VALUES(last_sender_id), last_sender_id),
+        last_message_send_at = IF(last_message_send_at IS NULL OR VALUES(last_message_send_at) >= last_message_send_at, VALUES(last_message_send_at), last_message_send_at),
+        message_count = message_count + 1,
+        sender_user_unread_count = sender_user_unread_count + VALUES(sender_user_unread_count),
+        receiver_user_unread_count = receiver_user_unread_count + VALUES(receiver_user_unread_count)
+    """, nativeQuery = true)
+    void upsertOnNewMessage(@Param("roomId") Long roomId,
+                            @Param("messageId") Long messageId,
+                            @Param("message") String message,
+                            @Param("sendAt") LocalDateTime sendAt,
+                            @Param("senderId") Long senderId,
+                            @Param("senderUserUnread") int senderUserUnread,
+                            @Param("receiverUserUnread") int receiverUserUnread);
+
+    @Modifying
+    @Query("""
+        UPDATE SignalRoomSummary s
+        SET s.senderUserUnreadCount = 0, s.receiverUserUnreadCount = 0
+        WHERE s.signalRoomId = :roomId
+    """)
+    void resetAllUnreadCounts(@Param("roomId") Long roomId);
+
+    @Modifying
+    @Query(value = """
+    UPDATE signal_room_summary s
+    JOIN signal_room sr ON sr.id = s.signal_room_id
+    SET s.sender_user_unread_count = IF(sr.sender_user_id = :userId, 0, s.sender_user_unread_count),
+        s.receiver_user_unread_count = IF(sr.receiver_user_id = :userId, 0, s.receiver_user_unread_count)
+    WHERE s.signal_room_id = :roomId
+    """, nativeQuery = true)
+    void resetUnreadCountForUser(@Param("roomId") Long roomId, @Param("userId") Long userId);
+
+    @Query(value = """
+    SELECT sr.id
+    FROM signal_room sr
+    WHERE sr.id > :lastRoomId
+    ORDER BY sr.id
+    LIMIT :limit
+    """, nativeQuery = true)
+    List<Long> findRoomIdsAfter(@Param("lastRoomId") Long lastRoomId, @Param("limit") int limit);
+
+    @Query(value = """
+    SELECT sr.id
+    FROM signal_room sr
+    LEFT JOIN signal_room_summary s ON s.signal_room_id = sr.id
+    WHERE sr.id IN (:roomIds) AND s.signal_room_id IS NULL
+    """, nativeQuery = true)
+    List<Long> findRoomIdsWithoutSummary(@Param("roomIds") Collection<Long> roomIds);
+
+    // 실제 SignalMessage 집계와 요약 정보가 다른 채팅방 id 조회
+    @Query(value = """
+    SELECT sr.id
+    FROM signal_room sr
+    LEFT JOIN signal_room_summary s ON s.signal_room_id = sr.id
+    LEFT JOIN (
+        SELECT sm.signal_room_id,
+               COUNT(*) AS message_count,
+               SUM(CASE WHEN sm.is_read = false AND sm.sender_user_id <> r.sender_user_id THEN 1 ELSE 0 END) AS sender_user_unread_count,
+               SUM(CASE WHEN sm.is_read = false AND sm.sender_user_id <> r.receiver_user_id THEN 1 ELSE 0 END) AS receiver_user_unread_count
+        FROM signal_message sm
+        JOIN signal_room r ON r.id = sm.signal_room_id
+        WHERE sm.signal_room_id IN (:roomIds)
+        GROUP BY sm.signal_room_id
+    ) agg ON agg.signal_room_id = sr.id
+    LEFT JOIN signal_message lm ON lm.id = (
+        SELECT sm2.id
+        FROM signal_message sm2
+        WHERE sm2.signal_room_id = sr.id
+        ORDER BY sm2.send_at DESC, sm2.id DESC
+        LIMIT 1
+    )
+    WHERE sr.id IN (:roomIds)
+      AND (
+        s.signal_room_id IS NULL
+        OR s.message_count <> COALESCE(agg.message_count, 0)
+        OR s.sender_user_unread_count <> COALESCE(agg.sender_user_unread_count, 0)
+        OR s.receiver_user_unread_count <> COALESCE(agg.receiver_user_unread_count, 0)
+        OR NOT (s.last_message_id <=> lm.id)
+      )
+    """, nativeQuery = true)
+    List<Long> findInconsistentRoomIds(@Param("roomIds") Collection<Long> roomIds);
+
+    // SignalMessage 기준으로 요약 정보를 다시 계산 (backfill / 정합성 복구용)
+    @Modifying
+    @Query(value = """
+    INSERT INTO signal_room_summary (
+        signal_room_id, last_message_id, last_message, last_message_send_at, last_sender_id,
+        message_count, sender_user_unread_count, receiver_user_unread_count
+    )
+    SELECT sr.id,
+           lm.id,
+           lm.message,
+           lm.send_at,
+           lm.sender_user_id,
+           COALESCE(agg.message_count, 0),
+           COALESCE(agg.sender_user_unread_count, 0),
+           COALESCE(agg.receiver_user_unread_count, 0)
+    FROM signal_room sr
+    LEFT JOIN (
+        SELECT sm.signal_room_id,
+               COUNT(*) AS message_count,
+               SUM(CASE WHEN sm.is_read = false AND sm.sender_user_id <> r.sender_user_id THEN 1 ELSE 0 END) AS sender_user_unread_count,
+               SUM(CASE WHEN sm.is_read = false AND sm.sender_user_id <> r.receiver_user_id THEN 1 ELSE 0 END) AS receiver_user_unread_count
+        FROM signal_message sm
+        JOIN signal_room r ON r.id = sm.signal_room_id
+        WHERE sm.signal_room_id IN (:roomIds)
+        GROUP BY sm.signal_room_id
+    ) agg ON agg.signal_room_id = sr.id
+    LEFT JOIN signal_message lm ON lm.id = (
+        SELECT sm2.id
+        FROM signal_message sm2
+        WHERE sm2.signal_room_id = sr.id
+        ORDER BY sm2.send_at DESC, sm2.id DESC
+        LIMIT 1
+    )
+    WHERE sr.id IN (:roomIds)
+    ON DUPLICATE KEY UPDATE
+        last_message_id = VALUES(last_message_id),
+        last_message = VALUES(last_message),
+        last_message_send_at = VALUES(last_message_send_at),
+        last_sender_id = VALUES(last_sender_id),
+        message_count = VALUES(message_count),
+        sender_user_unread_count = VALUES(sender_user_unread_count),
+        receiver_user_unread_count = VALUES(receiver_user_unread_count)
+    """, nativeQuery = true)
+    int rebuildByRoomIds(@Param("roomIds") Collection<Long> roomIds);
+
+    void deleteAllBySignalRoomIdIn(Collection<Long> signalRoomIds);
+}
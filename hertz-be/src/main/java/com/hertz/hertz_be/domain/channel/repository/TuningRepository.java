@@ -12,5 +12,6 @@ import java.util.Optional;
 @Repository
 public interface TuningRepository extends JpaRepository<Tuning, Long> {
     Optional<Tuning> findByUserAndCategory(User user, Category category);
+    Optional<Tuning> findByUser_IdAndCategory(Long userId, Category category);
     List<Tuning> findAllByCategory(Category category);
 }
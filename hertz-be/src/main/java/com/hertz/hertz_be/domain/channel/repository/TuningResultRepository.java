@@ -2,14 +2,20 @@ package com.hertz.hertz_be.domain.channel.repository;
 
 import com.hertz.hertz_be.domain.channel.entity.Tuning;
 import com.hertz.hertz_be.domain.channel.entity.TuningResult;
+import com.hertz.hertz_be.domain.channel.repository.projection.TuningResultRepositoryCustom;
 import com.hertz.hertz_be.domain.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface TuningResultRepository extends JpaRepository<TuningResult, Long> {
+public interface TuningResultRepository extends JpaRepository<TuningResult, Long>, TuningResultRepositoryCustom {
     void deleteAllByTuning(Tuning tuning);
 
     Optional<TuningResult> findFirstByTuningOrderByLineupAsc(Tuning tuning);
@@ -17,4 +23,26 @@ public interface TuningResultRepository extends JpaRepository<TuningResult, Long
     boolean existsByTuning(Tuning tuning);
 
     void deleteAllByMatchedUser(User matchedUser);
+
+    // 탈퇴한 사용자를 추천 대기열에서 정리하기 위해 해당 사용자가 lineup 에 있는 튜닝 조회
+    @Query("SELECT tr.tuning FROM TuningResult tr WHERE tr.matchedUser = :matchedUser")
+    List<Tuning> findAllTuningsByMatchedUser(@Param("matchedUser") User matchedUser);
+
+    // Redis 추천 대기열 복구용
+    @Query("SELECT tr.matchedUser.id FROM TuningResult tr WHERE tr.tuning = :tuning ORDER BY tr.lineup ASC")
+    List<Long> findMatchedUserIdsByTuning(@Param("tuning") Tuning tuning);
+
+    // 대기열을 모두 소진한 배치를 한 번에 삭제
+    @Modifying
+    @Query("DELETE FROM TuningResult tr WHERE tr.tuning.id = :tuningId")
+    int deleteAllByTuningId(@Param("tuningId") Long tuningId);
+
+    // 프리페치 시 대기열에서 이미 꺼낸 결과 정리
+    @Modifying
+    @Query("DELETE FROM TuningResult tr WHERE tr.tuning.id = :tuningId AND tr.matchedUser.id NOT IN :matchedUserIds")
+    int deleteAllByTuningIdAndMatchedUserIdNotIn(@Param("tuningId") Long tuningId,
+                                                 @Param("matchedUserIds") Collection<Long> matchedUserIds);
+
+    @Query("SELECT COALESCE(MAX(tr.lineup), 0) FROM TuningResult tr WHERE tr.tuning.id = :tuningId")
+    int findMaxLineup(@Param("tuningId") Long tuningId);
 }
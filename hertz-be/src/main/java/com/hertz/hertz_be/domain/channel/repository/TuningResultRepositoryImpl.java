@@ -0,0 +1,35 @@
+package com.hertz.hertz_be.domain.channel.repository;
+
+import com.hertz.hertz_be.domain.channel.repository.projection.TuningResultRepositoryCustom;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class TuningResultRepositoryImpl implements TuningResultRepositoryCustom {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * IDENTITY 전략은 Hibernate 배치 insert가 불가능하므로 JDBC 배치로 저장
+     * - matchedUserIds 순서대로 lineup을 firstLineup부터 부여
+     */
+    @Override
+    public void batchInsert(Long tuningId, List<Long> matchedUserIds, int firstLineup) {
+        if (matchedUserIds.isEmpty()) return;
+
+        List<Object[]> batchArgs = new ArrayList<>(matchedUserIds.size());
+        for (int i = 0; i < matchedUserIds.size(); i++) {
+            batchArgs.add(new Object[]{tuningId, matchedUserIds.get(i), firstLineup + i});
+        }
+
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO tuning_result (tuning_id, matched_user_id, lineup, version) VALUES (?, ?, ?, 0)",
+                batchArgs
+        );
+    }
+}
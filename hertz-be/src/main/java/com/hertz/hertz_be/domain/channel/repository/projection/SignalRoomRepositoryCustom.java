@@ -4,10 +4,13 @@ import com.hertz.hertz_be.domain.channel.entity.SignalRoom;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface SignalRoomRepositoryCustom {
     List<Long> findSignalRoomIdsOrderByLastMessageTime(Long userId, int offset, int limit);
     Page<SignalRoom> findAllOrderByLastMessageTimeWithUsers(Long userId, Pageable pageable);
+    List<Long> findSignalRoomIdsByCursor(Long userId, LocalDateTime cursorTime, Long cursorId, int limit);
+    List<SignalRoom> findAllByCursorWithUsers(Long userId, LocalDateTime cursorTime, Long cursorId, int limit);
 }
 
@@ -0,0 +1,7 @@
+package com.hertz.hertz_be.domain.channel.repository.projection;
+
+import java.util.List;
+
+public interface TuningResultRepositoryCustom {
+    void batchInsert(Long tuningId, List<Long> matchedUserIds, int firstLineup);
+}
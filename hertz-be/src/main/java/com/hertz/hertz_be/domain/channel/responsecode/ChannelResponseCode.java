@@ -33,6 +33,7 @@ public enum ChannelResponseCode {
     TUNING_BAD_REQUEST(HttpStatus.BAD_REQUEST, "TUNING_BAD_REQUEST", "AI 서버에서 bad request 발생했습니다."),
     TUNING_NOT_FOUND_USER(HttpStatus.BAD_REQUEST, "TUNING_NOT_FOUND_USER", "AI 서버에서 사용자를 찾지 못했습니다."),
     TUNING_INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "TUNING_INTERNAL_SERVER_ERROR", "AI 서버 오류 발생했습니다."),
+    TUNING_IN_PROGRESS(HttpStatus.CONFLICT, "TUNING_IN_PROGRESS", "다음 튜닝 후보를 준비 중입니다. 잠시 후 다시 시도해주세요."),
     CENSORED_BAD_REQUEST(HttpStatus.BAD_REQUEST, "CENSORED_BAD_REQUEST", "올바르지 않은 메세지 신고 요청입니다."),
     CENSORED_INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "CENSORED_INTERNAL_SERVER_ERROR", "메세지 신고 요청 과정에서 AI 서버 오류 발생했습니다.");
 
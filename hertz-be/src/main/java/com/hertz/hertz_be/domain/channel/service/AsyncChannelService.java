@@ -54,6 +54,7 @@ public class AsyncChannelService {
     private final UserRepository userRepository;
     private final AlarmService alarmService;
     private final SignalRoomRepository signalRoomRepository;
+    private final SignalRoomSummaryService signalRoomSummaryService;
     private final FCMService fcmService;
 
     @Async
@@ -120,18 +121,10 @@ public class AsyncChannelService {
                         NewResponseCode.INTERNAL_SERVER_ERROR.getMessage()
                 ));
         Optional<SignalRoom> latestSignalRoom = signalRoomRepository.findById(signalRoom.getId());
-        int lastPageNumber = signalRoomRepository.findLastPageNumberBySignalRoomId(latestSignalRoom.get().getId(), channelMessagePageSize);
-
-        if (!latestMessageForm.getIsRead()) {
-            sseChannelService.updatePartnerChannelList(latestMessageForm, partnerId);
-            if (isSignal) {
-                sseChannelService.notifyNewSignal(lastPageNumber, latestMessageForm, partnerId);
-            } else {
-                sseChannelService.notifyNewMessage(lastPageNumber, latestMessageForm, partnerId);
-            }
-        }
+        int lastPageNumber = signalRoomSummaryService.getLastPageNumber(latestSignalRoom.get().getId(), channelMessagePageSize);
 
-        sseChannelService.updatePartnerNavbar(partnerId);
+        // 채팅방 목록 갱신 / 새 메세지 / 네비게이션 알림을 한 묶음으로 발행
+        sseChannelService.notifyNewMessageToPartner(lastPageNumber, latestMessageForm, partnerId, isSignal);
     }
 
     @Async
@@ -0,0 +1,94 @@
+package com.hertz.hertz_be.domain.channel.service;
+
+import com.hertz.hertz_be.domain.channel.service.PendingChatReportQueue.PendingReport;
+import com.hertz.hertz_be.domain.channel.service.v3.ChannelService;
+import com.hertz.hertz_be.global.exception.AiServerUnavailableException;
+import com.hertz.hertz_be.global.infra.ai.client.TuningAiClient;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AI 서버가 다시 호출 가능해지면 보류된 메세지 신고를 재처리
+ * - 노드 간 락을 잡고 한 곳에서만 처리하며, 시작 시 이전 실행이 처리 중 목록에 남긴 항목을 먼저 복구
+ * - 처리에 성공한 항목만 제거하고, 실패한 항목은 시도 횟수를 올려 다시 적재 (max-attempts 도달 시 실패 목록으로 이동)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatReportRetryScheduler {
+
+    private static final String LOCK_KEY = "lock:chat-report:retry";
+
+    private final PendingChatReportQueue pendingChatReportQueue;
+    private final TuningAiClient tuningAiClient;
+    private final ChannelService channelService;
+    private final RedissonClient redissonClient;
+
+    @Value("${ai.chat-report.retry.batch-size:50}")
+    private int batchSize;
+
+    @Value("${ai.chat-report.retry.max-attempts:5}")
+    private int maxAttempts;
+
+    @Scheduled(fixedDelayString = "${ai.chat-report.retry.fixed-delay-ms:30000}")
+    public void retryPendingReports() {
+        if (!tuningAiClient.isChatReportAvailable()) return;
+
+        RLock lock = redissonClient.getLock(LOCK_KEY);
+        boolean acquired = false;
+
+        try {
+            acquired = lock.tryLock(0, 10, TimeUnit.MINUTES);
+            if (!acquired) return;
+
+            pendingChatReportQueue.recoverInFlight();
+            processBatch(pendingChatReportQueue.claim(batchSize));
+        } catch (InterruptedException e) {
+            log.warn("❌ 보류 신고 재처리 중단: {}", e.getMessage());
+            Thread.currentThread().interrupt();
+        } finally {
+            if (acquired && lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+    }
+
+    private void processBatch(List<PendingReport> reports) {
+        int processed = 0;
+
+        for (int i = 0; i < reports.size(); i++) {
+            PendingReport pending = reports.get(i);
+            try {
+                channelService.processReportedMessage(pending.report());
+                pendingChatReportQueue.ack(pending);
+                processed++;
+            } catch (AiServerUnavailableException e) {
+                // 다시 차단되면 남은 신고는 시도 횟수 그대로 원래 순서대로 대기열 앞에 되돌리고 다음 주기에 재시도
+                for (int j = reports.size() - 1; j >= i; j--) {
+                    pendingChatReportQueue.release(reports.get(j));
+                }
+                break;
+            } catch (Exception e) {
+                if (pendingChatReportQueue.retryLater(pending, maxAttempts)) {
+                    log.warn("❌ [보류 신고 재처리 실패] messageId={}, 시도 {}회 - {}",
+                            pending.report().getMessageId(), pending.attempts() + 1, e.getMessage());
+                } else {
+                    log.error("🚨 [보류 신고 재처리 포기] messageId={}, 시도 {}회 → 실패 목록으로 이동 - {}",
+                            pending.report().getMessageId(), pending.attempts() + 1, e.getMessage());
+                }
+            }
+        }
+
+        if (processed > 0) {
+            log.info("✅ [보류 신고 재처리 완료] {}건", processed);
+        }
+    }
+}
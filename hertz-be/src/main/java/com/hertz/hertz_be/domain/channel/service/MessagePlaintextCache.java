@@ -0,0 +1,173 @@
+package com.hertz.hertz_be.domain.channel.service;
+
+import com.hertz.hertz_be.domain.channel.entity.SignalMessage;
+import com.hertz.hertz_be.global.util.AESUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 최근 메세지의 복호화된 본문 캐시 (message id 기준)
+ * - 메세지 저장 시점에 원문으로 채워 두고, 채팅방 페이지 / SSE / 푸시에서 재복호화 없이 사용
+ * - 1차: 프로세스 내 LRU, 2차(선택): Redis
+ */
+@Slf4j
+@Component
+public class MessagePlaintextCache {
+
+    private static final String REDIS_KEY_PREFIX = "message:plaintext:";
+    private static final String METRIC_NAME = "channel.message.plaintext.cache";
+
+    private final AESUtil aesUtil;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final Map<Long, String> localCache;
+    private final boolean redisEnabled;
+    private final Duration redisTtl;
+
+    private final Counter localHitCounter;
+    private final Counter redisHitCounter;
+    private final Counter missCounter;
+
+    public MessagePlaintextCache(AESUtil aesUtil,
+                                 RedisTemplate<String, String> redisTemplate,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${channel.message.plaintext-cache.max-size:10000}") int maxSize,
+                                 @Value("${channel.message.plaintext-cache.redis.enabled:false}") boolean redisEnabled,
+                                 @Value("${channel.message.plaintext-cache.redis.ttl:PT1H}") Duration redisTtl) {
+        this.aesUtil = aesUtil;
+        this.redisTemplate = redisTemplate;
+        this.redisEnabled = redisEnabled;
+        this.redisTtl = redisTtl;
+        this.localCache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, String> eldest) {
+                return size() > maxSize;
+            }
+        });
+
+        this.localHitCounter = Counter.builder(METRIC_NAME).tag("result", "hit").tag("tier", "local").register(meterRegistry);
+        this.redisHitCounter = Counter.builder(METRIC_NAME).tag("result", "hit").tag("tier", "redis").register(meterRegistry);
+        this.missCounter = Counter.builder(METRIC_NAME).tag("result", "miss").tag("tier", "none").register(meterRegistry);
+    }
+
+    /**
+     * 메세지 저장 직후 원문으로 캐시를 채움 (id가 발급된 이후 호출)
+     */
+    public void put(Long messageId, String plainText) {
+        if (messageId == null || plainText == null) return;
+
+        localCache.put(messageId, plainText);
+        if (redisEnabled) {
+            try {
+                redisTemplate.opsForValue().set(REDIS_KEY_PREFIX + messageId, plainText, redisTtl);
+            } catch (Exception e) {
+                log.warn("⚠️ [메세지 원문 캐시] Redis 저장 실패 messageId={} - {}", messageId, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 캐시에 없으면 복호화 후 채움. 복호화 실패 시 AESUtil 과 동일하게 예외 발생
+     */
+    public String getOrDecrypt(Long messageId, String encrypted) {
+        if (messageId == null) {
+            return aesUtil.decrypt(encrypted);
+        }
+
+        String cached = localCache.get(messageId);
+        if (cached != null) {
+            localHitCounter.increment();
+            return cached;
+        }
+
+        if (redisEnabled) {
+            String fromRedis = getFromRedis(List.of(messageId)).getFirst();
+            if (fromRedis != null) {
+                redisHitCounter.increment();
+                localCache.put(messageId, fromRedis);
+                return fromRedis;
+            }
+        }
+
+        missCounter.increment();
+        String decrypted = aesUtil.decrypt(encrypted);
+        put(messageId, decrypted);
+        return decrypted;
+    }
+
+    /**
+     * 페이지 단위 조회. 입력 순서를 유지하며 캐시에 없는 메세지만 모아 한 번에 복호화 (실패 항목은 null)
+     */
+    public List<String> getOrDecryptAll(List<SignalMessage> messages) {
+        List<String> result = new ArrayList<>(Collections.nCopies(messages.size(), null));
+        List<Integer> missIndexes = new ArrayList<>();
+
+        for (int i = 0; i < messages.size(); i++) {
+            String cached = localCache.get(messages.get(i).getId());
+            if (cached != null) {
+                result.set(i, cached);
+            } else {
+                missIndexes.add(i);
+            }
+        }
+        localHitCounter.increment(messages.size() - missIndexes.size());
+
+        if (missIndexes.isEmpty()) {
+            return result;
+        }
+
+        if (redisEnabled) {
+            List<String> fromRedis = getFromRedis(missIndexes.stream().map(i -> messages.get(i).getId()).toList());
+            List<Integer> stillMissing = new ArrayList<>();
+            for (int j = 0; j < missIndexes.size(); j++) {
+                int index = missIndexes.get(j);
+                String plainText = fromRedis.get(j);
+                if (plainText != null) {
+                    result.set(index, plainText);
+                    localCache.put(messages.get(index).getId(), plainText);
+                } else {
+                    stillMissing.add(index);
+                }
+            }
+            redisHitCounter.increment(missIndexes.size() - stillMissing.size());
+            missIndexes = stillMissing;
+        }
+
+        if (missIndexes.isEmpty()) {
+            return result;
+        }
+
+        missCounter.increment(missIndexes.size());
+        List<String> decrypted = aesUtil.decryptAll(missIndexes.stream().map(i -> messages.get(i).getMessage()).toList());
+        for (int j = 0; j < missIndexes.size(); j++) {
+            int index = missIndexes.get(j);
+            String plainText = decrypted.get(j);
+            result.set(index, plainText);
+            put(messages.get(index).getId(), plainText);
+        }
+        return result;
+    }
+
+    // Redis 장애 시 캐시 미스로 처리
+    private List<String> getFromRedis(List<Long> messageIds) {
+        try {
+            List<String> values = redisTemplate.opsForValue().multiGet(messageIds.stream().map(id -> REDIS_KEY_PREFIX + id).toList());
+            if (values != null && values.size() == messageIds.size()) {
+                return values;
+            }
+        } catch (Exception e) {
+            log.warn("⚠️ [메세지 원문 캐시] Redis 조회 실패 - {}", e.getMessage());
+        }
+        return Collections.nCopies(messageIds.size(), null);
+    }
+}
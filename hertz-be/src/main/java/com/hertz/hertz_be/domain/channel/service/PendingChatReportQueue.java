@@ -0,0 +1,153 @@
+package com.hertz.hertz_be.domain.channel.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hertz.hertz_be.domain.channel.dto.request.v3.ChatReportRequestDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisListCommands.Direction;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * AI 서버 차단(서킷 OPEN / 벌크헤드 포화) 중 접수된 메세지 신고 보류 대기열 (Redis list)
+ * - 꺼낼 때 LMOVE 로 처리 중 목록에 옮기고, 처리에 성공한 뒤에야 처리 중 목록에서 제거 (재처리 도중 종료되어도 유실 없음)
+ * - 항목 형식은 "시도 횟수|신고 JSON" (이전 형식인 신고 JSON 만 있는 항목은 0회로 간주)
+ * - 재처리는 ChatReportRetryScheduler 가 노드 간 락을 잡고 수행하므로, 락을 잡은 시점의 처리 중 목록은 이전 실행이 남긴 항목
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PendingChatReportQueue {
+
+    private static final String KEY = "ai:chat-report:pending";
+    private static final String PROCESSING_KEY = "ai:chat-report:processing";
+    private static final String DEAD_LETTER_KEY = "ai:chat-report:dead";
+    private static final String ENTRY_DELIMITER = "|";
+
+    // 처리 중 목록에서 항목 하나를 빼면서 대상 목록 앞(L) / 뒤(R)에 원자적으로 넣음
+    private static final RedisScript<Long> REQUEUE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('LREM', KEYS[1], 1, ARGV[1]) == 0 then
+                return 0
+            end
+            if ARGV[3] == 'L' then
+                redis.call('LPUSH', KEYS[2], ARGV[2])
+            else
+                redis.call('RPUSH', KEYS[2], ARGV[2])
+            end
+            return 1
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 처리 중 목록으로 옮겨진 보류 신고 (raw 는 처리 완료 / 반환 시 항목을 찾기 위한 원본 값)
+     */
+    public record PendingReport(ChatReportRequestDto report, int attempts, String raw) {
+    }
+
+    public void enqueue(ChatReportRequestDto report) {
+        enqueueAll(List.of(report));
+    }
+
+    public void enqueueAll(List<ChatReportRequestDto> reports) {
+        List<String> values = new ArrayList<>(reports.size());
+        for (ChatReportRequestDto report : reports) {
+            try {
+                values.add(serialize(report, 0));
+            } catch (JsonProcessingException e) {
+                log.warn("❌ [보류 신고 직렬화 실패] messageId={} - {}", report.getMessageId(), e.getMessage());
+            }
+        }
+        if (values.isEmpty()) return;
+
+        redisTemplate.opsForList().rightPushAll(KEY, values);
+        log.info("⏸️ [메세지 신고 보류] {}건 대기열 적재", values.size());
+    }
+
+    /**
+     * 대기열 앞에서 최대 maxCount 건을 처리 중 목록으로 옮겨 반환
+     * - 반환된 항목은 ack / release / retryLater 중 하나로 반드시 정리해야 함
+     */
+    public List<PendingReport> claim(int maxCount) {
+        List<PendingReport> reports = new ArrayList<>();
+        for (int i = 0; i < maxCount; i++) {
+            String value = redisTemplate.opsForList().move(KEY, Direction.LEFT, PROCESSING_KEY, Direction.RIGHT);
+            if (value == null) break;
+
+            try {
+                reports.add(deserialize(value));
+            } catch (JsonProcessingException | NumberFormatException e) {
+                log.warn("❌ [보류 신고 역직렬화 실패] 실패 목록으로 이동 - {}", e.getMessage());
+                requeue(value, value, DEAD_LETTER_KEY, "R");
+            }
+        }
+        return reports;
+    }
+
+    // 처리 완료된 항목을 처리 중 목록에서 제거
+    public void ack(PendingReport pending) {
+        redisTemplate.opsForList().remove(PROCESSING_KEY, 1, pending.raw());
+    }
+
+    // 시도하지 못한 항목을 시도 횟수 그대로 대기열 맨 앞으로 되돌림
+    public void release(PendingReport pending) {
+        requeue(pending.raw(), pending.raw(), KEY, "L");
+    }
+
+    /**
+     * 처리에 실패한 항목의 시도 횟수를 올려 대기열 뒤로 보냄
+     * - maxAttempts 에 도달하면 실패 목록(ai:chat-report:dead)으로 옮기고 false 반환
+     */
+    public boolean retryLater(PendingReport pending, int maxAttempts) {
+        int attempts = pending.attempts() + 1;
+        boolean exhausted = attempts >= maxAttempts;
+
+        String value;
+        try {
+            value = serialize(pending.report(), attempts);
+        } catch (JsonProcessingException e) {
+            value = pending.raw();
+        }
+        requeue(pending.raw(), value, exhausted ? DEAD_LETTER_KEY : KEY, "R");
+        return !exhausted;
+    }
+
+    /**
+     * 이전 재처리가 완료 / 반환 전에 중단되어 처리 중 목록에 남은 항목을 원래 순서대로 대기열 앞에 되돌림
+     */
+    public int recoverInFlight() {
+        int recovered = 0;
+        while (redisTemplate.opsForList().move(PROCESSING_KEY, Direction.RIGHT, KEY, Direction.LEFT) != null) {
+            recovered++;
+        }
+        if (recovered > 0) {
+            log.warn("⚠️ [보류 신고 복구] 처리 중 목록에 남은 {}건 대기열로 복귀", recovered);
+        }
+        return recovered;
+    }
+
+    private void requeue(String raw, String value, String targetKey, String side) {
+        redisTemplate.execute(REQUEUE_SCRIPT, List.of(PROCESSING_KEY, targetKey), raw, value, side);
+    }
+
+    private String serialize(ChatReportRequestDto report, int attempts) throws JsonProcessingException {
+        return attempts + ENTRY_DELIMITER + objectMapper.writeValueAsString(report);
+    }
+
+    private PendingReport deserialize(String value) throws JsonProcessingException {
+        int delimiterIndex = value.indexOf(ENTRY_DELIMITER);
+        if (value.startsWith("{") || delimiterIndex < 0) {
+            return new PendingReport(objectMapper.readValue(value, ChatReportRequestDto.class), 0, value);
+        }
+        int attempts = Integer.parseInt(value.substring(0, delimiterIndex));
+        ChatReportRequestDto report = objectMapper.readValue(value.substring(delimiterIndex + 1), ChatReportRequestDto.class);
+        return new PendingReport(report, attempts, value);
+    }
+}
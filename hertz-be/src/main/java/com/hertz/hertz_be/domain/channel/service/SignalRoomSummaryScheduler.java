@@ -0,0 +1,93 @@
+package com.hertz.hertz_be.domain.channel.service;
+
+import com.hertz.hertz_be.domain.channel.repository.SignalRoomSummaryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SignalRoomSummaryScheduler {
+
+    private static final String BACKFILL_LOCK_KEY = "lock:signal-room-summary:backfill";
+    private static final String CONSISTENCY_LOCK_KEY = "lock:signal-room-summary:consistency";
+
+    private final SignalRoomSummaryRepository signalRoomSummaryRepository;
+    private final SignalRoomSummaryService signalRoomSummaryService;
+    private final RedissonClient redissonClient;
+
+    @Value("${channel.summary.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${channel.summary.backfill.enabled:true}")
+    private boolean backfillEnabled;
+
+    /**
+     * 애플리케이션 기동 시 요약 정보가 없는 채팅방을 채워 넣음 (이미 있는 방은 건너뜀)
+     */
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        if (!backfillEnabled) return;
+        int filled = runChunked(BACKFILL_LOCK_KEY, signalRoomSummaryService::backfillMissing);
+        if (filled > 0) {
+            log.info("✅ [채널 요약 backfill 완료] {}건", filled);
+        }
+    }
+
+    /**
+     * 매일 새벽 4시에 SignalMessage 집계와 요약 정보를 비교하여 불일치 건을 복구
+     */
+    @Scheduled(cron = "${channel.summary.consistency-check.cron:0 0 4 * * *}")
+    public void checkConsistency() {
+        int repaired = runChunked(CONSISTENCY_LOCK_KEY, signalRoomSummaryService::repairInconsistent);
+        log.info("✅ [채널 요약 정합성 검사 완료] 복구 {}건", repaired);
+    }
+
+    private int runChunked(String lockKey, Function<List<Long>, Integer> chunkHandler) {
+        RLock lock = redissonClient.getLock(lockKey);
+        boolean acquired = false;
+        int total = 0;
+
+        try {
+            acquired = lock.tryLock(0, 30, TimeUnit.MINUTES);
+            if (!acquired) {
+                log.info("🚫 락 획득 실패 → 채널 요약 작업 건너뜀: {}", lockKey);
+                return 0;
+            }
+
+            long lastRoomId = 0L;
+            while (true) {
+                List<Long> roomIds = signalRoomSummaryRepository.findRoomIdsAfter(lastRoomId, chunkSize);
+                if (roomIds.isEmpty()) break;
+
+                try {
+                    total += chunkHandler.apply(roomIds);
+                } catch (Exception e) {
+                    log.warn("❌ [채널 요약 chunk 처리 실패] roomIds={}~{} - {}", roomIds.getFirst(), roomIds.getLast(), e.getMessage());
+                }
+                lastRoomId = roomIds.getLast();
+            }
+        } catch (InterruptedException e) {
+            log.warn("❌ 채널 요약 작업 중단: {}", e.getMessage());
+            Thread.currentThread().interrupt();
+        } finally {
+            if (acquired && lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+        return total;
+    }
+}
@@ -0,0 +1,110 @@
+package com.hertz.hertz_be.domain.channel.service;
+
+import com.hertz.hertz_be.domain.channel.entity.SignalMessage;
+import com.hertz.hertz_be.domain.channel.entity.SignalRoom;
+import com.hertz.hertz_be.domain.channel.entity.SignalRoomSummary;
+import com.hertz.hertz_be.domain.channel.repository.SignalRoomRepository;
+import com.hertz.hertz_be.domain.channel.repository.SignalRoomSummaryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SignalRoomSummaryService {
+
+    private final SignalRoomSummaryRepository signalRoomSummaryRepository;
+    private final SignalRoomRepository signalRoomRepository;
+
+    /**
+     * 메세지 저장 직후(같은 트랜잭션 안에서) 호출하여 요약 정보를 갱신
+     */
+    @Transactional
+    public void recordNewMessage(SignalRoom room, SignalMessage message) {
+        boolean sentBySenderUser = room.getSenderUser().getId().equals(message.getSenderUser().getId());
+
+        signalRoomSummaryRepository.upsertOnNewMessage(
+                room.getId(),
+                message.getId(),
+                message.getMessage(),
+                message.getSendAt(),
+                message.getSenderUser().getId(),
+                sentBySenderUser ? 0 : 1,
+                sentBySenderUser ? 1 : 0
+        );
+    }
+
+    @Transactional
+    public void markAllAsRead(Long roomId) {
+        signalRoomSummaryRepository.resetAllUnreadCounts(roomId);
+    }
+
+    @Transactional
+    public void markAsReadBy(Long roomId, Long userId) {
+        signalRoomSummaryRepository.resetUnreadCountForUser(roomId, userId);
+    }
+
+    @Transactional(readOnly = true)
+    public Map<Long, SignalRoomSummary> getSummaries(Collection<Long> roomIds) {
+        if (roomIds.isEmpty()) return Map.of();
+
+        return signalRoomSummaryRepository.findAllBySignalRoomIdIn(roomIds).stream()
+                .collect(Collectors.toMap(SignalRoomSummary::getSignalRoomId, Function.identity()));
+    }
+
+    /**
+     * 요약 정보가 아직 없는 방(backfill 이전)은 메세지 수 집계로 대체
+     */
+    @Transactional(readOnly = true)
+    public int getLastPageNumber(Long roomId, int pageSize) {
+        return signalRoomSummaryRepository.findById(roomId)
+                .map(summary -> summary.getLastPageNumber(pageSize))
+                .orElseGet(() -> signalRoomRepository.findLastPageNumberBySignalRoomId(roomId, pageSize));
+    }
+
+    /**
+     * SignalMessage 기준으로 요약 정보를 다시 계산 (backfill / 정합성 복구용, chunk 단위 트랜잭션)
+     */
+    @Transactional
+    public int rebuild(Collection<Long> roomIds) {
+        if (roomIds.isEmpty()) return 0;
+        return signalRoomSummaryRepository.rebuildByRoomIds(roomIds);
+    }
+
+    @Transactional
+    public int backfillMissing(List<Long> roomIds) {
+        if (roomIds.isEmpty()) return 0;
+
+        List<Long> missing = signalRoomSummaryRepository.findRoomIdsWithoutSummary(roomIds);
+        if (missing.isEmpty()) return 0;
+
+        signalRoomSummaryRepository.rebuildByRoomIds(missing);
+        return missing.size();
+    }
+
+    @Transactional
+    public int repairInconsistent(List<Long> roomIds) {
+        if (roomIds.isEmpty()) return 0;
+
+        List<Long> inconsistent = signalRoomSummaryRepository.findInconsistentRoomIds(roomIds);
+        if (inconsistent.isEmpty()) return 0;
+
+        log.warn("⚠️ [채널 요약 불일치] roomIds={}", inconsistent);
+        signalRoomSummaryRepository.rebuildByRoomIds(inconsistent);
+        return inconsistent.size();
+    }
+
+    @Transactional
+    public void deleteByRoomIds(Collection<Long> roomIds) {
+        if (roomIds.isEmpty()) return;
+        signalRoomSummaryRepository.deleteAllBySignalRoomIdIn(roomIds);
+    }
+}
@@ -12,7 +12,6 @@ import com.hertz.hertz_be.global.common.SseEventName;
 import com.hertz.hertz_be.global.exception.BusinessException;
 import com.hertz.hertz_be.global.kafka.dto.SseEventDto;
 import com.hertz.hertz_be.global.kafka.servise.KafkaProducerService;
-import com.hertz.hertz_be.global.util.AESUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -21,6 +20,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -39,7 +39,7 @@ public class SseChannelService {
 
     private final UserRepository userRepository;
     private final SignalMessageRepository signalMessageRepository;
-    private final AESUtil aesUtil;
+    private final MessagePlaintextCache messagePlaintextCache;
     private final KafkaProducerService kafkaProducerService;
 
     private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(1);
@@ -60,8 +60,10 @@ public class SseChannelService {
 
             LocalDateTime matchedAt = LocalDateTime.now();
 
-            sendMatchingConvertedSse(senderId, receiverId, receiverNickname, channelRoomId, matchedAt);
-            sendMatchingConvertedSse(receiverId, senderId, senderNickname, channelRoomId, matchedAt);
+            kafkaProducerService.sendSseEvents(List.of(
+                    matchingConvertedEvent(senderId, receiverId, receiverNickname, channelRoomId, matchedAt),
+                    matchingConvertedEvent(receiverId, senderId, senderNickname, channelRoomId, matchedAt)
+            ));
 
             scheduledMap.remove(channelRoomId);
         };
@@ -85,7 +87,7 @@ public class SseChannelService {
         sendMatchingConvertedInChannelRoom(userId, room.getId(), userMatched, partnerMatched, partnerUser.getNickname());
     }
 
-    private void sendMatchingConvertedSse(
+    private SseEventDto matchingConvertedEvent(
             Long targetUserId,
             Long partnerId,
             String partnerNickname,
@@ -99,7 +101,7 @@ public class SseChannelService {
                 partnerNickname
         );
 
-        kafkaProducerService.sendSseEvent(new SseEventDto(targetUserId, SseEventName.SIGNAL_MATCHING_CONVERSION.getValue(), dto));
+        return new SseEventDto(targetUserId, SseEventName.SIGNAL_MATCHING_CONVERSION.getValue(), dto);
     }
 
     private void sendMatchingConvertedInChannelRoom(
@@ -119,9 +121,36 @@ public class SseChannelService {
         kafkaProducerService.sendSseEvent(new SseEventDto(userId, SseEventName.SIGNAL_MATCHING_CONVERSION_IN_ROOM.getValue(), dto));
     }
 
-    public void updatePartnerChannelList(SignalMessage signalMessage, Long partnerId) {
+    /**
+     * 새 메세지 / 시그널 한 건에 대한 상대방 알림 묶음(채팅방 목록 갱신, 새 메세지, 네비게이션)을 한 번에 발행
+     * - 이미 읽은 메세지면 네비게이션 상태만 발행
+     * - 네비게이션 상태 조회에 실패(USER_NOT_FOUND)해도 앞의 목록 / 메세지 알림은 발행하고 예외는 그대로 전달
+     *   (이벤트를 하나씩 보내던 때와 같은 동작)
+     */
+    public void notifyNewMessageToPartner(int lastPageNumber, SignalMessage signalMessage, Long partnerId, boolean isSignal) {
+        List<SseEventDto> events = new ArrayList<>(3);
+
+        if (!signalMessage.getIsRead()) {
+            events.add(channelListUpdateEvent(signalMessage, partnerId));
+            events.add(newSignalOrMessageEvent(lastPageNumber, signalMessage, partnerId,
+                    isSignal ? SseEventName.NEW_SIGNAL_RECEPTION : SseEventName.NEW_MESSAGE_RECEPTION));
+        }
+
+        try {
+            events.add(navbarEvent(partnerId));
+        } catch (BusinessException e) {
+            if (!events.isEmpty()) {
+                kafkaProducerService.sendSseEvents(events);
+            }
+            throw e;
+        }
+
+        kafkaProducerService.sendSseEvents(events);
+    }
+
+    private SseEventDto channelListUpdateEvent(SignalMessage signalMessage, Long partnerId) {
 
-        String decryptedMessage = aesUtil.decrypt(signalMessage.getMessage());
+        String decryptedMessage = messagePlaintextCache.getOrDecrypt(signalMessage.getId(), signalMessage.getMessage());
 
         ChannelListResponseDto dto = new ChannelListResponseDto(
                 signalMessage.getSignalRoom().getId(),
@@ -133,10 +162,14 @@ public class SseChannelService {
                 signalMessage.getSignalRoom().getRelationType()
         );
 
-        kafkaProducerService.sendSseEvent(new SseEventDto(partnerId, SseEventName.CHAT_ROOM_UPDATE.getValue(), dto));
+        return new SseEventDto(partnerId, SseEventName.CHAT_ROOM_UPDATE.getValue(), dto);
     }
 
     public void updatePartnerNavbar(Long userId) {
+        kafkaProducerService.sendSseEvent(navbarEvent(userId));
+    }
+
+    private SseEventDto navbarEvent(Long userId) {
         User user = userRepository.findByIdWithSentSignalRooms(userId)
                 .orElseThrow(() -> new BusinessException(
                         UserResponseCode.USER_NOT_FOUND.getCode(),
@@ -152,22 +185,14 @@ public class SseChannelService {
         boolean isThereNewMessage = signalMessageRepository.existsBySignalRoomInAndSenderUserNotAndIsReadFalse(allRooms, user);
 
         if (isThereNewMessage) {
-            kafkaProducerService.sendSseEvent(new SseEventDto(userId, SseEventName.NAV_NEW_MESSAGE.getValue(), ""));
+            return new SseEventDto(userId, SseEventName.NAV_NEW_MESSAGE.getValue(), "");
         } else {
-            kafkaProducerService.sendSseEvent(new SseEventDto(userId, SseEventName.NAV_NO_ANY_NEW_MESSAGE.getValue(), ""));
+            return new SseEventDto(userId, SseEventName.NAV_NO_ANY_NEW_MESSAGE.getValue(), "");
         }
     }
 
-    public void notifyNewMessage(int lastPageNumber, SignalMessage signalMessage, Long partnerId) {
-        sendNewSignalOrMessageEvent(lastPageNumber,signalMessage, partnerId, SseEventName.NEW_MESSAGE_RECEPTION);
-    }
-
-    public void notifyNewSignal(int lastPageNumber, SignalMessage signalMessage, Long partnerId) {
-        sendNewSignalOrMessageEvent(lastPageNumber,signalMessage, partnerId, SseEventName.NEW_SIGNAL_RECEPTION);
-    }
-
-    private void sendNewSignalOrMessageEvent(int lastPageNumber, SignalMessage signalMessage, Long partnerId, SseEventName eventName) {
-        String decryptedMessage = aesUtil.decrypt(signalMessage.getMessage());
+    private SseEventDto newSignalOrMessageEvent(int lastPageNumber, SignalMessage signalMessage, Long partnerId, SseEventName eventName) {
+        String decryptedMessage = messagePlaintextCache.getOrDecrypt(signalMessage.getId(), signalMessage.getMessage());
 
         NewMessageResponseDto dto = new NewMessageResponseDto(
                 signalMessage.getSignalRoom().getId(),
@@ -180,7 +205,7 @@ public class SseChannelService {
                 lastPageNumber
         );
 
-        kafkaProducerService.sendSseEvent(new SseEventDto(partnerId, eventName.getValue(), dto));
+        return new SseEventDto(partnerId, eventName.getValue(), dto);
     }
 
     public void notifyMatchingResultToPartner(SignalRoom room, User user, User partner, MatchingStatus matchingStatus) {
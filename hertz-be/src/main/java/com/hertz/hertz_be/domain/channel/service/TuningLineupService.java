@@ -0,0 +1,212 @@
+package com.hertz.hertz_be.domain.channel.service;
+
+import com.hertz.hertz_be.domain.channel.entity.Tuning;
+import com.hertz.hertz_be.domain.channel.entity.enums.Category;
+import com.hertz.hertz_be.domain.channel.repository.SignalRoomRepository;
+import com.hertz.hertz_be.domain.channel.repository.TuningRepository;
+import com.hertz.hertz_be.domain.channel.repository.TuningResultRepository;
+import com.hertz.hertz_be.domain.channel.responsecode.ChannelResponseCode;
+import com.hertz.hertz_be.domain.channel.service.TuningRecommendationQueue.QueuedProfile;
+import com.hertz.hertz_be.domain.interests.repository.UserInterestsRepository;
+import com.hertz.hertz_be.domain.user.entity.User;
+import com.hertz.hertz_be.domain.user.repository.UserRepository;
+import com.hertz.hertz_be.domain.user.responsecode.UserResponseCode;
+import com.hertz.hertz_be.global.common.NewResponseCode;
+import com.hertz.hertz_be.global.exception.AiServerUnavailableException;
+import com.hertz.hertz_be.global.exception.BusinessException;
+import com.hertz.hertz_be.global.infra.ai.client.TuningAiClient;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * AI 서버 튜닝 추천 결과 조회 / 필터링 / TuningResult 저장
+ * - 요청 경로(대기열이 빈 경우)와 프리페치 경로에서 공통으로 사용
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TuningLineupService {
+
+    private final TuningAiClient tuningAiClient;
+    private final UserRepository userRepository;
+    private final UserInterestsRepository userInterestsRepository;
+    private final SignalRoomRepository signalRoomRepository;
+    private final TuningResultRepository tuningResultRepository;
+    private final TuningRepository tuningRepository;
+
+    /**
+     * 대기열이 비어 있을 때: AI 추천 결과를 필터링하여 lineup 1부터 저장
+     */
+    @Transactional
+    public List<Long> fetchAndSave(Tuning tuning, String category) {
+        List<Long> candidateIds = requestCandidates(tuning.getUser().getId(), category);
+        List<Long> lineup = filterCandidates(tuning.getUser().getId(), candidateIds, tuning.getCategory(), Set.of());
+
+        tuningResultRepository.batchInsert(tuning.getId(), lineup, 1);
+        return lineup;
+    }
+
+    /**
+     * 프리페치: 이미 소진한 결과는 정리하고, 대기 중인 사용자를 제외한 새 후보를 기존 lineup 뒤에 이어서 저장
+     */
+    @Transactional
+    public List<Long> append(Tuning tuning, List<Long> candidateIds, Collection<Long> queuedUserIds) {
+        if (queuedUserIds.isEmpty()) {
+            tuningResultRepository.deleteAllByTuningId(tuning.getId());
+        } else {
+            tuningResultRepository.deleteAllByTuningIdAndMatchedUserIdNotIn(tuning.getId(), queuedUserIds);
+        }
+
+        List<Long> lineup = filterCandidates(tuning.getUser().getId(), candidateIds, tuning.getCategory(), new HashSet<>(queuedUserIds));
+        tuningResultRepository.batchInsert(tuning.getId(), lineup, tuningResultRepository.findMaxLineup(tuning.getId()) + 1);
+        return lineup;
+    }
+
+    /**
+     * 대기열을 모두 소진한 배치의 영속 저장 결과 삭제
+     */
+    @Transactional
+    public void clearLineup(Long userId, Category category) {
+        tuningRepository.findByUser_IdAndCategory(userId, category)
+                .ifPresent(tuning -> tuningResultRepository.deleteAllByTuningId(tuning.getId()));
+    }
+
+    /**
+     * 대기열 적재용 프로필을 lineup 한 번에 하나의 IN 쿼리로 조회 (꺼낼 때는 MySQL 에 접근하지 않음)
+     * - 그 사이 탈퇴했거나 카테고리를 거부한 사용자는 제외하고 lineup 순서 유지
+     */
+    @Transactional(readOnly = true)
+    public List<QueuedProfile> toQueuedProfiles(List<Long> lineup, Category category) {
+        if (lineup.isEmpty()) return List.of();
+
+        Map<Long, User> users = userRepository.findAllById(lineup).stream()
+                .filter(user -> user.getDeletedAt() == null && user.isCategoryAllowed(category))
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+
+        return lineup.stream()
+                .filter(users::containsKey)
+                .map(id -> QueuedProfile.from(users.get(id)))
+                .toList();
+    }
+
+    /**
+     * AI 서버 추천 후보 id 목록 (매칭 결과 없음이면 빈 목록)
+     */
+    public List<Long> requestCandidates(Long userId, String category) {
+        return requestCandidatesAsync(userId, category).block();
+    }
+
+    /**
+     * 논블로킹 추천 후보 조회 (프리페치 경로에서 AI 응답 대기 중 스레드를 점유하지 않음)
+     * - AI 서버 호출이 차단된 상태면 새 후보 없이 이미 저장 / 적재된 lineup 만 사용
+     */
+    public Mono<List<Long>> requestCandidatesAsync(Long userId, String category) {
+        return tuningAiClient.requestTuningByCategoryAsync(userId, category)
+                .map(this::toCandidateIds)
+                .onErrorResume(AiServerUnavailableException.class, e -> {
+                    log.warn("⚠️ [튜닝 추천] AI 서버 차단 상태 → 기존 lineup 사용 userId={}, category={}", userId, category);
+                    return Mono.just(List.of());
+                });
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Long> toCandidateIds(Map<String, Object> responseMap) {
+        String code = (String) responseMap.get("code");
+
+        if (ChannelResponseCode.TUNING_SUCCESS_BUT_NO_MATCH.getCode().equals(code)) {
+            return List.of();
+
+        } else if (ChannelResponseCode.TUNING_BAD_REQUEST.getCode().equals(code)) {
+            throw new BusinessException(
+                    NewResponseCode.AI_SERVER_ERROR.getCode(),
+                    NewResponseCode.AI_SERVER_ERROR.getHttpStatus(),
+                    "AI 서버에서 bad request 발생했습니다."
+            );
+
+        } else if (ChannelResponseCode.TUNING_NOT_FOUND_USER.getCode().equals(code)) {
+            throw new BusinessException(
+                    NewResponseCode.AI_SERVER_ERROR.getCode(),
+                    NewResponseCode.AI_SERVER_ERROR.getHttpStatus(),
+                    "AI 서버에서 사용자를 찾을 수 없습니다."
+            );
+
+        } else if (ChannelResponseCode.TUNING_INTERNAL_SERVER_ERROR.getCode().equals(code)) {
+            throw new BusinessException(
+                    NewResponseCode.AI_SERVER_ERROR.getCode(),
+                    NewResponseCode.AI_SERVER_ERROR.getHttpStatus(),
+                    "튜닝 과정에서 AI 서버 오류 발생했습니다."
+            );
+
+        } else if (ChannelResponseCode.TUNING_SUCCESS.getCode().equals(code)) {
+            Object dataObj = responseMap.get("data");
+            if (!(dataObj instanceof Map)) {
+                throw new BusinessException(
+                        NewResponseCode.AI_SERVER_ERROR.getCode(),
+                        NewResponseCode.AI_SERVER_ERROR.getHttpStatus(),
+                        "튜닝 과정에서 AI 서버 오류 발생했습니다."
+                );
+            }
+
+            Map<?, ?> data = (Map<?, ?>) dataObj;
+            List<Integer> userIdList = (List<Integer>) data.get("userIdList");
+            if (userIdList == null || userIdList.isEmpty()) {
+                throw new BusinessException(
+                        NewResponseCode.AI_SERVER_ERROR.getCode(),
+                        NewResponseCode.AI_SERVER_ERROR.getHttpStatus(),
+                        "튜닝 과정에서 AI 서버 오류 발생했습니다."
+                );
+            }
+
+            return userIdList.stream().map(Long::valueOf).toList();
+
+        } else {
+            throw new BusinessException(
+                    NewResponseCode.INTERNAL_SERVER_ERROR.getCode(),
+                    NewResponseCode.INTERNAL_SERVER_ERROR.getHttpStatus(),
+                    "튜닝 과정에서 BE 서버 오류 발생했습니다."
+            );
+        }
+    }
+
+    /**
+     * 후보 조회 / 관심사 확인 / 기존 채팅방 확인을 각각 한 번의 IN 쿼리로 처리
+     * - 후보 수와 관계없이 고정된 쿼리 수로 동작
+     */
+    private List<Long> filterCandidates(Long requesterId, List<Long> candidateIdList, Category category, Set<Long> excludedIds) {
+        List<Long> candidateIds = candidateIdList.stream()
+                .filter(id -> !id.equals(requesterId) && !excludedIds.contains(id))
+                .distinct()
+                .toList();
+        if (candidateIds.isEmpty()) return List.of();
+
+        Map<Long, User> candidates = userRepository.findAllById(candidateIds).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+        if (candidates.size() != candidateIds.size()) {
+            throw new BusinessException(
+                    UserResponseCode.USER_DEACTIVATED.getCode(),
+                    UserResponseCode.USER_DEACTIVATED.getHttpStatus(),
+                    "BE 서버에 없는 사용자 id가 AI 서버로부터 넘어왔습니다."
+            );
+        }
+
+        Set<Long> withInterests = new HashSet<>(userInterestsRepository.findUserIdsWithInterests(candidateIds));
+        Set<Long> alreadyPaired = new HashSet<>(signalRoomRepository.findPartnerIdsWithRoom(requesterId, candidateIds, category));
+
+        return candidateIds.stream()
+                .filter(withInterests::contains)
+                .filter(id -> candidates.get(id).isCategoryAllowed(category))
+                .filter(id -> !alreadyPaired.contains(id))
+                .toList();
+    }
+}
@@ -0,0 +1,175 @@
+package com.hertz.hertz_be.domain.channel.service;
+
+import com.hertz.hertz_be.domain.channel.entity.Tuning;
+import com.hertz.hertz_be.domain.channel.entity.enums.Category;
+import com.hertz.hertz_be.domain.channel.repository.TuningRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 추천 대기열이 low-watermark 아래로 내려가면 다음 튜닝 배치를 미리 받아 대기열 뒤에 붙임
+ * - AI 서버 호출은 논블로킹으로 대기하고, 결과 저장만 전용 bounded executor에서 수행
+ * - (userId, category)별 Redis 락으로 노드 간 중복 요청 방지 (획득 시 발급한 토큰이 같을 때만 해제)
+ */
+@Slf4j
+@Component
+public class TuningPrefetcher {
+
+    private static final String LOCK_KEY_PREFIX = "lock:tuning:prefetch:";
+
+    // TTL 만료 후 다른 요청이 잡은 락을 지우지 않도록 자신의 토큰일 때만 삭제
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final TuningLineupService tuningLineupService;
+    private final TuningRecommendationQueue tuningRecommendationQueue;
+    private final TuningRepository tuningRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ThreadPoolExecutor executor;
+    private final Scheduler scheduler;
+
+    private final boolean enabled;
+    private final int lowWatermark;
+    private final Duration lockTtl;
+
+    public TuningPrefetcher(TuningLineupService tuningLineupService,
+                            TuningRecommendationQueue tuningRecommendationQueue,
+                            TuningRepository tuningRepository,
+                            RedisTemplate<String, String> redisTemplate,
+                            @Value("${tuning.prefetch.enabled:true}") boolean enabled,
+                            @Value("${tuning.prefetch.low-watermark:3}") int lowWatermark,
+                            @Value("${tuning.prefetch.pool-size:4}") int poolSize,
+                            @Value("${tuning.prefetch.queue-capacity:200}") int queueCapacity,
+                            @Value("${tuning.prefetch.lock-ttl:PT30S}") Duration lockTtl) {
+        this.tuningLineupService = tuningLineupService;
+        this.tuningRecommendationQueue = tuningRecommendationQueue;
+        this.tuningRepository = tuningRepository;
+        this.redisTemplate = redisTemplate;
+        this.enabled = enabled;
+        this.lowWatermark = lowWatermark;
+        this.lockTtl = lockTtl;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "tuning-prefetch-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.executor.allowCoreThreadTimeOut(true);
+        this.scheduler = Schedulers.fromExecutorService(executor, "tuning-prefetch");
+    }
+
+    /**
+     * 추천을 하나 꺼낸 직후 호출. 남은 개수가 기준 미만이면 비동기로 다음 배치 요청
+     * - 배치를 모두 소진한 경우 영속 저장된 결과는 요청 경로에서 바로 정리 (대기열 재적재 시 재노출 방지)
+     * - lineup 정리부터 프리페치 적재까지 (userId, category) 락을 유지하여, 그 사이 빈 대기열을 본 요청이 중복 요청하지 않도록 함
+     * - 락을 이미 다른 프리페치 / 재적재가 잡고 있으면 그쪽에서 lineup 을 정리·적재하므로 건너뜀
+     */
+    public void onRecommendationPopped(Long userId, String category, Category enumCategory, long remaining) {
+        boolean prefetch = enabled && remaining < lowWatermark;
+        if (remaining != 0 && !prefetch) return;
+        Optional<String> lockToken = tryLock(userId, enumCategory);
+        if (lockToken.isEmpty()) return;
+        String token = lockToken.get();
+
+        boolean handedOff = false;
+        try {
+            if (remaining == 0) {
+                tuningLineupService.clearLineup(userId, enumCategory);
+            }
+            if (!prefetch) return;
+
+            // AI 응답 대기는 논블로킹으로 처리하고, DB / Redis 적재만 전용 executor 에서 수행
+            tuningLineupService.requestCandidatesAsync(userId, category)
+                    .publishOn(scheduler)
+                    .map(candidates -> appendLineup(userId, enumCategory, candidates))
+                    .doFinally(signal -> unlock(userId, enumCategory, token))
+                    .subscribe(
+                            appended -> log.debug("✅ [튜닝 프리페치] userId={}, category={}, 추가 {}건", userId, category, appended),
+                            e -> {
+                                if (e instanceof RejectedExecutionException) {
+                                    // 요청 경로를 막지 않도록 포화 시 건너뜀 (대기열이 비면 요청 경로에서 채움)
+                                    log.warn("⚠️ [튜닝 프리페치] executor 포화로 건너뜀 userId={}, category={}", userId, category);
+                                } else {
+                                    log.warn("❌ [튜닝 프리페치 실패] userId={}, category={} - {}", userId, category, e.getMessage());
+                                }
+                            }
+                    );
+            handedOff = true;
+        } finally {
+            if (!handedOff) {
+                unlock(userId, enumCategory, token);
+            }
+        }
+    }
+
+    /**
+     * 요청 경로에서 빈 대기열을 다시 채우기 전에 프리페치와 같은 락을 잡음
+     * - 기다리지 않고 바로 반환 (요청 트랜잭션 / DB 커넥션을 쥔 채 대기하지 않도록)
+     * @return 해제 시 넘길 락 토큰, 프리페치 / 다른 재적재가 진행 중이면 empty
+     */
+    public Optional<String> acquireForRefill(Long userId, Category category) {
+        return tryLock(userId, category);
+    }
+
+    public void releaseRefill(Long userId, Category category, String token) {
+        unlock(userId, category, token);
+    }
+
+    private Optional<String> tryLock(Long userId, Category category) {
+        String token = UUID.randomUUID().toString();
+        boolean acquired = Boolean.TRUE.equals(
+                redisTemplate.opsForValue().setIfAbsent(lockKey(userId, category), token, lockTtl));
+        return acquired ? Optional.of(token) : Optional.empty();
+    }
+
+    private void unlock(Long userId, Category category, String token) {
+        redisTemplate.execute(RELEASE_SCRIPT, List.of(lockKey(userId, category)), token);
+    }
+
+    private String lockKey(Long userId, Category category) {
+        return LOCK_KEY_PREFIX + userId + ":" + category.name();
+    }
+
+    // 추천 결과가 없어도 append 에서 이미 꺼낸 결과는 정리
+    private int appendLineup(Long userId, Category category, List<Long> candidates) {
+        Optional<Tuning> tuning = tuningRepository.findByUser_IdAndCategory(userId, category);
+        if (tuning.isEmpty()) return 0;
+
+        List<Long> queued = tuningRecommendationQueue.peekAll(userId, category);
+        List<Long> appended = tuningLineupService.append(tuning.get(), candidates, queued);
+        tuningRecommendationQueue.append(userId, category, tuningLineupService.toQueuedProfiles(appended, category));
+        return appended.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.dispose();
+    }
+}
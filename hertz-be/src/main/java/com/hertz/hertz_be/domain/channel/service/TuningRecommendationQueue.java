@@ -0,0 +1,167 @@
+package com.hertz.hertz_be.domain.channel.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hertz.hertz_be.domain.channel.entity.enums.Category;
+import com.hertz.hertz_be.domain.user.entity.User;
+import com.hertz.hertz_be.domain.user.entity.enums.Gender;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * (userId, category)별 튜닝 추천 대기열 (Redis list)
+ * - 꺼내기는 LPOP 한 번으로 원자적으로 처리하고 MySQL에 접근하지 않음
+ * - 각 항목은 "{matchedUserId}|{프로필 JSON}" 형식으로, 적재 시 lineup 단위로 한 번에 조회한 프로필을 함께 저장
+ *   (이전 형식인 id 만 있는 항목은 profile 이 null)
+ * - TuningResult 테이블은 Redis 유실 시 대기열을 다시 채우기 위한 영속 저장소로만 사용
+ */
+@Slf4j
+@Component
+public class TuningRecommendationQueue {
+
+    private static final String KEY_PREFIX = "tuning:queue:";
+    private static final String ENTRY_DELIMITER = "|";
+
+    // 꺼낸 값과 남은 개수를 함께 반환
+    private static final RedisScript<List> POP_SCRIPT = new DefaultRedisScript<>("""
+            local value = redis.call('LPOP', KEYS[1])
+            if not value then
+                return nil
+            end
+            return {value, tostring(redis.call('LLEN', KEYS[1]))}
+            """, List.class);
+
+    // 기존 대기열을 새 추천 목록으로 원자적으로 교체 (ARGV[1] = TTL 초)
+    private static final RedisScript<Long> REPLACE_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('DEL', KEYS[1])
+            if #ARGV > 1 then
+                redis.call('RPUSH', KEYS[1], unpack(ARGV, 2))
+                redis.call('EXPIRE', KEYS[1], ARGV[1])
+            end
+            return #ARGV - 1
+            """, Long.class);
+
+    // matchedUserId 에 해당하는 항목 제거 (프로필이 붙은 항목과 이전 형식 항목 모두)
+    private static final RedisScript<Long> REMOVE_SCRIPT = new DefaultRedisScript<>("""
+            local prefix = ARGV[1] .. '|'
+            local removed = 0
+            for _, value in ipairs(redis.call('LRANGE', KEYS[1], 0, -1)) do
+                if value == ARGV[1] or string.sub(value, 1, #prefix) == prefix then
+                    removed = removed + redis.call('LREM', KEYS[1], 0, value)
+                end
+            end
+            return removed
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration ttl;
+
+    public TuningRecommendationQueue(RedisTemplate<String, String> redisTemplate,
+                                     ObjectMapper objectMapper,
+                                     @Value("${tuning.queue.ttl:P1D}") Duration ttl) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.ttl = ttl;
+    }
+
+    // 추천 응답에 필요한 프로필 필드만 저장
+    public record QueuedProfile(Long userId, String profileImageUrl, String nickname, Gender gender, String oneLineIntroduction) {
+        public static QueuedProfile from(User user) {
+            return new QueuedProfile(user.getId(), user.getProfileImageUrl(), user.getNickname(), user.getGender(), user.getOneLineIntroduction());
+        }
+    }
+
+    // profile 이 null 이면 이전 형식 항목 (호출 측에서 MySQL 조회)
+    public record Recommendation(Long matchedUserId, QueuedProfile profile, long remaining) {}
+
+    public Optional<Recommendation> pop(Long userId, Category category) {
+        List<?> result = redisTemplate.execute(POP_SCRIPT, List.of(key(userId, category)));
+        if (result == null || result.size() < 2) {
+            return Optional.empty();
+        }
+
+        String entry = String.valueOf(result.get(0));
+        return Optional.of(new Recommendation(
+                parseUserId(entry),
+                parseProfile(entry),
+                Long.parseLong(String.valueOf(result.get(1)))
+        ));
+    }
+
+    public void load(Long userId, Category category, List<QueuedProfile> profiles) {
+        List<String> args = new ArrayList<>(profiles.size() + 1);
+        args.add(String.valueOf(ttl.toSeconds()));
+        profiles.forEach(profile -> args.add(toEntry(profile)));
+
+        redisTemplate.execute(REPLACE_SCRIPT, List.of(key(userId, category)), args.toArray());
+    }
+
+    // 프리페치 결과를 기존 대기열 뒤에 이어 붙임
+    public void append(Long userId, Category category, List<QueuedProfile> profiles) {
+        if (profiles.isEmpty()) return;
+
+        String key = key(userId, category);
+        redisTemplate.opsForList().rightPushAll(key, profiles.stream().map(this::toEntry).toList());
+        redisTemplate.expire(key, ttl);
+    }
+
+    public List<Long> peekAll(Long userId, Category category) {
+        List<String> values = redisTemplate.opsForList().range(key(userId, category), 0, -1);
+        if (values == null) return List.of();
+        return values.stream().map(TuningRecommendationQueue::parseUserId).toList();
+    }
+
+    public long size(Long userId, Category category) {
+        Long size = redisTemplate.opsForList().size(key(userId, category));
+        return size != null ? size : 0;
+    }
+
+    public void remove(Long userId, Category category, Long matchedUserId) {
+        redisTemplate.execute(REMOVE_SCRIPT, List.of(key(userId, category)), String.valueOf(matchedUserId));
+    }
+
+    public void invalidate(Long userId) {
+        redisTemplate.delete(Arrays.stream(Category.values()).map(category -> key(userId, category)).toList());
+    }
+
+    private String toEntry(QueuedProfile profile) {
+        try {
+            return profile.userId() + ENTRY_DELIMITER + objectMapper.writeValueAsString(profile);
+        } catch (JsonProcessingException e) {
+            // 프로필 없이 id 만 적재하면 꺼낼 때 MySQL 에서 조회
+            log.warn("⚠️ [튜닝 대기열] 프로필 직렬화 실패 matchedUserId={} - {}", profile.userId(), e.getMessage());
+            return String.valueOf(profile.userId());
+        }
+    }
+
+    private static Long parseUserId(String entry) {
+        int idx = entry.indexOf(ENTRY_DELIMITER);
+        return Long.valueOf(idx < 0 ? entry : entry.substring(0, idx));
+    }
+
+    private QueuedProfile parseProfile(String entry) {
+        int idx = entry.indexOf(ENTRY_DELIMITER);
+        if (idx < 0) return null;
+        try {
+            return objectMapper.readValue(entry.substring(idx + 1), QueuedProfile.class);
+        } catch (JsonProcessingException e) {
+            log.warn("⚠️ [튜닝 대기열] 프로필 역직렬화 실패 entry={} - {}", entry, e.getMessage());
+            return null;
+        }
+    }
+
+    private String key(Long userId, Category category) {
+        return KEY_PREFIX + userId + ":" + category.name();
+    }
+}
@@ -3,6 +3,8 @@ package com.hertz.hertz_be.domain.channel.service.v1;
 import com.hertz.hertz_be.domain.channel.dto.request.v3.SendMessageRequestDto;
 import com.hertz.hertz_be.domain.channel.dto.response.v1.*;
 import com.hertz.hertz_be.domain.channel.service.AsyncChannelService;
+import com.hertz.hertz_be.domain.channel.service.MessagePlaintextCache;
+import com.hertz.hertz_be.domain.channel.service.SignalRoomSummaryService;
 import com.hertz.hertz_be.domain.channel.service.SseChannelService;
 import com.hertz.hertz_be.domain.user.responsecode.UserResponseCode;
 import com.hertz.hertz_be.global.common.NewResponseCode;
@@ -60,6 +62,8 @@ public class ChannelService {
     private final SignalMessageRepository signalMessageRepository;
     private final InterestsService interestsService;
     private final AsyncChannelService asyncChannelService;
+    private final SignalRoomSummaryService signalRoomSummaryService;
+    private final MessagePlaintextCache messagePlaintextCache;
     private final WebClient webClient;
     private final AESUtil aesUtil;
 
@@ -76,6 +80,8 @@ public class ChannelService {
                           ChannelRoomRepository channelRoomRepository,
                           InterestsService interestsService,
                           AsyncChannelService asyncChannelService,
+                          SignalRoomSummaryService signalRoomSummaryService,
+                          MessagePlaintextCache messagePlaintextCache,
                           SseChannelService matchingStatusScheduler,
                           AESUtil aesUtil,
                           @Value("${ai.server.ip}") String aiServerIp) {
@@ -87,6 +93,8 @@ public class ChannelService {
         this.signalRoomRepository = signalRoomRepository;
         this.interestsService = interestsService;
         this.asyncChannelService = asyncChannelService;
+        this.signalRoomSummaryService = signalRoomSummaryService;
+        this.messagePlaintextCache = messagePlaintextCache;
         this.aesUtil = aesUtil;
         this.webClient = WebClient.builder().baseUrl(aiServerIp).build();
     }
@@ -152,6 +160,8 @@ public class ChannelService {
                 .isRead(false)
                 .build();
         signalMessageRepository.save(signalMessage);
+        signalRoomSummaryService.recordNewMessage(signalRoom, signalMessage);
+        messagePlaintextCache.put(signalMessage.getId(), dto.getMessage());
 
         entityManager.flush();
         registerAfterCommitCallback(() -> {
@@ -454,6 +464,7 @@ public class ChannelService {
             RoomWithLastSenderProjection lastSender = result.get();
             if (!Objects.equals(lastSender.getLastSenderId(), userId)) {
                 signalMessageRepository.markAllMessagesAsReadByRoomId(roomId);
+                signalRoomSummaryService.markAllAsRead(roomId);
             }
         }
 
@@ -462,9 +473,11 @@ public class ChannelService {
         PageRequest pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.ASC, "sendAt"));
         Page<SignalMessage> messagePage = signalMessageRepository.findBySignalRoom_Id(roomId, pageable);
 
-        List<ChannelRoomResponseDto.MessageDto> messages = messagePage.getContent().stream()
-                .map(msg -> ChannelRoomResponseDto.MessageDto.fromProjectionWithDecrypt(msg, aesUtil))
-                .toList();
+        List<String> decrypted = messagePlaintextCache.getOrDecryptAll(messagePage.getContent());
+        List<ChannelRoomResponseDto.MessageDto> messages = new ArrayList<>(decrypted.size());
+        for (int i = 0; i < decrypted.size(); i++) {
+            messages.add(ChannelRoomResponseDto.MessageDto.of(messagePage.getContent().get(i), decrypted.get(i)));
+        }
 
         entityManager.flush();
         registerAfterCommitCallback(() -> {
@@ -516,6 +529,8 @@ public class ChannelService {
                 .build();
 
         signalMessageRepository.save(signalMessage);
+        signalRoomSummaryService.recordNewMessage(room, signalMessage);
+        messagePlaintextCache.put(signalMessage.getId(), response.getMessage());
         entityManager.flush();
         registerAfterCommitCallback(() -> {
             asyncChannelService.notifyMatchingConverted(room);
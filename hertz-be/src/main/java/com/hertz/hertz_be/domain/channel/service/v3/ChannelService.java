@@ -1,11 +1,13 @@
 package com.hertz.hertz_be.domain.channel.service.v3;
 
 import com.hertz.hertz_be.domain.alarm.service.AlarmService;
+import com.hertz.hertz_be.domain.channel.dto.object.KeysetCursor;
 import com.hertz.hertz_be.domain.channel.dto.request.v3.ChatReportRequestDto;
 import com.hertz.hertz_be.domain.channel.dto.request.v3.SendSignalRequestDto;
 import com.hertz.hertz_be.domain.channel.dto.response.v3.*;
 import com.hertz.hertz_be.domain.channel.entity.SignalMessage;
 import com.hertz.hertz_be.domain.channel.entity.SignalRoom;
+import com.hertz.hertz_be.domain.channel.entity.SignalRoomSummary;
 import com.hertz.hertz_be.domain.channel.entity.Tuning;
 import com.hertz.hertz_be.domain.channel.entity.TuningResult;
 import com.hertz.hertz_be.domain.channel.entity.enums.Category;
@@ -18,12 +20,20 @@ import com.hertz.hertz_be.domain.channel.repository.projection.ChannelRoomProjec
 import com.hertz.hertz_be.domain.channel.repository.projection.RoomWithLastSenderProjection;
 import com.hertz.hertz_be.domain.channel.responsecode.ChannelResponseCode;
 import com.hertz.hertz_be.domain.channel.service.AsyncChannelService;
+import com.hertz.hertz_be.domain.channel.service.MessagePlaintextCache;
+import com.hertz.hertz_be.domain.channel.service.PendingChatReportQueue;
+import com.hertz.hertz_be.domain.channel.service.SignalRoomSummaryService;
+import com.hertz.hertz_be.domain.channel.service.TuningLineupService;
+import com.hertz.hertz_be.domain.channel.service.TuningPrefetcher;
+import com.hertz.hertz_be.domain.channel.service.TuningRecommendationQueue;
+import com.hertz.hertz_be.domain.channel.service.TuningRecommendationQueue.QueuedProfile;
 import com.hertz.hertz_be.domain.interests.repository.UserInterestsRepository;
 import com.hertz.hertz_be.domain.interests.service.InterestsService;
 import com.hertz.hertz_be.domain.user.entity.User;
 import com.hertz.hertz_be.domain.user.repository.UserRepository;
 import com.hertz.hertz_be.domain.user.responsecode.UserResponseCode;
 import com.hertz.hertz_be.global.common.NewResponseCode;
+import com.hertz.hertz_be.global.exception.AiServerUnavailableException;
 import com.hertz.hertz_be.global.exception.BusinessException;
 import com.hertz.hertz_be.global.infra.ai.client.TuningAiClient;
 import com.hertz.hertz_be.global.infra.ai.dto.response.AiChatReportResponseDto;
@@ -43,6 +53,8 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.support.TransactionSynchronization;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import java.time.LocalDateTime;
 import java.util.*;
@@ -51,6 +63,8 @@ import java.util.*;
 @Service("channelServiceV3")
 @RequiredArgsConstructor
 public class ChannelService {
+    private static final int MAX_TUNING_POP_ATTEMPTS = 10;
+
     @PersistenceContext
     private EntityManager entityManager;
 
@@ -62,6 +76,12 @@ public class ChannelService {
     private final InterestsService interestsService;
     private final UserInterestsRepository userInterestsRepository;
     private final AsyncChannelService asyncChannelService;
+    private final SignalRoomSummaryService signalRoomSummaryService;
+    private final MessagePlaintextCache messagePlaintextCache;
+    private final TuningRecommendationQueue tuningRecommendationQueue;
+    private final TuningLineupService tuningLineupService;
+    private final TuningPrefetcher tuningPrefetcher;
+    private final PendingChatReportQueue pendingChatReportQueue;
     private final AlarmService alarmService;
     private final AESUtil aesUtil;
     private final TuningAiClient tuningAiClient;
@@ -76,27 +96,63 @@ public class ChannelService {
 
 
         if (signalRooms.isEmpty()) {
-            return new ChannelListResponseDto(List.of(), page, size, true);
+            return new ChannelListResponseDto(List.of(), page, size, true, null);
+        }
+
+        Map<Long, SignalRoomSummary> summaries = getSummaries(signalRooms.getContent());
+        String nextCursor = signalRooms.isLast() ? null : toRoomCursor(signalRooms.getContent().getLast(), summaries);
+
+        return new ChannelListResponseDto(toChannelSummaryList(signalRooms.getContent(), summaries, userId),
+                signalRooms.getNumber(), signalRooms.getSize(), signalRooms.isLast(), nextCursor);
+    }
+
+    @Transactional(readOnly = true)
+    public ChannelListResponseDto getPersonalSignalRoomListByCursor(Long userId, String cursor, int size) {
+        // 빈 커서는 가장 최근 방부터 시작 (채널방 메세지 커서와 동일한 규칙)
+        KeysetCursor keysetCursor = cursor.isBlank() ? null : KeysetCursor.decode(cursor);
+        List<SignalRoom> fetched = (keysetCursor == null)
+                ? signalRoomRepository.findAllByCursorWithUsers(userId, null, null, size + 1)
+                : signalRoomRepository.findAllByCursorWithUsers(userId, keysetCursor.time(), keysetCursor.id(), size + 1);
+
+        boolean hasNext = fetched.size() > size;
+        List<SignalRoom> signalRooms = hasNext ? fetched.subList(0, size) : fetched;
+
+        if (signalRooms.isEmpty()) {
+            return new ChannelListResponseDto(List.of(), 0, size, true, null);
         }
 
-        List<ChannelSummaryDto> list = signalRooms.getContent().stream()
+        Map<Long, SignalRoomSummary> summaries = getSummaries(signalRooms);
+        String nextCursor = hasNext ? toRoomCursor(signalRooms.getLast(), summaries) : null;
+
+        return new ChannelListResponseDto(toChannelSummaryList(signalRooms, summaries, userId), 0, size, !hasNext, nextCursor);
+    }
+
+    private Map<Long, SignalRoomSummary> getSummaries(List<SignalRoom> rooms) {
+        return signalRoomSummaryService.getSummaries(rooms.stream().map(SignalRoom::getId).toList());
+    }
+
+    private List<ChannelSummaryDto> toChannelSummaryList(List<SignalRoom> rooms, Map<Long, SignalRoomSummary> summaries, Long userId) {
+        return rooms.stream()
                 .filter(room -> !room.isUserExited(userId))
-                .map(room -> toChannelSummaryDto(room, userId))
+                .map(room -> toChannelSummaryDto(room, summaries.get(room.getId()), userId))
                 .toList();
+    }
 
-        return new ChannelListResponseDto(list, signalRooms.getNumber(), signalRooms.getSize(), signalRooms.isLast());
+    private String toRoomCursor(SignalRoom room, Map<Long, SignalRoomSummary> summaries) {
+        SignalRoomSummary summary = summaries.get(room.getId());
+        LocalDateTime lastMessageTime = summary != null ? summary.getLastMessageSendAt() : null;
+        return new KeysetCursor(lastMessageTime, room.getId()).encode();
     }
 
-    private ChannelSummaryDto toChannelSummaryDto(SignalRoom room, Long userId) {
+    private ChannelSummaryDto toChannelSummaryDto(SignalRoom room, SignalRoomSummary summary, Long userId) {
         User partner = room.getPartnerUser(userId);
-        SignalMessage lastMessage = extractLastMessage(room);
 
-        String decryptedMessage = decryptMessageSafe(lastMessage != null ? lastMessage.getMessage() : null);
-        LocalDateTime lastMessageTime = lastMessage != null ? lastMessage.getSendAt() : null;
-        boolean isRead = isMessageReadByUser(lastMessage, userId);
+        String decryptedMessage = summary != null ? decryptMessageSafe(summary.getLastMessageId(), summary.getLastMessage()) : "";
+        LocalDateTime lastMessageTime = summary != null ? summary.getLastMessageSendAt() : null;
+        boolean isRead = summary == null || summary.isReadBy(room, userId);
 
         // 특정 체팅방의 마지막 페이지 번호 계산
-        int lastPageNumber = (int) Math.ceil((room.getMessages().size() * 1.0) / channelMessagePageSize) - 1;
+        int lastPageNumber = summary != null ? summary.getLastPageNumber(channelMessagePageSize) : -1;
 
         return new ChannelSummaryDto(
                 room.getId(),
@@ -111,28 +167,77 @@ public class ChannelService {
         );
     }
 
-    private SignalMessage extractLastMessage(SignalRoom room) {
-        return room.getMessages().stream()
-                .max(Comparator.comparing(SignalMessage::getSendAt))
-                .orElse(null);
-    }
-
-    private String decryptMessageSafe(String encrypted) {
+    private String decryptMessageSafe(Long messageId, String encrypted) {
         if (encrypted == null) return "";
         try {
-            return aesUtil.decrypt(encrypted);
+            return messagePlaintextCache.getOrDecrypt(messageId, encrypted);
         } catch (Exception e) {
             return "메세지를 표시할 수 없습니다.";
         }
     }
 
-    private boolean isMessageReadByUser(SignalMessage message, Long userId) {
-        if (message == null) return true;
-        return message.getSenderUser().getId().equals(userId) || message.getIsRead();
+    @Transactional
+    public ChannelRoomResponseDto getChannelRoom(Long roomId, Long userId, int page, int size) {
+        EnteredChannelRoom entered = enterChannelRoom(roomId, userId);
+        SignalRoom room = entered.room();
+
+        PageRequest pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.ASC, "sendAt"));
+        Page<SignalMessage> messagePage = signalMessageRepository.findBySignalRoom_Id(roomId, pageable);
+
+        List<ChannelRoomResponseDto.MessageDto> messages = toMessageDtos(messagePage.getContent());
+
+        // 현재 페이지보다 오래된 메세지를 커서 방식으로 이어서 조회할 수 있도록 첫 메세지 기준 커서 제공
+        String nextCursor = messagePage.isFirst() || messagePage.getContent().isEmpty()
+                ? null
+                : toMessageCursor(messagePage.getContent().getFirst());
+
+        afterEnterChannelRoom(room, userId);
+
+        return ChannelRoomResponseDto.of(roomId, entered.partner(), room.getRelationType(), entered.isPartnerExited(), String.valueOf(room.getCategory()), messages, messagePage, nextCursor);
     }
 
     @Transactional
-    public ChannelRoomResponseDto getChannelRoom(Long roomId, Long userId, int page, int size) {
+    public ChannelRoomResponseDto getChannelRoomByCursor(Long roomId, Long userId, String cursor, int size) {
+        // 빈 커서는 최신 메세지 페이지부터 시작 (마지막 페이지 번호 계산 없이 커서 방식으로 진입)
+        KeysetCursor keysetCursor = cursor.isBlank() ? null : KeysetCursor.decode(cursor);
+        EnteredChannelRoom entered = enterChannelRoom(roomId, userId);
+        SignalRoom room = entered.room();
+
+        PageRequest limit = PageRequest.of(0, size + 1);
+        List<SignalMessage> fetched = (keysetCursor == null)
+                ? signalMessageRepository.findLatest(roomId, limit)
+                : signalMessageRepository.findBeforeCursor(roomId, keysetCursor.time(), keysetCursor.id(), limit);
+
+        boolean hasNext = fetched.size() > size;
+        List<SignalMessage> page = new ArrayList<>(hasNext ? fetched.subList(0, size) : fetched);
+        String nextCursor = hasNext ? toMessageCursor(page.getLast()) : null;
+
+        // 최신순으로 조회했으므로 화면 표시용 오름차순으로 뒤집음
+        Collections.reverse(page);
+        List<ChannelRoomResponseDto.MessageDto> messages = toMessageDtos(page);
+
+        afterEnterChannelRoom(room, userId);
+
+        return ChannelRoomResponseDto.ofCursor(roomId, entered.partner(), room.getRelationType(), entered.isPartnerExited(), String.valueOf(room.getCategory()), messages, size, hasNext, nextCursor);
+    }
+
+    private List<ChannelRoomResponseDto.MessageDto> toMessageDtos(List<SignalMessage> signalMessages) {
+        List<String> decrypted = messagePlaintextCache.getOrDecryptAll(signalMessages);
+
+        List<ChannelRoomResponseDto.MessageDto> messages = new ArrayList<>(signalMessages.size());
+        for (int i = 0; i < signalMessages.size(); i++) {
+            messages.add(ChannelRoomResponseDto.MessageDto.of(signalMessages.get(i), decrypted.get(i)));
+        }
+        return messages;
+    }
+
+    private String toMessageCursor(SignalMessage message) {
+        return new KeysetCursor(message.getSendAt(), message.getId()).encode();
+    }
+
+    private record EnteredChannelRoom(SignalRoom room, User partner, boolean isPartnerExited) {}
+
+    private EnteredChannelRoom enterChannelRoom(Long roomId, Long userId) {
         SignalRoom room = signalRoomRepository.findById(roomId)
                 .orElseThrow(() -> new BusinessException(
                         ChannelResponseCode.CHANNEL_NOT_FOUND.getCode(),
@@ -172,23 +277,19 @@ public class ChannelService {
             RoomWithLastSenderProjection lastSender = result.get();
             if (!Objects.equals(lastSender.getLastSenderId(), userId)) {
                 signalMessageRepository.markAllMessagesAsReadByRoomId(roomId);
+                signalRoomSummaryService.markAllAsRead(roomId);
             }
         }
 
-        PageRequest pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.ASC, "sendAt"));
-        Page<SignalMessage> messagePage = signalMessageRepository.findBySignalRoom_Id(roomId, pageable);
-
-        List<ChannelRoomResponseDto.MessageDto> messages = messagePage.getContent().stream()
-                .map(msg -> ChannelRoomResponseDto.MessageDto.fromProjectionWithDecrypt(msg, aesUtil))
-                .toList();
+        return new EnteredChannelRoom(room, partner, isPartnerExited);
+    }
 
+    private void afterEnterChannelRoom(SignalRoom room, Long userId) {
         entityManager.flush();
         registerAfterCommitCallback(() -> {
             asyncChannelService.updateNavbarMessageNotification(userId);
             asyncChannelService.notifyMatchingConvertedInChannelRoom(room, userId);
         });
-
-        return ChannelRoomResponseDto.of(roomId, partner, room.getRelationType(), isPartnerExited, String.valueOf(room.getCategory()), messages, messagePage);
     }
 
     @Transactional
@@ -260,6 +361,8 @@ public class ChannelService {
                 .isRead(false)
                 .build();
         signalMessageRepository.save(signalMessage);
+        signalRoomSummaryService.recordNewMessage(signalRoom, signalMessage);
+        messagePlaintextCache.put(signalMessage.getId(), dto.getMessage());
 
         entityManager.flush();
         registerAfterCommitCallback(() -> {
@@ -287,89 +390,63 @@ public class ChannelService {
             );
         }
 
-        Tuning tuning = getOrCreateTuning(requester, category);
-
-        if (!tuningResultRepository.existsByTuning(tuning)) {
-            boolean saved = fetchAndSaveTuningResultsFromAiServer(userId, tuning, category);
-            if (!saved) return null;
-        }
-
-        Optional<TuningResult> optionalResult = tuningResultRepository.findFirstByTuningOrderByLineupAsc(tuning);
-        if (optionalResult.isEmpty()) {
-            boolean saved = fetchAndSaveTuningResultsFromAiServer(userId, tuning, category);
-            if (!saved) return null;
+        Category enumCategory = convertToCategory(category);
+        boolean refilled = false;
+
+        for (int attempt = 0; attempt < MAX_TUNING_POP_ATTEMPTS; attempt++) {
+            Optional<TuningRecommendationQueue.Recommendation> popped = tuningRecommendationQueue.pop(userId, enumCategory);
+
+            if (popped.isEmpty()) {
+                // 대기열이 비어 있으면 한 번만 DB(없으면 AI 서버)에서 다시 채움
+                if (refilled) return null;
+
+                // 프리페치가 적재 중이면 중복 요청하지 않음. 트랜잭션 / 커넥션을 쥔 채 기다리지 않고 클라이언트가 재시도
+                Optional<String> lockToken = tuningPrefetcher.acquireForRefill(userId, enumCategory);
+                if (lockToken.isEmpty()) {
+                    throw new BusinessException(
+                            ChannelResponseCode.TUNING_IN_PROGRESS.getCode(),
+                            ChannelResponseCode.TUNING_IN_PROGRESS.getHttpStatus(),
+                            ChannelResponseCode.TUNING_IN_PROGRESS.getMessage()
+                    );
+                }
+                try {
+                    refilled = true;
+                    if (!refillTuningQueue(requester, category)) return null;
+                } finally {
+                    tuningPrefetcher.releaseRefill(userId, enumCategory, lockToken.get());
+                }
+                continue;
+            }
 
-            optionalResult = tuningResultRepository.findFirstByTuningOrderByLineupAsc(tuning);
-            if (optionalResult.isEmpty()) return null;
+            TuningRecommendationQueue.Recommendation recommendation = popped.get();
+            tuningPrefetcher.onRecommendationPopped(userId, category, enumCategory, recommendation.remaining());
+
+            // 적재 시 함께 저장한 프로필로 응답하고, 이전 형식 항목만 MySQL 에서 조회
+            // (대기열에 들어간 이후 탈퇴 / 카테고리 거부한 사용자는 해당 시점에 대기열에서 제거됨)
+            Optional<QueuedProfile> matchedUser = Optional.ofNullable(recommendation.profile())
+                    .or(() -> userRepository.findByIdAndDeletedAtIsNull(recommendation.matchedUserId())
+                            .filter(user -> user.isCategoryAllowed(enumCategory))
+                            .map(QueuedProfile::from));
+            if (matchedUser.isPresent()) {
+                return buildTuningResponseDTO(userId, matchedUser.get());
+            }
         }
-
-        TuningResult topResult = optionalResult.get();
-        tuningResultRepository.delete(topResult);
-
-        User matchedUser = topResult.getMatchedUser();
-        if (matchedUser == null || matchedUser.getId() == null) return null;
-
-        return buildTuningResponseDTO(userId, matchedUser);
+        return null;
     }
 
-    private boolean fetchAndSaveTuningResultsFromAiServer(Long userId, Tuning tuning, String category) {
-        Map<String, Object> responseMap = tuningAiClient.requestTuningByCategory(userId, category);
-        String code = (String) responseMap.get("code");
-
-        if (ChannelResponseCode.TUNING_SUCCESS_BUT_NO_MATCH.getCode().equals(code)) {
-            return false;
-
-        } else if (ChannelResponseCode.TUNING_BAD_REQUEST.getCode().equals(code)) {
-            throw new BusinessException(
-                    NewResponseCode.AI_SERVER_ERROR.getCode(),
-                    NewResponseCode.AI_SERVER_ERROR.getHttpStatus(),
-                    "AI 서버에서 bad request 발생했습니다."
-            );
-
-        } else if (ChannelResponseCode.TUNING_NOT_FOUND_USER.getCode().equals(code)) {
-            throw new BusinessException(
-                    NewResponseCode.AI_SERVER_ERROR.getCode(),
-                    NewResponseCode.AI_SERVER_ERROR.getHttpStatus(),
-                    "AI 서버에서 사용자를 찾을 수 없습니다."
-            );
-
-        } else if (ChannelResponseCode.TUNING_INTERNAL_SERVER_ERROR.getCode().equals(code)) {
-            throw new BusinessException(
-                    NewResponseCode.AI_SERVER_ERROR.getCode(),
-                    NewResponseCode.AI_SERVER_ERROR.getHttpStatus(),
-                    "튜닝 과정에서 AI 서버 오류 발생했습니다."
-            );
-
-        } else if (ChannelResponseCode.TUNING_SUCCESS.getCode().equals(code)) {
-            Object dataObj = responseMap.get("data");
-            if (!(dataObj instanceof Map)) {
-                throw new BusinessException(
-                        NewResponseCode.AI_SERVER_ERROR.getCode(),
-                        NewResponseCode.AI_SERVER_ERROR.getHttpStatus(),
-                        "튜닝 과정에서 AI 서버 오류 발생했습니다."
-                );
-            }
+    private boolean refillTuningQueue(User requester, String category) {
+        Tuning tuning = getOrCreateTuning(requester, category);
 
-            Map<?, ?> data = (Map<?, ?>) dataObj;
-            List<Integer> userIdList = (List<Integer>) data.get("userIdList");
-            if (userIdList == null || userIdList.isEmpty()) {
-                throw new BusinessException(
-                        NewResponseCode.AI_SERVER_ERROR.getCode(),
-                        NewResponseCode.AI_SERVER_ERROR.getHttpStatus(),
-                        "튜닝 과정에서 AI 서버 오류 발생했습니다."
-                );
-            }
+        List<Long> lineup = tuningResultRepository.findMatchedUserIdsByTuning(tuning);
+        if (lineup.isEmpty()) {
+            lineup = tuningLineupService.fetchAndSave(tuning, category);
+        }
 
-            saveTuningResults(userIdList, tuning, category);
-            return true;
+        List<QueuedProfile> profiles = tuningLineupService.toQueuedProfiles(lineup, tuning.getCategory());
+        if (profiles.isEmpty()) return false;
 
-        } else {
-            throw new BusinessException(
-                    NewResponseCode.INTERNAL_SERVER_ERROR.getCode(),
-                    NewResponseCode.INTERNAL_SERVER_ERROR.getHttpStatus(),
-                    "튜닝 과정에서 BE 서버 오류 발생했습니다."
-            );
-        }
+        tuningRecommendationQueue.load(requester.getId(), tuning.getCategory(), profiles);
+        return true;
     }
 
     private Tuning getOrCreateTuning(User user, String category) {
@@ -395,52 +472,18 @@ public class ChannelService {
         };
     }
 
-    private void saveTuningResults(List<Integer> userIdList, Tuning tuning, String category) {
-        int lineup = 1;
-        User requester = tuning.getUser();
-        Category enumCategory = convertToCategory(category);
-
-        for (Integer matchedUserId : userIdList) {
-            Long matchedId = Long.valueOf(matchedUserId);
-
-            User matchedUser = userRepository.findById(matchedId)
-                    .orElseThrow(() -> new BusinessException(
-                            UserResponseCode.USER_DEACTIVATED.getCode(),
-                            UserResponseCode.USER_DEACTIVATED.getHttpStatus(),
-                            "BE 서버에 없는 사용자 id가 AI 서버로부터 넘어왔습니다."
-                    ));
-
-            if (!hasSelectedInterests(matchedUser)) {
-                continue;
-            }
-            if (!matchedUser.isCategoryAllowed(enumCategory)) {
-                continue;
-            }
-            boolean alreadyExists = signalRoomRepository.existsByUserPairAndCategory(requester, matchedUser, enumCategory);
-            if (alreadyExists) continue;
-
-            tuningResultRepository.save(
-                    TuningResult.builder()
-                            .tuning(tuning)
-                            .matchedUser(matchedUser)
-                            .lineup(lineup++)
-                            .build()
-            );
-        }
-    }
-
-    private TuningResponseDto buildTuningResponseDTO(Long requesterId, User target) {
-        Map<String, String> keywords = interestsService.getUserKeywords(target.getId());
+    private TuningResponseDto buildTuningResponseDTO(Long requesterId, QueuedProfile target) {
+        Map<String, String> keywords = interestsService.getUserKeywords(target.userId());
         Map<String, List<String>> requesterInterests = interestsService.getUserInterests(requesterId);
-        Map<String, List<String>> targetInterests = interestsService.getUserInterests(target.getId());
+        Map<String, List<String>> targetInterests = interestsService.getUserInterests(target.userId());
         Map<String, List<String>> sameInterests = interestsService.extractSameInterests(requesterInterests, targetInterests);
 
         return new TuningResponseDto(
-                target.getId(),
-                target.getProfileImageUrl(),
-                target.getNickname(),
-                target.getGender(),
-                target.getOneLineIntroduction(),
+                target.userId(),
+                target.profileImageUrl(),
+                target.nickname(),
+                target.gender(),
+                target.oneLineIntroduction(),
                 keywords,
                 sameInterests
         );
@@ -463,6 +506,42 @@ public class ChannelService {
 
     @Transactional
     public void reportMessage(Long reportSenderId, ChatReportRequestDto requestDto) {
+        validateReportUsers(reportSenderId, requestDto);
+        try {
+            sendReportedMessageToAi(requestDto);
+        } catch (AiServerUnavailableException e) {
+            pendingChatReportQueue.enqueue(requestDto);
+        }
+    }
+
+    /**
+     * 메세지 신고 (논블로킹)
+     * - AI 판정을 기다리는 동안 서블릿 스레드를 점유하지 않고, 알림 생성(JPA)만 boundedElastic 에서 수행
+     * - AI 서버 호출이 차단된 상태면 실패 대신 보류 대기열에 적재 (ChatReportRetryScheduler 가 재처리)
+     */
+    public Mono<Void> reportMessageAsync(Long reportSenderId, ChatReportRequestDto requestDto) {
+        validateReportUsers(reportSenderId, requestDto);
+
+        return tuningAiClient.sendChatReportAsync(requestDto)
+                .map(this::handleChatReportResult)
+                .filter(Boolean::booleanValue)
+                .publishOn(Schedulers.boundedElastic())
+                .doOnNext(isMessageToxic -> alarmService.createAlertAlarm(requestDto.getReportedUserId(), requestDto.getMessageContent()))
+                .onErrorResume(AiServerUnavailableException.class, e -> {
+                    pendingChatReportQueue.enqueue(requestDto);
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    /**
+     * 보류 대기열에서 꺼낸 신고 재처리 (신고자 검증은 접수 시점에 완료)
+     */
+    public void processReportedMessage(ChatReportRequestDto requestDto) {
+        sendReportedMessageToAi(requestDto);
+    }
+
+    private void validateReportUsers(Long reportSenderId, ChatReportRequestDto requestDto) {
         if (!userRepository.existsById(reportSenderId)) {
             throw new BusinessException(
                     UserResponseCode.USER_NOT_FOUND.getCode(),
@@ -478,19 +557,16 @@ public class ChannelService {
                     UserResponseCode.USER_DEACTIVATED.getMessage()
             );
         }
-
-        sendReportedMessageToAi(requestDto);
     }
 
     private void sendReportedMessageToAi(ChatReportRequestDto requestDto) {
-        boolean isMessageToxic = handleChatReportResult(requestDto);
+        boolean isMessageToxic = handleChatReportResult(tuningAiClient.sendChatReport(requestDto));
         if (isMessageToxic) {
             alarmService.createAlertAlarm(requestDto.getReportedUserId(), requestDto.getMessageContent());
         }
     }
 
-    private boolean handleChatReportResult(ChatReportRequestDto requestDto) {
-        AiChatReportResponseDto response = tuningAiClient.sendChatReport(requestDto);
+    private boolean handleChatReportResult(AiChatReportResponseDto response) {
         String code = response.code();
 
         if (ChannelResponseCode.CENSORED_SUCCESS.name().equals(code)) {
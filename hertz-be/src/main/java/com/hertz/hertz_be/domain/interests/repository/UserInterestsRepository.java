@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,4 +21,8 @@ public interface UserInterestsRepository extends JpaRepository<UserInterests, Lo
     List<UserInterests> findByUserId(@Param("userId") Long userId);
 
     void deleteAllByUser(User user);
+
+    // 후보 중 관심사를 선택한 사용자 id만 한 번에 조회
+    @Query("SELECT DISTINCT ui.user.id FROM UserInterests ui WHERE ui.user.id IN :userIds")
+    List<Long> findUserIdsWithInterests(@Param("userIds") Collection<Long> userIds);
 }
@@ -3,6 +3,7 @@ package com.hertz.hertz_be.domain.interests.service;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.hertz.hertz_be.domain.channel.entity.Tuning;
+import com.hertz.hertz_be.domain.channel.service.TuningRecommendationQueue;
 import com.hertz.hertz_be.domain.interests.dto.request.UserAiInterestsRequestDto;
 import com.hertz.hertz_be.domain.interests.dto.request.UserInterestsRequestDto;
 import com.hertz.hertz_be.domain.interests.entity.InterestsCategory;
@@ -16,6 +17,7 @@ import com.hertz.hertz_be.domain.interests.repository.UserInterestsRepository;
 import com.hertz.hertz_be.domain.user.entity.User;
 import com.hertz.hertz_be.domain.user.responsecode.UserResponseCode;
 import com.hertz.hertz_be.domain.user.repository.UserRepository;
+import com.hertz.hertz_be.domain.user.service.UserDomainResolver;
 import com.hertz.hertz_be.global.common.NewResponseCode;
 import com.hertz.hertz_be.global.exception.BusinessException;
 import jakarta.transaction.Transactional;
@@ -46,19 +48,25 @@ public class InterestsService {
     private final UserRepository userRepository;
     private final WebClient webClient;
     private final RetryTemplate retryTemplate;
+    private final TuningRecommendationQueue tuningRecommendationQueue;
+    private final UserDomainResolver userDomainResolver;
 
     @Autowired
     public InterestsService(UserRepository userRepository,
                             InterestsCategoryRepository interestsCategoryRepository,
                             InterestsCategoryItemRepository interestsCategoryItemRepository,
                             UserInterestsRepository userInterestsRepository,
-                            @Value("${ai.server.ip}") String aiServerIp, RetryTemplate retryTemplate) {
+                            @Value("${ai.server.ip}") String aiServerIp, RetryTemplate retryTemplate,
+                            TuningRecommendationQueue tuningRecommendationQueue,
+                            UserDomainResolver userDomainResolver) {
         this.userInterestsRepository = userInterestsRepository;
         this.interestsCategoryRepository = interestsCategoryRepository;
         this.interestsCategoryItemRepository = interestsCategoryItemRepository;
         this.userRepository = userRepository;
         this.webClient = WebClient.builder().baseUrl(aiServerIp).build();
         this.retryTemplate = retryTemplate;
+        this.tuningRecommendationQueue = tuningRecommendationQueue;
+        this.userDomainResolver = userDomainResolver;
     }
 
     private static final Logger log = LoggerFactory.getLogger(InterestsService.class);
@@ -132,7 +140,7 @@ public class InterestsService {
     private Map<String, Object> buildRequestAiBody(User user) {
         Map<String, Object> body = new HashMap<>();
         body.put("userId", user.getId());
-        body.put("emailDomain", extractDomainFromEmail(user.getEmail()));
+        body.put("emailDomain", userDomainResolver.resolve(user.getId()));
         body.put("gender", user.getGender());
         body.put("ageGroup", user.getAgeGroup());
         return body;
@@ -363,19 +371,16 @@ public class InterestsService {
     }
 
     private List<User> findUsersByEmailDomain(User user) {
-        String emailDomain = extractDomainFromEmail(user.getEmail());
+        String emailDomain = userDomainResolver.resolve(user.getId());
         return userRepository.findAllByEmailDomain(emailDomain);
     }
 
-    private String extractDomainFromEmail(String email) {
-        return email.split("@")[1];
-    }
-
     private void clearTuningResultsOfUser(User user) {
         List<Tuning> tunings = user.getRecommendListByCategory();
         for (Tuning tuning : tunings) {
             tuning.getTuningResults().clear();
         }
+        tuningRecommendationQueue.invalidate(user.getId());
     }
 
     public Map<String, String> getUserKeywords(Long userId) {
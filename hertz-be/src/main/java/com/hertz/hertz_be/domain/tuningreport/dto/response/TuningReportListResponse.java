@@ -77,6 +77,26 @@ public class TuningReportListResponse {
             this.heart = heart;
         }
 
+        public int get(ReactionType type) {
+            return switch (type) {
+                case CELEBRATE -> celebrate;
+                case THUMBS_UP -> thumbsUp;
+                case LAUGH -> laugh;
+                case EYES -> eyes;
+                case HEART -> heart;
+            };
+        }
+
+        public void set(ReactionType type, int count) {
+            switch (type) {
+                case CELEBRATE -> celebrate = count;
+                case THUMBS_UP -> thumbsUp = count;
+                case LAUGH -> laugh = count;
+                case EYES -> eyes = count;
+                case HEART -> heart = count;
+            }
+        }
+
         public void increase(ReactionType type) {
             switch (type) {
                 case CELEBRATE -> celebrate++;
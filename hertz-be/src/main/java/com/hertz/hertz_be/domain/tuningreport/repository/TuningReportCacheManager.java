@@ -7,29 +7,257 @@ import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.hertz.hertz_be.domain.tuningreport.dto.response.TuningReportListResponse;
 import com.hertz.hertz_be.domain.tuningreport.entity.enums.ReactionType;
 import com.hertz.hertz_be.domain.tuningreport.entity.enums.TuningReportSortType;
+import com.hertz.hertz_be.domain.tuningreport.repository.projection.TuningReportUserReactionRepositoryCustom;
 import com.hertz.hertz_be.domain.tuningreport.service.TuningReportFlushScheduler;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisConnection;
 import org.springframework.data.redis.core.*;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
 import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.*;
 import java.util.concurrent.ThreadLocalRandom;
-import java.util.function.Function;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class TuningReportCacheManager {
     private final RedisTemplate<String, String> redisTemplate;
+    private final TuningReportNearCache nearCache;
     private final ObjectMapper objectMapper = new ObjectMapper()
             .registerModule(new JavaTimeModule())
             .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
 
     private static final Duration TUNING_REPORT_TTL = Duration.ofMinutes(35);
-    private static final String DIRTY_SET = "dirty:reports";
+    private static final String DIRTY_QUEUE = "dirty:reports:queue";
+    private static final String DIRTY_FLUSHING = "dirty:reports:flushing";
+    private static final String DIRTY_USERS_PREFIX = "dirty:report:";
+    private static final String DIRTY_FAILURES = "dirty:reports:failures";
+    private static final String DIRTY_QUARANTINED = "dirty:reports:quarantined";
+    private static final String REPORT_ITEM_PREFIX = "report:item:";
+    private static final String REACTION_COUNT_SUFFIX = ":reactions";
+
+    private static final List<ReactionType> REACTION_TYPES = List.of(ReactionType.values());
+
+    /**
+     * 도메인 리포트 인덱스(ZSET) 원자적 교체 (1 round trip)
+     * KEYS[1] = 최신순 인덱스, KEYS[2] = 인기순 인덱스, KEYS[3] = 인덱스 적재 표시 키
+     * ARGV[1] = TTL(초, stale 유예 포함), ARGV[2] = 아이템 키 prefix, ARGV[3] = 카운터 키 suffix,
+     * ARGV[4] = 적재 표시 값("논리 만료 시각(ms):재적재 소요(ms)"), 이후 (리포트 id, 작성 시각(ms), 리액션 합계) 반복
+     * - DB 반영 전 카운터가 남아 있으면 그 합계가 DB 값보다 최신이므로 인기순 점수로 사용
+     */
+    private static final RedisScript<Long> REPLACE_DOMAIN_INDEX_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('DEL', KEYS[1], KEYS[2])
+            for i = 5, #ARGV, 3 do
+                local id = ARGV[i]
+                local total = tonumber(ARGV[i + 2])
+                local counts = redis.call('HVALS', ARGV[2] .. id .. ARGV[3])
+                if #counts > 0 then
+                    total = 0
+                    for _, count in ipairs(counts) do
+                        total = total + tonumber(count)
+                    end
+                end
+                redis.call('ZADD', KEYS[1], ARGV[i + 1], id)
+                redis.call('ZADD', KEYS[2], total, id)
+            end
+            redis.call('SET', KEYS[3], ARGV[4], 'EX', ARGV[1])
+            redis.call('EXPIRE', KEYS[1], ARGV[1])
+            redis.call('EXPIRE', KEYS[2], ARGV[1])
+            return (#ARGV - 4) / 3
+            """, Long.class);
+
+    /**
+     * 페이지 조회: ZREVRANGE 후 카운터 해시를 함께 반환 (아이템 JSON 은 L1 → MGET 순으로 조회)
+     * KEYS[1] = 인덱스 적재 표시 키, KEYS[2] = 정렬 인덱스, ARGV[1..2] = 범위, ARGV[3] = 아이템 키 prefix, ARGV[4] = 카운터 키 suffix
+     * - 카운터 키는 인덱스 내용으로 정해지므로 스크립트 안에서 조립 (단일 노드 Redis 전제)
+     * - 인덱스가 없으면 nil, 있으면 {전체 개수, 적재 표시 값, (id, 카운터) 반복}
+     */
+    private static final RedisScript<List> READ_PAGE_SCRIPT = new DefaultRedisScript<>("""
+            local marker = redis.call('GET', KEYS[1])
+            if not marker then
+                return nil
+            end
+            local ids = redis.call('ZREVRANGE', KEYS[2], ARGV[1], ARGV[2])
+            local result = {redis.call('ZCARD', KEYS[2]), marker}
+            for _, id in ipairs(ids) do
+                result[#result + 1] = id
+                result[#result + 1] = redis.call('HGETALL', ARGV[3] .. id .. ARGV[4])
+            end
+            return result
+            """, List.class);
+
+    /**
+     * 리포트 아이템 + 리액션 카운터 적재 (1 round trip)
+     * KEYS[1] = 도메인 아이템 인덱스 키, KEYS[2..n+1] = 리포트 아이템 키, KEYS[n+2..2n+1] = 카운터 키
+     * ARGV[1] = TTL(초), ARGV[2] = 리액션 종류 수(f), ARGV[3..f+2] = 리액션 종류, 이후 아이템 JSON(n), 리포트별 카운트(n * f)
+     * - DB 반영 전 카운터가 남아 있으면 DB 값보다 최신이므로 덮어쓰지 않음
+     */
+    private static final RedisScript<Long> CACHE_ITEMS_SCRIPT = new DefaultRedisScript<>("""
+            local n = (#KEYS - 1) / 2
+            local f = tonumber(ARGV[2])
+            local jsonBase = f + 2
+            local countBase = jsonBase + n
+            for i = 1, n do
+                redis.call('SET', KEYS[i + 1], ARGV[jsonBase + i], 'EX', ARGV[1])
+                local countKey = KEYS[n + 1 + i]
+                if redis.call('EXISTS', countKey) == 0 then
+                    for j = 1, f do
+                        redis.call('HSET', countKey, ARGV[2 + j], ARGV[countBase + (i - 1) * f + j])
+                    end
+                end
+                redis.call('EXPIRE', countKey, ARGV[1])
+            end
+            if n > 0 then
+                redis.call('SADD', KEYS[1], unpack(KEYS, 2, 2 * n + 1))
+                redis.call('EXPIRE', KEYS[1], ARGV[1])
+            end
+            return n
+            """, Long.class);
+
+    // 인기순 인덱스에 이미 있는 리포트만 점수 변경 (인덱스가 없으면 만들지 않음)
+    private static final RedisScript<Long> INCREMENT_POPULAR_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('ZADD', KEYS[1], 'XX', 'INCR', ARGV[1], ARGV[2])
+            return 0
+            """, Long.class);
+
+    /**
+     * 리액션 토글 (1 round trip, 분산 락 / JSON 파싱 없음)
+     * KEYS[1] = 유저 리액션 키, KEYS[2] = 카운터 키, KEYS[3] = dirty 큐(ZSET, score = 최초 변경 시각),
+     * KEYS[4] = 사용자 리액션 인덱스, KEYS[5] = 도메인 owned 인덱스, KEYS[6] = 리포트별 변경 사용자 set,
+     * KEYS[7] = 도메인 인기순 인덱스
+     * ARGV[1] = 리액션 종류, ARGV[2] = 리포트 id, ARGV[3] = TTL(초), ARGV[4] = 현재 시각(ms), ARGV[5] = 사용자 id
+     * - 카운터가 캐시에 없으면 nil → 호출 측에서 DB 경로로 처리
+     * - 카운트가 실제로 바뀐 만큼 인기순 점수도 함께 변경
+     * - 반환: {반응 여부(1/0), 변경 후 카운트}
+     */
+    private static final RedisScript<List> TOGGLE_REACTION_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[2]) == 0 then
+                return nil
+            end
+            local reacted = redis.call('HGET', KEYS[1], ARGV[1]) ~= '1'
+            local count
+            local delta = 1
+            if reacted then
+                redis.call('HSET', KEYS[1], ARGV[1], '1')
+                count = redis.call('HINCRBY', KEYS[2], ARGV[1], 1)
+            else
+                redis.call('HSET', KEYS[1], ARGV[1], '0')
+                count = redis.call('HINCRBY', KEYS[2], ARGV[1], -1)
+                delta = -1
+                if count < 0 then
+                    redis.call('HSET', KEYS[2], ARGV[1], 0)
+                    count = 0
+                    delta = 0
+                end
+            end
+            if delta ~= 0 then
+                redis.call('ZADD', KEYS[7], 'XX', 'INCR', delta, ARGV[2])
+            end
+            redis.call('EXPIRE', KEYS[1], ARGV[3])
+            redis.call('ZADD', KEYS[3], 'NX', ARGV[4], ARGV[2])
+            redis.call('SADD', KEYS[6], ARGV[5])
+            redis.call('SADD', KEYS[4], KEYS[1])
+            redis.call('EXPIRE', KEYS[4], ARGV[3])
+            redis.call('SADD', KEYS[5], KEYS[1])
+            redis.call('EXPIRE', KEYS[5], ARGV[3])
+            if reacted then
+                return {1, count}
+            end
+            return {0, count}
+            """, List.class);
+
+    /**
+     * DB 반영 대상 리포트 선점 (1 round trip)
+     * KEYS[1] = dirty 큐, KEYS[2] = 반영 중 큐(체크포인트), ARGV[1] = 최대 개수, ARGV[2] = 변경 사용자 set prefix
+     * - 반영 중 큐에 남은 항목(이전 실행이 ack 전에 중단됨)이 있으면 그것부터 다시 반환
+     * - 새로 선점한 리포트의 변경 사용자 set 은 ':flushing' set 으로 옮겨 반영 중 추가된 변경과 분리
+     */
+    private static final RedisScript<List> CLAIM_DIRTY_SCRIPT = new DefaultRedisScript<>("""
+            local limit = tonumber(ARGV[1])
+            local pending = redis.call('ZRANGE', KEYS[2], 0, limit - 1)
+            if #pending > 0 then
+                return pending
+            end
+            local entries = redis.call('ZRANGE', KEYS[1], 0, limit - 1, 'WITHSCORES')
+            local claimed = {}
+            for i = 1, #entries, 2 do
+                local id = entries[i]
+                local users = ARGV[2] .. id .. ':users'
+                redis.call('ZADD', KEYS[2], entries[i + 1], id)
+                redis.call('ZREM', KEYS[1], id)
+                if redis.call('EXISTS', users) == 1 then
+                    redis.call('SUNIONSTORE', users .. ':flushing', users .. ':flushing', users)
+                    redis.call('DEL', users)
+                end
+                claimed[#claimed + 1] = id
+            end
+            return claimed
+            """, List.class);
+
+    /**
+     * 반복 실패한 리포트 격리 (1 round trip)
+     * KEYS[1] = 반영 중 큐, KEYS[2] = 격리 큐(ZSET, score = 격리 시각), KEYS[3] = 실패 횟수 해시,
+     * KEYS[4] = 반영 중 변경 사용자 set, KEYS[5] = 격리된 변경 사용자 set, ARGV[1] = 리포트 id, ARGV[2] = 현재 시각(ms)
+     * - 변경 사용자는 수동 재반영을 위해 별도 set 에 보존 (다시 선점될 때 섞이지 않도록 반영 중 set 에서는 제거)
+     */
+    private static final RedisScript<Long> QUARANTINE_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('ZREM', KEYS[1], ARGV[1])
+            redis.call('ZADD', KEYS[2], ARGV[2], ARGV[1])
+            redis.call('HDEL', KEYS[3], ARGV[1])
+            if redis.call('EXISTS', KEYS[4]) == 1 then
+                redis.call('SUNIONSTORE', KEYS[5], KEYS[5], KEYS[4])
+                redis.call('DEL', KEYS[4])
+            end
+            return 1
+            """, Long.class);
+
+    public record ReactionToggleResult(boolean reacted, int count) {}
+
+    // 인덱스 적재용 리포트 정렬 키 (DB 조회 결과)
+    public record IndexEntry(Long reportId, LocalDateTime createdAt, long totalReactions) {}
+
+    /**
+     * 캐시된 페이지: 정렬 순서의 리포트 id, 캐시에 있던 아이템, 아이템 JSON 이 없어 DB 에서 채워야 하는 id
+     * - missingCounts: 아이템은 없지만 카운터는 남아 있는 리포트의 최신 카운트
+     * - refreshDue: 인덱스를 미리 재적재해야 하는지 (XFetch), 만료가 지났어도 페이지는 그대로 사용
+     */
+    public record CachedPage(
+            List<Long> reportIds,
+            Map<Long, TuningReportListResponse.ReportItem> items,
+            List<Long> missingIds,
+            Map<Long, TuningReportListResponse.Reactions> missingCounts,
+            long total,
+            boolean refreshDue
+    ) {}
+
+    /**
+     * 선점한 리포트들의 DB 반영 대상 (카운터 절대값 + 사용자별 반응 추가 / 삭제)
+     */
+    public record FlushSnapshot(
+            Map<Long, TuningReportListResponse.Reactions> counts,
+            List<TuningReportUserReactionRepositoryCustom.ReactionRow> upserts,
+            List<TuningReportUserReactionRepositoryCustom.ReactionRow> deletes
+    ) {}
+
+    // 같은 사용자의 TTL 갱신은 이 간격 내 1회로 합침
+    @Value("${tuningreport.cache.ttl-refresh-interval:PT30S}")
+    private Duration ttlRefreshInterval = Duration.ofSeconds(30);
+
+    // 논리 만료 이후에도 인덱스를 유지해 재적재 동안 이전 값을 제공하는 기간
+    @Value("${tuningreport.cache.stale-grace:PT5M}")
+    private Duration staleGrace = Duration.ofMinutes(5);
+
+    // XFetch 조기 재적재 강도 (1.0 기본, 클수록 일찍 재적재)
+    @Value("${tuningreport.cache.early-refresh-beta:1.0}")
+    private double earlyRefreshBeta = 1.0;
 
     public Duration getTTLDurForTuningReport() {
         long baseSeconds = TUNING_REPORT_TTL.getSeconds();
@@ -37,134 +265,317 @@ public class TuningReportCacheManager {
         return Duration.ofSeconds(baseSeconds + jitterSeconds);
     }
 
-    public String pageListKey(String domain) {
-        return String.format("reports:domain=%s:page=0:size=10:sort=%s:list", domain, TuningReportSortType.LATEST);
+    // 도메인 리포트 정렬 인덱스 (LATEST: 작성 시각, POPULAR: 리액션 합계)
+    public String domainIndexKey(String domain, TuningReportSortType sort) {
+        return String.format("reports:domain=%s:sort=%s:index", domain, sort);
     }
 
-    public String userDomainKey(Long userId) {
-        return "user:" + userId + ":domain";
+    // 인덱스가 적재됐는지 표시 (리포트가 없는 도메인도 캐시 히트로 처리)
+    public String domainIndexedKey(String domain) {
+        return String.format("reports:domain=%s:indexed", domain);
     }
 
     public String reportItemKey(Long reportId) {
-        return String.format("report:item:%d", reportId);
+        return REPORT_ITEM_PREFIX + reportId;
+    }
+
+    // 리포트별 리액션 카운터 해시 (field = ReactionType)
+    public String reactionCountKey(Long reportId) {
+        return reportItemKey(reportId) + REACTION_COUNT_SUFFIX;
     }
 
     public String userKey(Long reportId, Long userId) {
         return String.format("reports:%d:user:%d", reportId, userId);
     }
 
-    // 특정 사용자의 userDomainKey TTL 갱신
-    public void refreshUserDomainTTL(Long userId, Duration ttl) {
-        String key = userDomainKey(userId);
-        if (Boolean.TRUE.equals(redisTemplate.hasKey(key))) {
-            redisTemplate.expire(key, ttl);
-        }
+    private String dirtyUsersKey(Long reportId) {
+        return DIRTY_USERS_PREFIX + reportId + ":users";
     }
 
-    // 특정 사용자의 모든 userKey(reportId:reaction) TTL 갱신
-    public void refreshAllUserReactionTTLByScan(Long userId, Duration ttl) {
-        String matchPattern = String.format("reports:*:user:%d", userId);
-        ScanOptions options = ScanOptions.scanOptions().match(matchPattern).count(100).build();
+    private String flushingUsersKey(Long reportId) {
+        return dirtyUsersKey(reportId) + ":flushing";
+    }
 
-        Cursor<byte[]> cursor = redisTemplate.getConnectionFactory()
-                .getConnection()
-                .scan(options);
+    private String quarantinedUsersKey(Long reportId) {
+        return dirtyUsersKey(reportId) + ":quarantined";
+    }
 
-        while (cursor.hasNext()) {
-            String key = new String(cursor.next());
-            redisTemplate.expire(key, ttl);
-        }
+    // 도메인 페이지에 올라간 리포트 아이템 키 (TTL 갱신 / 무효화 대상)
+    public String domainItemIndexKey(String domain) {
+        return String.format("reports:domain=%s:item-keys", domain);
     }
 
-    // 특정 domain에 해당하는 페이지 캐시의 모든 reportItemKey TTL 갱신
-    public void refreshReportListTTL(String domain, Duration ttl) {
-        String listKey = pageListKey(domain);
-        List<String> reportIds = redisTemplate.opsForList().range(listKey, 0, -1);
-        if (reportIds == null || reportIds.isEmpty()) return;
+    // 도메인에 속한 유저 리액션 키 (무효화 대상)
+    public String domainOwnedIndexKey(String domain) {
+        return String.format("reports:domain=%s:owned-keys", domain);
+    }
 
-        for (String reportId : reportIds) {
-            String reportKey = reportItemKey(Long.parseLong(reportId));
-            if (Boolean.TRUE.equals(redisTemplate.hasKey(reportKey))) {
-                redisTemplate.expire(reportKey, ttl);
-            }
-        }
+    // 사용자의 리액션 키 (TTL 갱신 대상)
+    public String userReactionIndexKey(Long userId) {
+        return "user:" + userId + ":reaction-keys";
+    }
 
-        // 리스트 자체의 TTL도 갱신
-        redisTemplate.expire(listKey, ttl);
+    private String ttlRefreshGuardKey(Long userId) {
+        return "ttl-refresh:user:" + userId;
     }
 
+    /**
+     * 사용자 / 도메인 관련 캐시 TTL 갱신
+     * - SCAN 없이 인덱스 셋에 등록된 키만 대상으로 SMEMBERS 1회 + EXPIRE 파이프라인 1회
+     * - 같은 사용자는 ttlRefreshInterval 동안 1회만 수행
+     * - 이미 만료된 키는 인덱스에서 정리
+     */
     @Async
-    public void refreshTuningReportTTL (Long userId, String domain) {
-        Duration ttl = getTTLDurForTuningReport();
+    public void refreshTuningReportTTL(Long userId, String domain) {
+        Boolean first = redisTemplate.opsForValue().setIfAbsent(ttlRefreshGuardKey(userId), "1", ttlRefreshInterval);
+        if (!Boolean.TRUE.equals(first)) return;
+
+        String userIndexKey = userReactionIndexKey(userId);
+        String itemIndexKey = domainItemIndexKey(domain);
+        List<Object> members = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.setCommands().sMembers(serialize(userIndexKey));
+            connection.setCommands().sMembers(serialize(itemIndexKey));
+            return null;
+        });
+        List<String> reactionKeys = toStringList(members.get(0));
+        List<String> itemKeys = toStringList(members.get(1));
+
+        List<String> targets = new ArrayList<>(reactionKeys.size() + itemKeys.size() + 6);
+        targets.addAll(reactionKeys);
+        targets.addAll(itemKeys);
+        targets.add(domainIndexedKey(domain));
+        for (TuningReportSortType sort : TuningReportSortType.values()) {
+            targets.add(domainIndexKey(domain, sort));
+        }
+        targets.add(userIndexKey);
+        targets.add(itemIndexKey);
+
+        long seconds = getTTLDurForTuningReport().getSeconds();
+        long indexSeconds = seconds + staleGrace.getSeconds();
+        List<Object> expired = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String key : targets) {
+                connection.keyCommands().expire(serialize(key), isDomainIndexKey(key, domain) ? indexSeconds : seconds);
+            }
+            return null;
+        });
+
+        List<String> staleReactionKeys = new ArrayList<>();
+        List<String> staleItemKeys = new ArrayList<>();
+        for (int i = 0; i < reactionKeys.size() + itemKeys.size(); i++) {
+            if (!Boolean.FALSE.equals(expired.get(i))) continue;
+            if (i < reactionKeys.size()) staleReactionKeys.add(reactionKeys.get(i));
+            else staleItemKeys.add(itemKeys.get(i - reactionKeys.size()));
+        }
+        if (!staleReactionKeys.isEmpty()) {
+            redisTemplate.opsForSet().remove(userIndexKey, staleReactionKeys.toArray());
+        }
+        if (!staleItemKeys.isEmpty()) {
+            redisTemplate.opsForSet().remove(itemIndexKey, staleItemKeys.toArray());
+        }
+    }
 
-        refreshUserDomainTTL(userId, ttl);
-        refreshAllUserReactionTTLByScan(userId, ttl);
-        refreshReportListTTL(domain, ttl);
+    private boolean isDomainIndexKey(String key, String domain) {
+        if (key.equals(domainIndexedKey(domain))) return true;
+        for (TuningReportSortType sort : TuningReportSortType.values()) {
+            if (key.equals(domainIndexKey(domain, sort))) return true;
+        }
+        return false;
     }
 
-    public String getUserDomain(Long userId, Function<Long, String> dbFetcher) {
-        String key = userDomainKey(userId);
-        String domain = redisTemplate.opsForValue().get(key);
-        if (domain == null) {
-            domain = dbFetcher.apply(userId);
-            if (domain != null) {
-                redisTemplate.opsForValue().set(key, domain, getTTLDurForTuningReport());
-            }
+    /**
+     * 도메인 인덱스 교체: 최신순 / 인기순 ZSET 을 한 번에 다시 적재
+     * - 논리 만료는 기본 TTL, 실제 키 TTL 은 stale 유예만큼 길게 두어 재적재 중에도 이전 인덱스를 제공
+     * - rebuildTime: DB 조회 ~ 적재에 걸린 시간 (XFetch 조기 재적재 확률 계산에 사용)
+     */
+    public void cacheDomainIndex(String domain, List<IndexEntry> entries, Duration rebuildTime) {
+        long expiresAt = System.currentTimeMillis() + TUNING_REPORT_TTL.toMillis();
+
+        List<String> args = new ArrayList<>(4 + entries.size() * 3);
+        args.add(String.valueOf(getTTLDurForTuningReport().plus(staleGrace).getSeconds()));
+        args.add(REPORT_ITEM_PREFIX);
+        args.add(REACTION_COUNT_SUFFIX);
+        args.add(expiresAt + ":" + rebuildTime.toMillis());
+        for (IndexEntry entry : entries) {
+            args.add(entry.reportId().toString());
+            args.add(String.valueOf(entry.createdAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()));
+            args.add(String.valueOf(entry.totalReactions()));
         }
-        return domain;
+
+        redisTemplate.execute(REPLACE_DOMAIN_INDEX_SCRIPT,
+                List.of(domainIndexKey(domain, TuningReportSortType.LATEST),
+                        domainIndexKey(domain, TuningReportSortType.POPULAR),
+                        domainIndexedKey(domain)),
+                args.toArray());
     }
 
-    public List<TuningReportListResponse.ReportItem> getCachedReportList(String domain) {
-        String listKey = pageListKey(domain);
-        if (!Boolean.TRUE.equals(redisTemplate.hasKey(listKey))) return null;
+    /**
+     * 임의의 page / size / 정렬 조회
+     * - 인덱스 + 카운터 조회 1 round trip, L1 에 없는 아이템이 있을 때만 MGET 1 round trip 추가
+     * - 인덱스가 없으면 null
+     * - 아이템 JSON 에는 변하지 않는 필드만 있고, 리액션 수는 카운터 해시에서 채움
+     */
+    public CachedPage getCachedPage(String domain, TuningReportSortType sort, int page, int size) {
+        long start = (long) page * size;
+        List<?> result = redisTemplate.execute(READ_PAGE_SCRIPT,
+                List.of(domainIndexedKey(domain), domainIndexKey(domain, sort)),
+                String.valueOf(start), String.valueOf(start + size - 1), REPORT_ITEM_PREFIX, REACTION_COUNT_SUFFIX);
+        if (result == null || result.isEmpty()) return null;
+
+        List<Long> reportIds = new ArrayList<>();
+        Map<Long, List<?>> countsById = new HashMap<>();
+        for (int i = 2; i + 1 < result.size(); i += 2) {
+            Long reportId = Long.valueOf(String.valueOf(result.get(i)));
+            reportIds.add(reportId);
+            countsById.put(reportId, (List<?>) result.get(i + 1));
+        }
 
-        List<String> idList = redisTemplate.opsForList().range(listKey, 0, -1);
-        if (idList == null || idList.isEmpty()) return null;
+        Map<Long, TuningReportListResponse.ReportItem> items = new HashMap<>();
+        List<Long> l1Misses = new ArrayList<>();
+        for (Long reportId : reportIds) {
+            TuningReportListResponse.ReportItem item = nearCache.getItem(reportId);
+            if (item != null) items.put(reportId, item);
+            else l1Misses.add(reportId);
+        }
+        if (!l1Misses.isEmpty()) {
+            List<String> jsonList = redisTemplate.opsForValue().multiGet(l1Misses.stream().map(this::reportItemKey).toList());
+            for (int i = 0; i < l1Misses.size(); i++) {
+                String json = jsonList != null ? jsonList.get(i) : null;
+                TuningReportListResponse.ReportItem item = json != null ? readItem(json) : null;
+                if (item == null) continue;
+                nearCache.putItem(item);
+                items.put(l1Misses.get(i), item);
+            }
+            nearCache.recordItemL2(items.size() - (reportIds.size() - l1Misses.size()),
+                    reportIds.size() - items.size());
+        }
 
-        List<TuningReportListResponse.ReportItem> result = new ArrayList<>();
-        for (String reportId : idList) {
-            String reportKey = reportItemKey(Long.parseLong(reportId));
-            String json = redisTemplate.opsForValue().get(reportKey);
-            if (json != null) {
-                try {
-                    result.add(objectMapper.readValue(json, TuningReportListResponse.ReportItem.class));
-                } catch (JsonProcessingException e) {
-                    log.warn("❌ ReportItem 역직렬화 실패: {}", e.getMessage());
-                }
+        List<Long> missingIds = new ArrayList<>();
+        Map<Long, TuningReportListResponse.Reactions> missingCounts = new HashMap<>();
+        for (Long reportId : reportIds) {
+            List<?> counts = countsById.get(reportId);
+            TuningReportListResponse.ReportItem item = items.get(reportId);
+            if (item != null && !counts.isEmpty()) {
+                item.setReactions(toReactions(counts));
+            } else {
+                items.remove(reportId);
+                missingIds.add(reportId);
+                if (!counts.isEmpty()) missingCounts.put(reportId, toReactions(counts));
             }
         }
-        return result;
+        return new CachedPage(reportIds, items, missingIds, missingCounts, Long.parseLong(String.valueOf(result.get(0))),
+                isRefreshDue(String.valueOf(result.get(1)), System.currentTimeMillis(), ThreadLocalRandom.current().nextDouble()));
     }
 
-    public void cacheReportList(String domain, List<TuningReportListResponse.ReportItem> items) {
-        String listKey = pageListKey(domain);
-        redisTemplate.delete(listKey);
+    /**
+     * XFetch 조기 재적재 판단: now - delta * beta * ln(rand) >= 논리 만료 시각
+     * - 재적재가 오래 걸릴수록, 만료가 가까울수록 높은 확률로 한 요청이 미리 재적재
+     * - 형식을 알 수 없는 표시 값(이전 버전 적재분)은 바로 재적재
+     */
+    boolean isRefreshDue(String marker, long nowMillis, double random) {
+        int separator = marker.indexOf(':');
+        if (separator < 0) return true;
+        try {
+            long expiresAt = Long.parseLong(marker.substring(0, separator));
+            long deltaMillis = Long.parseLong(marker.substring(separator + 1));
+            double gap = -deltaMillis * earlyRefreshBeta * Math.log(Math.max(random, Double.MIN_VALUE));
+            return nowMillis + gap >= expiresAt;
+        } catch (NumberFormatException e) {
+            return true;
+        }
+    }
+
+    /**
+     * 리포트 아이템 + 카운터 적재 (1 round trip)
+     */
+    public void cacheReportItems(String domain, List<TuningReportListResponse.ReportItem> items) {
+        List<String> itemKeys = new ArrayList<>(items.size());
+        List<String> countKeys = new ArrayList<>(items.size());
+        List<String> jsonList = new ArrayList<>(items.size());
+        List<String> counts = new ArrayList<>(items.size() * REACTION_TYPES.size());
 
         for (TuningReportListResponse.ReportItem item : items) {
             try {
-                String reportKey = reportItemKey(item.getReportId());
-                String json = objectMapper.writeValueAsString(item);
-                redisTemplate.opsForValue().set(reportKey, json, getTTLDurForTuningReport());
-                redisTemplate.opsForList().rightPush(listKey, item.getReportId().toString());
+                // 리액션 수는 카운터 해시로 분리하고 JSON 에는 변하지 않는 필드만 저장
+                jsonList.add(objectMapper.writeValueAsString(new TuningReportListResponse.ReportItem(
+                        item.getCreatedDate(), item.getReportId(), item.getTitle(), item.getContent(), null, null)));
             } catch (JsonProcessingException e) {
                 log.warn("❌ ReportItem 직렬화 실패: {}", e.getMessage());
+                continue;
+            }
+            itemKeys.add(reportItemKey(item.getReportId()));
+            countKeys.add(reactionCountKey(item.getReportId()));
+            for (ReactionType type : REACTION_TYPES) {
+                counts.add(String.valueOf(item.getReactions() != null ? item.getReactions().get(type) : 0));
             }
         }
-        redisTemplate.expire(listKey, getTTLDurForTuningReport());
+        if (itemKeys.isEmpty()) return;
+
+        List<String> keys = new ArrayList<>(itemKeys.size() * 2 + 1);
+        keys.add(domainItemIndexKey(domain));
+        keys.addAll(itemKeys);
+        keys.addAll(countKeys);
+
+        List<String> args = new ArrayList<>(2 + REACTION_TYPES.size() + jsonList.size() + counts.size());
+        args.add(String.valueOf(getTTLDurForTuningReport().getSeconds()));
+        args.add(String.valueOf(REACTION_TYPES.size()));
+        REACTION_TYPES.forEach(type -> args.add(type.name()));
+        args.addAll(jsonList);
+        args.addAll(counts);
+
+        redisTemplate.execute(CACHE_ITEMS_SCRIPT, keys, args.toArray());
+        items.forEach(nearCache::putItem);
     }
 
-    public boolean isReportCached(Long reportId) {
-        return Boolean.TRUE.equals(redisTemplate.hasKey(reportItemKey(reportId)));
+    /**
+     * 모든 노드의 L1 캐시 무효화 (Redis pub/sub)
+     */
+    public void invalidateNearCache(String domain) {
+        nearCache.publishInvalidation(domain);
     }
 
-    public void setUserReaction(Long reportId, Long userId, ReactionType type, boolean reacted) {
+    /**
+     * DB 경로로 토글된 리액션을 인기순 인덱스에 반영 (인덱스에 있는 리포트만)
+     */
+    public void incrementPopularScore(String domain, Long reportId, int delta) {
+        redisTemplate.execute(INCREMENT_POPULAR_SCRIPT,
+                List.of(domainIndexKey(domain, TuningReportSortType.POPULAR)),
+                String.valueOf(delta), reportId.toString());
+    }
+
+    /**
+     * 캐시된 카운터에 대해 리액션 토글
+     * - 카운터가 없으면(캐시 미적재 / 만료) empty
+     */
+    public Optional<ReactionToggleResult> toggleReaction(Long reportId, Long userId, String domain, ReactionType type) {
         String key = userKey(reportId, userId);
-        try {
-            redisTemplate.opsForHash().put(key, type.name(), reacted ? "1" : "0");
-            redisTemplate.expire(key, getTTLDurForTuningReport());
-        } catch (Exception e) {
-            log.warn("❌ 유저 리액션 캐싱 실패: {}", e.getMessage());
+        List<?> result = redisTemplate.execute(TOGGLE_REACTION_SCRIPT,
+                List.of(key, reactionCountKey(reportId), DIRTY_QUEUE, userReactionIndexKey(userId),
+                        domainOwnedIndexKey(domain), dirtyUsersKey(reportId),
+                        domainIndexKey(domain, TuningReportSortType.POPULAR)),
+                type.name(), reportId.toString(), String.valueOf(getTTLDurForTuningReport().getSeconds()),
+                String.valueOf(System.currentTimeMillis()), userId.toString());
+        if (result == null || result.size() < 2) {
+            return Optional.empty();
         }
+        return Optional.of(new ReactionToggleResult(
+                Long.parseLong(String.valueOf(result.get(0))) == 1,
+                Integer.parseInt(String.valueOf(result.get(1)))
+        ));
+    }
+
+    /**
+     * DB 반영용 리액션 카운터 조회 (없으면 null)
+     */
+    public TuningReportListResponse.Reactions getReactionCounts(Long reportId) {
+        Map<Object, Object> hash = redisTemplate.opsForHash().entries(reactionCountKey(reportId));
+        if (hash.isEmpty()) return null;
+
+        List<Object> flat = new ArrayList<>(hash.size() * 2);
+        hash.forEach((type, count) -> {
+            flat.add(type);
+            flat.add(count);
+        });
+        return toReactions(flat);
     }
 
     public Boolean getUserReaction(Long reportId, Long userId, ReactionType type) {
@@ -173,71 +584,247 @@ public class TuningReportCacheManager {
         return v != null && "1".equals(v);
     }
 
+    /**
+     * 페이지 내 리포트들에 대한 사용자 리액션 해시를 파이프라인 한 번으로 조회
+     * - 캐시에 없는 리포트는 결과에서 제외
+     */
+    public Map<Long, Set<ReactionType>> getUserReactions(List<Long> reportIds, Long userId) {
+        List<Object> hashes = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (Long reportId : reportIds) {
+                connection.hashCommands().hGetAll(serialize(userKey(reportId, userId)));
+            }
+            return null;
+        });
+
+        Map<Long, Set<ReactionType>> result = new HashMap<>();
+        for (int i = 0; i < reportIds.size(); i++) {
+            if (!(hashes.get(i) instanceof Map<?, ?> hash) || hash.isEmpty()) continue;
+
+            Set<ReactionType> reacted = EnumSet.noneOf(ReactionType.class);
+            hash.forEach((type, value) -> {
+                if ("1".equals(value)) {
+                    reacted.add(ReactionType.valueOf(type.toString()));
+                }
+            });
+            result.put(reportIds.get(i), reacted);
+        }
+        return result;
+    }
+
+    /**
+     * DB 에서 읽은 사용자 리액션을 파이프라인 한 번으로 캐싱
+     */
+    public void setUserReactions(Long userId, String domain, Map<Long, Set<ReactionType>> reactionsByReport) {
+        if (reactionsByReport.isEmpty()) return;
+
+        long seconds = getTTLDurForTuningReport().getSeconds();
+        String[] keys = reactionsByReport.keySet().stream().map(reportId -> userKey(reportId, userId)).toArray(String[]::new);
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                reactionsByReport.forEach((reportId, reactions) -> {
+                    byte[] key = serialize(userKey(reportId, userId));
+                    for (ReactionType type : reactions) {
+                        connection.hashCommands().hSet(key, serialize(type.name()), serialize("1"));
+                    }
+                    connection.keyCommands().expire(key, seconds);
+                });
+                addToIndex(connection, userReactionIndexKey(userId), seconds, keys);
+                addToIndex(connection, domainOwnedIndexKey(domain), seconds, keys);
+                return null;
+            });
+        } catch (Exception e) {
+            log.warn("❌ 유저 리액션 캐싱 실패: {}", e.getMessage());
+        }
+    }
+
     public boolean hasUserReactionCached(Long reportId, Long userId) {
         String key = userKey(reportId, userId);
         return Boolean.TRUE.equals(redisTemplate.hasKey(key));
     }
 
-    public void markDirty(Long reportId) {
-        redisTemplate.opsForSet().add(DIRTY_SET, reportId.toString());
+    /**
+     * DB 반영할 리포트를 최대 limit 개 선점 (반영 중 큐로 이동)
+     */
+    public List<Long> claimDirtyReports(int limit) {
+        List<?> claimed = redisTemplate.execute(CLAIM_DIRTY_SCRIPT, List.of(DIRTY_QUEUE, DIRTY_FLUSHING),
+                String.valueOf(limit), DIRTY_USERS_PREFIX);
+        if (claimed == null) return List.of();
+        return claimed.stream().map(id -> Long.valueOf(String.valueOf(id))).toList();
     }
 
-    public Set<String> getDirtyReportIds() {
-        return redisTemplate.opsForSet().members(DIRTY_SET);
-    }
+    /**
+     * 선점한 리포트들의 카운터 / 변경 사용자 / 사용자별 반응 상태 조회 (파이프라인 2회)
+     * - 값은 토글 시점이 아닌 현재 상태(절대값)이므로 같은 청크를 다시 반영해도 결과가 같음
+     */
+    public FlushSnapshot readFlushSnapshot(List<Long> reportIds) {
+        List<Object> first = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (Long reportId : reportIds) {
+                connection.hashCommands().hGetAll(serialize(reactionCountKey(reportId)));
+                connection.setCommands().sMembers(serialize(flushingUsersKey(reportId)));
+            }
+            return null;
+        });
+
+        Map<Long, TuningReportListResponse.Reactions> counts = new HashMap<>();
+        List<Long[]> reportUsers = new ArrayList<>();
+        for (int i = 0; i < reportIds.size(); i++) {
+            Long reportId = reportIds.get(i);
+            if (first.get(i * 2) instanceof Map<?, ?> hash && !hash.isEmpty()) {
+                List<Object> flat = new ArrayList<>(hash.size() * 2);
+                hash.forEach((type, count) -> {
+                    flat.add(type);
+                    flat.add(count);
+                });
+                counts.put(reportId, toReactions(flat));
+            }
+            for (String userId : toStringList(first.get(i * 2 + 1))) {
+                reportUsers.add(new Long[]{reportId, Long.valueOf(userId)});
+            }
+        }
 
-    public void clearDirtyReportId(String reportId) {
-        redisTemplate.opsForSet().remove(DIRTY_SET, reportId);
+        List<Object> hashes = reportUsers.isEmpty() ? List.of() : redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (Long[] pair : reportUsers) {
+                connection.hashCommands().hGetAll(serialize(userKey(pair[0], pair[1])));
+            }
+            return null;
+        });
+
+        List<TuningReportUserReactionRepositoryCustom.ReactionRow> upserts = new ArrayList<>();
+        List<TuningReportUserReactionRepositoryCustom.ReactionRow> deletes = new ArrayList<>();
+        for (int i = 0; i < reportUsers.size(); i++) {
+            if (!(hashes.get(i) instanceof Map<?, ?> hash)) continue;
+            Long reportId = reportUsers.get(i)[0];
+            Long userId = reportUsers.get(i)[1];
+            hash.forEach((type, value) -> {
+                var row = new TuningReportUserReactionRepositoryCustom.ReactionRow(
+                        reportId, userId, ReactionType.valueOf(type.toString()));
+                if ("1".equals(value)) upserts.add(row);
+                else deletes.add(row);
+            });
+        }
+        return new FlushSnapshot(counts, upserts, deletes);
     }
 
-    public void deleteReportItemsAndUserKeysByDomain(String domain) {
-        String listKey = pageListKey(domain);
+    /**
+     * DB 반영 완료 체크포인트: 반영 중 큐와 변경 사용자 set 정리 (파이프라인 1회)
+     */
+    public void ackFlushed(List<Long> reportIds) {
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.zSetCommands().zRem(serialize(DIRTY_FLUSHING),
+                    reportIds.stream().map(id -> serialize(id.toString())).toArray(byte[][]::new));
+            connection.keyCommands().del(reportIds.stream().map(id -> serialize(flushingUsersKey(id))).toArray(byte[][]::new));
+            connection.hashCommands().hDel(serialize(DIRTY_FAILURES),
+                    reportIds.stream().map(id -> serialize(id.toString())).toArray(byte[][]::new));
+            return null;
+        });
+    }
 
-        List<String> reportIds = redisTemplate.opsForList().range(listKey, 0, -1);
-        if (reportIds == null || reportIds.isEmpty()) {
-            return;
-        }
+    /**
+     * 반영에 실패한 청크의 리포트별 실패 횟수 증가 (파이프라인 1회), 청크 내 최대 실패 횟수 반환
+     */
+    public long recordFlushFailure(List<Long> reportIds) {
+        List<Object> counts = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (Long reportId : reportIds) {
+                connection.hashCommands().hIncrBy(serialize(DIRTY_FAILURES), serialize(reportId.toString()), 1);
+            }
+            return null;
+        });
+        return counts.stream()
+                .filter(Number.class::isInstance)
+                .mapToLong(count -> ((Number) count).longValue())
+                .max()
+                .orElse(0);
+    }
 
-        for (String reportId : reportIds) {
-            String reportKey = reportItemKey(Long.parseLong(reportId));
-            redisTemplate.delete(reportKey);
+    /**
+     * 반복 실패한 리포트를 반영 중 큐에서 격리 큐(dirty:reports:quarantined)로 옮김
+     * - 같은 청크가 매 실행마다 다시 선점되어 write-behind 전체가 멈추지 않도록 함
+     */
+    public void quarantineFlushing(Long reportId) {
+        redisTemplate.execute(QUARANTINE_SCRIPT,
+                List.of(DIRTY_FLUSHING, DIRTY_QUARANTINED, DIRTY_FAILURES, flushingUsersKey(reportId), quarantinedUsersKey(reportId)),
+                reportId.toString(), String.valueOf(System.currentTimeMillis()));
+    }
 
-            String userPattern = String.format("reports:%s:user:*", reportId);
-            ScanOptions options = ScanOptions.scanOptions().match(userPattern).count(100).build();
+    /**
+     * 아직 DB 에 반영되지 않은 변경 중 가장 오래된 시각(ms), 없으면 null
+     */
+    public Long oldestDirtySince() {
+        List<Object> oldest = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.zSetCommands().zRangeWithScores(serialize(DIRTY_QUEUE), 0, 0);
+            connection.zSetCommands().zRangeWithScores(serialize(DIRTY_FLUSHING), 0, 0);
+            return null;
+        });
+        return oldest.stream()
+                .filter(Collection.class::isInstance)
+                .flatMap(tuples -> ((Collection<?>) tuples).stream())
+                .filter(ZSetOperations.TypedTuple.class::isInstance)
+                .map(tuple -> ((ZSetOperations.TypedTuple<?>) tuple).getScore())
+                .filter(Objects::nonNull)
+                .map(Double::longValue)
+                .min(Long::compare)
+                .orElse(null);
+    }
 
-            try (Cursor<byte[]> cursor = redisTemplate.getConnectionFactory().getConnection().scan(options)) {
-                while (cursor.hasNext()) {
-                    String key = new String(cursor.next());
-                    redisTemplate.delete(key);
-                }
-            } catch (Exception e) {
-                log.warn("❌ 유저 리액션 키 삭제 중 오류: reportId={} - {}", reportId, e.getMessage());
-            }
+    /**
+     * 도메인 캐시 무효화: 인덱스 SMEMBERS 1회 + DEL 1회 (SCAN 없음)
+     * - 워밍업이 직후에 새 페이지를 적재하므로 동기로 수행 (비동기면 새 페이지까지 지워질 수 있음)
+     */
+    public void invalidateDomainCache(String domain) {
+        String itemIndexKey = domainItemIndexKey(domain);
+        String ownedIndexKey = domainOwnedIndexKey(domain);
+        List<Object> members = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.setCommands().sMembers(serialize(itemIndexKey));
+            connection.setCommands().sMembers(serialize(ownedIndexKey));
+            return null;
+        });
+
+        List<String> keys = new ArrayList<>();
+        keys.add(domainIndexedKey(domain));
+        for (TuningReportSortType sort : TuningReportSortType.values()) {
+            keys.add(domainIndexKey(domain, sort));
         }
+        keys.add(itemIndexKey);
+        keys.add(ownedIndexKey);
+        keys.addAll(toStringList(members.get(0)));
+        keys.addAll(toStringList(members.get(1)));
+        redisTemplate.delete(keys);
+        nearCache.publishInvalidation(domain);
+
+        log.info("✅ [캐시 무효화 완료] domain='{}', {}개 키 삭제", domain, keys.size());
+    }
 
-        redisTemplate.delete(listKey);
+    private void addToIndex(RedisConnection connection, String indexKey, long seconds, String... keys) {
+        if (keys.length == 0) return;
+        byte[] rawIndexKey = serialize(indexKey);
+        connection.setCommands().sAdd(rawIndexKey, Arrays.stream(keys).map(this::serialize).toArray(byte[][]::new));
+        connection.keyCommands().expire(rawIndexKey, seconds);
     }
 
-    public void deleteAllUserDomainKeysByDomain(String domain) {
-        ScanOptions options = ScanOptions.scanOptions().match("user:*:domain").count(100).build();
+    private TuningReportListResponse.ReportItem readItem(String json) {
+        try {
+            return objectMapper.readValue(json, TuningReportListResponse.ReportItem.class);
+        } catch (JsonProcessingException e) {
+            log.warn("❌ ReportItem 역직렬화 실패: {}", e.getMessage());
+            return null;
+        }
+    }
 
-        try (Cursor<byte[]> cursor = redisTemplate.getConnectionFactory().getConnection().scan(options)) {
-            while (cursor.hasNext()) {
-                String key = new String(cursor.next());
-                String value = redisTemplate.opsForValue().get(key);
-                if (domain.equals(value)) {
-                    redisTemplate.delete(key);
-                }
-            }
-        } catch (Exception e) {
-            log.warn("❌ userDomainKey 삭제 실패: {}", e.getMessage());
+    // HGETALL 결과(field, value 반복)를 Reactions 로 변환
+    private static TuningReportListResponse.Reactions toReactions(List<?> hash) {
+        TuningReportListResponse.Reactions reactions = new TuningReportListResponse.Reactions();
+        for (int i = 0; i + 1 < hash.size(); i += 2) {
+            reactions.set(ReactionType.valueOf(String.valueOf(hash.get(i))), Integer.parseInt(String.valueOf(hash.get(i + 1))));
         }
+        return reactions;
     }
 
-    @Async
-    public void invalidateDomainCache(String domain) {
-        deleteReportItemsAndUserKeysByDomain(domain);
-        deleteAllUserDomainKeysByDomain(domain);
-        log.info("✅ [캐시 무효화 완료] domain='{}'", domain);
+    private static List<String> toStringList(Object members) {
+        if (!(members instanceof Collection<?> collection)) return List.of();
+        return collection.stream().map(Object::toString).toList();
+    }
+
+    private byte[] serialize(String value) {
+        return redisTemplate.getStringSerializer().serialize(value);
     }
 }
@@ -0,0 +1,92 @@
+package com.hertz.hertz_be.domain.tuningreport.repository;
+
+import com.hertz.hertz_be.domain.tuningreport.dto.response.TuningReportListResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 튜닝 리포트 L1(프로세스 내) 캐시
+ * - 리포트 아이템(제목 / 본문 등 변하지 않는 필드)만 보관, 리액션 수는 항상 Redis 카운터 사용
+ * - 사용자 도메인은 UserDomainResolver 가 별도 캐시로 관리
+ * - 도메인 무효화 / 워밍업 시 Redis pub/sub 으로 모든 노드의 L1 을 비움
+ * - L1 적중률은 Caffeine 통계(cache.gets), L2(Redis) 적중률은 tuningreport.cache.l2.gets 로 노출
+ */
+@Slf4j
+@Component
+public class TuningReportNearCache implements MessageListener {
+
+    public static final String ITEMS = "tuningReportItems";
+    public static final String INVALIDATION_CHANNEL = "tuningreport:cache:invalidate";
+
+    private static final String L2_METRIC_NAME = "tuningreport.cache.l2.gets";
+
+    private final Cache itemCache;
+    private final RedisTemplate<String, String> redisTemplate;
+
+    private final Counter itemL2HitCounter;
+    private final Counter itemL2MissCounter;
+
+    public TuningReportNearCache(CacheManager cacheManager,
+                                 RedisTemplate<String, String> redisTemplate,
+                                 RedisMessageListenerContainer listenerContainer,
+                                 MeterRegistry meterRegistry) {
+        this.itemCache = cacheManager.getCache(ITEMS);
+        this.redisTemplate = redisTemplate;
+        listenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_CHANNEL));
+
+        this.itemL2HitCounter = Counter.builder(L2_METRIC_NAME).tag("cache", ITEMS).tag("result", "hit").register(meterRegistry);
+        this.itemL2MissCounter = Counter.builder(L2_METRIC_NAME).tag("cache", ITEMS).tag("result", "miss").register(meterRegistry);
+    }
+
+    // L1 에 보관된 아이템은 공유 객체이므로 호출 측이 수정할 수 있도록 복사본 반환
+    public TuningReportListResponse.ReportItem getItem(Long reportId) {
+        TuningReportListResponse.ReportItem item = itemCache.get(reportId, TuningReportListResponse.ReportItem.class);
+        if (item == null) return null;
+        return new TuningReportListResponse.ReportItem(
+                item.getCreatedDate(), item.getReportId(), item.getTitle(), item.getContent(), null, null);
+    }
+
+    public void putItem(TuningReportListResponse.ReportItem item) {
+        itemCache.put(item.getReportId(), new TuningReportListResponse.ReportItem(
+                item.getCreatedDate(), item.getReportId(), item.getTitle(), item.getContent(), null, null));
+    }
+
+    public void recordItemL2(long hits, long misses) {
+        itemL2HitCounter.increment(hits);
+        itemL2MissCounter.increment(misses);
+    }
+
+    /**
+     * 모든 노드의 해당 도메인 L1 무효화 (자기 노드는 즉시 비우고 메세지로 한 번 더 수신)
+     */
+    public void publishInvalidation(String domain) {
+        evictDomain(domain);
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, domain);
+        } catch (Exception e) {
+            log.warn("⚠️ [L1 캐시] 무효화 메세지 발행 실패 domain={} - {}", domain, e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        evictDomain(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    // 아이템은 도메인을 알 수 없으므로 전체를 비움 (무효화는 워밍업 주기로 드묾)
+    private void evictDomain(String domain) {
+        itemCache.clear();
+        log.info("🧹 [L1 캐시] 무효화 domain={}", domain);
+    }
+}
@@ -2,6 +2,8 @@ package com.hertz.hertz_be.domain.tuningreport.repository;
 
 import com.hertz.hertz_be.domain.channel.entity.SignalRoom;
 import com.hertz.hertz_be.domain.tuningreport.entity.TuningReport;
+import com.hertz.hertz_be.domain.tuningreport.repository.projection.TuningReportIndexProjection;
+import com.hertz.hertz_be.domain.tuningreport.repository.projection.TuningReportRepositoryCustom;
 import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -13,7 +15,7 @@ import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface TuningReportRepository extends JpaRepository<TuningReport, Long> {
+public interface TuningReportRepository extends JpaRepository<TuningReport, Long>, TuningReportRepositoryCustom {
 
     @Query("""
     SELECT r FROM TuningReport r 
@@ -45,6 +47,27 @@ public interface TuningReportRepository extends JpaRepository<TuningReport, Long
             Pageable pageable
     );
 
+    // 도메인 리포트 인덱스(최신순 / 인기순) 적재용: 본문 없이 정렬 키만 조회
+    @Query("""
+    SELECT r.id AS id,
+           r.createdAt AS createdAt,
+           (r.reactionCelebrate + r.reactionThumbsUp + r.reactionLaugh + r.reactionEyes + r.reactionHeart) AS totalReactions
+    FROM TuningReport r
+    WHERE r.deletedAt IS NULL
+      AND r.isVisible = true
+      AND r.emailDomain = :emailDomain
+""")
+    List<TuningReportIndexProjection> findIndexEntriesByEmailDomain(@Param("emailDomain") String emailDomain);
+
+    // 캐시에 없는 페이지 아이템 조회: 인덱스 적재 이후 삭제 / 숨김 처리된 리포트는 제외
+    @Query("""
+    SELECT r FROM TuningReport r
+    WHERE r.id IN :ids
+      AND r.deletedAt IS NULL
+      AND r.isVisible = true
+""")
+    List<TuningReport> findAllVisibleByIdIn(@Param("ids") List<Long> ids);
+
     @Query("SELECT r FROM TuningReport r WHERE r.signalRoom = :signalRoom AND r.deletedAt IS NULL")
     Optional<TuningReport> findNotDeletedBySignalRoom(@Param("signalRoom") SignalRoom signalRoom);
 
@@ -0,0 +1,42 @@
+package com.hertz.hertz_be.domain.tuningreport.repository;
+
+import com.hertz.hertz_be.domain.tuningreport.dto.response.TuningReportListResponse;
+import com.hertz.hertz_be.domain.tuningreport.repository.projection.TuningReportRepositoryCustom;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+@RequiredArgsConstructor
+public class TuningReportRepositoryImpl implements TuningReportRepositoryCustom {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 캐시 카운터 값(절대값)으로 리액션 수를 JDBC 배치 갱신
+     * - 엔티티를 읽지 않으므로 version 은 직접 증가시켜 낙관적 락과 일관성 유지
+     */
+    @Override
+    public int batchUpdateReactionCounts(Map<Long, TuningReportListResponse.Reactions> countsByReportId) {
+        if (countsByReportId.isEmpty()) return 0;
+
+        List<Object[]> batchArgs = new ArrayList<>(countsByReportId.size());
+        countsByReportId.forEach((reportId, reactions) -> batchArgs.add(new Object[]{
+                reactions.getCelebrate(), reactions.getThumbsUp(), reactions.getLaugh(),
+                reactions.getEyes(), reactions.getHeart(), reportId
+        }));
+
+        int[] updated = jdbcTemplate.batchUpdate("""
+                UPDATE tuning_report
+                SET reaction_celebrate = ?, reaction_thumbs_up = ?, reaction_laugh = ?,
+                    reaction_eyes = ?, reaction_heart = ?, version = version + 1, modified_at = NOW()
+                WHERE id = ?
+                """, batchArgs);
+        return Arrays.stream(updated).map(count -> Math.max(count, 0)).sum();
+    }
+}
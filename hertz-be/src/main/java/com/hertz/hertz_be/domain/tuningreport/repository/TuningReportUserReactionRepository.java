@@ -2,6 +2,7 @@ package com.hertz.hertz_be.domain.tuningreport.repository;
 
 import com.hertz.hertz_be.domain.tuningreport.entity.TuningReportUserReaction;
 import com.hertz.hertz_be.domain.tuningreport.entity.enums.ReactionType;
+import com.hertz.hertz_be.domain.tuningreport.repository.projection.TuningReportUserReactionRepositoryCustom;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
@@ -9,7 +10,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
 
 @Repository
-public interface TuningReportUserReactionRepository extends JpaRepository<TuningReportUserReaction, Long> {
+public interface TuningReportUserReactionRepository extends JpaRepository<TuningReportUserReaction, Long>, TuningReportUserReactionRepositoryCustom {
 
     @Transactional(readOnly = true)
     List<TuningReportUserReaction> findAllByUserIdAndReportIdIn(Long userId, List<Long> reportIds);
@@ -0,0 +1,68 @@
+package com.hertz.hertz_be.domain.tuningreport.repository;
+
+import com.hertz.hertz_be.domain.tuningreport.repository.projection.TuningReportUserReactionRepositoryCustom;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class TuningReportUserReactionRepositoryImpl implements TuningReportUserReactionRepositoryCustom {
+
+    private static final int DELETE_BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * (report_id, user_id, reaction_type) 유니크 키 기준 멱등 insert
+     * - 이미 있으면 그대로 두고, 삭제된 리포트 / 탈퇴한(삭제된) 사용자에 대한 반응은 건너뜀 (FK 위반으로 청크 전체가 롤백되지 않도록)
+     */
+    @Override
+    public int batchUpsert(List<ReactionRow> rows) {
+        if (rows.isEmpty()) return 0;
+
+        List<Object[]> batchArgs = new ArrayList<>(rows.size());
+        for (ReactionRow row : rows) {
+            batchArgs.add(new Object[]{row.reactionType().name(), row.userId(), row.reportId()});
+        }
+
+        int[] inserted = jdbcTemplate.batchUpdate("""
+                INSERT INTO tuning_report_user_reaction (report_id, user_id, reaction_type)
+                SELECT r.id, u.id, ? FROM tuning_report r JOIN `user` u ON u.id = ? WHERE r.id = ?
+                ON DUPLICATE KEY UPDATE reaction_type = reaction_type
+                """, batchArgs);
+        return Arrays.stream(inserted).map(count -> Math.max(count, 0)).sum();
+    }
+
+    /**
+     * 행 생성자 IN 절로 DELETE_BATCH_SIZE 건씩 삭제
+     */
+    @Override
+    public int batchDelete(List<ReactionRow> rows) {
+        int deleted = 0;
+        for (int from = 0; from < rows.size(); from += DELETE_BATCH_SIZE) {
+            deleted += deleteIn(rows.subList(from, Math.min(from + DELETE_BATCH_SIZE, rows.size())));
+        }
+        return deleted;
+    }
+
+    private int deleteIn(List<ReactionRow> rows) {
+        String placeholders = String.join(", ", Collections.nCopies(rows.size(), "(?, ?, ?)"));
+        List<Object> args = new ArrayList<>(rows.size() * 3);
+        for (ReactionRow row : rows) {
+            args.add(row.reportId());
+            args.add(row.userId());
+            args.add(row.reactionType().name());
+        }
+
+        return jdbcTemplate.update(
+                "DELETE FROM tuning_report_user_reaction WHERE (report_id, user_id, reaction_type) IN (" + placeholders + ")",
+                args.toArray()
+        );
+    }
+}
@@ -0,0 +1,9 @@
+package com.hertz.hertz_be.domain.tuningreport.repository.projection;
+
+import java.time.LocalDateTime;
+
+public interface TuningReportIndexProjection {
+    Long getId();
+    LocalDateTime getCreatedAt();
+    Integer getTotalReactions();
+}
@@ -0,0 +1,9 @@
+package com.hertz.hertz_be.domain.tuningreport.repository.projection;
+
+import com.hertz.hertz_be.domain.tuningreport.dto.response.TuningReportListResponse;
+
+import java.util.Map;
+
+public interface TuningReportRepositoryCustom {
+    int batchUpdateReactionCounts(Map<Long, TuningReportListResponse.Reactions> countsByReportId);
+}
@@ -0,0 +1,14 @@
+package com.hertz.hertz_be.domain.tuningreport.repository.projection;
+
+import com.hertz.hertz_be.domain.tuningreport.entity.enums.ReactionType;
+
+import java.util.List;
+
+public interface TuningReportUserReactionRepositoryCustom {
+
+    record ReactionRow(Long reportId, Long userId, ReactionType reactionType) {}
+
+    int batchUpsert(List<ReactionRow> rows);
+
+    int batchDelete(List<ReactionRow> rows);
+}
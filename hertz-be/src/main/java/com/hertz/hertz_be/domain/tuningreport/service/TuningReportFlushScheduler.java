@@ -1,137 +1,158 @@
 package com.hertz.hertz_be.domain.tuningreport.service;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationFeature;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
-import com.hertz.hertz_be.domain.tuningreport.dto.response.TuningReportListResponse;
-import com.hertz.hertz_be.domain.tuningreport.entity.TuningReport;
-import com.hertz.hertz_be.domain.tuningreport.entity.TuningReportUserReaction;
-import com.hertz.hertz_be.domain.tuningreport.entity.enums.ReactionType;
 import com.hertz.hertz_be.domain.tuningreport.repository.TuningReportCacheManager;
-import com.hertz.hertz_be.domain.tuningreport.repository.TuningReportRepository;
-import com.hertz.hertz_be.domain.tuningreport.repository.TuningReportUserReactionRepository;
-import com.hertz.hertz_be.domain.user.entity.User;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.Cursor;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.ScanOptions;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
-import java.util.HashSet;
+import java.time.Duration;
 import java.util.List;
-import java.util.Set;
-
-
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 리액션 write-behind: Redis 에 쌓인 변경을 청크 단위로 DB 에 반영
+ * - 청크마다 별도 트랜잭션 + 배치 upsert / delete, 반영 후 ack 로 체크포인트
+ * - ack 전에 중단되면 다음 실행에서 같은 청크부터 다시 반영 (현재 상태 기준이라 멱등)
+ * - 같은 청크가 max-attempts 번 실패하면 리포트 단위로 나눠 반영하고, 그래도 실패하는 리포트만 격리
+ */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class TuningReportFlushScheduler {
+
+    private static final String LOCK_KEY = "lock:tuningreport:flush";
+    private static final String METRIC_PREFIX = "tuningreport.flush";
+
     private final TuningReportCacheManager cacheManager;
-    private final TuningReportRepository reportRepo;
-    private final TuningReportUserReactionRepository reactionRepo;
-    private final RedisTemplate<String, String> redisTemplate;
-    private final ObjectMapper objectMapper = new ObjectMapper()
-            .registerModule(new JavaTimeModule())
-            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
-
-    @Transactional
-    @Scheduled(cron = "0 0/30 * * * *")
+    private final TuningReportReactionTransactionalService txService;
+    private final RedissonClient redissonClient;
+    private final int chunkSize;
+    private final int maxChunksPerRun;
+    private final int maxAttempts;
+    private final Duration lockWait;
+
+    private final AtomicLong lagSeconds = new AtomicLong();
+    private final Counter reportRowsCounter;
+    private final Counter upsertRowsCounter;
+    private final Counter deleteRowsCounter;
+    private final Counter quarantinedCounter;
+    private final Timer chunkTimer;
+
+    public TuningReportFlushScheduler(TuningReportCacheManager cacheManager,
+                                      TuningReportReactionTransactionalService txService,
+                                      RedissonClient redissonClient,
+                                      MeterRegistry meterRegistry,
+                                      @Value("${tuningreport.flush.chunk-size:200}") int chunkSize,
+                                      @Value("${tuningreport.flush.max-chunks-per-run:50}") int maxChunksPerRun,
+                                      @Value("${tuningreport.flush.max-attempts:5}") int maxAttempts,
+                                      @Value("${tuningreport.flush.lock-wait:PT30S}") Duration lockWait) {
+        this.cacheManager = cacheManager;
+        this.txService = txService;
+        this.redissonClient = redissonClient;
+        this.chunkSize = chunkSize;
+        this.maxChunksPerRun = maxChunksPerRun;
+        this.maxAttempts = maxAttempts;
+        this.lockWait = lockWait;
+
+        // 가장 오래된 미반영 변경이 DB 에 반영되기까지 남은 지연
+        Gauge.builder(METRIC_PREFIX + ".lag", lagSeconds, AtomicLong::get)
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        // 초당 반영 행 수는 rate(tuningreport_flush_rows_total) 로 조회
+        this.reportRowsCounter = Counter.builder(METRIC_PREFIX + ".rows").tag("table", "tuning_report").tag("op", "update").register(meterRegistry);
+        this.upsertRowsCounter = Counter.builder(METRIC_PREFIX + ".rows").tag("table", "tuning_report_user_reaction").tag("op", "upsert").register(meterRegistry);
+        this.deleteRowsCounter = Counter.builder(METRIC_PREFIX + ".rows").tag("table", "tuning_report_user_reaction").tag("op", "delete").register(meterRegistry);
+        this.quarantinedCounter = Counter.builder(METRIC_PREFIX + ".quarantined").register(meterRegistry);
+        this.chunkTimer = Timer.builder(METRIC_PREFIX + ".chunk").register(meterRegistry);
+    }
+
+    /**
+     * 한 번 실행에 최대 maxChunksPerRun 개 청크까지 반영하고 나머지는 다음 실행으로 넘김
+     * - 워밍업 직전에도 호출되므로 노드 간 동시 실행은 분산 락으로 직렬화
+     */
+    @Scheduled(fixedDelayString = "${tuningreport.flush.fixed-delay-ms:60000}")
     public void flushDirtyReports() {
-        Set<String> dirty = cacheManager.getDirtyReportIds();
-        if (dirty.isEmpty()) return;
+        RLock lock = redissonClient.getLock(LOCK_KEY);
+        boolean locked = false;
+
+        try {
+            locked = lock.tryLock(lockWait.toMillis(), TimeUnit.MILLISECONDS);
+            if (!locked) {
+                log.info("🚫 [FLUSH SKIP] 다른 노드에서 반영 중");
+                return;
+            }
+
+            for (int i = 0; i < maxChunksPerRun; i++) {
+                if (!flushChunk()) break;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.warn("❌ [FLUSH FAILED] 미완료 청크는 다음 실행에서 이어서 반영 error={}", e.getMessage());
+        } finally {
+            updateLag();
+            if (locked && lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+    }
 
-        for (String rid : dirty) {
-            Long reportId = null;
+    // 청크 하나 반영, 반영할 리포트가 없으면 false
+    private boolean flushChunk() {
+        List<Long> reportIds = cacheManager.claimDirtyReports(chunkSize);
+        if (reportIds.isEmpty()) return false;
+
+        try {
+            applyAndAck(reportIds);
+        } catch (RuntimeException e) {
+            long failures = cacheManager.recordFlushFailure(reportIds);
+            if (failures < maxAttempts) throw e;
+            isolateFailedChunk(reportIds, failures);
+        }
+        return true;
+    }
+
+    // 반복 실패한 청크는 리포트 단위로 나눠 반영하고, 그래도 실패하는 리포트만 격리하여 나머지 반영을 막지 않음
+    private void isolateFailedChunk(List<Long> reportIds, long failures) {
+        log.warn("⚠️ [FLUSH] 청크가 {}회 실패하여 리포트 단위로 반영 reports={}", failures, reportIds);
+        for (Long reportId : reportIds) {
             try {
-                reportId = Long.valueOf(rid);
-                String reportKey = cacheManager.reportItemKey(reportId);
-                String json = redisTemplate.opsForValue().get(reportKey);
-
-                if (json == null) {
-                    log.warn("❌ [FLUSH SKIP] reportId={} 캐시에 JSON 없음", rid);
-                    continue;
-                }
-
-                TuningReportListResponse.ReportItem item = null;
-                try {
-                    item = objectMapper.readValue(json, TuningReportListResponse.ReportItem.class);
-                } catch (Exception e) {
-                    log.warn("❌ [JSON 파싱 실패] reportId={} msg={}", rid, e.getMessage());
-                    continue;
-                }
-
-                if (item == null || item.getReactions() == null) {
-                    log.warn("❌ [FLUSH SKIP] reportId={} 역직렬화된 객체가 null", rid);
-                    continue;
-                }
-
-                TuningReport report = reportRepo.findById(reportId)
-                        .orElseThrow(() -> new IllegalArgumentException("Report not found"));
-
-                // 각 게시글의 반응 수 동기화
-                report.updateReactionsFrom(item.getReactions());
-                reportRepo.save(report);
-
-                // 각 게시글에 대한 유저별 반응 동기화
-                Set<String> userKeys = new HashSet<>();
-                ScanOptions options = ScanOptions.scanOptions()
-                        .match(String.format("reports:%d:user:*", reportId))
-                        .count(100)
-                        .build();
-                try (Cursor<byte[]> cursor = redisTemplate.getConnectionFactory().getConnection().scan(options)) {
-                    while (cursor.hasNext()) {
-                        userKeys.add(new String(cursor.next()));
-                    }
-                }
-
-                List<TuningReportUserReaction> toInsert = new ArrayList<>();
-                for (String uk : userKeys) {
-                    try {
-                        Long userId = Long.parseLong(uk.split(":")[3]);
-                        for (ReactionType type : ReactionType.values()) {
-                            Boolean reacted = cacheManager.getUserReaction(reportId, userId, type);
-                            if (reacted == null) continue;
-
-                            boolean exists = reactionRepo.existsByReportIdAndUserIdAndReactionType(reportId, userId, type);
-
-                            if (reacted && !exists) {
-                                toInsert.add(TuningReportUserReaction.builder()
-                                        .report(report)
-                                        .user(User.of(userId))
-                                        .reactionType(type)
-                                        .build());
-                            } else if (!reacted && exists) {
-                                reactionRepo.deleteByReportIdAndUserIdAndReactionType(reportId, userId, type);
-                            }
-                        }
-                    } catch (Exception e) {
-                        log.warn("❌ [유저 반응 동기화 실패] userKey={} msg={}", uk, e.getMessage());
-                    }
-                }
-
-                if (!toInsert.isEmpty()) {
-                    reactionRepo.saveAll(toInsert);
-                }
-
-                log.info("✅ [FLUSHED] reportId={} synchronized successfully.", reportId);
-
-            } catch (Exception e) {
-                log.warn("❌ [FLUSH FAILED] reportId={} error: {}", rid, e.getMessage());
-            } finally {
-                if (reportId != null) {
-                    try {
-                        cacheManager.clearDirtyReportId(rid);
-                    } catch (Exception e) {
-                        log.error("❗ dirty set에서 제거 실패: reportId={} error={}", rid, e.getMessage());
-                    }
-                }
+                applyAndAck(List.of(reportId));
+            } catch (RuntimeException e) {
+                cacheManager.quarantineFlushing(reportId);
+                quarantinedCounter.increment();
+                log.error("🚨 [FLUSH QUARANTINED] reportId={} 반영 실패로 격리 error={}", reportId, e.getMessage());
             }
         }
     }
 
+    private void applyAndAck(List<Long> reportIds) {
+        long start = System.nanoTime();
+        TuningReportCacheManager.FlushSnapshot snapshot = cacheManager.readFlushSnapshot(reportIds);
+        TuningReportReactionTransactionalService.FlushResult result = txService.applyFlushChunk(snapshot);
+        cacheManager.ackFlushed(reportIds);
+        chunkTimer.record(Duration.ofNanos(System.nanoTime() - start));
+
+        reportRowsCounter.increment(result.updatedReports());
+        upsertRowsCounter.increment(result.upsertedReactions());
+        deleteRowsCounter.increment(result.deletedReactions());
+        log.info("✅ [FLUSHED] reports={}, upserted={}, deleted={}",
+                reportIds.size(), result.upsertedReactions(), result.deletedReactions());
+    }
 
+    private void updateLag() {
+        try {
+            Long oldest = cacheManager.oldestDirtySince();
+            lagSeconds.set(oldest == null ? 0 : Math.max(0, (System.currentTimeMillis() - oldest) / 1000));
+        } catch (Exception e) {
+            log.warn("⚠️ [FLUSH] 반영 지연 측정 실패: {}", e.getMessage());
+        }
+    }
 }
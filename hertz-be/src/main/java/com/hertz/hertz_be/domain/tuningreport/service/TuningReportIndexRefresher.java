@@ -0,0 +1,104 @@
+package com.hertz.hertz_be.domain.tuningreport.service;
+
+import com.hertz.hertz_be.domain.tuningreport.repository.TuningReportCacheManager;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 도메인 인덱스 재적재
+ * - 락은 기다리지 않음(tryLock 0): 다른 요청 / 노드가 재적재 중이면 이전 인덱스 또는 DB 직접 조회로 응답
+ * - 만료 전 조기 재적재(XFetch)는 요청 스레드와 분리해 비동기로 수행
+ */
+@Slf4j
+@Component
+public class TuningReportIndexRefresher {
+
+    private static final String LOCK_PREFIX = "lock:report:domain:";
+    private static final String METRIC_NAME = "tuningreport.cache.index.rebuild";
+
+    private final TuningReportCacheManager cacheManager;
+    private final TuningReportTransactionalService transactionalService;
+    private final RedissonClient redissonClient;
+    private final Duration lockLease;
+
+    // 같은 노드에서 같은 도메인의 조기 재적재 요청이 몰려도 한 번만 제출
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+
+    private final Timer missTimer;
+    private final Timer earlyTimer;
+
+    public TuningReportIndexRefresher(TuningReportCacheManager cacheManager,
+                                      TuningReportTransactionalService transactionalService,
+                                      RedissonClient redissonClient,
+                                      MeterRegistry meterRegistry,
+                                      @Value("${tuningreport.cache.rebuild-lock-lease:PT30S}") Duration lockLease) {
+        this.cacheManager = cacheManager;
+        this.transactionalService = transactionalService;
+        this.redissonClient = redissonClient;
+        this.lockLease = lockLease;
+
+        this.missTimer = Timer.builder(METRIC_NAME).tag("trigger", "miss").register(meterRegistry);
+        this.earlyTimer = Timer.builder(METRIC_NAME).tag("trigger", "early").register(meterRegistry);
+    }
+
+    /**
+     * 조기 재적재: 요청은 현재(만료 임박 / stale) 인덱스로 바로 응답하고 재적재는 백그라운드에서 수행
+     */
+    @Async
+    public void refreshAsync(String domain) {
+        if (!refreshing.add(domain)) return;
+        try {
+            rebuild(domain, earlyTimer);
+        } finally {
+            refreshing.remove(domain);
+        }
+    }
+
+    /**
+     * 인덱스가 없을 때 동기 적재
+     * @return 락을 얻어 적재했으면 true, 다른 요청이 적재 중이면 false (호출 측은 DB 직접 조회)
+     */
+    public boolean rebuild(String domain) {
+        return rebuild(domain, missTimer);
+    }
+
+    private boolean rebuild(String domain, Timer timer) {
+        RLock lock = redissonClient.getLock(LOCK_PREFIX + domain);
+        boolean acquired = false;
+
+        try {
+            acquired = lock.tryLock(0, lockLease.toMillis(), TimeUnit.MILLISECONDS);
+            if (!acquired) return false;
+
+            long start = System.nanoTime();
+            List<TuningReportCacheManager.IndexEntry> entries = transactionalService.findIndexEntries(domain);
+            Duration rebuildTime = Duration.ofNanos(System.nanoTime() - start);
+            cacheManager.cacheDomainIndex(domain, entries, rebuildTime);
+            timer.record(rebuildTime);
+
+            log.info("✅ 도메인 인덱스 적재: domain={}, {}건, {}ms", domain, entries.size(), rebuildTime.toMillis());
+            return true;
+
+        } catch (InterruptedException e) {
+            log.warn("❌ 인덱스 재적재 중단: domain={}, {}", domain, e.getMessage());
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            if (acquired && lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+    }
+}
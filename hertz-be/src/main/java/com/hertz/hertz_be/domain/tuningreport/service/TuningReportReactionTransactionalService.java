@@ -4,6 +4,7 @@ import com.hertz.hertz_be.domain.tuningreport.dto.response.TuningReportReactionR
 import com.hertz.hertz_be.domain.tuningreport.entity.TuningReport;
 import com.hertz.hertz_be.domain.tuningreport.entity.TuningReportUserReaction;
 import com.hertz.hertz_be.domain.tuningreport.entity.enums.ReactionType;
+import com.hertz.hertz_be.domain.tuningreport.repository.TuningReportCacheManager;
 import com.hertz.hertz_be.domain.tuningreport.repository.TuningReportRepository;
 import com.hertz.hertz_be.domain.tuningreport.repository.TuningReportUserReactionRepository;
 import com.hertz.hertz_be.domain.user.entity.User;
@@ -60,4 +61,18 @@ public class TuningReportReactionTransactionalService {
         int count = report.getCountByType(type);
         return new TuningReportReactionResponse(reportId, type, isReacted, count);
     }
+
+    public record FlushResult(int updatedReports, int upsertedReactions, int deletedReactions) {}
+
+    /**
+     * write-behind 청크 하나를 한 트랜잭션으로 반영 (카운트 배치 UPDATE + 반응 배치 upsert / delete)
+     */
+    @Transactional
+    public FlushResult applyFlushChunk(TuningReportCacheManager.FlushSnapshot snapshot) {
+        return new FlushResult(
+                reportRepo.batchUpdateReactionCounts(snapshot.counts()),
+                reactionRepo.batchUpsert(snapshot.upserts()),
+                reactionRepo.batchDelete(snapshot.deletes())
+        );
+    }
 }
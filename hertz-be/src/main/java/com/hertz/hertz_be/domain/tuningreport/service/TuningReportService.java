@@ -5,19 +5,17 @@ import com.hertz.hertz_be.domain.tuningreport.entity.TuningReportUserReaction;
 import com.hertz.hertz_be.domain.tuningreport.entity.enums.ReactionType;
 import com.hertz.hertz_be.domain.tuningreport.entity.enums.TuningReportSortType;
 import com.hertz.hertz_be.domain.tuningreport.repository.TuningReportCacheManager;
-import com.hertz.hertz_be.domain.user.repository.UserRepository;
+import com.hertz.hertz_be.domain.user.service.UserDomainResolver;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.redisson.api.RLock;
-import org.redisson.api.RedissonClient;
-import org.springframework.data.domain.PageRequest;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
-import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -27,105 +25,88 @@ public class TuningReportService {
 
     private final TuningReportTransactionalService transactionalService;
     private final TuningReportCacheManager cacheManager;
-    private final UserRepository userRepository;
-    private final RedissonClient redissonClient;
-
+    private final UserDomainResolver userDomainResolver;
+    private final TuningReportIndexRefresher indexRefresher;
+
+    // 캐시 경로로 조회할 최대 페이지 크기 (초과하면 한 요청이 인덱스 / 아이템을 대량으로 읽지 않도록 DB 페이지 조회)
+    @Value("${tuningreport.cache.max-page-size:50}")
+    private int maxCachedPageSize = 50;
+
+    /**
+     * 도메인 인덱스(ZSET)로 모든 page / size / 정렬을 캐시에서 조회
+     * - 인덱스가 없으면 락을 잡은 한 요청만 DB 에서 정렬 키를 읽어 적재, 만료 전에는 XFetch 로 미리 재적재
+     * - 아이템 JSON 이 없는 리포트만 id 로 DB 조회 후 적재
+     */
     public TuningReportListResponse getReportList(Long userId, int page, int size, TuningReportSortType sort) {
-        if (isCacheApplicable(page, size, sort)) {
-            String domain = cacheManager.getUserDomain(userId, userRepository::findDistinctEmailDomains);
-            List<TuningReportListResponse.ReportItem> cachedItems = loadOrCacheReports(domain, page, size, sort);
-            List<TuningReportListResponse.ReportItem> enriched = enrichWithUserReactions(cachedItems, userId);
-            return createResponse(enriched, page, size);
+        if (isCacheApplicable(page, size)) {
+            String domain = userDomainResolver.resolve(userId);
+            TuningReportCacheManager.CachedPage cachedPage = loadOrCacheIndex(domain, sort, page, size);
+            if (cachedPage != null) {
+                List<TuningReportListResponse.ReportItem> items = fillMissingItems(domain, cachedPage);
+                List<TuningReportListResponse.ReportItem> enriched =
+                        items.isEmpty() ? items : enrichWithUserReactions(items, userId, domain);
+                return createResponse(enriched, page, size, cachedPage.total());
+            }
         }
 
         return transactionalService.fetchDirectlyFromDB(userId, page, size, sort);
     }
 
-    private boolean isCacheApplicable(int page, int size, TuningReportSortType sort) {
-        return page == 0 && size == 10 && sort == TuningReportSortType.LATEST;
+    private boolean isCacheApplicable(int page, int size) {
+        return page >= 0 && size > 0 && size <= maxCachedPageSize;
     }
 
-    private List<TuningReportListResponse.ReportItem> loadOrCacheReports(String domain, int page, int size, TuningReportSortType sort) {
-        List<TuningReportListResponse.ReportItem> items = cacheManager.getCachedReportList(domain);
-
-        if (items != null) return items;
+    /**
+     * 인덱스 조회: 어떤 요청도 재적재 락을 기다리지 않음
+     * - 만료 임박 / 논리 만료 후(stale)면 이전 인덱스로 응답하고 재적재는 백그라운드에서 수행
+     * - 인덱스가 아예 없으면 락을 얻은 한 요청만 적재, 나머지는 null(DB 직접 조회)
+     */
+    private TuningReportCacheManager.CachedPage loadOrCacheIndex(String domain, TuningReportSortType sort, int page, int size) {
+        TuningReportCacheManager.CachedPage cachedPage = cacheManager.getCachedPage(domain, sort, page, size);
+        if (cachedPage != null) {
+            if (cachedPage.refreshDue()) {
+                indexRefresher.refreshAsync(domain);
+            }
+            return cachedPage;
+        }
 
-        // 캐시 미스 발생 → 락 획득 시도
-        String lockKey = "lock:report:domain:" + domain;
-        RLock lock = redissonClient.getLock(lockKey);
+        if (!indexRefresher.rebuild(domain)) return null;
+        return cacheManager.getCachedPage(domain, sort, page, size);
+    }
 
-        try {
-            boolean acquired = lock.tryLock(2, 5, TimeUnit.SECONDS);
-            if (!acquired) {
-                return cacheManager.getCachedReportList(domain);
-            }
+    // 캐시에 없는 아이템만 DB 에서 읽어 적재하고 인덱스 순서대로 반환
+    private List<TuningReportListResponse.ReportItem> fillMissingItems(String domain, TuningReportCacheManager.CachedPage cachedPage) {
+        Map<Long, TuningReportListResponse.ReportItem> items = new HashMap<>(cachedPage.items());
 
-            // 락 획득 후 다시 한 번 캐시 확인 (동시성 보장)
-            items = cacheManager.getCachedReportList(domain);
-            if (items == null) {
-//                log.info("🎯 캐시 미스 → DB 조회 및 캐싱 시작: domain={}", domain);
-                var pageReq = PageRequest.of(page, size);
-                var reports = sort.fetch(pageReq, transactionalService.getTuningReportRepository(), domain);
-                items = reports.stream()
-                        .map(transactionalService::toReportItemWithoutReactions)
-                        .collect(Collectors.toList());
-
-                cacheManager.cacheReportList(domain, items);
-                log.info("✅ DB 조회 완료 및 캐싱: {}건", items.size());
-            }
+        if (!cachedPage.missingIds().isEmpty()) {
+            List<TuningReportListResponse.ReportItem> loaded = transactionalService.findReportItems(cachedPage.missingIds());
+            cacheManager.cacheReportItems(domain, loaded);
 
-        } catch (InterruptedException e) {
-            log.warn("❌ 캐시 락 처리 중단: {}", e.getMessage());
-            Thread.currentThread().interrupt();
-            return List.of();
-        } finally {
-            if (lock.isHeldByCurrentThread()) {
-                lock.unlock();
+            for (TuningReportListResponse.ReportItem item : loaded) {
+                // 카운터가 남아 있으면 DB 값보다 최신
+                TuningReportListResponse.Reactions counts = cachedPage.missingCounts().get(item.getReportId());
+                if (counts != null) item.setReactions(counts);
+                items.put(item.getReportId(), item);
             }
         }
 
-        return items;
+        return cachedPage.reportIds().stream()
+                .map(items::get)
+                .filter(Objects::nonNull)
+                .toList();
     }
 
     private List<TuningReportListResponse.ReportItem> enrichWithUserReactions(
-            List<TuningReportListResponse.ReportItem> items, Long userId) {
+            List<TuningReportListResponse.ReportItem> items, Long userId, String domain) {
 
         List<Long> reportIds = items.stream()
                 .map(TuningReportListResponse.ReportItem::getReportId)
                 .toList();
 
-        boolean anyCached = reportIds.stream()
-                .anyMatch(reportId -> cacheManager.hasUserReactionCached(reportId, userId));
-
-        Map<Long, Set<ReactionType>> userReactionMap;
-
-        if (anyCached) {
-            userReactionMap = reportIds.stream().collect(Collectors.toMap(
-                    reportId -> reportId,
-                    reportId -> Arrays.stream(ReactionType.values())
-                            .filter(type -> Boolean.TRUE.equals(cacheManager.getUserReaction(reportId, userId, type)))
-                            .collect(Collectors.toSet())
-            ));
-//            log.info("✅ Redis에서 사용자 {}의 반응 정보 조회 완료 (DB 미조회)", userId);
-        } else {
-            List<TuningReportUserReaction> dbList =
-                    transactionalService.getTuningReportUserReactionRepository().findAllByUserIdAndReportIdIn(userId, reportIds);
-
-            dbList.forEach(reaction ->
-                    cacheManager.setUserReaction(
-                            reaction.getReport().getId(),
-                            userId,
-                            reaction.getReactionType(),
-                            true
-                    )
-            );
-
-            userReactionMap = dbList.stream()
-                    .collect(Collectors.groupingBy(
-                            r -> r.getReport().getId(),
-                            Collectors.mapping(TuningReportUserReaction::getReactionType, Collectors.toSet())
-                    ));
-        }
+        // 페이지 내 리액션 해시를 파이프라인 한 번으로 조회
+        Map<Long, Set<ReactionType>> cachedReactionMap = cacheManager.getUserReactions(reportIds, userId);
+        Map<Long, Set<ReactionType>> userReactionMap =
+                cachedReactionMap.isEmpty() ? loadUserReactions(userId, domain, reportIds) : cachedReactionMap;
 
         return items.stream()
                 .map(item -> {
@@ -148,8 +129,21 @@ public class TuningReportService {
                 .toList();
     }
 
-    private TuningReportListResponse createResponse(List<TuningReportListResponse.ReportItem> items, int page, int size) {
-        boolean isLast = items.size() < size;
+    private Map<Long, Set<ReactionType>> loadUserReactions(Long userId, String domain, List<Long> reportIds) {
+        List<TuningReportUserReaction> dbList =
+                transactionalService.getTuningReportUserReactionRepository().findAllByUserIdAndReportIdIn(userId, reportIds);
+
+        Map<Long, Set<ReactionType>> userReactionMap = dbList.stream()
+                .collect(Collectors.groupingBy(
+                        r -> r.getReport().getId(),
+                        Collectors.mapping(TuningReportUserReaction::getReactionType, Collectors.toSet())
+                ));
+        cacheManager.setUserReactions(userId, domain, userReactionMap);
+        return userReactionMap;
+    }
+
+    private TuningReportListResponse createResponse(List<TuningReportListResponse.ReportItem> items, int page, int size, long total) {
+        boolean isLast = (long) (page + 1) * size >= total;
         return new TuningReportListResponse(items, page, size, isLast);
     }
 }
@@ -5,9 +5,10 @@ import com.hertz.hertz_be.domain.tuningreport.entity.TuningReport;
 import com.hertz.hertz_be.domain.tuningreport.entity.TuningReportUserReaction;
 import com.hertz.hertz_be.domain.tuningreport.entity.enums.ReactionType;
 import com.hertz.hertz_be.domain.tuningreport.entity.enums.TuningReportSortType;
+import com.hertz.hertz_be.domain.tuningreport.repository.TuningReportCacheManager;
 import com.hertz.hertz_be.domain.tuningreport.repository.TuningReportRepository;
 import com.hertz.hertz_be.domain.tuningreport.repository.TuningReportUserReactionRepository;
-import com.hertz.hertz_be.domain.user.repository.UserRepository;
+import com.hertz.hertz_be.domain.user.service.UserDomainResolver;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -29,11 +30,11 @@ public class TuningReportTransactionalService {
 
     private final TuningReportRepository tuningReportRepository;
     private final TuningReportUserReactionRepository tuningReportUserReactionRepository;
-    private final UserRepository userRepository;
+    private final UserDomainResolver userDomainResolver;
 
     @Transactional(readOnly = true)
     public TuningReportListResponse fetchDirectlyFromDB(Long userId, int page, int size, TuningReportSortType sort) {
-        String domain = userRepository.findDistinctEmailDomains(userId);
+        String domain = userDomainResolver.resolve(userId);
         PageRequest pageRequest = PageRequest.of(page, size);
         Page<TuningReport> reports = sort.fetch(pageRequest, tuningReportRepository, domain);
 
@@ -60,6 +61,20 @@ public class TuningReportTransactionalService {
         );
     }
 
+    @Transactional(readOnly = true)
+    public List<TuningReportCacheManager.IndexEntry> findIndexEntries(String domain) {
+        return tuningReportRepository.findIndexEntriesByEmailDomain(domain).stream()
+                .map(entry -> new TuningReportCacheManager.IndexEntry(entry.getId(), entry.getCreatedAt(), entry.getTotalReactions()))
+                .toList();
+    }
+
+    @Transactional(readOnly = true)
+    public List<TuningReportListResponse.ReportItem> findReportItems(List<Long> reportIds) {
+        return tuningReportRepository.findAllVisibleByIdIn(reportIds).stream()
+                .map(this::toReportItemWithoutReactions)
+                .toList();
+    }
+
     public TuningReportListResponse.ReportItem toReportItemWithoutReactions(TuningReport report) {
         return new TuningReportListResponse.ReportItem(
                 report.getCreatedAt(), report.getId(), report.getTitle(), report.getContent(),
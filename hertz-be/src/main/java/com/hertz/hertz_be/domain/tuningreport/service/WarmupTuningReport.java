@@ -8,11 +8,12 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.redisson.api.RLock;
 import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 
@@ -21,12 +22,17 @@ import java.util.concurrent.TimeUnit;
 @RequiredArgsConstructor
 public class WarmupTuningReport {
 
+    private static final int REBUILD_ATTEMPTS = 3;
+
     private final TuningReportCacheManager cacheManager;
-    private final RedisTemplate<String, String> redisTemplate;
     private final TuningReportTransactionalService transactionalService;
     private final TuningReportRepository tuningReportRepository;
-    private final TuningReportFlushScheduler tuningReportFlushScheduler;
     private final RedissonClient redissonClient;
+    private final TuningReportIndexRefresher indexRefresher;
+
+    // 다른 요청 / 노드가 인덱스를 재적재 중일 때 다시 시도하기까지 대기 시간
+    @Value("${tuningreport.warmup.rebuild-retry-delay:PT1S}")
+    private Duration rebuildRetryDelay = Duration.ofSeconds(1);
 
     @Scheduled(cron = "0 40 12 ? * MON,THU")
     public void warmupKakaotechReports() {
@@ -35,7 +41,6 @@ public class WarmupTuningReport {
     }
 
     public void warmupDomain(String domain) {
-        String key = cacheManager.pageListKey(domain);
         String lockKey = "lock:warmup:" + domain;
 
         RLock lock = redissonClient.getLock(lockKey);
@@ -48,13 +53,13 @@ public class WarmupTuningReport {
                 return;
             }
 
-            if (Boolean.TRUE.equals(redisTemplate.hasKey(key))) {
-                log.info("🔁 기존 캐시 존재 → flush + invalidate 수행: {}", key);
-                tuningReportFlushScheduler.flushDirtyReports();
-                cacheManager.invalidateDomainCache(domain);
+            // 인덱스만 교체: 아이템 JSON 은 변하지 않고 카운터는 DB 보다 최신이므로 flush / 무효화 불필요
+            log.info("🔥 캐시 워밍업 시작: {}", domain);
+            if (!rebuildIndex(domain)) {
+                log.warn("⚠️ 인덱스 재적재 락 획득 실패 {}회 → 진행 중인 재적재 결과 사용: {}", REBUILD_ATTEMPTS, domain);
             }
+            cacheManager.invalidateNearCache(domain);
 
-            log.info("🔥 캐시 워밍업 시작: {}", domain);
             List<TuningReportListResponse.ReportItem> items =
                     TuningReportSortType.LATEST.fetch(PageRequest.of(0, 10),
                                     tuningReportRepository, domain)
@@ -62,9 +67,12 @@ public class WarmupTuningReport {
                             .map(transactionalService::toReportItemWithoutReactions)
                             .toList();
 
-            cacheManager.cacheReportList(domain, items);
+            cacheManager.cacheReportItems(domain, items);
             log.info("✅ 캐시 워밍업 완료: {}건", items.size());
 
+        } catch (InterruptedException e) {
+            log.warn("❌ 워밍업 중단: domain={}", domain);
+            Thread.currentThread().interrupt();
         } catch (Exception e) {
             log.error("❌ 워밍업 실패: domain={}, message={}", domain, e.getMessage(), e);
         } finally {
@@ -73,4 +81,17 @@ public class WarmupTuningReport {
             }
         }
     }
+
+    /**
+     * 인덱스 재적재 락은 기다리지 않으므로, 다른 요청의 재적재(새 리포트 반영 전 시작했을 수 있음)가 끝난 뒤 다시 시도
+     */
+    private boolean rebuildIndex(String domain) throws InterruptedException {
+        for (int attempt = 1; attempt <= REBUILD_ATTEMPTS; attempt++) {
+            if (indexRefresher.rebuild(domain)) return true;
+            if (attempt < REBUILD_ATTEMPTS) {
+                Thread.sleep(rebuildRetryDelay.toMillis());
+            }
+        }
+        return false;
+    }
 }
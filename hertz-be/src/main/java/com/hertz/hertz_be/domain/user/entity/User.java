@@ -19,7 +19,12 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "user")
+@Table(
+        name = "user",
+        indexes = {
+                @Index(name = "idx_user_email_domain", columnList = "email_domain, deleted_at")
+        }
+)
 @Getter
 @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -42,6 +47,10 @@ public class User {
     @Column(nullable = false, length = 255, unique = true)
     private String email;
 
+    // 도메인 단위 조회용 (email '@' 뒤 부분, 저장 시 email 로부터 채움)
+    @Column(name = "email_domain", length = 255)
+    private String emailDomain;
+
     @Column(name = "profile_image_url", nullable = false, length = 512)
     private String profileImageUrl;
 
@@ -108,6 +117,14 @@ public class User {
         return user;
     }
 
+    @PrePersist
+    @PreUpdate
+    private void syncEmailDomain() {
+        if (email != null) {
+            emailDomain = email.substring(email.indexOf('@') + 1);
+        }
+    }
+
     public void changeRejectCategory(Category category, boolean flag) {
         switch (category) {
             case COUPLE -> isCoupleAllowed = flag;
@@ -3,8 +3,10 @@ package com.hertz.hertz_be.domain.user.repository;
 import com.hertz.hertz_be.domain.user.entity.User;
 import io.lettuce.core.dynamic.annotation.Param;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -14,7 +16,13 @@ public interface UserRepository extends JpaRepository<User, Long> {
     boolean existsByNickname(String nickname);
     Optional<User> findByIdAndDeletedAtIsNull(Long id);
 
-    @Query("SELECT u FROM User u WHERE u.email LIKE %:domain AND u.deletedAt IS NULL")
+    // backfill 전 행(email_domain 이 비어 있음)은 email 접미사로 찾음
+    @Query("""
+    SELECT u FROM User u
+    WHERE u.deletedAt IS NULL
+      AND (u.emailDomain = :domain
+           OR (u.emailDomain IS NULL AND u.email LIKE CONCAT('%@', :domain)))
+""")
     List<User> findAllByEmailDomain(@Param("domain") String domain);
 
     @Query("""
@@ -36,7 +44,21 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByIdWithSentSignalRooms(@Param("userId") Long userId);
 
 
-    @Query("SELECT DISTINCT SUBSTRING_INDEX(u.email, '@', -1) FROM User u WHERE u.deletedAt IS NULL and u.id = :userId")
-    String findDistinctEmailDomains(@Param("userId") Long userId);
+    // backfill 전 행은 email 에서 바로 계산 (PK 단건 조회라 인덱스 여부와 무관)
+    @Query("SELECT COALESCE(u.emailDomain, SUBSTRING_INDEX(u.email, '@', -1)) FROM User u WHERE u.deletedAt IS NULL and u.id = :userId")
+    String findEmailDomainById(@Param("userId") Long userId);
+
+    /**
+     * email_domain 이 비어 있는 행을 limit 개씩 채움 (ddl-auto 로 컬럼 추가 후 기존 행 backfill)
+     */
+    @Modifying
+    @Transactional
+    @Query(value = """
+    UPDATE user
+       SET email_domain = SUBSTRING_INDEX(email, '@', -1)
+     WHERE email_domain IS NULL
+     LIMIT :limit
+    """, nativeQuery = true)
+    int backfillEmailDomain(@Param("limit") int limit);
 
 }
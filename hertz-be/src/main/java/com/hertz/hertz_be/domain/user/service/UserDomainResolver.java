@@ -0,0 +1,24 @@
+package com.hertz.hertz_be.domain.user.service;
+
+import com.hertz.hertz_be.domain.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용자 → 이메일 도메인 조회 (튜닝 리포트 / 알림 / 관심사 등 도메인 단위 기능이 공통으로 사용)
+ * - 이메일은 바뀌지 않으므로 프로세스 내 캐시(Caffeine)에 보관, 미스 시 PK 단건 조회
+ */
+@Component
+@RequiredArgsConstructor
+public class UserDomainResolver {
+
+    public static final String CACHE_NAME = "userEmailDomains";
+
+    private final UserRepository userRepository;
+
+    @Cacheable(cacheNames = CACHE_NAME, unless = "#result == null")
+    public String resolve(Long userId) {
+        return userRepository.findEmailDomainById(userId);
+    }
+}
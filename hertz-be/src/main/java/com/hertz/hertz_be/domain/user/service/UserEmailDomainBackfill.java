@@ -0,0 +1,72 @@
+package com.hertz.hertz_be.domain.user.service;
+
+import com.hertz.hertz_be.domain.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * user.email_domain 컬럼 backfill
+ * - 컬럼은 ddl-auto 로 추가되므로 기존 행은 비어 있음 → 기동 시 chunk 단위 UPDATE 로 채움 (채운 행은 다시 건드리지 않음)
+ * - 신규 / 수정 행은 엔티티 저장 시 email 로부터 채워짐
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserEmailDomainBackfill {
+
+    private static final String LOCK_KEY = "lock:user:email-domain:backfill";
+
+    private final UserRepository userRepository;
+    private final RedissonClient redissonClient;
+
+    @Value("${user.email-domain.backfill.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${user.email-domain.backfill.enabled:true}")
+    private boolean backfillEnabled;
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        if (!backfillEnabled) return;
+
+        RLock lock = redissonClient.getLock(LOCK_KEY);
+        boolean acquired = false;
+        int total = 0;
+
+        try {
+            acquired = lock.tryLock(0, 30, TimeUnit.MINUTES);
+            if (!acquired) {
+                log.info("🚫 락 획득 실패 → email_domain backfill 건너뜀");
+                return;
+            }
+
+            int updated;
+            do {
+                updated = userRepository.backfillEmailDomain(chunkSize);
+                total += updated;
+            } while (updated == chunkSize);
+
+        } catch (InterruptedException e) {
+            log.warn("❌ email_domain backfill 중단: {}", e.getMessage());
+            Thread.currentThread().interrupt();
+        } finally {
+            if (acquired && lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+
+        if (total > 0) {
+            log.info("✅ [email_domain backfill 완료] {}건", total);
+        }
+    }
+}
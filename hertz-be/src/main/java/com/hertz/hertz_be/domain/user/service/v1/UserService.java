@@ -14,7 +14,10 @@ import com.hertz.hertz_be.domain.interests.service.InterestsService;
 import com.hertz.hertz_be.domain.channel.entity.SignalRoom;
 import com.hertz.hertz_be.domain.channel.repository.SignalMessageRepository;
 import com.hertz.hertz_be.domain.channel.repository.SignalRoomRepository;
+import com.hertz.hertz_be.domain.channel.repository.SignalRoomSummaryRepository;
 import com.hertz.hertz_be.domain.channel.repository.TuningResultRepository;
+import com.hertz.hertz_be.domain.channel.service.SignalRoomSummaryService;
+import com.hertz.hertz_be.domain.channel.service.TuningRecommendationQueue;
 import com.hertz.hertz_be.domain.interests.repository.UserInterestsRepository;
 import com.hertz.hertz_be.domain.tuningreport.repository.TuningReportRepository;
 import com.hertz.hertz_be.domain.tuningreport.repository.TuningReportUserReactionRepository;
@@ -55,6 +58,8 @@ public class UserService {
     private final JwtTokenProvider jwtTokenProvider;
     private final SignalRoomRepository signalRoomRepository;
     private final SignalMessageRepository signalMessageRepository;
+    private final SignalRoomSummaryRepository signalRoomSummaryRepository;
+    private final SignalRoomSummaryService signalRoomSummaryService;
     private final TuningResultRepository tuningResultRepository;
     private final AlarmNotificationRepository alarmNotificationRepository;
     private final UserAlarmRepository userAlarmRepository;
@@ -63,6 +68,7 @@ public class UserService {
     private final TuningReportRepository tuningReportRepository;
     private final TuningReportUserReactionRepository tuningReportUserReactionRepository;
     private final TuningRepository tuningRepository;
+    private final TuningRecommendationQueue tuningRecommendationQueue;
     private final RestTemplate restTemplate = new RestTemplate();
     private final long TIMEOUT_NANOS = 5_000_000_000L; // // 5초 = 5_000_000_000 나노초
 
@@ -188,6 +194,7 @@ public class UserService {
                         UserResponseCode.USER_NOT_FOUND.getMessage()));
 
         List<SignalRoom> rooms = signalRoomRepository.findAllBySenderUserIdOrReceiverUserId(userId, userId);
+        List<Long> roomIds = rooms.stream().map(SignalRoom::getId).toList();
 
         // 1. 관련된 TuningReport 먼저 조회
         List<TuningReport> tuningReports = tuningReportRepository.findAllBySignalRoomIn(rooms);
@@ -201,10 +208,11 @@ public class UserService {
         // 3. TuningReport 삭제
         tuningReportRepository.deleteAll(tuningReports);
 
-        // 4. SignalMessage 삭제
+        // 4. SignalMessage 및 채널 요약 정보 삭제
         for (SignalRoom room : rooms) {
             signalMessageRepository.deleteAllBySignalRoom(room);
         }
+        signalRoomSummaryService.deleteByRoomIds(roomIds);
 
         // 5. AlarmNotification 처리
         List<AlarmNotification> notifications = alarmNotificationRepository.findAllByWriter(user);
@@ -218,12 +226,13 @@ public class UserService {
         matchingByRoom.forEach(AlarmMatching::removeSignalRoom);
 
         // 7. SignalRoom 삭제 (version 필드 있음 → 영속화해서 삭제)
-        List<Long> roomIds = rooms.stream().map(SignalRoom::getId).toList();
         List<SignalRoom> managedRooms = signalRoomRepository.findAllById(roomIds);
         signalRoomRepository.deleteAll(managedRooms);
 
-        // 8. 기타 관련 삭제
+        // 8. 기타 관련 삭제 (다른 사용자의 추천 대기열에 적재된 프로필도 함께 제거)
         userInterestsRepository.deleteAllByUser(user);
+        tuningResultRepository.findAllTuningsByMatchedUser(user).forEach(tuning ->
+                tuningRecommendationQueue.remove(tuning.getUser().getId(), tuning.getCategory(), userId));
         tuningResultRepository.deleteAllByMatchedUser(user);
 
         // 9. 마지막으로 user 삭제
@@ -233,6 +242,7 @@ public class UserService {
     @Transactional
     public void deleteAllUsers() {
         signalMessageRepository.deleteAll();
+        signalRoomSummaryRepository.deleteAll();
         tuningReportUserReactionRepository.deleteAll();
         tuningReportRepository.deleteAll();
         userInterestsRepository.deleteAll();
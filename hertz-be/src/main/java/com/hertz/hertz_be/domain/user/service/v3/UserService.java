@@ -8,6 +8,7 @@ import com.hertz.hertz_be.domain.channel.entity.Tuning;
 import com.hertz.hertz_be.domain.channel.entity.TuningResult;
 import com.hertz.hertz_be.domain.channel.repository.TuningRepository;
 import com.hertz.hertz_be.domain.channel.repository.TuningResultRepository;
+import com.hertz.hertz_be.domain.channel.service.TuningRecommendationQueue;
 import com.hertz.hertz_be.domain.interests.service.InterestsService;
 import com.hertz.hertz_be.domain.user.dto.request.v3.OneLineIntroductionRequestDto;
 import com.hertz.hertz_be.domain.user.dto.request.v3.RejectCategoryChangeRequestDto;
@@ -51,6 +52,7 @@ public class UserService {
     private final TuningResultRepository tuningResultRepository;
     private final TuningRepository tuningRepository;
     private final InterestsService interestsService;
+    private final TuningRecommendationQueue tuningRecommendationQueue;
 
     @Value("${invitation.code.kakaotech}")
     private int kakaotechInvitationCode;
@@ -170,6 +172,7 @@ public class UserService {
                         .toList();
                 if (!toRemove.isEmpty()) {
                     tuning.getTuningResults().removeAll(toRemove);
+                    tuningRecommendationQueue.remove(tuning.getUser().getId(), tuning.getCategory(), user.getId());
                 }
             }
         }
@@ -2,7 +2,7 @@ package com.hertz.hertz_be.global.batch;
 
 import com.hertz.hertz_be.domain.channel.entity.SignalRoom;
 import com.hertz.hertz_be.domain.channel.repository.SignalMessageRepository;
-import com.hertz.hertz_be.domain.user.repository.UserRepository;
+import com.hertz.hertz_be.domain.user.service.UserDomainResolver;
 import com.hertz.hertz_be.global.infra.ai.dto.request.AiTuningReportGenerationRequest;
 import com.hertz.hertz_be.global.infra.ai.support.UserDataAssembler;
 import lombok.RequiredArgsConstructor;
@@ -16,7 +16,7 @@ public class TuningReportGenerationProcessor implements ItemProcessor<SignalRoom
 
     private final UserDataAssembler userDataAssembler;
     private final SignalMessageRepository signalMessageRepository;
-    private final UserRepository userRepository;
+    private final UserDomainResolver userDomainResolver;
 
     @Override
     @Transactional
@@ -26,7 +26,7 @@ public class TuningReportGenerationProcessor implements ItemProcessor<SignalRoom
         AiTuningReportGenerationRequest.UserData userA = userDataAssembler.assemble(room.getSenderUser().getId());
         AiTuningReportGenerationRequest.UserData userB = userDataAssembler.assemble(room.getReceiverUser().getId());
 
-        String senderEmailDomain = userRepository.findDistinctEmailDomains(room.getSenderUser().getId());
+        String senderEmailDomain = userDomainResolver.resolve(room.getSenderUser().getId());
 
         return AiTuningReportGenerationRequest.of(room, chatCount, userA, userB, senderEmailDomain);
     }
@@ -4,16 +4,25 @@ import com.hertz.hertz_be.domain.channel.entity.SignalRoom;
 import com.hertz.hertz_be.domain.channel.repository.SignalRoomRepository;
 import com.hertz.hertz_be.domain.tuningreport.entity.TuningReport;
 import com.hertz.hertz_be.domain.tuningreport.repository.TuningReportRepository;
+import com.hertz.hertz_be.global.exception.AiServerBadRequestException;
 import com.hertz.hertz_be.global.infra.ai.client.TuningAiClient;
 import com.hertz.hertz_be.global.infra.ai.dto.request.AiTuningReportGenerationRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.batch.item.Chunk;
 import org.springframework.batch.item.ItemWriter;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.function.Tuple2;
+import reactor.util.function.Tuples;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Component
 @RequiredArgsConstructor
@@ -24,20 +33,37 @@ public class TuningReportGenerationWriter implements ItemWriter<AiTuningReportGe
     private final TuningAiClient tuningAiClient;
     private final SignalRoomRepository signalRoomRepository;
 
+    // 청크 내 AI 리포트 요청 동시 실행 수
+    @Value("${batch.tuning-report.ai-concurrency:4}")
+    private int aiConcurrency;
+
     @Override
     public void write(Chunk<? extends AiTuningReportGenerationRequest> chunk) {
         if (chunk.isEmpty()) return;
 
-        List<TuningReport> reports = chunk.getItems().stream()
-                .map(request -> {
-                    Long roomId = request.signalRoom().id();
-                    SignalRoom room = signalRoomRepository.findById(roomId)
-                            .orElseThrow(() -> new IllegalArgumentException("Room not found"));
+        List<? extends AiTuningReportGenerationRequest> requests = chunk.getItems();
+        List<Long> roomIds = requests.stream().map(request -> request.signalRoom().id()).toList();
+        Map<Long, SignalRoom> rooms = signalRoomRepository.findAllById(roomIds).stream()
+                .collect(Collectors.toMap(SignalRoom::getId, Function.identity()));
+        if (!rooms.keySet().containsAll(roomIds)) {
+            throw new IllegalArgumentException("Room not found");
+        }
+
+        // 청크 단위로 AI 요청을 동시에 보내고, 응답은 요청과 짝지어 모음
+        // (빈 응답은 목록에서 빠져 순서가 어긋나므로 실패로 처리)
+        List<Tuple2<AiTuningReportGenerationRequest, Map<String, Object>>> responses = Flux.fromIterable(requests)
+                .flatMapSequential(request -> tuningAiClient.requestTuningReportAsync(request)
+                        .switchIfEmpty(Mono.error(AiServerBadRequestException::new))
+                        .map(response -> Tuples.<AiTuningReportGenerationRequest, Map<String, Object>>of(request, response)),
+                        aiConcurrency)
+                .collectList()
+                .block();
 
-                    Map<String, Object> response = tuningAiClient.requestTuningReport(request);
-                    return TuningReport.of(room, request.emailDomain(), response);
-                })
-                .toList();
+        List<TuningReport> reports = new ArrayList<>(requests.size());
+        for (Tuple2<AiTuningReportGenerationRequest, Map<String, Object>> response : responses) {
+            AiTuningReportGenerationRequest request = response.getT1();
+            reports.add(TuningReport.of(rooms.get(request.signalRoom().id()), request.emailDomain(), response.getT2()));
+        }
 
         tuningReportRepository.saveAll(reports);
     }
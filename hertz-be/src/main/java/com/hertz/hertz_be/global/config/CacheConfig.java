@@ -0,0 +1,44 @@
+package com.hertz.hertz_be.global.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hertz.hertz_be.domain.tuningreport.repository.TuningReportNearCache;
+import com.hertz.hertz_be.domain.user.service.UserDomainResolver;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    /**
+     * 프로세스 내 L1(Caffeine) 캐시
+     * - recordStats(): cache.gets / cache.evictions 등 캐시별 지표를 Micrometer 로 노출
+     * - 캐시 이름을 미리 등록해 두어야 기동 시점에 지표가 바인딩됨
+     */
+    @Bean
+    public CacheManager cacheManager(
+            @Value("${tuningreport.cache.l1.items.max-size:10000}") long itemsMaxSize,
+            @Value("${tuningreport.cache.l1.items.ttl:PT1M}") Duration itemsTtl,
+            @Value("${user.email-domain.cache.max-size:50000}") long userDomainsMaxSize,
+            @Value("${user.email-domain.cache.ttl:PT1H}") Duration userDomainsTtl) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setAllowNullValues(false);
+        cacheManager.registerCustomCache(TuningReportNearCache.ITEMS, Caffeine.newBuilder()
+                .maximumSize(itemsMaxSize)
+                .expireAfterWrite(itemsTtl)
+                .recordStats()
+                .build());
+        cacheManager.registerCustomCache(UserDomainResolver.CACHE_NAME, Caffeine.newBuilder()
+                .maximumSize(userDomainsMaxSize)
+                .expireAfterWrite(userDomainsTtl)
+                .recordStats()
+                .build());
+        return cacheManager;
+    }
+}
@@ -4,6 +4,9 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
 
 @Configuration
 public class WebClientConfig {
@@ -12,4 +15,27 @@ public class WebClientConfig {
     public WebClient.Builder webClientBuilder() {
         return WebClient.builder();
     }
+
+    /**
+     * AI 서버 호출 전용 커넥션 풀 (튜닝 / 리포트 / 메세지 신고 클라이언트가 공유)
+     * - metrics(true): reactor.netty.connection.provider.* 지표를 Micrometer 로 노출
+     */
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider aiConnectionProvider(
+            @Value("${ai.client.pool.max-connections:100}") int maxConnections,
+            @Value("${ai.client.pool.pending-acquire-max-count:500}") int pendingAcquireMaxCount,
+            @Value("${ai.client.pool.pending-acquire-timeout:PT5S}") Duration pendingAcquireTimeout,
+            @Value("${ai.client.pool.max-idle-time:PT30S}") Duration maxIdleTime,
+            @Value("${ai.client.pool.max-life-time:PT5M}") Duration maxLifeTime,
+            @Value("${ai.client.pool.evict-in-background:PT30S}") Duration evictInBackground) {
+        return ConnectionProvider.builder("ai-client")
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(pendingAcquireMaxCount)
+                .pendingAcquireTimeout(pendingAcquireTimeout)
+                .maxIdleTime(maxIdleTime)
+                .maxLifeTime(maxLifeTime)
+                .evictInBackground(evictInBackground)
+                .metrics(true)
+                .build();
+    }
 }
@@ -0,0 +1,22 @@
+package com.hertz.hertz_be.global.exception;
+
+import com.hertz.hertz_be.global.common.NewResponseCode;
+import lombok.Getter;
+
+/**
+ * 서킷 브레이커 OPEN 또는 벌크헤드 포화로 AI 서버 호출 자체가 차단된 경우
+ */
+@Getter
+public class AiServerUnavailableException extends BusinessException {
+
+    private final String endpoint;
+
+    public AiServerUnavailableException(String endpoint) {
+        super(
+                NewResponseCode.SERVICE_UNAVAILABLE.getCode(),
+                NewResponseCode.SERVICE_UNAVAILABLE.getHttpStatus(),
+                "AI 서버 요청이 일시적으로 차단되었습니다. (" + endpoint + ")"
+        );
+        this.endpoint = endpoint;
+    }
+}
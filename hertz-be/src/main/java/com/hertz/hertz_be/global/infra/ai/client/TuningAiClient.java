@@ -3,95 +3,236 @@ package com.hertz.hertz_be.global.infra.ai.client;
 import com.hertz.hertz_be.domain.channel.dto.request.v3.ChatReportRequestDto;
 import com.hertz.hertz_be.global.common.NewResponseCode;
 import com.hertz.hertz_be.global.exception.AiServerBadRequestException;
+import com.hertz.hertz_be.global.exception.AiServerUnavailableException;
 import com.hertz.hertz_be.global.exception.BusinessException;
 import com.hertz.hertz_be.global.infra.ai.dto.request.AiTuningReportGenerationRequest;
 import com.hertz.hertz_be.global.infra.ai.dto.response.AiChatReportResponseDto;
-import lombok.RequiredArgsConstructor;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.netty.channel.ChannelOption;
+import io.netty.handler.timeout.ReadTimeoutHandler;
+import io.netty.handler.timeout.WriteTimeoutHandler;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * AI 서버 호출 클라이언트
+ * - 엔드포인트별 WebClient 를 기동 시 한 번만 생성하고 공유 커넥션 풀(aiConnectionProvider)을 사용
+ * - xxxAsync 는 논블로킹 Mono, 기존 메서드는 호환을 위한 블로킹 래퍼
+ * - 엔드포인트별 서킷 브레이커 + 벌크헤드(resilience4j)로 보호. 호출이 차단되면 AiServerUnavailableException
+ * - 호출 지연은 ai.client.requests{endpoint, outcome} 타이머로 노출
+ */
+@Slf4j
 @Component
-@RequiredArgsConstructor
 public class TuningAiClient {
 
-    @Value("${ai.tuningreport.ip}")
-    private String AI_TUNING_REPORT_IP;
+    private static final String METRIC_NAME = "ai.client.requests";
+    private static final String TUNING_URI = "/api/v3/tuning";
+    private static final String TUNING_REPORT_URI = "/api/v2/report";
+    private static final String CHAT_REPORT_URI = "/api/v3/chat/report";
+    private static final String TUNING = "tuning";
+    private static final String TUNING_REPORT = "tuning-report";
+    private static final String CHAT_REPORT = "chat-report";
 
-    @Value("${ai.server.ip}")
-    private String AI_TUNING_SERVER_IP;
+    private final WebClient tuningWebClient;
+    private final WebClient tuningReportWebClient;
+    private final WebClient chatReportWebClient;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, CircuitBreaker> circuitBreakers = new HashMap<>();
+    private final Map<String, Bulkhead> bulkheads = new HashMap<>();
 
-    @Value("${ai.message.report.server.ip}")
-    private String AI_MESSAGE_REPORT_SERVER_IP;
+    public TuningAiClient(WebClient.Builder webClientBuilder,
+                          ConnectionProvider aiConnectionProvider,
+                          MeterRegistry meterRegistry,
+                          CircuitBreakerRegistry circuitBreakerRegistry,
+                          BulkheadRegistry bulkheadRegistry,
+                          @Value("${ai.server.ip}") String aiTuningServerIp,
+                          @Value("${ai.tuningreport.ip}") String aiTuningReportIp,
+                          @Value("${ai.message.report.server.ip}") String aiMessageReportServerIp,
+                          @Value("${ai.client.connect-timeout:PT2S}") Duration connectTimeout,
+                          @Value("${ai.client.tuning.read-timeout:PT10S}") Duration tuningReadTimeout,
+                          @Value("${ai.client.tuning.response-timeout:PT10S}") Duration tuningResponseTimeout,
+                          @Value("${ai.client.report.read-timeout:PT60S}") Duration reportReadTimeout,
+                          @Value("${ai.client.report.response-timeout:PT60S}") Duration reportResponseTimeout,
+                          @Value("${ai.client.chat-report.read-timeout:PT10S}") Duration chatReportReadTimeout,
+                          @Value("${ai.client.chat-report.response-timeout:PT10S}") Duration chatReportResponseTimeout) {
+        this.meterRegistry = meterRegistry;
+        this.tuningWebClient = buildWebClient(webClientBuilder, aiConnectionProvider, aiTuningServerIp,
+                connectTimeout, tuningReadTimeout, tuningResponseTimeout);
+        this.tuningReportWebClient = buildWebClient(webClientBuilder, aiConnectionProvider, aiTuningReportIp,
+                connectTimeout, reportReadTimeout, reportResponseTimeout);
+        this.chatReportWebClient = buildWebClient(webClientBuilder, aiConnectionProvider, aiMessageReportServerIp,
+                connectTimeout, chatReportReadTimeout, chatReportResponseTimeout);
 
-    private final WebClient.Builder webClientBuilder;
+        for (String endpoint : List.of(TUNING, TUNING_REPORT, CHAT_REPORT)) {
+            CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker("ai-" + endpoint);
+            circuitBreaker.getEventPublisher().onStateTransition(event -> {
+                CircuitBreaker.StateTransition transition = event.getStateTransition();
+                log.warn("⚠️ [AI 서킷 브레이커] {} {} → {}", endpoint, transition.getFromState(), transition.getToState());
+                meterRegistry.counter("ai.client.circuit.transitions",
+                        "endpoint", endpoint,
+                        "from", transition.getFromState().name(),
+                        "to", transition.getToState().name()).increment();
+            });
+            circuitBreakers.put(endpoint, circuitBreaker);
+            bulkheads.put(endpoint, bulkheadRegistry.bulkhead("ai-" + endpoint));
+        }
+    }
+
+    /**
+     * 메세지 신고 서킷이 OPEN 이 아니면 호출 시도 가능 (보류된 신고 재처리 여부 판단용)
+     */
+    public boolean isChatReportAvailable() {
+        return circuitBreakers.get(CHAT_REPORT).getState() != CircuitBreaker.State.OPEN;
+    }
 
     public Map<String, Object> requestTuningReport(AiTuningReportGenerationRequest aiReportRequest) {
-        String uri = "/api/v2/report";
-
-        try {
-            return webClientBuilder
-                    .baseUrl(AI_TUNING_REPORT_IP)
-                    .build()
-                    .post()
-                    .uri(uri)
-                    .contentType(MediaType.APPLICATION_JSON)
-                    .bodyValue(aiReportRequest)
-                    .retrieve()
-                    .bodyToMono(new ParameterizedTypeReference<Map<String, Object>>() {})
-                    .block();
-        } catch (Exception e) {
-            throw new AiServerBadRequestException();
-        }
+        return requestTuningReportAsync(aiReportRequest).block();
+    }
+
+    public Mono<Map<String, Object>> requestTuningReportAsync(AiTuningReportGenerationRequest aiReportRequest) {
+        Mono<Map<String, Object>> response = tuningReportWebClient
+                .post()
+                .uri(TUNING_REPORT_URI)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(aiReportRequest)
+                .retrieve()
+                .bodyToMono(new ParameterizedTypeReference<Map<String, Object>>() {})
+                .transform(call -> guarded(call, TUNING_REPORT))
+                .onErrorMap(e -> !(e instanceof AiServerUnavailableException), e -> new AiServerBadRequestException());
+
+        return timed(response, TUNING_REPORT);
     }
 
     public Map<String, Object> requestTuningByCategory(Long userId, String category) {
-        String uri = "/api/v3/tuning?userId=" + userId + "&category=" + category;
+        return requestTuningByCategoryAsync(userId, category).block();
+    }
 
-        Map<String, Object> responseMap = webClientBuilder
-                .baseUrl(AI_TUNING_SERVER_IP)
-                .build()
+    public Mono<Map<String, Object>> requestTuningByCategoryAsync(Long userId, String category) {
+        Mono<Map<String, Object>> response = tuningWebClient
                 .get()
-                .uri(uri)
+                .uri(uriBuilder -> uriBuilder.path(TUNING_URI)
+                        .queryParam("userId", userId)
+                        .queryParam("category", category)
+                        .build())
                 .retrieve()
                 .bodyToMono(new ParameterizedTypeReference<Map<String, Object>>() {})
-                .block();
-
-        if (responseMap == null || !responseMap.containsKey("code")) {
-            throw new BusinessException(
-                    NewResponseCode.AI_SERVER_ERROR.getCode(),
-                    NewResponseCode.AI_SERVER_ERROR.getHttpStatus(),
-                    "튜닝 과정에서 AI 서버 오류 발생했습니다."
-            );
-        }
+                .transform(call -> guarded(call, TUNING))
+                .onErrorMap(e -> !(e instanceof BusinessException), e -> tuningServerError())
+                .filter(responseMap -> responseMap.containsKey("code"))
+                .switchIfEmpty(Mono.error(this::tuningServerError));
 
-        return responseMap;
+        return timed(response, TUNING);
     }
 
     public AiChatReportResponseDto sendChatReport(ChatReportRequestDto request) {
-        String uri = "/api/v3/chat/report";
-
-        try {
-            return webClientBuilder
-                    .baseUrl(AI_MESSAGE_REPORT_SERVER_IP)
-                    .build()
-                    .post()
-                    .uri(uri)
-                    .contentType(MediaType.APPLICATION_JSON)
-                    .bodyValue(request)
-                    .retrieve()
-                    .bodyToMono(AiChatReportResponseDto.class)
-                    .block();
-        } catch (Exception e) {
-            throw new BusinessException(
-                    NewResponseCode.AI_SERVER_ERROR.getCode(),
-                    NewResponseCode.AI_SERVER_ERROR.getHttpStatus(),
-                    "메세지 신고 과정에서 AI 서버 API 요청 오류 발생했습니다."
-            );
-        }
+        return sendChatReportAsync(request).block();
+    }
+
+    public Mono<AiChatReportResponseDto> sendChatReportAsync(ChatReportRequestDto request) {
+        Mono<AiChatReportResponseDto> response = chatReportWebClient
+                .post()
+                .uri(CHAT_REPORT_URI)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(request)
+                .retrieve()
+                .bodyToMono(AiChatReportResponseDto.class)
+                .transform(call -> guarded(call, CHAT_REPORT))
+                .switchIfEmpty(Mono.error(this::chatReportServerError))
+                .onErrorMap(e -> !(e instanceof BusinessException), e -> chatReportServerError());
+
+        return timed(response, CHAT_REPORT);
+    }
+
+    private BusinessException tuningServerError() {
+        return new BusinessException(
+                NewResponseCode.AI_SERVER_ERROR.getCode(),
+                NewResponseCode.AI_SERVER_ERROR.getHttpStatus(),
+                "튜닝 과정에서 AI 서버 오류 발생했습니다."
+        );
+    }
+
+    private BusinessException chatReportServerError() {
+        return new BusinessException(
+                NewResponseCode.AI_SERVER_ERROR.getCode(),
+                NewResponseCode.AI_SERVER_ERROR.getHttpStatus(),
+                "메세지 신고 과정에서 AI 서버 API 요청 오류 발생했습니다."
+        );
+    }
+
+    // 벌크헤드(안쪽) → 서킷 브레이커(바깥쪽). 차단된 호출은 원인별로 집계 후 AiServerUnavailableException 으로 변환
+    private <T> Mono<T> guarded(Mono<T> call, String endpoint) {
+        return call
+                .transformDeferred(BulkheadOperator.of(bulkheads.get(endpoint)))
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreakers.get(endpoint)))
+                .onErrorMap(e -> e instanceof CallNotPermittedException || e instanceof BulkheadFullException, e -> {
+                    String reason = e instanceof CallNotPermittedException ? "circuit-open" : "bulkhead-full";
+                    meterRegistry.counter("ai.client.rejected", "endpoint", endpoint, "reason", reason).increment();
+                    return new AiServerUnavailableException(endpoint);
+                });
+    }
+
+    // 구독 시점부터 종료 시점까지의 지연을 엔드포인트 / 결과별로 기록
+    private <T> Mono<T> timed(Mono<T> mono, String endpoint) {
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            return mono.doFinally(signal -> sample.stop(Timer.builder(METRIC_NAME)
+                    .tag("endpoint", endpoint)
+                    .tag("outcome", outcome(signal))
+                    .publishPercentileHistogram()
+                    .register(meterRegistry)));
+        });
+    }
+
+    private static String outcome(SignalType signal) {
+        return switch (signal) {
+            case ON_COMPLETE -> "success";
+            case ON_ERROR -> "error";
+            default -> "cancel";
+        };
+    }
+
+    private static WebClient buildWebClient(WebClient.Builder webClientBuilder,
+                                            ConnectionProvider connectionProvider,
+                                            String baseUrl,
+                                            Duration connectTimeout,
+                                            Duration readTimeout,
+                                            Duration responseTimeout) {
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis())
+                .responseTimeout(responseTimeout)
+                .doOnConnected(connection -> connection
+                        .addHandlerLast(new ReadTimeoutHandler(readTimeout.toMillis(), TimeUnit.MILLISECONDS))
+                        .addHandlerLast(new WriteTimeoutHandler(readTimeout.toMillis(), TimeUnit.MILLISECONDS)))
+                // 쿼리 스트링을 제외한 경로만 태그로 사용 (카디널리티 제한)
+                .metrics(true, uri -> uri.split("\\?", 2)[0]);
+
+        return webClientBuilder.clone()
+                .baseUrl(baseUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
     }
 }
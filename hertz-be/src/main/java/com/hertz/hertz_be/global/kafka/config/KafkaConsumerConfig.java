@@ -1,6 +1,9 @@
 package com.hertz.hertz_be.global.kafka.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.hertz.hertz_be.global.kafka.dto.SseEventDto;
+import com.hertz.hertz_be.global.kafka.serializer.SseEventDeserializer;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.common.TopicPartition;
 import org.apache.kafka.common.serialization.StringDeserializer;
@@ -12,10 +15,10 @@ import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.MicrometerConsumerListener;
 import org.springframework.kafka.listener.ContainerProperties;
 import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
 import org.springframework.kafka.listener.DefaultErrorHandler;
-import org.springframework.kafka.support.serializer.JsonDeserializer;
 import org.springframework.util.backoff.FixedBackOff;
 
 import java.io.IOException;
@@ -41,6 +44,16 @@ public class KafkaConsumerConfig {
     @Value("${kafka.topic.sse.dlq.name}")
     private String SseDLQTopicName;
 
+    @Value("${kafka.consumer.sse.dlq.group-id}")
+    private String SseDLQGroupId;
+
+    @Value("${kafka.sse.consumer.max-poll-records:500}")
+    private int sseMaxPollRecords;
+
+    // 기본값은 파티션 수와 같게: 파티션마다 컨슈머 스레드 하나 (더 많으면 남는 스레드는 놀게 됨)
+    @Value("${kafka.sse.consumer.concurrency:${kafka.topic.sse.numPartitions:${kafka.topic.see.numPartitions}}}")
+    private int sseConcurrency;
+
     private Map<String, Object> commonConsumerProps(String groupId) {
         Map<String, Object> props = new HashMap<>();
         props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
@@ -49,17 +62,30 @@ public class KafkaConsumerConfig {
     }
 
     @Bean
-    public ConsumerFactory<String, SseEventDto> sseConsumerFactory() {
-        return new DefaultKafkaConsumerFactory<>(commonConsumerProps(sseGroupId),
+    public ConsumerFactory<String, SseEventDto> sseConsumerFactory(MeterRegistry meterRegistry, ObjectMapper objectMapper) {
+        Map<String, Object> props = commonConsumerProps(sseGroupId);
+        props.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, sseMaxPollRecords);
+
+        DefaultKafkaConsumerFactory<String, SseEventDto> consumerFactory = new DefaultKafkaConsumerFactory<>(props,
                 new StringDeserializer(),
-                new JsonDeserializer<>(SseEventDto.class));
+                new SseEventDeserializer(objectMapper));
+        // 컨슈머 클라이언트 지표(kafka.consumer.fetch.manager.records.lag.max 등) 노출
+        consumerFactory.addListener(new MicrometerConsumerListener<>(meterRegistry));
+        return consumerFactory;
     }
 
+    /**
+     * SSE 배치 리스너: poll 한 번에 받은 레코드를 List 로 처리하고 배치당 한 번 커밋 (MANUAL ack)
+     * - 파티션은 한 번에 한 스레드에만 할당되므로 concurrency 를 늘려도 사용자별 순서는 유지
+     */
     @Bean(name = "sseKafkaListener")
     public ConcurrentKafkaListenerContainerFactory<String, SseEventDto> sseFactory(
+            ConsumerFactory<String, SseEventDto> sseConsumerFactory,
             DefaultErrorHandler errorHandler) {
         ConcurrentKafkaListenerContainerFactory<String, SseEventDto> factory = new ConcurrentKafkaListenerContainerFactory<>();
-        factory.setConsumerFactory(sseConsumerFactory());
+        factory.setConsumerFactory(sseConsumerFactory);
+        factory.setBatchListener(true);
+        factory.setConcurrency(sseConcurrency);
         factory.setCommonErrorHandler(errorHandler);
         factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
         return factory;
@@ -86,6 +112,22 @@ public class KafkaConsumerConfig {
         return errorHandler;
     }
 
+    /**
+     * SSE DLQ 리스너: DeadLetterPublishingRecoverer 가 SSE 템플릿(SseEventSerializer)으로 재발행하므로
+     * 기본 컨테이너(JsonDeserializer)가 아닌 같은 바이너리 포맷 디코더로 읽음
+     */
+    @Bean(name = "sseDlqKafkaListener")
+    public ConcurrentKafkaListenerContainerFactory<String, SseEventDto> sseDlqFactory(ObjectMapper objectMapper) {
+        DefaultKafkaConsumerFactory<String, SseEventDto> consumerFactory = new DefaultKafkaConsumerFactory<>(
+                commonConsumerProps(SseDLQGroupId),
+                new StringDeserializer(),
+                new SseEventDeserializer(objectMapper));
+
+        ConcurrentKafkaListenerContainerFactory<String, SseEventDto> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(consumerFactory);
+        return factory;
+    }
+
     @Bean(name = "stringKafkaListener")
     public ConcurrentKafkaListenerContainerFactory<String, String> stringKafkaListener() {
         Map<String, Object> props = new HashMap<>();
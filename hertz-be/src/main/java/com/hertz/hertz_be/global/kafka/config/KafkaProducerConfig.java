@@ -1,6 +1,9 @@
 package com.hertz.hertz_be.global.kafka.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.hertz.hertz_be.global.kafka.dto.SseEventDto;
+import com.hertz.hertz_be.global.kafka.serializer.SseEventSerializer;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.springframework.beans.factory.annotation.Value;
@@ -8,8 +11,8 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.core.DefaultKafkaProducerFactory;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.MicrometerProducerListener;
 import org.springframework.kafka.core.ProducerFactory;
-import org.springframework.kafka.support.serializer.JsonSerializer;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -32,22 +35,43 @@ public class KafkaProducerConfig {
     @Value("${kafka.sse.producer.max-in-flight-requests-per-connection}")
     private int maxInflight;
 
+    // 배치 / 압축 프로필: 메세지 한 건에 생기는 3~4개 이벤트가 한 요청으로 묶이도록 짧게 대기
+    @Value("${kafka.sse.producer.linger-ms:5}")
+    private int lingerMs;
+
+    @Value("${kafka.sse.producer.batch-size:32768}")
+    private int batchSize;
+
+    @Value("${kafka.sse.producer.compression-type:lz4}")
+    private String compressionType;
+
+    @Value("${kafka.sse.producer.buffer-memory:33554432}")
+    private long bufferMemory;
+
+    // SSE 이벤트는 타입 헤더 없는 바이너리 레코드 (data 는 여기서 한 번만 JSON 직렬화)
     @Bean
-    public ProducerFactory<String, SseEventDto> producerFactory() {
+    public ProducerFactory<String, SseEventDto> producerFactory(ObjectMapper objectMapper, MeterRegistry meterRegistry) {
         Map<String, Object> configProps = new HashMap<>();
         configProps.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         configProps.put(ProducerConfig.ACKS_CONFIG, acksConfig);
         configProps.put(ProducerConfig.RETRIES_CONFIG, retry);
         configProps.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, enableIdempotence);
         configProps.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, maxInflight);
-        configProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
-        configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
+        configProps.put(ProducerConfig.LINGER_MS_CONFIG, lingerMs);
+        configProps.put(ProducerConfig.BATCH_SIZE_CONFIG, batchSize);
+        configProps.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, compressionType);
+        configProps.put(ProducerConfig.BUFFER_MEMORY_CONFIG, bufferMemory);
 
-        return new DefaultKafkaProducerFactory<>(configProps);
+        DefaultKafkaProducerFactory<String, SseEventDto> producerFactory = new DefaultKafkaProducerFactory<>(configProps,
+                new StringSerializer(),
+                new SseEventSerializer(objectMapper));
+        // 프로듀서 클라이언트 지표(kafka.producer.batch.size.avg, record.send.rate, request.latency.avg 등) 노출
+        producerFactory.addListener(new MicrometerProducerListener<>(meterRegistry));
+        return producerFactory;
     }
 
     @Bean
-    public KafkaTemplate<String, SseEventDto> kafkaTemplate() {
-        return new KafkaTemplate<>(producerFactory());
+    public KafkaTemplate<String, SseEventDto> kafkaTemplate(ProducerFactory<String, SseEventDto> producerFactory) {
+        return new KafkaTemplate<>(producerFactory);
     }
 }
@@ -20,7 +20,8 @@ public class KafkaTopicConfig {
     @Value("${kafka.topic.sse.name}")
     private String SseEventTopicName;
 
-    @Value("${kafka.topic.see.numPartitions}")
+    // 이전 키(kafka.topic.see.numPartitions)도 계속 인식
+    @Value("${kafka.topic.sse.numPartitions:${kafka.topic.see.numPartitions}}")
     private int numPartitions;
 
     @Value("${kafka.topic.sse.replicationFactor}")
@@ -36,6 +37,11 @@ public class KafkaTopicConfig {
         return new KafkaAdmin(configs);
     }
 
+    /**
+     * SSE 이벤트 토픽: 레코드 키가 userId 이므로 같은 사용자 이벤트는 항상 같은 파티션 → 사용자별 순서 보장
+     * - 파티션 수를 늘리면 KafkaAdmin 이 기동 시 기존 토픽의 파티션을 추가 (줄이는 것은 불가)
+     * - 늘린 직후에는 일부 사용자의 파티션이 바뀌므로, 바뀌기 전에 쌓인 이벤트와 순서가 섞일 수 있음
+     */
     @Bean
     public NewTopic sseTopic() {
         return TopicBuilder.name(SseEventTopicName)
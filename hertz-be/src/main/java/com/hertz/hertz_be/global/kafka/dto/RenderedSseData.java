@@ -0,0 +1,14 @@
+package com.hertz.hertz_be.global.kafka.dto;
+
+/**
+ * Kafka 에서 꺼낸 SSE 이벤트 data: 프로듀서가 한 번 직렬화해 둔 바이트를 그대로 보관
+ * - 컨슈머는 Jackson 을 다시 거치지 않고 이 바이트를 emitter 에 씀
+ * @param roomId 채팅방 단위로 합칠 수 있는 이벤트(CHAT_ROOM_UPDATE)의 채팅방 id, 그 외 null
+ */
+public record RenderedSseData(byte[] bytes, Long roomId) {
+
+    // emitter 로 보낼 값: 미리 직렬화된 바이트면 바이트 그대로, 아니면 원래 객체
+    public static Object unwrap(Object data) {
+        return data instanceof RenderedSseData rendered ? rendered.bytes() : data;
+    }
+}
@@ -0,0 +1,68 @@
+package com.hertz.hertz_be.global.kafka.serializer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hertz.hertz_be.global.kafka.dto.RenderedSseData;
+import com.hertz.hertz_be.global.kafka.dto.SseEventDto;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Deserializer;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * 바이너리 레코드 → SseEventDto (data 는 RenderedSseData, 형식은 SseEventSerializer 참고)
+ * - payload 는 파싱하지 않고 바이트 그대로 전달
+ * - 배포 전환 중 남아 있는 이전 JSON 레코드('{' 로 시작)도 읽을 수 있도록 JSON 으로 폴백
+ */
+public class SseEventDeserializer implements Deserializer<SseEventDto> {
+
+    private final ObjectMapper objectMapper;
+
+    public SseEventDeserializer(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public SseEventDto deserialize(String topic, byte[] data) {
+        if (data == null || data.length == 0) return null;
+        if (data[0] != SseEventSerializer.FORMAT_VERSION) {
+            return readLegacyJson(topic, data);
+        }
+
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(data, 1, data.length - 1);
+            long userId = buffer.getLong();
+
+            short code = buffer.getShort();
+            String eventName;
+            if (code == SseEventType.CUSTOM_CODE) {
+                byte[] name = new byte[buffer.getShort()];
+                buffer.get(name);
+                eventName = new String(name, StandardCharsets.UTF_8);
+            } else {
+                eventName = SseEventType.fromCode(code)
+                        .orElseThrow(() -> new SerializationException("알 수 없는 SSE 이벤트 코드: " + code))
+                        .getEventName().getValue();
+            }
+
+            byte flags = buffer.get();
+            Long roomId = (flags & SseEventSerializer.FLAG_ROOM_ID) != 0 ? buffer.getLong() : null;
+
+            byte[] payload = Arrays.copyOfRange(data, buffer.position(), data.length);
+            return new SseEventDto(userId, eventName, new RenderedSseData(payload, roomId));
+        } catch (RuntimeException e) {
+            if (e instanceof SerializationException) throw e;
+            throw new SerializationException("SSE 이벤트 레코드 형식 오류 (topic=" + topic + ")", e);
+        }
+    }
+
+    private SseEventDto readLegacyJson(String topic, byte[] data) {
+        try {
+            return objectMapper.readValue(data, SseEventDto.class);
+        } catch (IOException e) {
+            throw new SerializationException("SSE 이벤트 JSON 레코드 역직렬화 실패 (topic=" + topic + ")", e);
+        }
+    }
+}
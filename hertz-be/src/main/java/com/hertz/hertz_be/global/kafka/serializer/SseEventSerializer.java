@@ -0,0 +1,101 @@
+package com.hertz.hertz_be.global.kafka.serializer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hertz.hertz_be.domain.channel.dto.response.sse.ChannelListResponseDto;
+import com.hertz.hertz_be.global.kafka.dto.RenderedSseData;
+import com.hertz.hertz_be.global.kafka.dto.SseEventDto;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Serializer;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * SseEventDto → 바이너리 레코드 (타입 헤더 없음)
+ * <pre>
+ * [1] 포맷 버전 (1)
+ * [8] userId
+ * [2] 이벤트 코드 (SseEventType, 0 이면 뒤에 [2] 길이 + 이벤트 이름 UTF-8)
+ * [1] 플래그 (bit0: 채팅방 id 있음)
+ * [8] 채팅방 id (플래그가 있을 때만)
+ * [n] data: SSE data 줄에 그대로 쓸 바이트 (객체는 JSON, 문자열은 UTF-8 원문)
+ * </pre>
+ * - data 는 프로듀서에서 한 번만 직렬화하고 컨슈머는 바이트를 그대로 emitter 에 씀
+ * - JSON 은 HTTP 응답과 같은 ObjectMapper(Spring 설정)로 만들어 클라이언트가 받는 형식은 이전과 동일
+ */
+public class SseEventSerializer implements Serializer<SseEventDto> {
+
+    static final byte FORMAT_VERSION = 1;
+    static final byte FLAG_ROOM_ID = 1;
+
+    private final ObjectMapper objectMapper;
+
+    public SseEventSerializer(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public byte[] serialize(String topic, SseEventDto event) {
+        if (event == null) return null;
+
+        Optional<SseEventType> type = SseEventType.fromName(event.eventName());
+        type.ifPresent(t -> checkPayloadType(t, event.data()));
+
+        byte[] customName = type.isPresent() ? null : event.eventName().getBytes(StandardCharsets.UTF_8);
+        Long roomId = roomId(event.data());
+        byte[] payload = render(event.data());
+
+        int size = 1 + 8 + 2 + (customName == null ? 0 : 2 + customName.length)
+                + 1 + (roomId == null ? 0 : 8) + payload.length;
+        ByteBuffer buffer = ByteBuffer.allocate(size)
+                .put(FORMAT_VERSION)
+                .putLong(event.userId());
+
+        if (customName == null) {
+            buffer.putShort(type.get().getCode());
+        } else {
+            buffer.putShort(SseEventType.CUSTOM_CODE)
+                    .putShort((short) customName.length)
+                    .put(customName);
+        }
+
+        if (roomId == null) {
+            buffer.put((byte) 0);
+        } else {
+            buffer.put(FLAG_ROOM_ID).putLong(roomId);
+        }
+
+        return buffer.put(payload).array();
+    }
+
+    // 스키마와 다른 payload 는 발행 시점에 실패 (이전 JSON 레코드에서 온 Map / 이미 직렬화된 data 는 DLQ 재발행용으로 허용)
+    private void checkPayloadType(SseEventType type, Object data) {
+        if (data instanceof RenderedSseData || data instanceof Map) return;
+        if (!type.getPayloadType().isInstance(data)) {
+            throw new SerializationException(String.format("SSE 이벤트 payload 타입 불일치: event=%s, expected=%s, actual=%s",
+                    type.getEventName().getValue(), type.getPayloadType().getSimpleName(),
+                    data == null ? "null" : data.getClass().getSimpleName()));
+        }
+    }
+
+    private Long roomId(Object data) {
+        if (data instanceof ChannelListResponseDto dto) return dto.channelRoomId();
+        if (data instanceof RenderedSseData rendered) return rendered.roomId();
+        return null;
+    }
+
+    private byte[] render(Object data) {
+        if (data == null) return new byte[0];
+        if (data instanceof RenderedSseData rendered) return rendered.bytes();
+        // 문자열은 SseEmitter 가 따옴표 없이 그대로 쓰던 것과 같게 원문 유지
+        if (data instanceof String text) return text.getBytes(StandardCharsets.UTF_8);
+        try {
+            return objectMapper.writeValueAsBytes(data);
+        } catch (JsonProcessingException e) {
+            throw new SerializationException("SSE 이벤트 data 직렬화 실패: " + data.getClass().getSimpleName(), e);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.hertz.hertz_be.global.kafka.serializer;
+
+import com.hertz.hertz_be.domain.channel.dto.response.sse.ChannelListResponseDto;
+import com.hertz.hertz_be.domain.channel.dto.response.sse.MatchingConvertedInChannelRoomResponseDto;
+import com.hertz.hertz_be.domain.channel.dto.response.sse.MatchingConvertedResponseDto;
+import com.hertz.hertz_be.domain.channel.dto.response.sse.MatchingResultResponseDto;
+import com.hertz.hertz_be.domain.channel.dto.response.sse.NewMessageResponseDto;
+import com.hertz.hertz_be.global.common.SseEventName;
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Kafka 로 보내는 SSE 이벤트의 스키마: 이벤트별 고정 코드와 payload 타입
+ * - 코드는 레코드에 이벤트 이름 대신 2바이트로 기록되므로 한 번 정한 값은 바꾸지 않음 (새 이벤트는 새 코드로 추가)
+ * - 상태 플래그 이벤트(NAV / ALARM)는 빈 문자열 payload
+ */
+@Getter
+public enum SseEventType {
+
+    SIGNAL_MATCHING_CONVERSION(1, SseEventName.SIGNAL_MATCHING_CONVERSION, MatchingConvertedResponseDto.class),
+    SIGNAL_MATCHING_CONVERSION_IN_ROOM(2, SseEventName.SIGNAL_MATCHING_CONVERSION_IN_ROOM, MatchingConvertedInChannelRoomResponseDto.class),
+    CHAT_ROOM_UPDATE(3, SseEventName.CHAT_ROOM_UPDATE, ChannelListResponseDto.class),
+    NAV_NEW_MESSAGE(4, SseEventName.NAV_NEW_MESSAGE, String.class),
+    NAV_NO_ANY_NEW_MESSAGE(5, SseEventName.NAV_NO_ANY_NEW_MESSAGE, String.class),
+    NEW_MESSAGE_RECEPTION(6, SseEventName.NEW_MESSAGE_RECEPTION, NewMessageResponseDto.class),
+    NEW_SIGNAL_RECEPTION(7, SseEventName.NEW_SIGNAL_RECEPTION, NewMessageResponseDto.class),
+    MATCHING_SUCCESS(8, SseEventName.MATCHING_SUCCESS, MatchingResultResponseDto.class),
+    MATCHING_REJECTION(9, SseEventName.MATCHING_REJECTION, MatchingResultResponseDto.class),
+    MATCHING_CONFIRMED(10, SseEventName.MATCHING_CONFIRMED, MatchingResultResponseDto.class),
+    NEW_ALARM(11, SseEventName.NEW_ALARM, String.class),
+    NO_ANY_NEW_ALARM(12, SseEventName.NO_ANY_NEW_ALARM, String.class);
+
+    // 스키마에 없는 이벤트: 이름을 레코드에 그대로 기록
+    public static final short CUSTOM_CODE = 0;
+
+    private static final Map<String, SseEventType> BY_NAME = Arrays.stream(values())
+            .collect(Collectors.toMap(type -> type.getEventName().getValue(), Function.identity()));
+
+    private static final Map<Short, SseEventType> BY_CODE = Arrays.stream(values())
+            .collect(Collectors.toMap(SseEventType::getCode, Function.identity()));
+
+    private final short code;
+    private final SseEventName eventName;
+    private final Class<?> payloadType;
+
+    SseEventType(int code, SseEventName eventName, Class<?> payloadType) {
+        this.code = (short) code;
+        this.eventName = eventName;
+        this.payloadType = payloadType;
+    }
+
+    public static Optional<SseEventType> fromName(String eventName) {
+        return Optional.ofNullable(BY_NAME.get(eventName));
+    }
+
+    public static Optional<SseEventType> fromCode(short code) {
+        return Optional.ofNullable(BY_CODE.get(code));
+    }
+}
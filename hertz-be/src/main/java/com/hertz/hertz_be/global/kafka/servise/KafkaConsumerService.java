@@ -1,21 +1,45 @@
 package com.hertz.hertz_be.global.kafka.servise;
 
-import com.hertz.hertz_be.global.kafka.exception.KafkaException;
 import com.hertz.hertz_be.global.sse.SseService;
+import com.hertz.hertz_be.global.kafka.dto.RenderedSseData;
 import com.hertz.hertz_be.global.kafka.dto.SseEventDto;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.BatchListenerFailedException;
 import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class KafkaConsumerService {
 
+    private static final String METRIC_NAME = "sse.consumer.events";
+
     private final SseService sseService;
 
+    // 수신 / 다른 노드 사용자라 건너뜀 / 합쳐져 생략 / 전송 (합침 비율 = coalesced / received)
+    private final Counter receivedCounter;
+    private final Counter skippedCounter;
+    private final Counter coalescedCounter;
+    private final Counter deliveredCounter;
+    private final DistributionSummary batchSize;
+
+    public KafkaConsumerService(SseService sseService, MeterRegistry meterRegistry) {
+        this.sseService = sseService;
+
+        this.receivedCounter = Counter.builder(METRIC_NAME).tag("result", "received").register(meterRegistry);
+        this.skippedCounter = Counter.builder(METRIC_NAME).tag("result", "skipped").register(meterRegistry);
+        this.coalescedCounter = Counter.builder(METRIC_NAME).tag("result", "coalesced").register(meterRegistry);
+        this.deliveredCounter = Counter.builder(METRIC_NAME).tag("result", "delivered").register(meterRegistry);
+        this.batchSize = DistributionSummary.builder("sse.consumer.batch.size").register(meterRegistry);
+    }
+
     @KafkaListener(
             topics = "healthcheck-topic",
             groupId = "${spring.kafka.consumer.healthcheck-topic.group-id}",
@@ -25,28 +49,51 @@ public class KafkaConsumerService {
         log.info("Kafka 메시지 수신: {}", message);
     }
 
+    /**
+     * 노드마다 별도 consumer group(그룹 id + 노드 id)으로 SSE 토픽 전체를 수신하고,
+     * 이 노드에 연결된 사용자 이벤트만 전송 (사용자 연결은 presence 레지스트리로 클러스터 내 한 노드에만 유지)
+     * - poll 단위 배치로 받아 상태 플래그성 이벤트는 최신 것만 남기고 전송 후 배치당 한 번 커밋
+     * - 전송 중 예외는 실패한 레코드를 지정해 던짐 → 그 이전 레코드는 커밋, 실패 레코드부터 재시도 / DLQ
+     */
     @KafkaListener(
             topics = "${kafka.topic.sse.name}",
-            groupId = "${kafka.sse.consumer.sse-group-id}",
+            groupId = "${kafka.sse.consumer.sse-group-id}-#{@ssePresenceRegistry.nodeId}",
             containerFactory = "sseKafkaListener"
     )
-    public void consumeToSse(SseEventDto event, Acknowledgment ack) {
-        try {
-            boolean sent = sseService.sendToClient(event.userId(), event.eventName(), event.data());
-            if (sent) {
-                log.info("✅ Kafka → SSE 전송 성공: userId= {}, event-name= {}", event.userId(), event.eventName());
+    public void consumeToSse(List<ConsumerRecord<String, SseEventDto>> records, Acknowledgment ack) {
+        receivedCounter.increment(records.size());
+        batchSize.record(records.size());
+
+        List<ConsumerRecord<String, SseEventDto>> local = records.stream()
+                .filter(record -> record.value() != null && sseService.isConnectedLocally(record.value().userId()))
+                .toList();
+        skippedCounter.increment(records.size() - local.size());
+
+        List<ConsumerRecord<String, SseEventDto>> deliverable = SseEventCoalescer.coalesce(local);
+        coalescedCounter.increment(local.size() - deliverable.size());
+
+        for (ConsumerRecord<String, SseEventDto> record : deliverable) {
+            SseEventDto event = record.value();
+            try {
+                // 미리 직렬화된 data 는 바이트 그대로 전송 (Jackson 재직렬화 없음)
+                if (sseService.sendToClient(event.userId(), event.eventName(), RenderedSseData.unwrap(event.data()))) {
+                    deliveredCounter.increment();
+                    log.debug("✅ Kafka → SSE 전송 성공: userId= {}, event-name= {}", event.userId(), event.eventName());
+                }
+            } catch (Exception e) {
+                throw new BatchListenerFailedException(String.format(
+                        "Kafka → SSE 처리 중 알 수 없는 예외 발생: userId=%d, event=%s, 재시도 실행",
+                        event.userId(), event.eventName()), e, record);
             }
-            ack.acknowledge();
-        } catch (Exception e) {
-            throw new KafkaException(String.format(
-                    "Kafka → SSE 처리 중 알 수 없는 예외 발생: userId=%d, event=%s, 재시도 실행",
-                    event.userId(), event.eventName()), e);
         }
+
+        ack.acknowledge();
     }
 
     @KafkaListener(
             topics = "${kafka.topic.sse.dlq.name}",
-            groupId = "${kafka.consumer.sse.dlq.group-id}"
+            groupId = "${kafka.consumer.sse.dlq.group-id}",
+            containerFactory = "sseDlqKafkaListener"
     )
     public void consumeDlq(SseEventDto failedEvent) {
         log.error("🔥 Kafka SSE DLQ에 저장된 실패 이벤트: userId={}, event={}", failedEvent.userId(), failedEvent.eventName());
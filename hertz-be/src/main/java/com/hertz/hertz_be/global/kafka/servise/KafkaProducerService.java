@@ -6,6 +6,8 @@ import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.beans.factory.annotation.Value;
 
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 public class KafkaProducerService {
@@ -23,4 +25,12 @@ public class KafkaProducerService {
     public void sendSseEvent(SseEventDto event) {
         kafkaTemplateForSee.send(SseEventTopicName, event.userId().toString(), event);
     }
+
+    /**
+     * 한 동작(메세지 전송 등)으로 생기는 알림 묶음을 연달아 전송
+     * - 같은 사용자 이벤트는 같은 파티션이라 linger 동안 한 배치 / 한 요청으로 묶임 (순서 유지)
+     */
+    public void sendSseEvents(List<SseEventDto> events) {
+        events.forEach(this::sendSseEvent);
+    }
 }
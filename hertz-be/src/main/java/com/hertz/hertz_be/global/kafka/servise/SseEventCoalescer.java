@@ -0,0 +1,80 @@
+package com.hertz.hertz_be.global.kafka.servise;
+
+import com.hertz.hertz_be.domain.channel.dto.response.sse.ChannelListResponseDto;
+import com.hertz.hertz_be.global.common.SseEventName;
+import com.hertz.hertz_be.global.kafka.dto.RenderedSseData;
+import com.hertz.hertz_be.global.kafka.dto.SseEventDto;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 한 번의 poll 로 받은 SSE 이벤트 중 상태 플래그성 이벤트를 사용자(채팅방) 단위로 합침
+ * - 최신 값만 의미 있는 이벤트는 마지막 것만 남김
+ *   · NAV_NEW_MESSAGE / NAV_NO_ANY_NEW_MESSAGE → 사용자별 네비게이션 안읽음 상태
+ *   · NEW_ALARM / NO_ANY_NEW_ALARM → 사용자별 알림 상태
+ *   · CHAT_ROOM_UPDATE → 사용자 + 채팅방별 목록 항목
+ * - 그 외 이벤트(메세지 수신, 매칭 결과 등)는 모두 그대로 전달
+ * - 남은 이벤트는 원래 순서를 유지 (합쳐진 이벤트는 마지막 위치에 한 번만 등장)
+ */
+final class SseEventCoalescer {
+
+    private SseEventCoalescer() {}
+
+    static <K> List<ConsumerRecord<K, SseEventDto>> coalesce(List<ConsumerRecord<K, SseEventDto>> records) {
+        Map<String, Integer> lastIndex = new HashMap<>();
+        for (int i = 0; i < records.size(); i++) {
+            String key = coalesceKey(records.get(i).value());
+            if (key != null) {
+                lastIndex.put(key, i);
+            }
+        }
+        if (lastIndex.isEmpty()) return records;
+
+        List<ConsumerRecord<K, SseEventDto>> result = new ArrayList<>(records.size());
+        for (int i = 0; i < records.size(); i++) {
+            String key = coalesceKey(records.get(i).value());
+            if (key == null || lastIndex.get(key) == i) {
+                result.add(records.get(i));
+            }
+        }
+        return result;
+    }
+
+    // 합칠 수 없는 이벤트면 null
+    static String coalesceKey(SseEventDto event) {
+        if (event == null || event.userId() == null || event.eventName() == null) return null;
+
+        String eventName = event.eventName();
+        if (eventName.equals(SseEventName.NAV_NEW_MESSAGE.getValue())
+                || eventName.equals(SseEventName.NAV_NO_ANY_NEW_MESSAGE.getValue())) {
+            return "nav:" + event.userId();
+        }
+        if (eventName.equals(SseEventName.NEW_ALARM.getValue())
+                || eventName.equals(SseEventName.NO_ANY_NEW_ALARM.getValue())) {
+            return "alarm:" + event.userId();
+        }
+        if (eventName.equals(SseEventName.CHAT_ROOM_UPDATE.getValue())) {
+            Object roomId = channelRoomId(event.data());
+            return roomId == null ? null : "room:" + event.userId() + ":" + roomId;
+        }
+        return null;
+    }
+
+    // 바이너리 레코드는 값 앞부분(data 앞)에 기록된 채팅방 id, 이전 JSON 레코드는 Map, 같은 프로세스에서 만든 이벤트는 DTO 그대로
+    private static Object channelRoomId(Object data) {
+        if (data instanceof RenderedSseData rendered) {
+            return rendered.roomId();
+        }
+        if (data instanceof ChannelListResponseDto dto) {
+            return dto.channelRoomId();
+        }
+        if (data instanceof Map<?, ?> map) {
+            return map.get("channelRoomId");
+        }
+        return null;
+    }
+}
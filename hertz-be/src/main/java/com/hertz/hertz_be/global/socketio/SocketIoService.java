@@ -7,6 +7,8 @@ import com.hertz.hertz_be.domain.channel.responsecode.ChannelResponseCode;
 import com.hertz.hertz_be.domain.channel.repository.SignalMessageRepository;
 import com.hertz.hertz_be.domain.channel.repository.SignalRoomRepository;
 import com.hertz.hertz_be.domain.channel.service.AsyncChannelService;
+import com.hertz.hertz_be.domain.channel.service.MessagePlaintextCache;
+import com.hertz.hertz_be.domain.channel.service.SignalRoomSummaryService;
 import com.hertz.hertz_be.domain.user.entity.User;
 import com.hertz.hertz_be.domain.user.repository.UserRepository;
 import com.hertz.hertz_be.domain.user.responsecode.UserResponseCode;
@@ -41,6 +43,8 @@ public class SocketIoService {
     private final AESUtil aesUtil;
     private final SocketIOServer server;
     private final AsyncChannelService asyncChannelService;
+    private final SignalRoomSummaryService signalRoomSummaryService;
+    private final MessagePlaintextCache messagePlaintextCache;
     private final SocketIoSessionManager socketIoSessionManager;
     private final FCMService fcmService;
 
@@ -74,12 +78,13 @@ public class SocketIoService {
                 .build();
 
         signalMessageRepository.save(signalMessage);
+        signalRoomSummaryService.recordNewMessage(room, signalMessage);
+        messagePlaintextCache.put(signalMessage.getId(), plainText);
         entityManager.flush();
 
         if (!socketIoSessionManager.isUserInRoom(receiverId, "room-" + roomId)) {
             String pushTitle = sender.getNickname();
-            String pushContent = aesUtil.decrypt(encryptedMessage);
-            fcmService.sendWebPush(receiverId, pushTitle, pushContent);
+            fcmService.sendWebPush(receiverId, pushTitle, plainText);
         }
 
         TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
@@ -96,13 +101,14 @@ public class SocketIoService {
     @Transactional
     public SocketIoMessageResponse processAndRespond(Long roomId, Long senderId, String plainText, LocalDateTime sendAt) {
         SignalMessage saved = saveMessage(roomId, senderId, plainText, sendAt);
-        String decrypted = aesUtil.decrypt(saved.getMessage());
-        return SocketIoMessageResponse.from(saved, decrypted);
+        // 방금 암호화한 본문을 다시 복호화하지 않고 원문 그대로 응답
+        return SocketIoMessageResponse.from(saved, plainText);
     }
 
     @Transactional
     public void markMessageAsRead(Long roomId, Long userId) {
         signalMessageRepository.markUnreadMessagesAsRead(roomId, userId);
+        signalRoomSummaryService.markAsReadBy(roomId, userId);
 
         TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
             @Override
@@ -0,0 +1,227 @@
+package com.hertz.hertz_be.global.sse;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * SSE 전송 엔진: emitter 마다 bounded 전송 큐를 두고 virtual thread 에서 순서대로 비움
+ * - 호출 스레드(Kafka listener / 스케줄러)는 큐에 넣기만 하고 네트워크 쓰기를 기다리지 않음
+ * - 한 emitter 의 전송은 항상 한 스레드에서만 수행 (SseEmitter.send 동시 호출 방지)
+ * - 느린 클라이언트: 큐에 쌓인 게 있으면 heartbeat 는 합치고(생략), 큐가 가득 차면 연결을 끊음
+ */
+@Slf4j
+@Component
+public class SseDeliveryEngine {
+
+    private static final String METRIC_PREFIX = "sse.delivery";
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 5;
+
+    private final Executor executor;
+    private final int queueCapacity;
+    private final Map<SseEmitter, Outbox> outboxes = new ConcurrentHashMap<>();
+
+    private final Counter coalescedCounter;
+    private final Counter slowConsumerCounter;
+    private final Counter failedCounter;
+    private final Timer sendLatency;
+
+    @Autowired
+    public SseDeliveryEngine(MeterRegistry meterRegistry,
+                             @Value("${sse.delivery.queue-capacity:64}") int queueCapacity) {
+        this(meterRegistry, queueCapacity,
+                Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("sse-send-", 0).factory()));
+    }
+
+    SseDeliveryEngine(MeterRegistry meterRegistry, int queueCapacity, Executor executor) {
+        this.executor = executor;
+        this.queueCapacity = queueCapacity;
+
+        Gauge.builder(METRIC_PREFIX + ".connections", outboxes, Map::size)
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".queue.depth", this, engine -> engine.queueDepth(false))
+                .tag("stat", "total")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".queue.depth", this, engine -> engine.queueDepth(true))
+                .tag("stat", "max")
+                .register(meterRegistry);
+        this.coalescedCounter = Counter.builder(METRIC_PREFIX + ".dropped").tag("reason", "coalesced").register(meterRegistry);
+        this.slowConsumerCounter = Counter.builder(METRIC_PREFIX + ".dropped").tag("reason", "slow_consumer").register(meterRegistry);
+        this.failedCounter = Counter.builder(METRIC_PREFIX + ".dropped").tag("reason", "send_failed").register(meterRegistry);
+        // 큐에 넣은 시점 ~ 클라이언트로 쓰기 완료까지
+        this.sendLatency = Timer.builder(METRIC_PREFIX + ".send.latency")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+
+    private record Pending(SseEmitter.SseEventBuilder event, long enqueuedAt) {}
+
+    private static final class Outbox {
+        private final Long userId;
+        private final SseEmitter emitter;
+        private final Runnable onClosed;
+        private final Queue<Pending> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger depth = new AtomicInteger();
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private Outbox(Long userId, SseEmitter emitter, Runnable onClosed) {
+            this.userId = userId;
+            this.emitter = emitter;
+            this.onClosed = onClosed;
+        }
+    }
+
+    /**
+     * 전송 대상 등록
+     * @param onClosed 엔진이 연결을 끊을 때(전송 실패 / 느린 클라이언트) 호출
+     */
+    public void open(Long userId, SseEmitter emitter, Runnable onClosed) {
+        outboxes.put(emitter, new Outbox(userId, emitter, onClosed));
+    }
+
+    // 연결 종료 시 호출: 남은 큐는 버림
+    public void close(SseEmitter emitter) {
+        Outbox outbox = outboxes.remove(emitter);
+        if (outbox != null) {
+            outbox.closed.set(true);
+        }
+    }
+
+    /**
+     * 이벤트를 큐에 넣음
+     * @return 등록되지 않았거나 큐가 가득 차 연결을 끊었으면 false
+     */
+    public boolean send(SseEmitter emitter, String eventName, Object data) {
+        Outbox outbox = outboxes.get(emitter);
+        if (outbox == null || outbox.closed.get()) return false;
+
+        if (outbox.depth.get() >= queueCapacity) {
+            slowConsumerCounter.increment();
+            log.warn("⚠️ [SSE] 전송 큐 포화 → 느린 클라이언트 연결 종료 userId={}, depth={}", outbox.userId, outbox.depth.get());
+            terminate(outbox);
+            return false;
+        }
+
+        enqueue(outbox, SseEmitter.event().name(eventName).data(data));
+        return true;
+    }
+
+    /**
+     * heartbeat 는 큐가 비어 있을 때만 넣음 (보낼 이벤트가 밀려 있으면 그 이벤트가 연결 유지 역할)
+     */
+    public void heartbeat(SseEmitter emitter, String eventName, Object data) {
+        Outbox outbox = outboxes.get(emitter);
+        if (outbox == null || outbox.closed.get()) return;
+
+        if (outbox.depth.get() > 0) {
+            coalescedCounter.increment();
+            return;
+        }
+        enqueue(outbox, SseEmitter.event().name(eventName).data(data));
+    }
+
+    private void enqueue(Outbox outbox, SseEmitter.SseEventBuilder event) {
+        outbox.queue.offer(new Pending(event, System.nanoTime()));
+        outbox.depth.incrementAndGet();
+        scheduleDrain(outbox);
+    }
+
+    private void scheduleDrain(Outbox outbox) {
+        if (outbox.draining.compareAndSet(false, true)) {
+            executor.execute(() -> drain(outbox));
+        }
+    }
+
+    private void drain(Outbox outbox) {
+        try {
+            Pending pending;
+            while (!outbox.closed.get() && (pending = outbox.queue.poll()) != null) {
+                outbox.depth.decrementAndGet();
+                try {
+                    outbox.emitter.send(pending.event());
+                    sendLatency.record(System.nanoTime() - pending.enqueuedAt(), TimeUnit.NANOSECONDS);
+                } catch (IOException | IllegalStateException e) {
+                    failedCounter.increment();
+                    log.warn("SSE 이벤트 전송 실패 → 연결 종료 userId={}, 사유: {}", outbox.userId, e.getMessage());
+                    terminate(outbox);
+                    return;
+                }
+            }
+        } finally {
+            outbox.draining.set(false);
+        }
+
+        // 비우는 사이에 들어온 이벤트가 있으면 다시 예약
+        if (!outbox.closed.get() && !outbox.queue.isEmpty()) {
+            scheduleDrain(outbox);
+        }
+    }
+
+    private void terminate(Outbox outbox) {
+        if (!outbox.closed.compareAndSet(false, true)) return;
+        outboxes.remove(outbox.emitter, outbox);
+        outbox.queue.clear();
+        outbox.depth.set(0);
+        try {
+            outbox.emitter.complete();
+        } catch (Exception e) {
+            log.debug("SSE emitter 종료 중 예외 userId={} - {}", outbox.userId, e.getMessage());
+        }
+        outbox.onClosed.run();
+    }
+
+    /**
+     * 종료 시 남은 큐는 버리고 진행 중인 전송만 잠시 기다린 뒤 executor 종료
+     * - 느린 클라이언트에 쓰기가 묶여 있으면 기다리지 않고 interrupt
+     */
+    @PreDestroy
+    public void shutdown() {
+        outboxes.values().forEach(outbox -> {
+            outbox.closed.set(true);
+            outbox.queue.clear();
+            outbox.depth.set(0);
+        });
+        outboxes.clear();
+
+        if (!(executor instanceof ExecutorService executorService)) return;
+        executorService.shutdown();
+        try {
+            if (!executorService.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                executorService.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executorService.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        log.info("🧼 SSE 전송 executor 종료 완료");
+    }
+
+    private double queueDepth(boolean max) {
+        int result = 0;
+        for (Outbox outbox : outboxes.values()) {
+            int depth = outbox.depth.get();
+            result = max ? Math.max(result, depth) : result + depth;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,127 @@
+package com.hertz.hertz_be.global.sse;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * SSE 연결 위치(presence) 레지스트리: 사용자별로 emitter 를 가진 노드 id 를 Redis 에 기록
+ * - 한 사용자의 emitter 는 클러스터 전체에서 한 노드만 보유 (다른 노드에서 재구독하면 이전 노드에 종료 요청)
+ * - 노드가 죽으면 heartbeat 로 갱신되던 TTL 이 만료되어 자동 정리
+ * - 노드 간 연결 제어(재구독 / 세션 폐기)는 CONTROL_CHANNEL pub/sub 으로 전달
+ */
+@Slf4j
+@Component
+public class SsePresenceRegistry {
+
+    public static final String CONTROL_CHANNEL = "sse:control";
+
+    private static final String KEY_PREFIX = "sse:presence:";
+
+    // 자신이 등록한 값일 때만 삭제 (이미 다른 노드로 넘어간 연결은 건드리지 않음)
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final Duration ttl;
+
+    @Getter
+    private final String nodeId;
+
+    public SsePresenceRegistry(RedisTemplate<String, String> redisTemplate,
+                               @Value("${sse.node-id:}") String nodeId,
+                               @Value("${sse.presence.ttl:PT1M}") Duration ttl) {
+        this.redisTemplate = redisTemplate;
+        this.ttl = ttl;
+        this.nodeId = nodeId.isBlank() ? UUID.randomUUID().toString() : nodeId;
+        log.info("📡 [SSE presence] nodeId={}", this.nodeId);
+    }
+
+    public enum ControlType { TAKEOVER, REVOKE }
+
+    public record ControlMessage(ControlType type, Long userId, String nodeId) {}
+
+    /**
+     * 현재 노드를 사용자 연결 위치로 기록하고 이전 위치를 반환
+     * - 이전 위치가 다른 노드면 그 노드에 연결 종료를 요청
+     */
+    public Optional<String> register(Long userId) {
+        String previous = redisTemplate.opsForValue().setGet(key(userId), nodeId, ttl);
+
+        if (previous != null && !previous.equals(nodeId)) {
+            publish(ControlType.TAKEOVER + ":" + userId + ":" + nodeId);
+            log.info("🔀 [SSE presence] 연결 위치 이동 userId={}, {} → {}", userId, previous, nodeId);
+        }
+        return Optional.ofNullable(previous);
+    }
+
+    public void release(Long userId) {
+        redisTemplate.execute(RELEASE_SCRIPT, List.of(key(userId)), nodeId);
+    }
+
+    /**
+     * 이 노드에 연결된 사용자들의 TTL 갱신 (heartbeat 주기마다 파이프라인 1회)
+     */
+    public void refresh(Collection<Long> userIds) {
+        if (userIds.isEmpty()) return;
+
+        long seconds = ttl.getSeconds();
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (Long userId : userIds) {
+                connection.keyCommands().expire(serialize(key(userId)), seconds);
+            }
+            return null;
+        });
+    }
+
+    /**
+     * 세션 폐기(로그아웃 / 리프레시 토큰 삭제) 알림: 연결이 어느 노드에 있든 오류 이벤트 전송 후 종료
+     */
+    public void publishRevoke(Long userId) {
+        publish(ControlType.REVOKE + ":" + userId);
+    }
+
+    public Optional<ControlMessage> parse(String message) {
+        String[] parts = message.split(":");
+        try {
+            ControlType type = ControlType.valueOf(parts[0]);
+            return Optional.of(new ControlMessage(type, Long.valueOf(parts[1]),
+                    type == ControlType.TAKEOVER ? parts[2] : null));
+        } catch (RuntimeException e) {
+            log.warn("⚠️ [SSE presence] 알 수 없는 제어 메세지: {}", message);
+            return Optional.empty();
+        }
+    }
+
+    private void publish(String message) {
+        try {
+            redisTemplate.convertAndSend(CONTROL_CHANNEL, message);
+        } catch (Exception e) {
+            log.warn("⚠️ [SSE presence] 제어 메세지 발행 실패 message={} - {}", message, e.getMessage());
+        }
+    }
+
+    private String key(Long userId) {
+        return KEY_PREFIX + userId;
+    }
+
+    private byte[] serialize(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
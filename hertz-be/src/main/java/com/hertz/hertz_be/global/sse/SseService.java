@@ -5,78 +5,108 @@ import com.hertz.hertz_be.domain.auth.repository.RefreshTokenRepository;
 import com.hertz.hertz_be.domain.user.repository.UserRepository;
 import com.hertz.hertz_be.global.common.SseEventName;
 import com.hertz.hertz_be.global.common.NewResponseCode;
-import com.hertz.hertz_be.global.kafka.exception.KafkaException;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
+/**
+ * SSE 연결 관리
+ * - emitter 는 이 노드 메모리에만 있고, 어느 노드가 가졌는지는 SsePresenceRegistry 에 기록
+ * - SSE 토픽은 노드마다 별도 consumer group 으로 모두 수신하고, 이 노드에 연결된 사용자 이벤트만 전송
+ * - 세션(리프레시 토큰)은 구독 시점에 한 번만 확인하고, 이후 폐기는 REVOKE 제어 메세지로 받아 연결 종료
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
-public class SseService {
+public class SseService implements MessageListener {
 
     private final UserRepository userRepository;
     private final RefreshTokenRepository refreshTokenService;
+    private final SsePresenceRegistry presenceRegistry;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final SseDeliveryEngine deliveryEngine;
 
     private static final Long TIMEOUT = 1_800_000L;
 
     private final Map<Long, SseEmitter> emitters = new ConcurrentHashMap<>();
 
+    // heartbeat shard 별 연결된 사용자 (tick 마다 전체 emitter 를 훑지 않도록 emitters 와 함께 갱신)
+    private final Map<Integer, Set<Long>> shardUserIds = new ConcurrentHashMap<>();
+
+    // heartbeat 주기를 shard 수로 나눈 간격마다 한 shard(userId % shards)씩 처리
+    @Value("${sse.heartbeat.shards:15}")
+    private int heartbeatShards = 15;
+
+    private final AtomicLong heartbeatTick = new AtomicLong();
+
+    @PostConstruct
+    void subscribeControlChannel() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(SsePresenceRegistry.CONTROL_CHANNEL));
+    }
+
     @Transactional(readOnly = true)
     public SseEmitter subscribe(Long userId) {
-        // 이미 연결된 emitter가 있다면 connect success 재전송 후 반환
-        if (emitters.containsKey(userId)) {
-            SseEmitter existingEmitter = emitters.get(userId);
-            try {
-                existingEmitter.send(SseEmitter.event()
-                        .name(SseEventName.PING.getValue())
-                        .data("connect success"));
+        // 세션 확인은 구독 시점 1회 (전송 경로에서는 Redis 조회 없음)
+        if (refreshTokenService.getRefreshToken(userId) == null) {
+            closeLocal(userId);
+            return rejectedEmitter(
+                    AuthResponseCode.REFRESH_TOKEN_INVALID.getCode(),
+                    AuthResponseCode.REFRESH_TOKEN_INVALID.getMessage());
+        }
+
+        // 이미 연결된 emitter가 있다면 connect success 재전송 후 반환 (큐에 넣지 못하면 새로 연결)
+        SseEmitter existingEmitter = emitters.get(userId);
+        if (existingEmitter != null) {
+            if (deliveryEngine.send(existingEmitter, SseEventName.PING.getValue(), "connect success")) {
+                presenceRegistry.register(userId);
                 log.info("기존 SSE 연결에 connect success 재전송: userId={}", userId);
-            } catch (IllegalStateException | IOException e) {
-                log.warn("기존 emitter에 connect success 전송 실패: userId={}, 사유: {}", userId, e.getMessage());
-                existingEmitter.complete();
-                emitters.remove(userId);
+                return existingEmitter;
             }
-            return existingEmitter;
+            log.warn("기존 emitter에 connect success 전송 실패 → 새로 연결: userId={}", userId);
+            existingEmitter.complete();
+            removeEmitter(userId, existingEmitter);
         }
 
-        SseEmitter emitter = new SseEmitter(TIMEOUT);
-
         // 유저 존재 여부 확인
         if (!userRepository.existsById(userId)) {
-            try {
-                emitter.send(SseEmitter.event()
-                        .name("error")
-                        .data(Map.of(
-                                "code", NewResponseCode.INTERNAL_SERVER_ERROR.getCode(),
-                                "message", String.format("SSE 연결 요청한 사용자가(userId=%s) 존재하지 않습니다.", userId)
-                        )));
-            } catch (IOException ignored) {
-            } finally {
-                emitter.complete();
-            }
-            return emitter;
+            return rejectedEmitter(
+                    NewResponseCode.INTERNAL_SERVER_ERROR.getCode(),
+                    String.format("SSE 연결 요청한 사용자가(userId=%s) 존재하지 않습니다.", userId));
         }
 
-        // 새로운 emitter 저장 및 핸들러 등록
-        emitters.put(userId, emitter);
+        SseEmitter emitter = new SseEmitter(TIMEOUT);
+
+        // 새로운 emitter 저장 및 핸들러 등록 (다른 노드에 이전 연결이 있으면 그 노드가 종료)
+        putEmitter(userId, emitter);
+        deliveryEngine.open(userId, emitter, () -> removeEmitter(userId, emitter));
+        presenceRegistry.register(userId);
 
         emitter.onCompletion(() -> {
             log.info("SSE 연결 종료: userId={}", userId);
-            emitters.remove(userId);
+            removeEmitter(userId, emitter);
         });
 
         emitter.onTimeout(() -> {
             log.info("SSE 타임아웃: userId={}", userId);
             emitter.complete();
-            emitters.remove(userId);
+            removeEmitter(userId, emitter);
         });
 
         emitter.onError(throwable -> {
@@ -88,75 +118,60 @@ public class SseService {
                 log.error("SSE 기타 오류 발생: userId={}, error={}", userId, throwable.toString());
             }
             emitter.complete();
-            emitters.remove(userId);
+            removeEmitter(userId, emitter);
         });
 
-        // 최초 연결 성공 이벤트 전송
-        try {
-            emitter.send(SseEmitter.event()
-                    .name(SseEventName.PING.getValue())
-                    .data("connect success"));
-            log.info("SSE 연결 성공: userId={}", userId);
-        } catch (IllegalStateException | IOException e) {
-            log.warn("connect success 전송 실패: userId={}, 사유: {}", userId, e.getMessage());
-            emitter.complete();
-            emitters.remove(userId);
-        }
+        // 최초 연결 성공 이벤트 전송 (다른 이벤트와 같은 전송 큐를 거쳐 순서 / 단일 writer 보장)
+        deliveryEngine.send(emitter, SseEventName.PING.getValue(), "connect success");
+        log.info("SSE 연결 성공: userId={}", userId);
 
         return emitter;
     }
 
     /**
-     * 주기적 heartbeat 전송 (15초마다)
+     * heartbeat 분할 전송: 각 사용자는 heartbeat 주기(15초)마다 한 번씩 받음
+     * - tick 마다 한 shard 만 처리해 한 번에 모든 연결을 훑지 않음
+     * - 큐에 넣기만 하므로 느린 클라이언트가 다른 사용자의 heartbeat 를 막지 않음
+     * - 같은 shard 의 presence TTL 도 함께 갱신
      */
-    @Scheduled(fixedRate = 15000)
+    @Scheduled(fixedRateString = "#{${sse.heartbeat.interval-ms:15000} / ${sse.heartbeat.shards:15}}")
     public void sendPeriodicPings() {
-        emitters.forEach((userId, emitter) -> {
-            try {
-                emitter.send(SseEmitter.event()
-                        .name(SseEventName.HEARTBEAT.getValue())
-                        .data("heartbeat"));
-            } catch (IllegalStateException | IOException e) {
-                log.warn("heartbeat 전송 실패: userId={}, 사유: {}", userId, e.getMessage());
-                emitter.complete();
-                emitters.remove(userId);
+        int shard = (int) (heartbeatTick.getAndIncrement() % heartbeatShards);
+        Set<Long> members = shardUserIds.get(shard);
+        if (members == null || members.isEmpty()) return;
+        List<Long> userIds = List.copyOf(members);
+
+        try {
+            presenceRegistry.refresh(userIds);
+        } catch (Exception e) {
+            log.warn("⚠️ SSE presence TTL 갱신 실패: {}", e.getMessage());
+        }
+
+        for (Long userId : userIds) {
+            SseEmitter emitter = emitters.get(userId);
+            if (emitter != null) {
+                deliveryEngine.heartbeat(emitter, SseEventName.HEARTBEAT.getValue(), "heartbeat");
             }
-        });
+        }
+    }
+
+    public boolean isConnectedLocally(Long userId) {
+        return emitters.containsKey(userId);
     }
 
     /**
-     * 개별 사용자에게 이벤트 전송
+     * 개별 사용자에게 이벤트 전송 (전송 큐에 넣고 바로 반환)
+     * - 이 노드에 연결이 없으면 false (다른 노드의 consumer 가 전송)
+     * - 세션 확인은 구독 시점에 끝났으므로 Redis 접근 없음
+     * - 실제 쓰기 실패 / 느린 클라이언트 처리는 SseDeliveryEngine 에서 연결을 끊는 것으로 처리
      */
     public boolean sendToClient(Long userId, String eventName, Object data) {
-        String storedToken = refreshTokenService.getRefreshToken(userId);
-        if (storedToken == null) {
-            sendErrorAndComplete(userId,
-                    AuthResponseCode.REFRESH_TOKEN_INVALID.getCode(),
-                    AuthResponseCode.REFRESH_TOKEN_INVALID.getMessage());
-            return false;
-        }
-
         SseEmitter emitter = emitters.get(userId);
         if (emitter == null) {
             return false;
         }
 
-        try {
-            emitter.send(SseEmitter.event()
-                    .name(eventName)
-                    .data(data));
-            return true;
-        } catch (IllegalStateException e) {
-            log.warn("SSE 이벤트 전송 시 IllegalStateException: 이미 완료된 emitter에 send 시도 userId={}", userId);
-            emitter.complete();
-            emitters.remove(userId);
-            throw new KafkaException("SSE 전송 실패: 이미 완료된 emitter", e);
-        } catch (IOException e) {
-            log.warn("SSE 이벤트 전송 시 IOException: 이벤트 전송 실패 userId={}, message={}", userId, e.getMessage());
-            emitter.complete();
-            emitters.remove(userId);
-            throw new KafkaException("SSE 전송 실패: IOException", e);
-        }
+        return deliveryEngine.send(emitter, eventName, data);
     }
 
     /**
@@ -165,6 +180,8 @@ public class SseService {
     public void sendErrorAndComplete(Long userId, String code, String message) {
         SseEmitter emitter = emitters.get(userId);
         if (emitter != null) {
+            // 전송 큐를 먼저 닫아 엔진 스레드와 동시에 쓰지 않도록 함
+            deliveryEngine.close(emitter);
             try {
                 emitter.send(SseEmitter.event()
                         .name("error")
@@ -173,20 +190,94 @@ public class SseService {
                 log.warn("오류 이벤트 전송 실패: userId={}, 사유: {}", userId, e.getMessage());
             } finally {
                 emitter.complete();
-                emitters.remove(userId);
+                removeEmitter(userId, emitter);
             }
         }
     }
 
     /**
-     * 강제 연결 종료
+     * 노드 간 연결 제어 메세지 수신
+     * - TAKEOVER: 다른 노드에서 재구독 → 이 노드의 이전 연결 종료 (presence 는 이미 새 노드로 바뀜)
+     * - REVOKE: 로그아웃 / 리프레시 토큰 삭제 → 연결이 있는 노드가 오류 이벤트 전송 후 종료
      */
-    public void disconnect(Long userId) {
-        SseEmitter emitter = emitters.get(userId);
-        if (emitter != null) {
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        presenceRegistry.parse(new String(message.getBody(), StandardCharsets.UTF_8))
+                .filter(control -> !presenceRegistry.getNodeId().equals(control.nodeId()))
+                .ifPresent(control -> {
+                    Long userId = control.userId();
+                    if (control.type() == SsePresenceRegistry.ControlType.REVOKE) {
+                        if (emitters.containsKey(userId)) {
+                            sendErrorAndComplete(userId,
+                                    AuthResponseCode.REFRESH_TOKEN_INVALID.getCode(),
+                                    AuthResponseCode.REFRESH_TOKEN_INVALID.getMessage());
+                            log.info("세션 폐기로 SSE 연결 종료: userId={}", userId);
+                        }
+                    } else if (closeLocal(userId)) {
+                        log.info("다른 노드 재구독으로 SSE 연결 종료: userId={}", userId);
+                    }
+                });
+    }
+
+    // 연결을 맺지 않고 오류 이벤트만 보낸 뒤 바로 종료하는 emitter
+    private SseEmitter rejectedEmitter(String code, String message) {
+        SseEmitter emitter = new SseEmitter(TIMEOUT);
+        try {
+            emitter.send(SseEmitter.event()
+                    .name("error")
+                    .data(Map.of("code", code, "message", message)));
+        } catch (IOException ignored) {
+        } finally {
             emitter.complete();
-            emitters.remove(userId);
-            log.info("로그아웃을 통한 강제 연결 종료: userId={}", userId);
         }
+        return emitter;
+    }
+
+    private boolean closeLocal(Long userId) {
+        SseEmitter emitter = detachEmitter(userId, null);
+        if (emitter == null) return false;
+        deliveryEngine.close(emitter);
+        emitter.complete();
+        presenceRegistry.release(userId);
+        return true;
+    }
+
+    // 이미 새 emitter 로 교체된 경우에는 제거하지 않음
+    private void removeEmitter(Long userId, SseEmitter emitter) {
+        deliveryEngine.close(emitter);
+        if (detachEmitter(userId, emitter) != null) {
+            presenceRegistry.release(userId);
+        }
+    }
+
+    // emitter 등록과 shard 등록을 같은 key 의 compute 안에서 처리해 둘이 어긋나지 않도록 함
+    void putEmitter(Long userId, SseEmitter emitter) {
+        emitters.compute(userId, (id, previous) -> {
+            shardUserIds.computeIfAbsent(shardOf(id), shard -> ConcurrentHashMap.newKeySet()).add(id);
+            return emitter;
+        });
+    }
+
+    /**
+     * emitter 제거 (shard 에서도 함께 제거)
+     * @param expected null 이면 현재 emitter 를 제거, 아니면 같은 emitter 일 때만 제거
+     * @return 제거한 emitter (없으면 null)
+     */
+    private SseEmitter detachEmitter(Long userId, SseEmitter expected) {
+        SseEmitter[] removed = new SseEmitter[1];
+        emitters.computeIfPresent(userId, (id, current) -> {
+            if (expected != null && current != expected) return current;
+            Set<Long> members = shardUserIds.get(shardOf(id));
+            if (members != null) {
+                members.remove(id);
+            }
+            removed[0] = current;
+            return null;
+        });
+        return removed[0];
+    }
+
+    private int shardOf(Long userId) {
+        return Math.floorMod(userId, heartbeatShards);
     }
 }
@@ -1,47 +1,127 @@
 package com.hertz.hertz_be.global.util;
 
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
 import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.ArrayList;
 import java.util.Base64;
+import java.util.List;
 
+/**
+ * 메세지 본문 암복호화
+ * - 키는 기동 시 한 번만 디코딩하고, Cipher는 스레드별로 재사용
+ * - 신규 암호문은 AES-GCM(v1: 접두사) / 접두사가 없는 기존 ECB 암호문도 그대로 복호화
+ */
+@Slf4j
 @Component
 public class AESUtil {
 
-    private final String secretKey;
     private static final String ALGORITHM = "AES";
+    private static final String GCM_TRANSFORMATION = "AES/GCM/NoPadding";
+    // Base64 문자셋에 ':'가 없으므로 기존 ECB 암호문과 구분 가능
+    static final String GCM_PREFIX = "v1:";
+    private static final int GCM_IV_LENGTH = 12;
+    private static final int GCM_TAG_LENGTH_BITS = 128;
 
-    public AESUtil(@Value("${aes.secret}") String secretKey) {
-        this.secretKey = secretKey;
+    private final SecretKeySpec keySpec;
+    private final boolean gcmEnabled;
+    private final SecureRandom secureRandom = new SecureRandom();
+    private final ThreadLocal<Cipher> ecbCipher = ThreadLocal.withInitial(() -> newCipher(ALGORITHM));
+    private final ThreadLocal<Cipher> gcmCipher = ThreadLocal.withInitial(() -> newCipher(GCM_TRANSFORMATION));
+
+    public AESUtil(@Value("${aes.secret}") String secretKey,
+                   @Value("${aes.gcm.enabled:false}") boolean gcmEnabled) {
+        this.keySpec = new SecretKeySpec(Base64.getDecoder().decode(secretKey), ALGORITHM);
+        this.gcmEnabled = gcmEnabled;
     }
 
     public String encrypt(String plainText) {
         try {
-            byte[] decodedKey = Base64.getDecoder().decode(secretKey);
-            SecretKeySpec keySpec = new SecretKeySpec(decodedKey, ALGORITHM);
-            Cipher cipher = Cipher.getInstance(ALGORITHM);
-            cipher.init(Cipher.ENCRYPT_MODE, keySpec);
-            byte[] encrypted = cipher.doFinal(plainText.getBytes());
-            return Base64.getEncoder().encodeToString(encrypted);
+            byte[] plain = plainText.getBytes(StandardCharsets.UTF_8);
+            return gcmEnabled ? encryptGcm(plain) : encryptEcb(plain);
         } catch (Exception e) {
             throw new RuntimeException("암호화 중 오류 발생", e);
         }
-
     }
 
     public String decrypt(String encryptedText) {
         try {
-            byte[] decodedKey = Base64.getDecoder().decode(secretKey);
-            SecretKeySpec keySpec = new SecretKeySpec(decodedKey, ALGORITHM);
-            Cipher cipher = Cipher.getInstance(ALGORITHM);
-            cipher.init(Cipher.DECRYPT_MODE, keySpec);
-            byte[] decoded = Base64.getDecoder().decode(encryptedText);
-            return new String(cipher.doFinal(decoded));
+            byte[] plain = encryptedText.startsWith(GCM_PREFIX)
+                    ? decryptGcm(Base64.getDecoder().decode(encryptedText.substring(GCM_PREFIX.length())))
+                    : decryptEcb(Base64.getDecoder().decode(encryptedText));
+            return new String(plain, StandardCharsets.UTF_8);
         } catch (Exception e) {
             throw new RuntimeException("복호화 중 오류 발생", e);
         }
+    }
+
+    /**
+     * 페이지 단위 일괄 복호화. 입력 순서를 유지하며, null 이거나 복호화에 실패한 항목은 null 로 채움
+     */
+    public List<String> decryptAll(List<String> encryptedTexts) {
+        List<String> result = new ArrayList<>(encryptedTexts.size());
+        for (String encryptedText : encryptedTexts) {
+            if (encryptedText == null) {
+                result.add(null);
+                continue;
+            }
+            try {
+                result.add(decrypt(encryptedText));
+            } catch (RuntimeException e) {
+                log.warn("⚠️ 메세지 복호화 실패: {}", e.getCause() != null ? e.getCause().getMessage() : e.getMessage());
+                result.add(null);
+            }
+        }
+        return result;
+    }
+
+    private String encryptEcb(byte[] plain) throws GeneralSecurityException {
+        Cipher cipher = ecbCipher.get();
+        cipher.init(Cipher.ENCRYPT_MODE, keySpec);
+        return Base64.getEncoder().encodeToString(cipher.doFinal(plain));
+    }
+
+    private byte[] decryptEcb(byte[] encrypted) throws GeneralSecurityException {
+        Cipher cipher = ecbCipher.get();
+        cipher.init(Cipher.DECRYPT_MODE, keySpec);
+        return cipher.doFinal(encrypted);
+    }
+
+    // 저장 형식: v1:Base64(IV(12byte) + 암호문 + 인증 태그)
+    private String encryptGcm(byte[] plain) throws GeneralSecurityException {
+        byte[] iv = new byte[GCM_IV_LENGTH];
+        secureRandom.nextBytes(iv);
+
+        Cipher cipher = gcmCipher.get();
+        cipher.init(Cipher.ENCRYPT_MODE, keySpec, new GCMParameterSpec(GCM_TAG_LENGTH_BITS, iv));
+        byte[] encrypted = cipher.doFinal(plain);
+
+        byte[] payload = ByteBuffer.allocate(iv.length + encrypted.length)
+                .put(iv)
+                .put(encrypted)
+                .array();
+        return GCM_PREFIX + Base64.getEncoder().encodeToString(payload);
+    }
 
+    private byte[] decryptGcm(byte[] payload) throws GeneralSecurityException {
+        Cipher cipher = gcmCipher.get();
+        cipher.init(Cipher.DECRYPT_MODE, keySpec, new GCMParameterSpec(GCM_TAG_LENGTH_BITS, payload, 0, GCM_IV_LENGTH));
+        return cipher.doFinal(payload, GCM_IV_LENGTH, payload.length - GCM_IV_LENGTH);
+    }
+
+    private static Cipher newCipher(String transformation) {
+        try {
+            return Cipher.getInstance(transformation);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Cipher 생성 실패: " + transformation, e);
+        }
     }
 }
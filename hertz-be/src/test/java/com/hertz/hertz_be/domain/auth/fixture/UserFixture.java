@@ -20,6 +20,17 @@ public class UserFixture {
                 .build();
     }
 
+    // 저장소 통합 테스트용: 이메일·닉네임 유니크 제약을 피하도록 매번 다른 값으로 생성
+    public static User createTestUser(String emailDomain) {
+        return User.builder()
+                .ageGroup(AgeGroup.AGE_20S)
+                .gender(Gender.MALE)
+                .email(UUID.randomUUID() + "@" + emailDomain)
+                .profileImageUrl("http://example.com/profile.png")
+                .nickname(UUID.randomUUID().toString().substring(0, 10))
+                .oneLineIntroduction("테스트 유저입니다")
+                .build();
+    }
 
     public static User create(Long id, String nickname, String email) {
         return User.builder()
@@ -7,7 +7,6 @@ import com.hertz.hertz_be.domain.user.repository.UserRepository;
 import com.hertz.hertz_be.domain.user.responsecode.UserResponseCode;
 import com.hertz.hertz_be.global.auth.token.JwtTokenProvider;
 import com.hertz.hertz_be.global.exception.BusinessException;
-import com.hertz.hertz_be.global.sse.SseService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -36,9 +35,6 @@ class AuthServiceTest {
     @Mock
     private UserRepository userRepository;
 
-    @Mock
-    private SseService sseService;
-
     @InjectMocks
     private AuthService authService;
 
@@ -117,7 +113,6 @@ class AuthServiceTest {
 
         verify(userRepository, times(1)).existsById(testUserId);
         verify(refreshTokenService, times(1)).deleteRefreshToken(testUserId);
-        verify(sseService, times(1)).disconnect(testUserId);
     }
 
     @Test
@@ -135,6 +130,5 @@ class AuthServiceTest {
 
         verify(userRepository, times(1)).existsById(testUserId);
         verify(refreshTokenService, never()).deleteRefreshToken(anyLong());
-        verify(sseService, never()).disconnect(anyLong());
     }
 }
@@ -0,0 +1,52 @@
+package com.hertz.hertz_be.domain.channel.dto.object;
+
+import com.hertz.hertz_be.global.exception.BusinessException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KeysetCursorTest {
+
+    @Test
+    @DisplayName("encode / decode - 나노초까지 포함한 (시간, id) 가 그대로 복원")
+    void encodeDecode_roundTrip() {
+        KeysetCursor cursor = new KeysetCursor(LocalDateTime.of(2025, 6, 1, 12, 30, 15, 123_456_789), 42L);
+
+        String encoded = cursor.encode();
+
+        assertFalse(encoded.contains("="));
+        assertFalse(encoded.contains("/"));
+        assertEquals(cursor, KeysetCursor.decode(encoded));
+    }
+
+    @Test
+    @DisplayName("encode / decode - 시간이 없는 커서(메세지 없는 채팅방)도 복원")
+    void encodeDecode_nullTime() {
+        KeysetCursor cursor = new KeysetCursor(null, 7L);
+
+        assertEquals(cursor, KeysetCursor.decode(cursor.encode()));
+    }
+
+    @Test
+    @DisplayName("encode - 같은 시간이라도 id 가 다르면 서로 다른 커서")
+    void encode_sameTimeDifferentId() {
+        LocalDateTime sameTime = LocalDateTime.of(2025, 6, 1, 12, 30);
+
+        String first = new KeysetCursor(sameTime, 10L).encode();
+        String second = new KeysetCursor(sameTime, 11L).encode();
+
+        assertNotEquals(first, second);
+        assertEquals(10L, KeysetCursor.decode(first).id());
+        assertEquals(11L, KeysetCursor.decode(second).id());
+    }
+
+    @Test
+    @DisplayName("decode - 형식이 잘못된 커서는 BusinessException")
+    void decode_invalidCursor_throws() {
+        assertThrows(BusinessException.class, () -> KeysetCursor.decode("not-a-cursor!"));
+        assertThrows(BusinessException.class, () -> KeysetCursor.decode(""));
+    }
+}
@@ -0,0 +1,105 @@
+package com.hertz.hertz_be.domain.channel.repository;
+
+import com.corundumstudio.socketio.SocketIOServer;
+import com.hertz.hertz_be.domain.channel.entity.SignalMessage;
+import com.hertz.hertz_be.domain.channel.entity.SignalRoom;
+import com.hertz.hertz_be.domain.channel.entity.enums.Category;
+import com.hertz.hertz_be.domain.channel.entity.enums.MatchingStatus;
+import com.hertz.hertz_be.domain.user.entity.User;
+import com.hertz.hertz_be.domain.user.repository.UserRepository;
+import com.hertz.hertz_be.global.config.TestContainersConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.hertz.hertz_be.domain.auth.fixture.UserFixture.createTestUser;
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@Testcontainers
+@ActiveProfiles("test")
+class SignalMessageRepositoryTest extends TestContainersConfig {
+
+    @MockBean
+    private SocketIOServer socketIOServer;
+
+    @Autowired private SignalMessageRepository signalMessageRepository;
+    @Autowired private SignalRoomRepository signalRoomRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    private static final LocalDateTime SAME_TIME = LocalDateTime.of(2025, 6, 1, 12, 0);
+
+    private User sender;
+    private SignalRoom room;
+
+    @BeforeEach
+    void setUp() {
+        sender = userRepository.save(createTestUser("test.com"));
+        User receiver = userRepository.save(createTestUser("test.com"));
+        room = signalRoomRepository.save(SignalRoom.builder()
+                .senderUser(sender)
+                .receiverUser(receiver)
+                .category(Category.FRIEND)
+                .userPairSignal("sig-" + sender.getId() + "-" + receiver.getId())
+                .senderMatchingStatus(MatchingStatus.SIGNAL)
+                .receiverMatchingStatus(MatchingStatus.SIGNAL)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        signalMessageRepository.deleteAll();
+        signalRoomRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("findBeforeCursor - send_at 이 같은 메세지는 id 로 이어서 조회하여 누락/중복 없이 페이지를 넘김")
+    void findBeforeCursor_walksTiesById() {
+        List<Long> ids = List.of(
+                saveMessageAt(SAME_TIME.minusMinutes(1)),
+                saveMessageAt(SAME_TIME),
+                saveMessageAt(SAME_TIME),
+                saveMessageAt(SAME_TIME)
+        );
+
+        List<SignalMessage> firstPage = signalMessageRepository.findLatest(room.getId(), PageRequest.of(0, 2));
+        assertEquals(List.of(ids.get(3), ids.get(2)), idsOf(firstPage));
+
+        SignalMessage last = firstPage.getLast();
+        List<SignalMessage> secondPage = signalMessageRepository.findBeforeCursor(
+                room.getId(), last.getSendAt(), last.getId(), PageRequest.of(0, 2));
+        assertEquals(List.of(ids.get(1), ids.get(0)), idsOf(secondPage));
+
+        SignalMessage oldest = secondPage.getLast();
+        assertTrue(signalMessageRepository.findBeforeCursor(
+                room.getId(), oldest.getSendAt(), oldest.getId(), PageRequest.of(0, 2)).isEmpty());
+    }
+
+    private Long saveMessageAt(LocalDateTime sendAt) {
+        SignalMessage saved = signalMessageRepository.save(SignalMessage.builder()
+                .signalRoom(room)
+                .senderUser(sender)
+                .message("encrypted")
+                .build());
+        // send_at 은 @CreationTimestamp 라 저장 후 직접 맞춤
+        jdbcTemplate.update("UPDATE signal_message SET send_at = ? WHERE id = ?", sendAt, saved.getId());
+        return saved.getId();
+    }
+
+    private List<Long> idsOf(List<SignalMessage> messages) {
+        return messages.stream().map(SignalMessage::getId).toList();
+    }
+}
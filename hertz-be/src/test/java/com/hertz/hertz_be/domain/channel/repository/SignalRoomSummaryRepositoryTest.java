@@ -0,0 +1,202 @@
+package com.hertz.hertz_be.domain.channel.repository;
+
+import com.corundumstudio.socketio.SocketIOServer;
+import com.hertz.hertz_be.domain.channel.entity.SignalMessage;
+import com.hertz.hertz_be.domain.channel.entity.SignalRoom;
+import com.hertz.hertz_be.domain.channel.entity.SignalRoomSummary;
+import com.hertz.hertz_be.domain.channel.entity.enums.Category;
+import com.hertz.hertz_be.domain.channel.entity.enums.MatchingStatus;
+import com.hertz.hertz_be.domain.channel.service.SignalRoomSummaryService;
+import com.hertz.hertz_be.domain.user.entity.User;
+import com.hertz.hertz_be.domain.user.repository.UserRepository;
+import com.hertz.hertz_be.global.config.TestContainersConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.hertz.hertz_be.domain.auth.fixture.UserFixture.createTestUser;
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@Testcontainers
+@ActiveProfiles("test")
+class SignalRoomSummaryRepositoryTest extends TestContainersConfig {
+
+    @MockBean
+    private SocketIOServer socketIOServer;
+
+    @Autowired private SignalRoomSummaryService signalRoomSummaryService;
+    @Autowired private SignalRoomSummaryRepository signalRoomSummaryRepository;
+    @Autowired private SignalRoomRepository signalRoomRepository;
+    @Autowired private SignalMessageRepository signalMessageRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    private User sender;
+    private User receiver;
+    private SignalRoom room;
+
+    @BeforeEach
+    void setUp() {
+        sender = userRepository.save(createTestUser("test.com"));
+        receiver = userRepository.save(createTestUser("test.com"));
+        room = signalRoomRepository.save(SignalRoom.builder()
+                .senderUser(sender)
+                .receiverUser(receiver)
+                .category(Category.FRIEND)
+                .userPairSignal("sig-" + sender.getId() + "-" + receiver.getId())
+                .senderMatchingStatus(MatchingStatus.SIGNAL)
+                .receiverMatchingStatus(MatchingStatus.SIGNAL)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        signalRoomSummaryRepository.deleteAll();
+        signalMessageRepository.deleteAll();
+        signalRoomRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("새 메세지 저장 시 요약 정보가 없으면 생성하고, 있으면 마지막 메세지와 개수/안읽음 수를 갱신")
+    void recordNewMessage_upsertsSummary() {
+        SignalMessage first = saveMessage(sender, "first", LocalDateTime.of(2025, 1, 1, 10, 0), false);
+        signalRoomSummaryService.recordNewMessage(room, first);
+
+        SignalMessage second = saveMessage(receiver, "second", LocalDateTime.of(2025, 1, 1, 10, 5), false);
+        signalRoomSummaryService.recordNewMessage(room, second);
+
+        SignalRoomSummary summary = signalRoomSummaryRepository.findById(room.getId()).orElseThrow();
+        assertEquals(second.getId(), summary.getLastMessageId());
+        assertEquals("second", summary.getLastMessage());
+        assertEquals(receiver.getId(), summary.getLastSenderId());
+        assertEquals(2, summary.getMessageCount());
+        // sender 가 보낸 메세지는 receiver 의 안읽음, receiver 가 보낸 메세지는 sender 의 안읽음
+        assertEquals(1, summary.getSenderUserUnreadCount());
+        assertEquals(1, summary.getReceiverUserUnreadCount());
+    }
+
+    @Test
+    @DisplayName("늦게 반영된 이전 메세지는 개수만 늘리고 마지막 메세지는 바꾸지 않음")
+    void recordNewMessage_olderMessageDoesNotReplaceLast() {
+        SignalMessage latest = saveMessage(sender, "latest", LocalDateTime.of(2025, 1, 1, 10, 5), false);
+        signalRoomSummaryService.recordNewMessage(room, latest);
+
+        SignalMessage older = saveMessage(sender, "older", LocalDateTime.of(2025, 1, 1, 10, 0), false);
+        signalRoomSummaryService.recordNewMessage(room, older);
+
+        SignalRoomSummary summary = signalRoomSummaryRepository.findById(room.getId()).orElseThrow();
+        assertEquals(latest.getId(), summary.getLastMessageId());
+        assertEquals(2, summary.getMessageCount());
+        assertEquals(2, summary.getReceiverUserUnreadCount());
+    }
+
+    @Test
+    @DisplayName("읽음 처리 - 한 참여자만 읽으면 해당 참여자의 안읽음 수만 0, 전체 읽음은 모두 0")
+    void markAsRead_resetsUnreadCounts() {
+        signalRoomSummaryService.recordNewMessage(room, saveMessage(sender, "to receiver", LocalDateTime.of(2025, 1, 1, 10, 0), false));
+        signalRoomSummaryService.recordNewMessage(room, saveMessage(receiver, "to sender", LocalDateTime.of(2025, 1, 1, 10, 1), false));
+
+        signalRoomSummaryService.markAsReadBy(room.getId(), receiver.getId());
+
+        SignalRoomSummary afterReceiverRead = signalRoomSummaryRepository.findById(room.getId()).orElseThrow();
+        assertEquals(1, afterReceiverRead.getSenderUserUnreadCount());
+        assertEquals(0, afterReceiverRead.getReceiverUserUnreadCount());
+
+        signalRoomSummaryService.markAllAsRead(room.getId());
+
+        SignalRoomSummary afterAllRead = signalRoomSummaryRepository.findById(room.getId()).orElseThrow();
+        assertEquals(0, afterAllRead.getSenderUserUnreadCount());
+        assertEquals(0, afterAllRead.getReceiverUserUnreadCount());
+    }
+
+    @Test
+    @DisplayName("정합성 검사 - SignalMessage 집계와 다른 요약 정보만 골라 다시 계산")
+    void repairInconsistent_rebuildsMismatchingSummary() {
+        SignalMessage read = saveMessage(sender, "read", LocalDateTime.of(2025, 1, 1, 10, 0), true);
+        SignalMessage unread = saveMessage(sender, "unread", LocalDateTime.of(2025, 1, 1, 10, 1), false);
+        signalRoomSummaryRepository.save(SignalRoomSummary.builder()
+                .signalRoomId(room.getId())
+                .lastMessageId(read.getId())
+                .lastMessage(read.getMessage())
+                .lastMessageSendAt(read.getSendAt())
+                .lastSenderId(sender.getId())
+                .messageCount(1)
+                .build());
+
+        assertEquals(List.of(room.getId()), signalRoomSummaryRepository.findInconsistentRoomIds(List.of(room.getId())));
+
+        int repaired = signalRoomSummaryService.repairInconsistent(List.of(room.getId()));
+
+        assertEquals(1, repaired);
+        SignalRoomSummary summary = signalRoomSummaryRepository.findById(room.getId()).orElseThrow();
+        assertEquals(unread.getId(), summary.getLastMessageId());
+        assertEquals(2, summary.getMessageCount());
+        assertEquals(0, summary.getSenderUserUnreadCount());
+        assertEquals(1, summary.getReceiverUserUnreadCount());
+        assertTrue(signalRoomSummaryRepository.findInconsistentRoomIds(List.of(room.getId())).isEmpty());
+    }
+
+    @Test
+    @DisplayName("backfill - 요약 정보가 없는 방만 채우고 이미 있는 방은 건너뜀")
+    void backfillMissing_fillsOnlyRoomsWithoutSummary() {
+        saveMessage(sender, "hello", LocalDateTime.of(2025, 1, 1, 10, 0), false);
+
+        assertEquals(1, signalRoomSummaryService.backfillMissing(List.of(room.getId())));
+        assertEquals(0, signalRoomSummaryService.backfillMissing(List.of(room.getId())));
+
+        SignalRoomSummary summary = signalRoomSummaryRepository.findById(room.getId()).orElseThrow();
+        assertEquals(1, summary.getMessageCount());
+        assertEquals(1, summary.getReceiverUserUnreadCount());
+    }
+
+    @Test
+    @DisplayName("방 삭제 - 지정한 방의 요약 정보만 지우고 빈 목록이면 아무것도 지우지 않음")
+    void deleteByRoomIds_removesOnlyGivenRooms() {
+        User other = userRepository.save(createTestUser("test.com"));
+        SignalRoom otherRoom = signalRoomRepository.save(SignalRoom.builder()
+                .senderUser(other)
+                .receiverUser(receiver)
+                .category(Category.FRIEND)
+                .userPairSignal("sig-" + other.getId() + "-" + receiver.getId())
+                .senderMatchingStatus(MatchingStatus.SIGNAL)
+                .receiverMatchingStatus(MatchingStatus.SIGNAL)
+                .build());
+        signalRoomSummaryService.recordNewMessage(room, saveMessage(sender, "hello", LocalDateTime.of(2025, 1, 1, 10, 0), false));
+        signalRoomSummaryRepository.save(SignalRoomSummary.builder()
+                .signalRoomId(otherRoom.getId())
+                .messageCount(0)
+                .build());
+
+        signalRoomSummaryService.deleteByRoomIds(List.of());
+        assertEquals(2, signalRoomSummaryRepository.count());
+
+        signalRoomSummaryService.deleteByRoomIds(List.of(room.getId()));
+
+        assertTrue(signalRoomSummaryRepository.findById(room.getId()).isEmpty());
+        assertTrue(signalRoomSummaryRepository.findById(otherRoom.getId()).isPresent());
+    }
+
+    private SignalMessage saveMessage(User from, String message, LocalDateTime sendAt, boolean isRead) {
+        SignalMessage saved = signalMessageRepository.save(SignalMessage.builder()
+                .signalRoom(room)
+                .senderUser(from)
+                .message(message)
+                .isRead(isRead)
+                .build());
+        // send_at 은 @CreationTimestamp 라 저장 후 직접 맞춤
+        jdbcTemplate.update("UPDATE signal_message SET send_at = ? WHERE id = ?", sendAt, saved.getId());
+        return signalMessageRepository.findById(saved.getId()).orElseThrow();
+    }
+}
@@ -0,0 +1,136 @@
+package com.hertz.hertz_be.domain.channel.service;
+
+import com.hertz.hertz_be.domain.channel.dto.request.v3.ChatReportRequestDto;
+import com.hertz.hertz_be.domain.channel.service.PendingChatReportQueue.PendingReport;
+import com.hertz.hertz_be.domain.channel.service.v3.ChannelService;
+import com.hertz.hertz_be.global.exception.AiServerUnavailableException;
+import com.hertz.hertz_be.global.exception.BusinessException;
+import com.hertz.hertz_be.global.infra.ai.client.TuningAiClient;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ChatReportRetrySchedulerTest {
+
+    @Mock private PendingChatReportQueue pendingChatReportQueue;
+    @Mock private TuningAiClient tuningAiClient;
+    @Mock private ChannelService channelService;
+    @Mock private RedissonClient redissonClient;
+    @Mock private RLock lock;
+
+    @InjectMocks
+    private ChatReportRetryScheduler scheduler;
+
+    private final PendingReport first = pending(1, 0);
+    private final PendingReport second = pending(2, 0);
+    private final PendingReport third = pending(3, 0);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(scheduler, "batchSize", 3);
+        ReflectionTestUtils.setField(scheduler, "maxAttempts", 5);
+    }
+
+    @Test
+    @DisplayName("재처리 - 처리 중 목록을 먼저 복구하고, 성공한 신고만 처리 중 목록에서 제거")
+    void retryPendingReports_acksOnlyProcessedReports() throws InterruptedException {
+        lockAcquired(true);
+        when(pendingChatReportQueue.claim(3)).thenReturn(List.of(first, second));
+
+        scheduler.retryPendingReports();
+
+        InOrder inOrder = inOrder(pendingChatReportQueue, channelService);
+        inOrder.verify(pendingChatReportQueue).recoverInFlight();
+        inOrder.verify(pendingChatReportQueue).claim(3);
+        inOrder.verify(channelService).processReportedMessage(first.report());
+        inOrder.verify(pendingChatReportQueue).ack(first);
+        inOrder.verify(channelService).processReportedMessage(second.report());
+        inOrder.verify(pendingChatReportQueue).ack(second);
+        verify(lock).unlock();
+    }
+
+    @Test
+    @DisplayName("재처리 - 도중에 AI 서버가 다시 차단되면 남은 신고를 원래 순서대로 대기열 앞에 되돌림")
+    void retryPendingReports_releasesRemainingWhenBlockedAgain() throws InterruptedException {
+        lockAcquired(true);
+        when(pendingChatReportQueue.claim(3)).thenReturn(List.of(first, second, third));
+        doThrow(new AiServerUnavailableException("open")).when(channelService).processReportedMessage(second.report());
+
+        scheduler.retryPendingReports();
+
+        verify(pendingChatReportQueue).ack(first);
+        InOrder inOrder = inOrder(pendingChatReportQueue);
+        inOrder.verify(pendingChatReportQueue).release(third);
+        inOrder.verify(pendingChatReportQueue).release(second);
+        verify(pendingChatReportQueue, never()).ack(second);
+        verify(pendingChatReportQueue, never()).retryLater(any(), anyInt());
+        verify(channelService, never()).processReportedMessage(third.report());
+    }
+
+    @Test
+    @DisplayName("재처리 - 일시적 오류는 시도 횟수를 올려 다시 적재하고 다음 신고는 계속 처리")
+    void retryPendingReports_retriesTransientFailure() throws InterruptedException {
+        lockAcquired(true);
+        when(pendingChatReportQueue.claim(3)).thenReturn(List.of(first, second));
+        doThrow(new BusinessException("AI_SERVER_ERROR", HttpStatus.INTERNAL_SERVER_ERROR, "ai error"))
+                .when(channelService).processReportedMessage(first.report());
+        when(pendingChatReportQueue.retryLater(first, 5)).thenReturn(true);
+
+        scheduler.retryPendingReports();
+
+        verify(pendingChatReportQueue).retryLater(first, 5);
+        verify(pendingChatReportQueue, never()).ack(first);
+        verify(pendingChatReportQueue).ack(second);
+    }
+
+    @Test
+    @DisplayName("재처리 - AI 서버가 아직 차단 상태면 락도 잡지 않음")
+    void retryPendingReports_skipsWhileUnavailable() {
+        when(tuningAiClient.isChatReportAvailable()).thenReturn(false);
+
+        scheduler.retryPendingReports();
+
+        verifyNoInteractions(redissonClient, pendingChatReportQueue, channelService);
+    }
+
+    @Test
+    @DisplayName("재처리 - 다른 인스턴스가 처리 중이면 처리 중 목록을 건드리지 않음")
+    void retryPendingReports_skipsWhenLockNotAcquired() throws InterruptedException {
+        lockAcquired(false);
+
+        scheduler.retryPendingReports();
+
+        verifyNoInteractions(pendingChatReportQueue, channelService);
+        verify(lock, never()).unlock();
+    }
+
+    private void lockAcquired(boolean acquired) throws InterruptedException {
+        when(tuningAiClient.isChatReportAvailable()).thenReturn(true);
+        when(redissonClient.getLock(anyString())).thenReturn(lock);
+        when(lock.tryLock(0, 10, TimeUnit.MINUTES)).thenReturn(acquired);
+        if (acquired) {
+            when(lock.isHeldByCurrentThread()).thenReturn(true);
+        }
+    }
+
+    private static PendingReport pending(int messageId, int attempts) {
+        ChatReportRequestDto report = new ChatReportRequestDto(messageId, "message-" + messageId, 9L);
+        return new PendingReport(report, attempts, attempts + "|" + messageId);
+    }
+}
@@ -0,0 +1,83 @@
+package com.hertz.hertz_be.domain.channel.service;
+
+import com.hertz.hertz_be.domain.auth.fixture.UserFixture;
+import com.hertz.hertz_be.domain.channel.entity.SignalMessage;
+import com.hertz.hertz_be.domain.channel.fixture.SignalMessageFixture;
+import com.hertz.hertz_be.domain.user.entity.User;
+import com.hertz.hertz_be.global.util.AESUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MessagePlaintextCacheTest {
+
+    @Mock private AESUtil aesUtil;
+    @Mock private RedisTemplate<String, String> redisTemplate;
+
+    private MeterRegistry meterRegistry;
+    private MessagePlaintextCache cache;
+    private User sender;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new MessagePlaintextCache(aesUtil, redisTemplate, meterRegistry, 2, false, Duration.ofHours(1));
+        sender = UserFixture.createDefaultSender();
+    }
+
+    @Test
+    @DisplayName("저장 시점에 채운 원문은 복호화 없이 반환")
+    void getOrDecrypt_hitAfterPut() {
+        cache.put(1L, "안녕");
+
+        assertEquals("안녕", cache.getOrDecrypt(1L, "encrypted"));
+        verifyNoInteractions(aesUtil);
+        assertEquals(1.0, hitCount());
+    }
+
+    @Test
+    @DisplayName("getOrDecryptAll - 캐시에 없는 메세지만 모아서 한 번에 복호화")
+    void getOrDecryptAll_decryptsOnlyMisses() {
+        SignalMessage cached = SignalMessageFixture.createWithId(sender, "enc-1", 1L);
+        SignalMessage missed = SignalMessageFixture.createWithId(sender, "enc-2", 2L);
+        cache.put(1L, "첫번째");
+        when(aesUtil.decryptAll(List.of("enc-2"))).thenReturn(List.of("두번째"));
+
+        List<String> result = cache.getOrDecryptAll(List.of(cached, missed));
+
+        assertEquals(List.of("첫번째", "두번째"), result);
+        assertEquals(1.0, hitCount());
+        assertEquals(1.0, meterRegistry.get("channel.message.plaintext.cache").tag("result", "miss").counter().count());
+        assertEquals("두번째", cache.getOrDecrypt(2L, "enc-2"));
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 가장 오래 사용되지 않은 메세지부터 제거")
+    void put_evictsLeastRecentlyUsed() {
+        cache.put(1L, "a");
+        cache.put(2L, "b");
+        cache.getOrDecrypt(1L, "enc-1");
+        cache.put(3L, "c");
+        when(aesUtil.decrypt("enc-2")).thenReturn("b");
+
+        assertEquals("b", cache.getOrDecrypt(2L, "enc-2"));
+        verify(aesUtil).decrypt("enc-2");
+    }
+
+    private double hitCount() {
+        return meterRegistry.get("channel.message.plaintext.cache").tags("result", "hit", "tier", "local").counter().count();
+    }
+}
@@ -0,0 +1,117 @@
+package com.hertz.hertz_be.domain.channel.service;
+
+import com.corundumstudio.socketio.SocketIOServer;
+import com.hertz.hertz_be.domain.channel.dto.request.v3.ChatReportRequestDto;
+import com.hertz.hertz_be.domain.channel.service.PendingChatReportQueue.PendingReport;
+import com.hertz.hertz_be.global.config.TestContainersConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@Testcontainers
+@ActiveProfiles("test")
+class PendingChatReportQueueTest extends TestContainersConfig {
+
+    private static final String KEY = "ai:chat-report:pending";
+    private static final String PROCESSING_KEY = "ai:chat-report:processing";
+    private static final String DEAD_LETTER_KEY = "ai:chat-report:dead";
+
+    @MockBean
+    private SocketIOServer socketIOServer;
+
+    @Autowired private PendingChatReportQueue pendingChatReportQueue;
+    @Autowired private RedisTemplate<String, String> redisTemplate;
+
+    @AfterEach
+    void tearDown() {
+        redisTemplate.delete(List.of(KEY, PROCESSING_KEY, DEAD_LETTER_KEY));
+    }
+
+    @Test
+    @DisplayName("claim - 꺼낸 신고는 ack 전까지 처리 중 목록에 남고, ack 하면 제거")
+    void claim_keepsReportsInProcessingUntilAck() {
+        pendingChatReportQueue.enqueueAll(List.of(report(1), report(2), report(3)));
+
+        List<PendingReport> claimed = pendingChatReportQueue.claim(2);
+
+        assertEquals(List.of(1, 2), messageIds(claimed));
+        assertEquals(1L, redisTemplate.opsForList().size(KEY));
+        assertEquals(2L, redisTemplate.opsForList().size(PROCESSING_KEY));
+
+        pendingChatReportQueue.ack(claimed.getFirst());
+
+        assertEquals(1L, redisTemplate.opsForList().size(PROCESSING_KEY));
+    }
+
+    @Test
+    @DisplayName("recoverInFlight - 중단된 실행이 남긴 처리 중 항목을 원래 순서대로 대기열 앞에 되돌림")
+    void recoverInFlight_returnsOrphansToFront() {
+        pendingChatReportQueue.enqueueAll(List.of(report(1), report(2), report(3)));
+        pendingChatReportQueue.claim(2);
+
+        assertEquals(2, pendingChatReportQueue.recoverInFlight());
+
+        assertEquals(0L, redisTemplate.opsForList().size(PROCESSING_KEY));
+        assertEquals(List.of(1, 2, 3), messageIds(pendingChatReportQueue.claim(10)));
+    }
+
+    @Test
+    @DisplayName("release - 시도 횟수를 바꾸지 않고 대기열 맨 앞으로 되돌림")
+    void release_returnsToFrontWithSameAttempts() {
+        pendingChatReportQueue.enqueueAll(List.of(report(1), report(2)));
+        PendingReport claimed = pendingChatReportQueue.claim(1).getFirst();
+
+        pendingChatReportQueue.release(claimed);
+
+        List<PendingReport> reclaimed = pendingChatReportQueue.claim(10);
+        assertEquals(List.of(1, 2), messageIds(reclaimed));
+        assertEquals(0, reclaimed.getFirst().attempts());
+    }
+
+    @Test
+    @DisplayName("retryLater - 시도 횟수를 올려 다시 적재하고, 최대 횟수에 도달하면 실패 목록으로 이동")
+    void retryLater_incrementsAttemptsThenDeadLetters() {
+        pendingChatReportQueue.enqueue(report(1));
+
+        PendingReport firstTry = pendingChatReportQueue.claim(1).getFirst();
+        assertTrue(pendingChatReportQueue.retryLater(firstTry, 2));
+
+        PendingReport secondTry = pendingChatReportQueue.claim(1).getFirst();
+        assertEquals(1, secondTry.attempts());
+        assertFalse(pendingChatReportQueue.retryLater(secondTry, 2));
+
+        assertEquals(0L, redisTemplate.opsForList().size(KEY));
+        assertEquals(0L, redisTemplate.opsForList().size(PROCESSING_KEY));
+        assertEquals(1L, redisTemplate.opsForList().size(DEAD_LETTER_KEY));
+    }
+
+    @Test
+    @DisplayName("claim - 시도 횟수가 없는 이전 형식 항목은 0회로 읽음")
+    void claim_readsLegacyEntries() {
+        redisTemplate.opsForList().rightPush(KEY, "{\"messageId\":7,\"messageContent\":\"legacy\",\"reportedUserId\":9}");
+
+        PendingReport claimed = pendingChatReportQueue.claim(1).getFirst();
+
+        assertEquals(7, claimed.report().getMessageId());
+        assertEquals(0, claimed.attempts());
+    }
+
+    private ChatReportRequestDto report(int messageId) {
+        return new ChatReportRequestDto(messageId, "message-" + messageId, 9L);
+    }
+
+    private List<Integer> messageIds(List<PendingReport> reports) {
+        return reports.stream().map(pending -> pending.report().getMessageId()).toList();
+    }
+}
@@ -0,0 +1,111 @@
+package com.hertz.hertz_be.domain.channel.service;
+
+import com.hertz.hertz_be.domain.channel.repository.SignalRoomSummaryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SignalRoomSummarySchedulerTest {
+
+    @Mock private SignalRoomSummaryRepository signalRoomSummaryRepository;
+    @Mock private SignalRoomSummaryService signalRoomSummaryService;
+    @Mock private RedissonClient redissonClient;
+    @Mock private RLock lock;
+
+    @InjectMocks
+    private SignalRoomSummaryScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(scheduler, "chunkSize", 2);
+        ReflectionTestUtils.setField(scheduler, "backfillEnabled", true);
+    }
+
+    @Test
+    @DisplayName("정합성 검사 - 채팅방 id 를 chunk 단위로 이어서 조회하며 모든 chunk 를 복구")
+    void checkConsistency_repairsEveryChunk() throws InterruptedException {
+        lockAcquired(true);
+        when(signalRoomSummaryRepository.findRoomIdsAfter(0L, 2)).thenReturn(List.of(1L, 2L));
+        when(signalRoomSummaryRepository.findRoomIdsAfter(2L, 2)).thenReturn(List.of(5L));
+        when(signalRoomSummaryRepository.findRoomIdsAfter(5L, 2)).thenReturn(List.of());
+
+        scheduler.checkConsistency();
+
+        verify(signalRoomSummaryService).repairInconsistent(List.of(1L, 2L));
+        verify(signalRoomSummaryService).repairInconsistent(List.of(5L));
+        verify(lock).unlock();
+    }
+
+    @Test
+    @DisplayName("정합성 검사 - 한 chunk 가 실패해도 다음 chunk 는 계속 복구")
+    void checkConsistency_continuesAfterChunkFailure() throws InterruptedException {
+        lockAcquired(true);
+        when(signalRoomSummaryRepository.findRoomIdsAfter(0L, 2)).thenReturn(List.of(1L, 2L));
+        when(signalRoomSummaryRepository.findRoomIdsAfter(2L, 2)).thenReturn(List.of(3L));
+        when(signalRoomSummaryRepository.findRoomIdsAfter(3L, 2)).thenReturn(List.of());
+        when(signalRoomSummaryService.repairInconsistent(List.of(1L, 2L))).thenThrow(new RuntimeException("deadlock"));
+
+        scheduler.checkConsistency();
+
+        verify(signalRoomSummaryService).repairInconsistent(List.of(3L));
+        verify(lock).unlock();
+    }
+
+    @Test
+    @DisplayName("정합성 검사 - 다른 인스턴스가 락을 잡고 있으면 아무 것도 하지 않음")
+    void checkConsistency_skipsWhenLockNotAcquired() throws InterruptedException {
+        lockAcquired(false);
+
+        scheduler.checkConsistency();
+
+        verifyNoInteractions(signalRoomSummaryRepository, signalRoomSummaryService);
+        verify(lock, never()).unlock();
+    }
+
+    @Test
+    @DisplayName("기동 시 backfill - 요약 정보가 없는 방을 chunk 단위로 채움")
+    void backfillOnStartup_fillsMissingSummaries() throws InterruptedException {
+        lockAcquired(true);
+        when(signalRoomSummaryRepository.findRoomIdsAfter(0L, 2)).thenReturn(List.of(1L, 2L));
+        when(signalRoomSummaryRepository.findRoomIdsAfter(2L, 2)).thenReturn(List.of());
+        when(signalRoomSummaryService.backfillMissing(List.of(1L, 2L))).thenReturn(1);
+
+        scheduler.backfillOnStartup();
+
+        verify(signalRoomSummaryService).backfillMissing(List.of(1L, 2L));
+        verify(signalRoomSummaryService, never()).repairInconsistent(anyList());
+    }
+
+    @Test
+    @DisplayName("기동 시 backfill - 비활성화되어 있으면 락도 잡지 않음")
+    void backfillOnStartup_disabled() {
+        ReflectionTestUtils.setField(scheduler, "backfillEnabled", false);
+
+        scheduler.backfillOnStartup();
+
+        verify(redissonClient, never()).getLock(anyString());
+        verifyNoInteractions(signalRoomSummaryService);
+    }
+
+    private void lockAcquired(boolean acquired) throws InterruptedException {
+        when(redissonClient.getLock(anyString())).thenReturn(lock);
+        when(lock.tryLock(0, 30, TimeUnit.MINUTES)).thenReturn(acquired);
+        if (acquired) {
+            when(lock.isHeldByCurrentThread()).thenReturn(true);
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.hertz.hertz_be.domain.channel.service;
+
+import com.hertz.hertz_be.domain.auth.fixture.UserFixture;
+import com.hertz.hertz_be.domain.channel.dto.response.sse.ChannelListResponseDto;
+import com.hertz.hertz_be.domain.channel.dto.response.sse.NewMessageResponseDto;
+import com.hertz.hertz_be.domain.channel.entity.SignalMessage;
+import com.hertz.hertz_be.domain.channel.entity.SignalRoom;
+import com.hertz.hertz_be.domain.channel.fixture.SignalRoomFixture;
+import com.hertz.hertz_be.domain.channel.repository.SignalMessageRepository;
+import com.hertz.hertz_be.domain.user.entity.User;
+import com.hertz.hertz_be.domain.user.repository.UserRepository;
+import com.hertz.hertz_be.domain.user.responsecode.UserResponseCode;
+import com.hertz.hertz_be.global.common.SseEventName;
+import com.hertz.hertz_be.global.exception.BusinessException;
+import com.hertz.hertz_be.global.kafka.dto.SseEventDto;
+import com.hertz.hertz_be.global.kafka.servise.KafkaProducerService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SseChannelServiceTest {
+
+    @Mock private UserRepository userRepository;
+    @Mock private SignalMessageRepository signalMessageRepository;
+    @Mock private MessagePlaintextCache messagePlaintextCache;
+    @Mock private KafkaProducerService kafkaProducerService;
+
+    @InjectMocks
+    private SseChannelService sseChannelService;
+
+    @Captor
+    private ArgumentCaptor<List<SseEventDto>> eventsCaptor;
+
+    private User sender;
+    private User partner;
+    private SignalRoom room;
+
+    @BeforeEach
+    void setUp() {
+        sender = UserFixture.createDefaultSender();
+        partner = UserFixture.createDefaultReceiver();
+        room = SignalRoomFixture.createWithId(sender, partner, 10L);
+    }
+
+    @Test
+    @DisplayName("notifyNewMessageToPartner - 이미 읽은 메세지는 네비게이션 상태만 발행")
+    void notifyNewMessageToPartner_readMessage_sendsOnlyNavbar() {
+        givenPartnerHasUnreadMessage(false);
+
+        sseChannelService.notifyNewMessageToPartner(3, message(true), partner.getId(), false);
+
+        verify(kafkaProducerService).sendSseEvents(eventsCaptor.capture());
+        assertEquals(List.of(SseEventName.NAV_NO_ANY_NEW_MESSAGE.getValue()), eventNames(eventsCaptor.getValue()));
+        verifyNoInteractions(messagePlaintextCache);
+    }
+
+    @Test
+    @DisplayName("notifyNewMessageToPartner - 안 읽은 메세지는 목록 갱신 → 새 메세지 → 네비게이션 순서로 한 묶음 발행")
+    void notifyNewMessageToPartner_unreadMessage_sendsListMessageAndNavbarInOrder() {
+        givenPartnerHasUnreadMessage(true);
+        when(messagePlaintextCache.getOrDecrypt(100L, "encrypted")).thenReturn("안녕하세요");
+
+        sseChannelService.notifyNewMessageToPartner(3, message(false), partner.getId(), false);
+
+        verify(kafkaProducerService).sendSseEvents(eventsCaptor.capture());
+        List<SseEventDto> events = eventsCaptor.getValue();
+        assertEquals(List.of(
+                SseEventName.CHAT_ROOM_UPDATE.getValue(),
+                SseEventName.NEW_MESSAGE_RECEPTION.getValue(),
+                SseEventName.NAV_NEW_MESSAGE.getValue()), eventNames(events));
+        assertTrue(events.stream().allMatch(event -> partner.getId().equals(event.userId())));
+        assertEquals(10L, ((ChannelListResponseDto) events.get(0).data()).channelRoomId());
+        assertEquals(3, ((NewMessageResponseDto) events.get(1).data()).lastPageNumber());
+    }
+
+    @Test
+    @DisplayName("notifyNewMessageToPartner - 시그널이면 새 메세지 대신 새 시그널 이벤트")
+    void notifyNewMessageToPartner_signal_sendsSignalEvent() {
+        givenPartnerHasUnreadMessage(true);
+        when(messagePlaintextCache.getOrDecrypt(100L, "encrypted")).thenReturn("안녕하세요");
+
+        sseChannelService.notifyNewMessageToPartner(1, message(false), partner.getId(), true);
+
+        verify(kafkaProducerService).sendSseEvents(eventsCaptor.capture());
+        assertEquals(SseEventName.NEW_SIGNAL_RECEPTION.getValue(), eventsCaptor.getValue().get(1).eventName());
+    }
+
+    @Test
+    @DisplayName("notifyNewMessageToPartner - 네비게이션 상태 조회 실패 시 목록 / 메세지 알림은 발행하고 예외 전달")
+    void notifyNewMessageToPartner_navbarFails_sendsOtherEventsAndThrows() {
+        when(userRepository.findByIdWithSentSignalRooms(partner.getId())).thenReturn(Optional.empty());
+        when(messagePlaintextCache.getOrDecrypt(100L, "encrypted")).thenReturn("안녕하세요");
+
+        BusinessException exception = assertThrows(BusinessException.class,
+                () -> sseChannelService.notifyNewMessageToPartner(3, message(false), partner.getId(), false));
+
+        assertEquals(UserResponseCode.USER_NOT_FOUND.getCode(), exception.getCode());
+        verify(kafkaProducerService).sendSseEvents(eventsCaptor.capture());
+        assertEquals(List.of(
+                SseEventName.CHAT_ROOM_UPDATE.getValue(),
+                SseEventName.NEW_MESSAGE_RECEPTION.getValue()), eventNames(eventsCaptor.getValue()));
+    }
+
+    @Test
+    @DisplayName("notifyNewMessageToPartner - 읽은 메세지에서 네비게이션 상태 조회 실패 시 아무 것도 발행하지 않고 예외 전달")
+    void notifyNewMessageToPartner_readMessageNavbarFails_sendsNothing() {
+        when(userRepository.findByIdWithSentSignalRooms(partner.getId())).thenReturn(Optional.empty());
+
+        assertThrows(BusinessException.class,
+                () -> sseChannelService.notifyNewMessageToPartner(3, message(true), partner.getId(), false));
+
+        verify(kafkaProducerService, never()).sendSseEvents(anyList());
+    }
+
+    private void givenPartnerHasUnreadMessage(boolean unread) {
+        when(userRepository.findByIdWithSentSignalRooms(partner.getId())).thenReturn(Optional.of(partner));
+        when(signalMessageRepository.existsBySignalRoomInAndSenderUserNotAndIsReadFalse(anyList(), eq(partner)))
+                .thenReturn(unread);
+    }
+
+    private SignalMessage message(boolean isRead) {
+        return SignalMessage.builder()
+                .id(100L)
+                .signalRoom(room)
+                .senderUser(sender)
+                .message("encrypted")
+                .sendAt(LocalDateTime.of(2025, 1, 1, 12, 0))
+                .isRead(isRead)
+                .build();
+    }
+
+    private List<String> eventNames(List<SseEventDto> events) {
+        return events.stream().map(SseEventDto::eventName).toList();
+    }
+}
@@ -0,0 +1,128 @@
+package com.hertz.hertz_be.domain.channel.service;
+
+import com.hertz.hertz_be.domain.auth.fixture.UserFixture;
+import com.hertz.hertz_be.domain.channel.entity.Tuning;
+import com.hertz.hertz_be.domain.channel.entity.enums.Category;
+import com.hertz.hertz_be.domain.channel.repository.SignalRoomRepository;
+import com.hertz.hertz_be.domain.channel.repository.TuningRepository;
+import com.hertz.hertz_be.domain.channel.repository.TuningResultRepository;
+import com.hertz.hertz_be.domain.channel.responsecode.ChannelResponseCode;
+import com.hertz.hertz_be.domain.interests.repository.UserInterestsRepository;
+import com.hertz.hertz_be.domain.user.entity.User;
+import com.hertz.hertz_be.domain.user.repository.UserRepository;
+import com.hertz.hertz_be.global.exception.AiServerUnavailableException;
+import com.hertz.hertz_be.global.infra.ai.client.TuningAiClient;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TuningLineupServiceTest {
+
+    @Mock private TuningAiClient tuningAiClient;
+    @Mock private UserRepository userRepository;
+    @Mock private UserInterestsRepository userInterestsRepository;
+    @Mock private SignalRoomRepository signalRoomRepository;
+    @Mock private TuningResultRepository tuningResultRepository;
+    @Mock private TuningRepository tuningRepository;
+
+    @InjectMocks
+    private TuningLineupService tuningLineupService;
+
+    @Test
+    @DisplayName("fetchAndSave - 관심사 없음 / 기존 채팅방 후보를 제외하고 lineup 1부터 배치 저장")
+    void fetchAndSave_batchInsertsFilteredCandidates() {
+        Long userId = 1L;
+        User requester = UserFixture.create(userId, "요청자", "requester@test.com");
+        User noInterests = UserFixture.create(2L, "관심사없음", "a@test.com");
+        User alreadyPaired = UserFixture.create(3L, "기존채팅", "b@test.com");
+        User candidate = UserFixture.create(4L, "후보", "c@test.com");
+        Tuning tuning = Tuning.builder().id(10L).user(requester).category(Category.FRIEND).build();
+
+        when(tuningAiClient.requestTuningByCategoryAsync(userId, "friend")).thenReturn(Mono.just(Map.of(
+                "code", ChannelResponseCode.TUNING_SUCCESS.getCode(),
+                "data", Map.of("userIdList", List.of(2, 3, 4, 4, 1))
+        )));
+
+        List<Long> candidateIds = List.of(2L, 3L, 4L);
+        when(userRepository.findAllById(candidateIds)).thenReturn(List.of(noInterests, alreadyPaired, candidate));
+        when(userInterestsRepository.findUserIdsWithInterests(candidateIds)).thenReturn(List.of(3L, 4L));
+        when(signalRoomRepository.findPartnerIdsWithRoom(userId, candidateIds, Category.FRIEND)).thenReturn(List.of(3L));
+
+        List<Long> lineup = tuningLineupService.fetchAndSave(tuning, "friend");
+
+        assertEquals(List.of(4L), lineup);
+        verify(tuningResultRepository).batchInsert(10L, List.of(4L), 1);
+        verify(tuningResultRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("append - 대기 중인 사용자는 제외하고 기존 lineup 뒤에 이어서 저장")
+    void append_excludesQueuedUsersAndContinuesLineup() {
+        Long userId = 1L;
+        User requester = UserFixture.create(userId, "요청자", "requester@test.com");
+        User candidate = UserFixture.create(5L, "후보", "c@test.com");
+        Tuning tuning = Tuning.builder().id(10L).user(requester).category(Category.FRIEND).build();
+
+        List<Long> candidateIds = List.of(5L);
+        when(userRepository.findAllById(candidateIds)).thenReturn(List.of(candidate));
+        when(userInterestsRepository.findUserIdsWithInterests(candidateIds)).thenReturn(List.of(5L));
+        when(signalRoomRepository.findPartnerIdsWithRoom(userId, candidateIds, Category.FRIEND)).thenReturn(List.of());
+        when(tuningResultRepository.findMaxLineup(10L)).thenReturn(7);
+
+        List<Long> appended = tuningLineupService.append(tuning, List.of(4L, 5L), List.of(4L));
+
+        assertEquals(List.of(5L), appended);
+        verify(tuningResultRepository).deleteAllByTuningIdAndMatchedUserIdNotIn(10L, List.of(4L));
+        verify(tuningResultRepository).batchInsert(10L, List.of(5L), 8);
+    }
+
+    @Test
+    @DisplayName("toQueuedProfiles - lineup 을 한 번에 조회해 탈퇴 / 카테고리 거부 사용자를 빼고 순서대로 프로필 반환")
+    void toQueuedProfiles_batchLoadsInLineupOrder() {
+        User first = UserFixture.create(7L, "첫번째", "a@test.com");
+        User second = UserFixture.create(5L, "두번째", "b@test.com");
+        User deleted = User.builder().id(6L).nickname("탈퇴").deletedAt(LocalDateTime.now()).build();
+        User rejecting = User.builder().id(8L).nickname("거부").isFriendAllowed(false).build();
+
+        List<Long> lineup = List.of(7L, 6L, 8L, 5L);
+        when(userRepository.findAllById(lineup)).thenReturn(List.of(second, deleted, rejecting, first));
+
+        List<TuningRecommendationQueue.QueuedProfile> profiles = tuningLineupService.toQueuedProfiles(lineup, Category.FRIEND);
+
+        assertEquals(List.of(7L, 5L), profiles.stream().map(TuningRecommendationQueue.QueuedProfile::userId).toList());
+        assertEquals("첫번째", profiles.get(0).nickname());
+        verify(userRepository, times(1)).findAllById(lineup);
+    }
+
+    @Test
+    @DisplayName("requestCandidates - 매칭 결과 없음이면 빈 목록")
+    void requestCandidates_noMatch_returnsEmpty() {
+        when(tuningAiClient.requestTuningByCategoryAsync(1L, "friend")).thenReturn(Mono.just(Map.of(
+                "code", ChannelResponseCode.TUNING_SUCCESS_BUT_NO_MATCH.getCode()
+        )));
+
+        assertTrue(tuningLineupService.requestCandidates(1L, "friend").isEmpty());
+    }
+
+    @Test
+    @DisplayName("requestCandidates - AI 서버 호출이 차단되면 빈 목록으로 대체")
+    void requestCandidates_aiUnavailable_returnsEmpty() {
+        when(tuningAiClient.requestTuningByCategoryAsync(1L, "friend"))
+                .thenReturn(Mono.error(new AiServerUnavailableException("tuning")));
+
+        assertTrue(tuningLineupService.requestCandidates(1L, "friend").isEmpty());
+    }
+}
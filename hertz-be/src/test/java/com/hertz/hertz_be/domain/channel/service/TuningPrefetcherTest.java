@@ -0,0 +1,129 @@
+package com.hertz.hertz_be.domain.channel.service;
+
+import com.hertz.hertz_be.domain.channel.entity.enums.Category;
+import com.hertz.hertz_be.domain.channel.repository.TuningRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TuningPrefetcherTest {
+
+    private static final String LOCK_KEY = "lock:tuning:prefetch:1:FRIEND";
+
+    @Mock private TuningLineupService tuningLineupService;
+    @Mock private TuningRecommendationQueue tuningRecommendationQueue;
+    @Mock private TuningRepository tuningRepository;
+    @Mock private RedisTemplate<String, String> redisTemplate;
+    @Mock private ValueOperations<String, String> valueOperations;
+
+    private TuningPrefetcher tuningPrefetcher;
+
+    @BeforeEach
+    void setUp() {
+        tuningPrefetcher = new TuningPrefetcher(tuningLineupService, tuningRecommendationQueue, tuningRepository,
+                redisTemplate, true, 3, 1, 10, Duration.ofMillis(200));
+    }
+
+    @AfterEach
+    void tearDown() {
+        tuningPrefetcher.shutdown();
+    }
+
+    @Test
+    @DisplayName("대기열 소진 - 다른 프리페치 / 재적재가 락을 잡고 있으면 lineup 정리와 AI 요청을 모두 건너뜀")
+    void onRecommendationPopped_lockHeld_skipsClearAndPrefetch() {
+        lockAvailable(false);
+
+        tuningPrefetcher.onRecommendationPopped(1L, "friend", Category.FRIEND, 0);
+
+        verify(tuningLineupService, never()).clearLineup(anyLong(), any());
+        verify(tuningLineupService, never()).requestCandidatesAsync(anyLong(), anyString());
+        verify(redisTemplate, never()).execute(any(RedisScript.class), anyList(), any());
+    }
+
+    @Test
+    @DisplayName("대기열 소진 - lineup 을 정리하고 프리페치 적재가 끝난 뒤에야 락을 해제")
+    void onRecommendationPopped_exhausted_clearsThenPrefetchesUnderLock() {
+        lockAvailable(true);
+        when(tuningLineupService.requestCandidatesAsync(1L, "friend")).thenReturn(Mono.just(List.of(5L)));
+        when(tuningRepository.findByUser_IdAndCategory(1L, Category.FRIEND)).thenReturn(Optional.empty());
+
+        tuningPrefetcher.onRecommendationPopped(1L, "friend", Category.FRIEND, 0);
+
+        verify(tuningLineupService).clearLineup(1L, Category.FRIEND);
+        verify(redisTemplate, timeout(1000)).execute(any(RedisScript.class), eq(List.of(LOCK_KEY)), eq(lockToken()));
+        verify(tuningRepository).findByUser_IdAndCategory(1L, Category.FRIEND);
+    }
+
+    @Test
+    @DisplayName("남은 추천이 기준 이상이면 락도 잡지 않음")
+    void onRecommendationPopped_aboveWatermark_doesNothing() {
+        tuningPrefetcher.onRecommendationPopped(1L, "friend", Category.FRIEND, 5);
+
+        verifyNoInteractions(redisTemplate, tuningLineupService);
+    }
+
+    @Test
+    @DisplayName("재적재 - 프리페치가 락을 잡고 있으면 기다리지 않고 바로 empty")
+    void acquireForRefill_lockHeld_returnsImmediately() {
+        lockAvailable(false);
+
+        assertTrue(tuningPrefetcher.acquireForRefill(1L, Category.FRIEND).isEmpty());
+
+        verify(redisTemplate, never()).hasKey(anyString());
+    }
+
+    @Test
+    @DisplayName("재적재 - 락을 잡으면 토큰 반환, 해제는 같은 토큰일 때만 삭제하는 스크립트로 수행 (만료 후 다른 요청의 락은 지우지 않음)")
+    void acquireForRefill_releasesOnlyOwnLock() {
+        lockAvailable(true);
+
+        String token = tuningPrefetcher.acquireForRefill(1L, Category.FRIEND).orElseThrow();
+        tuningPrefetcher.releaseRefill(1L, Category.FRIEND, token);
+
+        assertEquals(lockToken(), token);
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(LOCK_KEY)), eq(token));
+        verify(redisTemplate, never()).delete(anyString());
+    }
+
+    @Test
+    @DisplayName("락 토큰 - 획득할 때마다 새 토큰을 발급")
+    void acquireForRefill_issuesTokenPerAcquirer() {
+        lockAvailable(true);
+
+        String first = tuningPrefetcher.acquireForRefill(1L, Category.FRIEND).orElseThrow();
+        String second = tuningPrefetcher.acquireForRefill(1L, Category.FRIEND).orElseThrow();
+
+        assertNotEquals(first, second);
+    }
+
+    private void lockAvailable(boolean available) {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(eq(LOCK_KEY), anyString(), any(Duration.class))).thenReturn(available);
+    }
+
+    // 마지막으로 락 값으로 저장한 토큰
+    private String lockToken() {
+        ArgumentCaptor<String> token = ArgumentCaptor.forClass(String.class);
+        verify(valueOperations, atLeastOnce()).setIfAbsent(eq(LOCK_KEY), token.capture(), any(Duration.class));
+        return token.getValue();
+    }
+}
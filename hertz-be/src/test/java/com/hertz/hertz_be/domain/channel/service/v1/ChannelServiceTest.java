@@ -21,6 +21,8 @@ import com.hertz.hertz_be.domain.channel.repository.TuningResultRepository;
 import com.hertz.hertz_be.domain.channel.repository.projection.RoomWithLastSenderProjection;
 import com.hertz.hertz_be.domain.channel.responsecode.ChannelResponseCode;
 import com.hertz.hertz_be.domain.channel.service.AsyncChannelService;
+import com.hertz.hertz_be.domain.channel.service.MessagePlaintextCache;
+import com.hertz.hertz_be.domain.channel.service.SignalRoomSummaryService;
 import com.hertz.hertz_be.domain.interests.repository.UserInterestsRepository;
 import com.hertz.hertz_be.domain.interests.service.InterestsService;
 import com.hertz.hertz_be.domain.user.entity.User;
@@ -60,6 +62,8 @@ class ChannelServiceTest {
     @Mock private SignalMessageRepository signalMessageRepository;
     @Mock private AESUtil aesUtil;
     @Mock private AsyncChannelService asyncChannelService;
+    @Mock private SignalRoomSummaryService signalRoomSummaryService;
+    @Mock private MessagePlaintextCache messagePlaintextCache;
     @Mock private EntityManager entityManager;
     @Mock private TuningRepository tuningRepository;
     @Mock private TuningResultRepository tuningResultRepository;
@@ -271,7 +275,7 @@ class ChannelServiceTest {
         when(message.getIsRead()).thenReturn(true);
         when(message.getSenderUser()).thenReturn(senderUser);
         when(senderUser.getId()).thenReturn(20L);
-        when(aesUtil.decrypt("encrypted")).thenReturn("decrypted");
+        when(messagePlaintextCache.getOrDecryptAll(List.of(message))).thenReturn(List.of("decrypted"));
 
         // 실행
         ChannelRoomResponseDto result = channelService.getChannelRoom(roomId, userId, 0, 10);
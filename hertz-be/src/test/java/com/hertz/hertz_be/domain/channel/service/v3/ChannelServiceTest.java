@@ -1,6 +1,7 @@
 package com.hertz.hertz_be.domain.channel.service.v3;
 
 import com.hertz.hertz_be.domain.alarm.service.AlarmService;
+import com.hertz.hertz_be.domain.channel.dto.object.KeysetCursor;
 import com.hertz.hertz_be.domain.channel.dto.request.v3.ChatReportRequestDto;
 import com.hertz.hertz_be.domain.channel.dto.request.v3.SendSignalRequestDto;
 import com.hertz.hertz_be.domain.channel.dto.response.v3.ChannelListResponseDto;
@@ -9,8 +10,8 @@ import com.hertz.hertz_be.domain.channel.dto.response.v3.SendSignalResponseDto;
 import com.hertz.hertz_be.domain.channel.dto.response.v3.TuningResponseDto;
 import com.hertz.hertz_be.domain.channel.entity.SignalMessage;
 import com.hertz.hertz_be.domain.channel.entity.SignalRoom;
+import com.hertz.hertz_be.domain.channel.entity.SignalRoomSummary;
 import com.hertz.hertz_be.domain.channel.entity.Tuning;
-import com.hertz.hertz_be.domain.channel.entity.TuningResult;
 import com.hertz.hertz_be.domain.channel.entity.enums.Category;
 import com.hertz.hertz_be.domain.channel.fixture.SignalMessageFixture;
 import com.hertz.hertz_be.domain.channel.fixture.SignalRoomFixture;
@@ -20,6 +21,12 @@ import com.hertz.hertz_be.domain.channel.repository.TuningResultRepository;
 import com.hertz.hertz_be.domain.channel.repository.projection.RoomWithLastSenderProjection;
 import com.hertz.hertz_be.domain.channel.responsecode.ChannelResponseCode;
 import com.hertz.hertz_be.domain.channel.service.AsyncChannelService;
+import com.hertz.hertz_be.domain.channel.service.MessagePlaintextCache;
+import com.hertz.hertz_be.domain.channel.service.SignalRoomSummaryService;
+import com.hertz.hertz_be.domain.channel.service.PendingChatReportQueue;
+import com.hertz.hertz_be.domain.channel.service.TuningLineupService;
+import com.hertz.hertz_be.domain.channel.service.TuningPrefetcher;
+import com.hertz.hertz_be.domain.channel.service.TuningRecommendationQueue;
 import com.hertz.hertz_be.domain.interests.repository.UserInterestsRepository;
 import com.hertz.hertz_be.domain.interests.service.InterestsService;
 import com.hertz.hertz_be.domain.user.entity.User;
@@ -27,6 +34,8 @@ import com.hertz.hertz_be.domain.auth.fixture.UserFixture;
 import com.hertz.hertz_be.domain.channel.repository.SignalRoomRepository;
 import com.hertz.hertz_be.domain.user.repository.UserRepository;
 import com.hertz.hertz_be.domain.user.responsecode.UserResponseCode;
+import com.hertz.hertz_be.global.common.NewResponseCode;
+import com.hertz.hertz_be.global.exception.AiServerUnavailableException;
 import com.hertz.hertz_be.global.exception.BusinessException;
 import com.hertz.hertz_be.global.infra.ai.client.TuningAiClient;
 import com.hertz.hertz_be.global.infra.ai.dto.response.AiChatReportResponseDto;
@@ -41,11 +50,14 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -61,6 +73,12 @@ public class ChannelServiceTest {
     @Mock private AESUtil aesUtil;
     @Mock private SignalMessageRepository signalMessageRepository;
     @Mock private AsyncChannelService asyncChannelService;
+    @Mock private SignalRoomSummaryService signalRoomSummaryService;
+    @Mock private MessagePlaintextCache messagePlaintextCache;
+    @Mock private TuningRecommendationQueue tuningRecommendationQueue;
+    @Mock private TuningLineupService tuningLineupService;
+    @Mock private TuningPrefetcher tuningPrefetcher;
+    @Mock private PendingChatReportQueue pendingChatReportQueue;
     @Mock private EntityManager entityManager;
     @Mock private UserRepository userRepository;
     @Mock private UserInterestsRepository userInterestsRepository;
@@ -90,14 +108,23 @@ public class ChannelServiceTest {
         SignalRoom room1 = spy(SignalRoomFixture.createWithId(sender, receiver, 100L));
         SignalRoom room2 = mock(SignalRoom.class); // 나간 방
 
-        SignalMessage lastMessage = SignalMessageFixture.createWithId(receiver, "encrypted-msg", 200L);
         when(room1.isUserExited(1L)).thenReturn(false);
         when(room1.getPartnerUser(1L)).thenReturn(receiver);
-        when(room1.getMessages()).thenReturn(List.of(lastMessage));
-
+        when(room2.getId()).thenReturn(103L);
         when(room2.isUserExited(1L)).thenReturn(true);
 
-        when(aesUtil.decrypt("encrypted-msg")).thenReturn("decrypted-msg");
+        SignalRoomSummary summary = SignalRoomSummary.builder()
+                .signalRoomId(100L)
+                .lastMessageId(200L)
+                .lastMessage("encrypted-msg")
+                .lastMessageSendAt(LocalDateTime.now())
+                .lastSenderId(receiver.getId())
+                .messageCount(11)
+                .senderUserUnreadCount(1)
+                .build();
+        when(signalRoomSummaryService.getSummaries(List.of(100L, 103L))).thenReturn(Map.of(100L, summary));
+
+        when(messagePlaintextCache.getOrDecrypt(200L, "encrypted-msg")).thenReturn("decrypted-msg");
 
         Page<SignalRoom> roomPage = new PageImpl<>(List.of(room1, room2));
         when(signalRoomRepository.findAllOrderByLastMessageTimeWithUsers(eq(1L), any(PageRequest.class))).thenReturn(roomPage);
@@ -106,6 +133,9 @@ public class ChannelServiceTest {
 
         assertEquals(1, result.getList().size());
         assertEquals("decrypted-msg", result.getList().get(0).getLastMessage());
+        assertFalse(result.getList().get(0).isRead());
+        assertEquals(1, result.getList().get(0).getLastPageNumber());
+        verify(room1, never()).getMessages();
     }
 
     @Test
@@ -114,7 +144,7 @@ public class ChannelServiceTest {
         SignalRoom room = spy(SignalRoomFixture.createWithId(sender, receiver, 101L));
         when(room.isUserExited(1L)).thenReturn(false);
         when(room.getPartnerUser(1L)).thenReturn(receiver);
-        when(room.getMessages()).thenReturn(List.of());
+        when(signalRoomSummaryService.getSummaries(List.of(101L))).thenReturn(Map.of());
 
         Page<SignalRoom> roomPage = new PageImpl<>(List.of(room));
         when(signalRoomRepository.findAllOrderByLastMessageTimeWithUsers(eq(1L), any(PageRequest.class))).thenReturn(roomPage);
@@ -124,19 +154,28 @@ public class ChannelServiceTest {
         assertEquals(1, result.getList().size());
         assertEquals("", result.getList().get(0).getLastMessage());
         assertNull(result.getList().get(0).getLastMessageTime());
+        assertEquals(-1, result.getList().get(0).getLastPageNumber());
     }
 
     @Test
     @DisplayName("getPersonalSignalRoomList - 복호화 예외 fallback")
     void getPersonalSignalRoomList_decryptionError() {
         SignalRoom room = spy(SignalRoomFixture.createWithId(sender, receiver, 102L));
-        SignalMessage lastMessage = SignalMessageFixture.createWithId(receiver, "bad-encrypted-msg", 201L);
 
         when(room.isUserExited(1L)).thenReturn(false);
         when(room.getPartnerUser(1L)).thenReturn(receiver);
-        when(room.getMessages()).thenReturn(List.of(lastMessage));
 
-        when(aesUtil.decrypt("bad-encrypted-msg")).thenThrow(new RuntimeException("decryption failed"));
+        SignalRoomSummary summary = SignalRoomSummary.builder()
+                .signalRoomId(102L)
+                .lastMessageId(201L)
+                .lastMessage("bad-encrypted-msg")
+                .lastMessageSendAt(LocalDateTime.now())
+                .lastSenderId(receiver.getId())
+                .messageCount(1)
+                .build();
+        when(signalRoomSummaryService.getSummaries(List.of(102L))).thenReturn(Map.of(102L, summary));
+
+        when(messagePlaintextCache.getOrDecrypt(201L, "bad-encrypted-msg")).thenThrow(new RuntimeException("decryption failed"));
 
         Page<SignalRoom> roomPage = new PageImpl<>(List.of(room));
         when(signalRoomRepository.findAllOrderByLastMessageTimeWithUsers(eq(1L), any(PageRequest.class))).thenReturn(roomPage);
@@ -145,6 +184,7 @@ public class ChannelServiceTest {
 
         assertEquals(1, result.getList().size());
         assertEquals("메세지를 표시할 수 없습니다.", result.getList().get(0).getLastMessage());
+        assertTrue(result.getList().get(0).isRead());
     }
 
     @Test
@@ -166,6 +206,8 @@ public class ChannelServiceTest {
         assertNotNull(result);
         verify(signalRoomRepository).save(any(SignalRoom.class));
         verify(signalMessageRepository).save(any());
+        verify(signalRoomSummaryService).recordNewMessage(any(SignalRoom.class), any(SignalMessage.class));
+        verify(messagePlaintextCache).put(any(), eq("안녕"));
         verify(entityManager).flush();
     }
 
@@ -222,7 +264,7 @@ public class ChannelServiceTest {
         when(signalMessageRepository.findBySignalRoom_Id(eq(roomId), any())).thenReturn(messagePage);
 
         // 6. 복호화 처리
-        when(aesUtil.decrypt("encrypted-msg")).thenReturn("복호화된 메시지");
+        when(messagePlaintextCache.getOrDecryptAll(List.of(message))).thenReturn(List.of("복호화된 메시지"));
 
         // 실행
         ChannelRoomResponseDto result = channelService.getChannelRoom(roomId, userId, 0, 10);
@@ -232,6 +274,7 @@ public class ChannelServiceTest {
         assertEquals("복호화된 메시지", result.getMessages().getList().get(0).getMessageContents());
 
         verify(signalMessageRepository).markAllMessagesAsReadByRoomId(roomId);
+        verify(signalRoomSummaryService).markAllAsRead(roomId);
         verify(asyncChannelService).notifyMatchingConvertedInChannelRoom(room, userId);
     }
 
@@ -284,17 +327,15 @@ public class ChannelServiceTest {
         String category = "friend";
         User requester = UserFixture.create(userId, "요청자", "requester@test.com");
         User matchedUser = UserFixture.create(2L, "매칭유저", "matched@test.com");
-        Tuning tuning = Tuning.builder().user(requester).category(Category.FRIEND).build();
-        TuningResult tuningResult = TuningResult.builder().tuning(tuning).matchedUser(matchedUser).lineup(1).build();
 
         // 1. 유저 & 관심사
         when(userRepository.findById(userId)).thenReturn(Optional.of(requester));
         when(userInterestsRepository.existsByUser(requester)).thenReturn(true);
 
-        // 2. 튜닝 존재 & 결과 존재
-        when(tuningRepository.findByUserAndCategory(requester, Category.FRIEND)).thenReturn(Optional.of(tuning));
-        when(tuningResultRepository.existsByTuning(tuning)).thenReturn(true);
-        when(tuningResultRepository.findFirstByTuningOrderByLineupAsc(tuning)).thenReturn(Optional.of(tuningResult));
+        // 2. Redis 대기열에서 프로필과 함께 추천 유저 꺼내기 (남은 추천 존재)
+        when(tuningRecommendationQueue.pop(userId, Category.FRIEND))
+                .thenReturn(Optional.of(new TuningRecommendationQueue.Recommendation(
+                        matchedUser.getId(), TuningRecommendationQueue.QueuedProfile.from(matchedUser), 3)));
 
         // 3. 관심사 정보
         when(interestsService.getUserKeywords(matchedUser.getId())).thenReturn(Map.of("성격", "활발함"));
@@ -309,7 +350,107 @@ public class ChannelServiceTest {
         assertEquals(matchedUser.getId(), dto.userId());
         assertEquals(matchedUser.getNickname(), dto.nickname());
 
-        verify(tuningResultRepository).delete(tuningResult);
+        verify(userRepository, never()).findByIdAndDeletedAtIsNull(anyLong());
+        verifyNoInteractions(tuningRepository, tuningResultRepository);
+    }
+
+    @Test
+    @DisplayName("getTunedUser - 프로필 없이 적재된 이전 형식 항목은 MySQL 에서 조회하고 탈퇴한 사용자는 건너뜀")
+    void getTunedUser_legacyEntry_loadsUserFromDb() {
+        Long userId = 1L;
+        User requester = UserFixture.create(userId, "요청자", "requester@test.com");
+        User matchedUser = UserFixture.create(3L, "매칭유저", "matched@test.com");
+
+        when(userRepository.findById(userId)).thenReturn(Optional.of(requester));
+        when(userInterestsRepository.existsByUser(requester)).thenReturn(true);
+        when(tuningRecommendationQueue.pop(userId, Category.FRIEND))
+                .thenReturn(Optional.of(new TuningRecommendationQueue.Recommendation(2L, null, 4)))
+                .thenReturn(Optional.of(new TuningRecommendationQueue.Recommendation(3L, null, 3)));
+        when(userRepository.findByIdAndDeletedAtIsNull(2L)).thenReturn(Optional.empty());
+        when(userRepository.findByIdAndDeletedAtIsNull(3L)).thenReturn(Optional.of(matchedUser));
+        when(interestsService.getUserInterests(anyLong())).thenReturn(Map.of());
+
+        TuningResponseDto dto = channelService.getTunedUser(userId, "friend");
+
+        assertEquals(3L, dto.userId());
+        assertEquals("매칭유저", dto.nickname());
+    }
+
+    @Test
+    @DisplayName("getTunedUser - 대기열이 비면 AI 추천 결과를 저장 후 대기열 적재")
+    void getTunedUser_refill_loadsLineupIntoQueue() {
+        Long userId = 1L;
+        User requester = UserFixture.create(userId, "요청자", "requester@test.com");
+        User candidate = UserFixture.create(4L, "후보", "c@test.com");
+        Tuning tuning = Tuning.builder().id(10L).user(requester).category(Category.FRIEND).build();
+        TuningRecommendationQueue.QueuedProfile profile = TuningRecommendationQueue.QueuedProfile.from(candidate);
+
+        when(userRepository.findById(userId)).thenReturn(Optional.of(requester));
+        when(userInterestsRepository.existsByUser(requester)).thenReturn(true);
+        when(tuningRecommendationQueue.pop(userId, Category.FRIEND))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(new TuningRecommendationQueue.Recommendation(4L, profile, 0)));
+        when(tuningPrefetcher.acquireForRefill(userId, Category.FRIEND)).thenReturn(Optional.of("lock-token"));
+        when(tuningRepository.findByUserAndCategory(requester, Category.FRIEND)).thenReturn(Optional.of(tuning));
+        when(tuningResultRepository.findMatchedUserIdsByTuning(tuning)).thenReturn(List.of());
+        when(tuningLineupService.fetchAndSave(tuning, "friend")).thenReturn(List.of(4L));
+        when(tuningLineupService.toQueuedProfiles(List.of(4L), Category.FRIEND)).thenReturn(List.of(profile));
+        when(interestsService.getUserInterests(anyLong())).thenReturn(Map.of());
+
+        TuningResponseDto dto = channelService.getTunedUser(userId, "friend");
+
+        assertEquals(candidate.getId(), dto.userId());
+        verify(tuningRecommendationQueue).load(userId, Category.FRIEND, List.of(profile));
+        verify(tuningPrefetcher).releaseRefill(userId, Category.FRIEND, "lock-token");
+        verify(tuningPrefetcher).onRecommendationPopped(userId, "friend", Category.FRIEND, 0);
+        verifyNoInteractions(tuningAiClient);
+    }
+
+    @Test
+    @DisplayName("getTunedUser - 프리페치가 적재 중이면 기다리거나 직접 재적재하지 않고 재시도 응답")
+    void getTunedUser_prefetchInFlight_asksClientToRetry() {
+        Long userId = 1L;
+        User requester = UserFixture.create(userId, "요청자", "requester@test.com");
+
+        when(userRepository.findById(userId)).thenReturn(Optional.of(requester));
+        when(userInterestsRepository.existsByUser(requester)).thenReturn(true);
+        when(tuningRecommendationQueue.pop(userId, Category.FRIEND)).thenReturn(Optional.empty());
+        when(tuningPrefetcher.acquireForRefill(userId, Category.FRIEND)).thenReturn(Optional.empty());
+
+        BusinessException ex = assertThrows(BusinessException.class, () ->
+                channelService.getTunedUser(userId, "friend")
+        );
+
+        assertEquals(ChannelResponseCode.TUNING_IN_PROGRESS.getCode(), ex.getCode());
+        verify(tuningRecommendationQueue, times(1)).pop(userId, Category.FRIEND);
+        verify(tuningPrefetcher, never()).releaseRefill(anyLong(), any(), anyString());
+        verifyNoInteractions(tuningRepository, tuningResultRepository);
+        verify(tuningLineupService, never()).fetchAndSave(any(), anyString());
+    }
+
+    @Test
+    @DisplayName("getTunedUser - 직접 재적재한 뒤에도 대기열이 비면 다시 채우지 않고 null")
+    void getTunedUser_emptyAfterOwnRefill_returnsNull() {
+        Long userId = 1L;
+        User requester = UserFixture.create(userId, "요청자", "requester@test.com");
+        User candidate = UserFixture.create(4L, "후보", "c@test.com");
+        Tuning tuning = Tuning.builder().id(10L).user(requester).category(Category.FRIEND).build();
+        TuningRecommendationQueue.QueuedProfile profile = TuningRecommendationQueue.QueuedProfile.from(candidate);
+
+        when(userRepository.findById(userId)).thenReturn(Optional.of(requester));
+        when(userInterestsRepository.existsByUser(requester)).thenReturn(true);
+        // 적재 직후 다른 요청이 먼저 꺼내 대기열이 다시 빈 경우
+        when(tuningRecommendationQueue.pop(userId, Category.FRIEND)).thenReturn(Optional.empty());
+        when(tuningPrefetcher.acquireForRefill(userId, Category.FRIEND)).thenReturn(Optional.of("lock-token"));
+        when(tuningRepository.findByUserAndCategory(requester, Category.FRIEND)).thenReturn(Optional.of(tuning));
+        when(tuningResultRepository.findMatchedUserIdsByTuning(tuning)).thenReturn(List.of(4L));
+        when(tuningLineupService.toQueuedProfiles(List.of(4L), Category.FRIEND)).thenReturn(List.of(profile));
+
+        assertNull(channelService.getTunedUser(userId, "friend"));
+
+        verify(tuningPrefetcher, times(1)).acquireForRefill(userId, Category.FRIEND);
+        verify(tuningRecommendationQueue, times(1)).load(userId, Category.FRIEND, List.of(profile));
+        verify(tuningPrefetcher).releaseRefill(userId, Category.FRIEND, "lock-token");
     }
 
     @Test
@@ -362,6 +503,47 @@ public class ChannelServiceTest {
         verify(alarmService).createAlertAlarm(reportedUserId, content);
     }
 
+    @Test
+    @DisplayName("reportMessageAsync - AI가 유해하다고 판단하면 알림 생성")
+    void reportMessageAsync_toxicMessage_shouldCreateAlarm() {
+        Long reporterId = 1L;
+        Long reportedUserId = 2L;
+        String content = "욕설 포함된 메시지";
+        ChatReportRequestDto requestDto = new ChatReportRequestDto(100, content, reportedUserId);
+
+        when(userRepository.existsById(reporterId)).thenReturn(true);
+        when(userRepository.existsById(reportedUserId)).thenReturn(true);
+        when(tuningAiClient.sendChatReportAsync(requestDto)).thenReturn(Mono.just(new AiChatReportResponseDto(
+                ChannelResponseCode.CENSORED_SUCCESS.name(),
+                Map.of("result", true)
+        )));
+
+        StepVerifier.create(channelService.reportMessageAsync(reporterId, requestDto))
+                .verifyComplete();
+
+        verify(alarmService).createAlertAlarm(reportedUserId, content);
+        verify(tuningAiClient, never()).sendChatReport(any());
+    }
+
+    @Test
+    @DisplayName("reportMessageAsync - AI 서버 호출이 차단되면 실패 대신 보류 대기열에 적재")
+    void reportMessageAsync_aiUnavailable_shouldEnqueue() {
+        Long reporterId = 1L;
+        Long reportedUserId = 2L;
+        ChatReportRequestDto requestDto = new ChatReportRequestDto(100, "욕설 포함된 메시지", reportedUserId);
+
+        when(userRepository.existsById(reporterId)).thenReturn(true);
+        when(userRepository.existsById(reportedUserId)).thenReturn(true);
+        when(tuningAiClient.sendChatReportAsync(requestDto))
+                .thenReturn(Mono.error(new AiServerUnavailableException("chat-report")));
+
+        StepVerifier.create(channelService.reportMessageAsync(reporterId, requestDto))
+                .verifyComplete();
+
+        verify(pendingChatReportQueue).enqueue(requestDto);
+        verify(alarmService, never()).createAlertAlarm(anyLong(), anyString());
+    }
+
     @Test
     @DisplayName("reportMessage - 신고자 유저가 존재하지 않으면 예외")
     void reportMessage_reporterNotExists_shouldThrow() {
@@ -414,4 +596,171 @@ public class ChannelServiceTest {
 
         verify(alarmService, never()).createAlertAlarm(anyLong(), anyString());
     }
+
+    @Test
+    @DisplayName("getChannelRoomByCursor - 커서 이전 메세지를 size+1 개 조회해 다음 커서를 만들고 오름차순으로 반환")
+    void getChannelRoomByCursor_hasNext() {
+        Long roomId = 100L;
+        LocalDateTime cursorTime = LocalDateTime.of(2025, 6, 1, 12, 0);
+        SignalRoom room = stubEnterableRoom(roomId, 1L);
+
+        // 커서와 같은 시각의 더 작은 id 메세지도 다음 페이지에 포함되어야 함
+        SignalMessage sameTime = messageAt(49L, cursorTime);
+        SignalMessage older = messageAt(48L, cursorTime.minusMinutes(1));
+        SignalMessage oldest = messageAt(47L, cursorTime.minusMinutes(2));
+        String cursor = new KeysetCursor(cursorTime, 50L).encode();
+
+        when(signalMessageRepository.findBeforeCursor(roomId, cursorTime, 50L, PageRequest.of(0, 3)))
+                .thenReturn(List.of(sameTime, older, oldest));
+        when(messagePlaintextCache.getOrDecryptAll(List.of(older, sameTime))).thenReturn(List.of("48", "49"));
+
+        ChannelRoomResponseDto result = channelService.getChannelRoomByCursor(roomId, 1L, cursor, 2);
+
+        assertEquals(List.of(48L, 49L), result.getMessages().getList().stream()
+                .map(ChannelRoomResponseDto.MessageDto::getMessageId).toList());
+        assertFalse(result.getMessages().getPageable().isLast());
+        assertEquals(new KeysetCursor(older.getSendAt(), 48L), KeysetCursor.decode(result.getMessages().getPageable().getNextCursor()));
+        verify(asyncChannelService).notifyMatchingConvertedInChannelRoom(room, 1L);
+    }
+
+    @Test
+    @DisplayName("getChannelRoomByCursor - 남은 메세지가 size 이하면 마지막 페이지이고 다음 커서 없음")
+    void getChannelRoomByCursor_lastPage() {
+        Long roomId = 100L;
+        LocalDateTime cursorTime = LocalDateTime.of(2025, 6, 1, 12, 0);
+        stubEnterableRoom(roomId, 1L);
+
+        SignalMessage first = messageAt(1L, cursorTime.minusDays(1));
+        String cursor = new KeysetCursor(cursorTime, 2L).encode();
+
+        when(signalMessageRepository.findBeforeCursor(roomId, cursorTime, 2L, PageRequest.of(0, 3))).thenReturn(List.of(first));
+        when(messagePlaintextCache.getOrDecryptAll(List.of(first))).thenReturn(List.of("1"));
+
+        ChannelRoomResponseDto result = channelService.getChannelRoomByCursor(roomId, 1L, cursor, 2);
+
+        assertEquals(1, result.getMessages().getList().size());
+        assertTrue(result.getMessages().getPageable().isLast());
+        assertNull(result.getMessages().getPageable().getNextCursor());
+    }
+
+    @Test
+    @DisplayName("getChannelRoomByCursor - 빈 커서는 최신 메세지 페이지부터 조회")
+    void getChannelRoomByCursor_blankCursor_startsFromLatest() {
+        Long roomId = 100L;
+        LocalDateTime now = LocalDateTime.of(2025, 6, 1, 12, 0);
+        stubEnterableRoom(roomId, 1L);
+
+        SignalMessage latest = messageAt(3L, now);
+        SignalMessage previous = messageAt(2L, now.minusMinutes(1));
+        SignalMessage first = messageAt(1L, now.minusMinutes(2));
+
+        when(signalMessageRepository.findLatest(roomId, PageRequest.of(0, 3))).thenReturn(List.of(latest, previous, first));
+        when(messagePlaintextCache.getOrDecryptAll(List.of(previous, latest))).thenReturn(List.of("2", "3"));
+
+        ChannelRoomResponseDto result = channelService.getChannelRoomByCursor(roomId, 1L, "", 2);
+
+        assertEquals(List.of(2L, 3L), result.getMessages().getList().stream()
+                .map(ChannelRoomResponseDto.MessageDto::getMessageId).toList());
+        assertEquals(new KeysetCursor(previous.getSendAt(), 2L), KeysetCursor.decode(result.getMessages().getPageable().getNextCursor()));
+        verify(signalMessageRepository, never()).findBeforeCursor(anyLong(), any(), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("getPersonalSignalRoomListByCursor - 마지막 메세지 시각이 같은 방은 방 id 로 다음 커서를 구분")
+    void getPersonalSignalRoomListByCursor_tieOnSameTime() {
+        LocalDateTime sameTime = LocalDateTime.of(2025, 6, 1, 12, 0);
+        SignalRoom room1 = SignalRoomFixture.createWithId(sender, receiver, 101L);
+        SignalRoom room2 = SignalRoomFixture.createWithId(sender, receiver, 100L);
+        SignalRoom room3 = SignalRoomFixture.createWithId(sender, receiver, 99L);
+        String cursor = new KeysetCursor(sameTime, 102L).encode();
+
+        when(signalRoomRepository.findAllByCursorWithUsers(1L, sameTime, 102L, 3)).thenReturn(List.of(room1, room2, room3));
+        when(signalRoomSummaryService.getSummaries(List.of(101L, 100L))).thenReturn(Map.of(
+                101L, summaryAt(101L, sameTime),
+                100L, summaryAt(100L, sameTime)));
+        when(messagePlaintextCache.getOrDecrypt(anyLong(), anyString())).thenReturn("msg");
+
+        ChannelListResponseDto result = channelService.getPersonalSignalRoomListByCursor(1L, cursor, 2);
+
+        assertEquals(2, result.getList().size());
+        assertFalse(result.isLast());
+        assertEquals(new KeysetCursor(sameTime, 100L), KeysetCursor.decode(result.getNextCursor()));
+    }
+
+    @Test
+    @DisplayName("getPersonalSignalRoomListByCursor - 마지막 페이지면 다음 커서 없음")
+    void getPersonalSignalRoomListByCursor_lastPage() {
+        LocalDateTime time = LocalDateTime.of(2025, 6, 1, 12, 0);
+        SignalRoom room = SignalRoomFixture.createWithId(sender, receiver, 99L);
+        String cursor = new KeysetCursor(time, 100L).encode();
+
+        when(signalRoomRepository.findAllByCursorWithUsers(1L, time, 100L, 3)).thenReturn(List.of(room));
+        when(signalRoomSummaryService.getSummaries(List.of(99L))).thenReturn(Map.of(99L, summaryAt(99L, time.minusHours(1))));
+        when(messagePlaintextCache.getOrDecrypt(anyLong(), anyString())).thenReturn("msg");
+
+        ChannelListResponseDto result = channelService.getPersonalSignalRoomListByCursor(1L, cursor, 2);
+
+        assertEquals(1, result.getList().size());
+        assertTrue(result.isLast());
+        assertNull(result.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("getPersonalSignalRoomListByCursor - 빈 커서는 가장 최근 채널방부터 조회")
+    void getPersonalSignalRoomListByCursor_blankCursor_startsFromLatest() {
+        LocalDateTime time = LocalDateTime.of(2025, 6, 1, 12, 0);
+        SignalRoom latest = SignalRoomFixture.createWithId(sender, receiver, 101L);
+        SignalRoom previous = SignalRoomFixture.createWithId(sender, receiver, 100L);
+        SignalRoom oldest = SignalRoomFixture.createWithId(sender, receiver, 99L);
+
+        when(signalRoomRepository.findAllByCursorWithUsers(1L, null, null, 3)).thenReturn(List.of(latest, previous, oldest));
+        when(signalRoomSummaryService.getSummaries(List.of(101L, 100L))).thenReturn(Map.of(
+                101L, summaryAt(101L, time),
+                100L, summaryAt(100L, time.minusMinutes(1))));
+        when(messagePlaintextCache.getOrDecrypt(anyLong(), anyString())).thenReturn("msg");
+
+        ChannelListResponseDto result = channelService.getPersonalSignalRoomListByCursor(1L, "", 2);
+
+        assertEquals(2, result.getList().size());
+        assertFalse(result.isLast());
+        assertEquals(new KeysetCursor(time.minusMinutes(1), 100L), KeysetCursor.decode(result.getNextCursor()));
+    }
+
+    @Test
+    @DisplayName("getPersonalSignalRoomListByCursor - 형식이 잘못된 커서는 400")
+    void getPersonalSignalRoomListByCursor_malformedCursor_badRequest() {
+        BusinessException ex = assertThrows(BusinessException.class,
+                () -> channelService.getPersonalSignalRoomListByCursor(1L, "not-a-cursor", 2));
+
+        assertEquals(NewResponseCode.BAD_REQUEST.getCode(), ex.getCode());
+        verify(signalRoomRepository, never()).findAllByCursorWithUsers(anyLong(), any(), any(), anyInt());
+    }
+
+    private SignalRoom stubEnterableRoom(Long roomId, Long userId) {
+        SignalRoom room = spy(SignalRoomFixture.createWithId(sender, receiver, roomId));
+        when(signalRoomRepository.findById(roomId)).thenReturn(Optional.of(room));
+        when(userRepository.findByIdAndDeletedAtIsNull(receiver.getId())).thenReturn(Optional.of(receiver));
+        when(signalMessageRepository.findRoomsWithLastSender(roomId)).thenReturn(Optional.empty());
+        return room;
+    }
+
+    private SignalMessage messageAt(Long id, LocalDateTime sendAt) {
+        return SignalMessage.builder()
+                .id(id)
+                .message("encrypted-" + id)
+                .sendAt(sendAt)
+                .senderUser(sender)
+                .build();
+    }
+
+    private SignalRoomSummary summaryAt(Long roomId, LocalDateTime lastMessageSendAt) {
+        return SignalRoomSummary.builder()
+                .signalRoomId(roomId)
+                .lastMessageId(roomId * 10)
+                .lastMessage("encrypted")
+                .lastMessageSendAt(lastMessageSendAt)
+                .lastSenderId(receiver.getId())
+                .messageCount(1)
+                .build();
+    }
 }
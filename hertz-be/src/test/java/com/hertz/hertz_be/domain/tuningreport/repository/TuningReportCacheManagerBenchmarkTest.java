@@ -0,0 +1,164 @@
+package com.hertz.hertz_be.domain.tuningreport.repository;
+
+import com.hertz.hertz_be.domain.tuningreport.dto.response.TuningReportListResponse;
+import com.hertz.hertz_be.domain.tuningreport.entity.enums.ReactionType;
+import com.hertz.hertz_be.domain.tuningreport.entity.enums.TuningReportSortType;
+import io.lettuce.core.event.command.CommandListener;
+import io.lettuce.core.event.command.CommandStartedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.wait.strategy.Wait;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 리포트 페이지 캐시(도메인 ZSET 인덱스)의 Redis round trip 수와 지연(p50 / p99) 측정
+ * - ./gradlew benchmarkTest (Docker 필요, 기본 test 태스크에서는 제외)
+ * - 측정 대상 경로는 단일 명령 / Lua 스크립트만 쓰므로 클라이언트가 보낸 명령 수 = round trip 수
+ *   (스크립트 내부 명령까지 집계되는 INFO commandstats 대신 Lettuce CommandListener 로 집계)
+ * - 아이템 적재 시 L1 에도 write-through 되므로 조회는 L1 이 채워진 상태에서 측정
+ */
+@Tag("benchmark")
+@Testcontainers(disabledWithoutDocker = true)
+class TuningReportCacheManagerBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(TuningReportCacheManagerBenchmarkTest.class);
+
+    private static final String DOMAIN = "kakaotech.com";
+    private static final int PAGE_SIZE = 10;
+    private static final int REPORT_COUNT = 500;
+    private static final LocalDateTime CREATED_BASE = LocalDateTime.of(2025, 1, 1, 0, 0);
+    private static final int ITERATIONS = 2_000;
+
+    @Container
+    static final GenericContainer<?> redisContainer = new GenericContainer<>("redis:6.2")
+            .withExposedPorts(6379)
+            .waitingFor(Wait.forListeningPort());
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+    private static TuningReportCacheManager cacheManager;
+    private static final AtomicLong issuedCommands = new AtomicLong();
+
+    @BeforeAll
+    static void setUp() {
+        connectionFactory = new LettuceConnectionFactory(redisContainer.getHost(), redisContainer.getMappedPort(6379));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        connectionFactory.getNativeClient().addListener(new CommandListener() {
+            @Override
+            public void commandStarted(CommandStartedEvent event) {
+                issuedCommands.incrementAndGet();
+            }
+        });
+
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        cacheManager = new TuningReportCacheManager(redisTemplate,
+                new TuningReportNearCache(new CaffeineCacheManager(), redisTemplate,
+                        new RedisMessageListenerContainer(), new SimpleMeterRegistry()));
+    }
+
+    @AfterAll
+    static void tearDown() {
+        connectionFactory.destroy();
+    }
+
+    @Test
+    @DisplayName("임의 페이지 / 정렬 조회, 아이템 적재, 리액션 토글 모두 1 round trip")
+    void reportListRoundTripsAndLatency() {
+        List<TuningReportListResponse.ReportItem> items = LongStream.rangeClosed(1, REPORT_COUNT)
+                .mapToObj(this::reportItem)
+                .toList();
+        List<TuningReportCacheManager.IndexEntry> entries = items.stream()
+                .map(item -> new TuningReportCacheManager.IndexEntry(item.getReportId(), item.getCreatedDate(), 15))
+                .toList();
+        List<TuningReportListResponse.ReportItem> page = items.subList(REPORT_COUNT - PAGE_SIZE * 4, REPORT_COUNT - PAGE_SIZE * 3);
+
+        // 스크립트 캐시(EVALSHA) 준비
+        cacheManager.cacheDomainIndex(DOMAIN, entries, Duration.ofMillis(50));
+        cacheManager.cacheReportItems(DOMAIN, items);
+
+        long writeRoundTrips = countRoundTrips(() -> cacheManager.cacheReportItems(DOMAIN, page));
+        long readRoundTrips = countRoundTrips(() -> cacheManager.getCachedPage(DOMAIN, TuningReportSortType.LATEST, 3, PAGE_SIZE));
+        long toggleRoundTrips = countRoundTrips(() -> cacheManager.toggleReaction(1L, 1L, DOMAIN, ReactionType.HEART));
+
+        long[] readLatencies = measure(() -> cacheManager.getCachedPage(DOMAIN, TuningReportSortType.POPULAR, 3, PAGE_SIZE));
+        long[] writeLatencies = measure(() -> cacheManager.cacheReportItems(DOMAIN, page));
+        long[] toggleLatencies = measure(() -> cacheManager.toggleReaction(2L, 1L, DOMAIN, ReactionType.HEART));
+
+        log.info("[report-list cache] read : round trips={}, p50={}us, p99={}us",
+                readRoundTrips, percentile(readLatencies, 50), percentile(readLatencies, 99));
+        log.info("[report-list cache] write: round trips={}, p50={}us, p99={}us",
+                writeRoundTrips, percentile(writeLatencies, 50), percentile(writeLatencies, 99));
+        log.info("[report-list cache] toggle: round trips={}, p50={}us, p99={}us",
+                toggleRoundTrips, percentile(toggleLatencies, 50), percentile(toggleLatencies, 99));
+
+        TuningReportCacheManager.CachedPage latest = cacheManager.getCachedPage(DOMAIN, TuningReportSortType.LATEST, 3, PAGE_SIZE);
+        assertEquals(page.stream().map(TuningReportListResponse.ReportItem::getReportId).sorted(Comparator.reverseOrder()).toList(),
+                latest.reportIds());
+        assertTrue(latest.missingIds().isEmpty());
+        assertEquals(REPORT_COUNT, latest.total());
+
+        // 토글된 리포트는 인기순 맨 앞으로, 카운터도 반영
+        TuningReportCacheManager.CachedPage popular = cacheManager.getCachedPage(DOMAIN, TuningReportSortType.POPULAR, 0, PAGE_SIZE);
+        assertEquals(1L, popular.reportIds().get(0));
+        assertEquals(6, popular.items().get(1L).getReactions().getHeart());
+        assertEquals(1, readRoundTrips);
+        assertEquals(1, writeRoundTrips);
+        assertEquals(1, toggleRoundTrips);
+    }
+
+    private long countRoundTrips(Runnable action) {
+        long before = issuedCommands.get();
+        action.run();
+        return issuedCommands.get() - before;
+    }
+
+    private static long[] measure(Runnable action) {
+        long[] latencies = new long[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            action.run();
+            latencies[i] = (System.nanoTime() - start) / 1_000;
+        }
+        Arrays.sort(latencies);
+        return latencies;
+    }
+
+    private static long percentile(long[] sorted, int percentile) {
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, index)];
+    }
+
+    private TuningReportListResponse.ReportItem reportItem(long reportId) {
+        return new TuningReportListResponse.ReportItem(
+                CREATED_BASE.plusMinutes(reportId),
+                reportId,
+                "튜닝 리포트 " + reportId,
+                "내용 ".repeat(50),
+                new TuningReportListResponse.Reactions(1, 2, 3, 4, 5),
+                null
+        );
+    }
+}
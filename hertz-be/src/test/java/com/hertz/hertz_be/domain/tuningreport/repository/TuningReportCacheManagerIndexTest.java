@@ -0,0 +1,206 @@
+package com.hertz.hertz_be.domain.tuningreport.repository;
+
+import com.hertz.hertz_be.domain.tuningreport.dto.response.TuningReportListResponse;
+import com.hertz.hertz_be.domain.tuningreport.entity.enums.ReactionType;
+import com.hertz.hertz_be.domain.tuningreport.entity.enums.TuningReportSortType;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.wait.strategy.Wait;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 인덱스 셋 기반 TTL 갱신 / 도메인 무효화 / 사용자 리액션 캐싱 검증 (실제 Redis 의 Lua / 파이프라인 동작 확인)
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class TuningReportCacheManagerIndexTest {
+
+    private static final String DOMAIN = "kakaotech.com";
+    private static final String OTHER_DOMAIN = "other.com";
+    private static final Long USER_ID = 7L;
+    private static final long SHORT_TTL_SECONDS = 5;
+
+    @Container
+    static final GenericContainer<?> redisContainer = new GenericContainer<>("redis:6.2")
+            .withExposedPorts(6379)
+            .waitingFor(Wait.forListeningPort());
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    private TuningReportNearCache nearCache;
+    private TuningReportCacheManager cacheManager;
+
+    @BeforeAll
+    static void setUpRedis() {
+        connectionFactory = new LettuceConnectionFactory(redisContainer.getHost(), redisContainer.getMappedPort(6379));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void tearDownRedis() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.execute((RedisCallback<Object>) connection -> {
+            connection.serverCommands().flushDb();
+            return null;
+        });
+        nearCache = mock(TuningReportNearCache.class);
+        cacheManager = new TuningReportCacheManager(redisTemplate, nearCache);
+    }
+
+    @Test
+    @DisplayName("TTL 갱신 - 사용자 리액션 키 / 도메인 아이템 키 / 인덱스 TTL 을 다시 늘리고, 만료된 키는 인덱스 셋에서 정리")
+    void refreshTuningReportTTL_extendsIndexedKeysAndPrunesExpired() {
+        cacheDomain(DOMAIN, 1L, 2L);
+        cacheManager.toggleReaction(1L, USER_ID, DOMAIN, ReactionType.HEART);
+        redisTemplate.opsForSet().add(cacheManager.userReactionIndexKey(USER_ID), cacheManager.userKey(99L, USER_ID));
+
+        String reactionKey = cacheManager.userKey(1L, USER_ID);
+        String itemKey = cacheManager.reportItemKey(2L);
+        shortenTtl(reactionKey, itemKey, cacheManager.domainIndexKey(DOMAIN, TuningReportSortType.LATEST));
+
+        cacheManager.refreshTuningReportTTL(USER_ID, DOMAIN);
+
+        // 기본 TTL(35분) + jitter, 측정 사이 경과 시간만큼 여유를 둠
+        long minTtl = Duration.ofMinutes(35).getSeconds() - 10;
+        assertTrue(ttl(reactionKey) >= minTtl);
+        assertTrue(ttl(itemKey) >= minTtl);
+        // 도메인 인덱스는 stale 유예만큼 더 길게 유지
+        assertTrue(ttl(cacheManager.domainIndexKey(DOMAIN, TuningReportSortType.LATEST)) >= minTtl + Duration.ofMinutes(5).getSeconds());
+        assertEquals(Set.of(reactionKey), redisTemplate.opsForSet().members(cacheManager.userReactionIndexKey(USER_ID)));
+    }
+
+    @Test
+    @DisplayName("TTL 갱신 - 같은 사용자는 갱신 간격 내 한 번만 수행")
+    void refreshTuningReportTTL_coalescedPerUser() {
+        cacheDomain(DOMAIN, 1L);
+        cacheManager.refreshTuningReportTTL(USER_ID, DOMAIN);
+
+        String itemKey = cacheManager.reportItemKey(1L);
+        shortenTtl(itemKey);
+
+        cacheManager.refreshTuningReportTTL(USER_ID, DOMAIN);
+
+        assertTrue(ttl(itemKey) <= SHORT_TTL_SECONDS);
+    }
+
+    @Test
+    @DisplayName("도메인 무효화 - 인덱스 셋에 등록된 키와 인덱스를 모두 지우고 다른 도메인은 유지")
+    void invalidateDomainCache_deletesIndexedKeysOnly() {
+        cacheDomain(DOMAIN, 1L, 2L);
+        cacheDomain(OTHER_DOMAIN, 3L);
+        cacheManager.toggleReaction(1L, USER_ID, DOMAIN, ReactionType.HEART);
+        cacheManager.setUserReactions(USER_ID, DOMAIN, Map.of(2L, Set.of(ReactionType.THUMBS_UP)));
+        cacheManager.setUserReactions(USER_ID, OTHER_DOMAIN, Map.of(3L, Set.of(ReactionType.THUMBS_UP)));
+
+        cacheManager.invalidateDomainCache(DOMAIN);
+
+        for (String key : List.of(
+                cacheManager.reportItemKey(1L), cacheManager.reactionCountKey(1L),
+                cacheManager.reportItemKey(2L), cacheManager.reactionCountKey(2L),
+                cacheManager.userKey(1L, USER_ID), cacheManager.userKey(2L, USER_ID),
+                cacheManager.domainIndexedKey(DOMAIN),
+                cacheManager.domainIndexKey(DOMAIN, TuningReportSortType.LATEST),
+                cacheManager.domainIndexKey(DOMAIN, TuningReportSortType.POPULAR),
+                cacheManager.domainItemIndexKey(DOMAIN), cacheManager.domainOwnedIndexKey(DOMAIN))) {
+            assertFalse(Boolean.TRUE.equals(redisTemplate.hasKey(key)), key + " 가 남아 있음");
+        }
+        assertTrue(redisTemplate.hasKey(cacheManager.reportItemKey(3L)));
+        assertTrue(redisTemplate.hasKey(cacheManager.userKey(3L, USER_ID)));
+        assertTrue(redisTemplate.hasKey(cacheManager.domainIndexedKey(OTHER_DOMAIN)));
+        verify(nearCache).publishInvalidation(DOMAIN);
+    }
+
+    @Test
+    @DisplayName("사용자 리액션 캐싱 - 반응한 종류만 '1' 로 저장하고 사용자 / 도메인 인덱스 셋에 등록")
+    void setUserReactions_registersKeysInIndexSets() {
+        cacheManager.setUserReactions(USER_ID, DOMAIN, Map.of(
+                1L, Set.of(ReactionType.HEART, ReactionType.THUMBS_UP),
+                2L, Set.of(ReactionType.EYES)));
+
+        String firstKey = cacheManager.userKey(1L, USER_ID);
+        String secondKey = cacheManager.userKey(2L, USER_ID);
+        assertEquals(Map.of(ReactionType.HEART.name(), "1", ReactionType.THUMBS_UP.name(), "1"),
+                redisTemplate.opsForHash().entries(firstKey));
+        assertTrue(ttl(firstKey) > 0);
+        assertEquals(Map.of(1L, Set.of(ReactionType.HEART, ReactionType.THUMBS_UP), 2L, Set.of(ReactionType.EYES)),
+                cacheManager.getUserReactions(List.of(1L, 2L, 3L), USER_ID));
+        assertEquals(Set.of(firstKey, secondKey), redisTemplate.opsForSet().members(cacheManager.userReactionIndexKey(USER_ID)));
+        assertEquals(Set.of(firstKey, secondKey), redisTemplate.opsForSet().members(cacheManager.domainOwnedIndexKey(DOMAIN)));
+        assertTrue(ttl(cacheManager.domainOwnedIndexKey(DOMAIN)) > 0);
+    }
+
+    @Test
+    @DisplayName("리액션 토글 - 반응 여부와 카운트를 바꾸고 유저 리액션 키를 사용자 / 도메인 인덱스 셋에 등록")
+    void toggleReaction_setsReactionAndRegistersKey() {
+        cacheDomain(DOMAIN, 1L);
+
+        TuningReportCacheManager.ReactionToggleResult on = cacheManager.toggleReaction(1L, USER_ID, DOMAIN, ReactionType.HEART).orElseThrow();
+        assertTrue(on.reacted());
+        assertEquals(2, on.count());
+        assertTrue(cacheManager.getUserReaction(1L, USER_ID, ReactionType.HEART));
+
+        TuningReportCacheManager.ReactionToggleResult off = cacheManager.toggleReaction(1L, USER_ID, DOMAIN, ReactionType.HEART).orElseThrow();
+        assertFalse(off.reacted());
+        assertEquals(1, off.count());
+        assertFalse(cacheManager.getUserReaction(1L, USER_ID, ReactionType.HEART));
+
+        String key = cacheManager.userKey(1L, USER_ID);
+        assertEquals(Set.of(key), redisTemplate.opsForSet().members(cacheManager.userReactionIndexKey(USER_ID)));
+        assertEquals(Set.of(key), redisTemplate.opsForSet().members(cacheManager.domainOwnedIndexKey(DOMAIN)));
+    }
+
+    @Test
+    @DisplayName("리액션 토글 - 카운터가 캐시에 없으면 empty 로 DB 경로에 넘김")
+    void toggleReaction_withoutCachedCounter_empty() {
+        assertTrue(cacheManager.toggleReaction(1L, USER_ID, DOMAIN, ReactionType.HEART).isEmpty());
+        assertFalse(Boolean.TRUE.equals(redisTemplate.hasKey(cacheManager.userKey(1L, USER_ID))));
+    }
+
+    private void cacheDomain(String domain, Long... reportIds) {
+        List<TuningReportListResponse.ReportItem> items = Arrays.stream(reportIds)
+                .map(reportId -> new TuningReportListResponse.ReportItem(
+                        LocalDateTime.of(2025, 1, 1, 0, 0).plusMinutes(reportId), reportId, "튜닝 리포트 " + reportId, "내용",
+                        new TuningReportListResponse.Reactions(1, 1, 1, 1, 1), null))
+                .toList();
+        cacheManager.cacheDomainIndex(domain, items.stream()
+                .map(item -> new TuningReportCacheManager.IndexEntry(item.getReportId(), item.getCreatedDate(), 5))
+                .toList(), Duration.ofMillis(10));
+        cacheManager.cacheReportItems(domain, items);
+    }
+
+    private void shortenTtl(String... keys) {
+        for (String key : keys) {
+            redisTemplate.expire(key, SHORT_TTL_SECONDS, TimeUnit.SECONDS);
+        }
+    }
+
+    private long ttl(String key) {
+        Long ttl = redisTemplate.getExpire(key, TimeUnit.SECONDS);
+        return ttl == null ? -2 : ttl;
+    }
+}
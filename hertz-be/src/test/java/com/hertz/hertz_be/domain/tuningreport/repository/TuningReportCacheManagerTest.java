@@ -0,0 +1,51 @@
+package com.hertz.hertz_be.domain.tuningreport.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(MockitoExtension.class)
+class TuningReportCacheManagerTest {
+
+    @Mock private RedisTemplate<String, String> redisTemplate;
+    @Mock private TuningReportNearCache nearCache;
+
+    @InjectMocks
+    private TuningReportCacheManager cacheManager;
+
+    @Test
+    @DisplayName("isRefreshDue - 만료까지 여유가 재적재 소요보다 충분히 크면 조기 재적재하지 않음")
+    void isRefreshDue_farFromExpiry_false() {
+        long now = 1_000_000L;
+        String marker = (now + 600_000) + ":200";
+
+        assertFalse(cacheManager.isRefreshDue(marker, now, 0.5));
+    }
+
+    @Test
+    @DisplayName("isRefreshDue - 만료 직전에는 재적재 소요와 난수에 따라 미리 재적재")
+    void isRefreshDue_nearExpiry_dependsOnRandom() {
+        long now = 1_000_000L;
+        String marker = (now + 500) + ":200";
+
+        // -200 * ln(0.01) ≈ 921ms >= 500ms
+        assertTrue(cacheManager.isRefreshDue(marker, now, 0.01));
+        // -200 * ln(0.9) ≈ 21ms < 500ms
+        assertFalse(cacheManager.isRefreshDue(marker, now, 0.9));
+    }
+
+    @Test
+    @DisplayName("isRefreshDue - 논리 만료가 지났거나 이전 형식 표시 값이면 재적재")
+    void isRefreshDue_expiredOrLegacyMarker_true() {
+        long now = 1_000_000L;
+
+        assertTrue(cacheManager.isRefreshDue((now - 1) + ":200", now, 0.99));
+        assertTrue(cacheManager.isRefreshDue("1", now, 0.5));
+    }
+}
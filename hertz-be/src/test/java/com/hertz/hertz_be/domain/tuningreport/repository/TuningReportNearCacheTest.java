@@ -0,0 +1,133 @@
+package com.hertz.hertz_be.domain.tuningreport.repository;
+
+import com.hertz.hertz_be.domain.tuningreport.dto.response.TuningReportListResponse;
+import com.hertz.hertz_be.global.config.CacheConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TuningReportNearCacheTest {
+
+    private static final String DOMAIN = "kakaotech.com";
+
+    @Mock private RedisTemplate<String, String> redisTemplate;
+    @Mock private RedisMessageListenerContainer listenerContainer;
+
+    private SimpleMeterRegistry meterRegistry;
+    private TuningReportNearCache nearCache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        nearCache = new TuningReportNearCache(
+                new CacheConfig().cacheManager(100, Duration.ofMinutes(1), 100, Duration.ofHours(1)),
+                redisTemplate, listenerContainer, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("생성 시 무효화 채널을 구독")
+    void constructor_subscribesInvalidationChannel() {
+        verify(listenerContainer).addMessageListener(nearCache, new ChannelTopic(TuningReportNearCache.INVALIDATION_CHANNEL));
+    }
+
+    @Test
+    @DisplayName("publishInvalidation - 로컬 캐시를 비우고 다른 인스턴스에 무효화 메시지 발행")
+    void publishInvalidation_clearsLocalCacheAndPublishes() {
+        nearCache.putItem(item(1L, new TuningReportListResponse.Reactions(1, 2, 3, 4, 5)));
+
+        nearCache.publishInvalidation(DOMAIN);
+
+        assertNull(nearCache.getItem(1L));
+        verify(redisTemplate).convertAndSend(TuningReportNearCache.INVALIDATION_CHANNEL, DOMAIN);
+    }
+
+    @Test
+    @DisplayName("publishInvalidation - 발행 실패해도 예외 없이 로컬 캐시는 비움")
+    void publishInvalidation_publishFails_stillClearsLocalCache() {
+        nearCache.putItem(item(1L, null));
+        when(redisTemplate.convertAndSend(eq(TuningReportNearCache.INVALIDATION_CHANNEL), anyString()))
+                .thenThrow(new IllegalStateException("redis down"));
+
+        assertDoesNotThrow(() -> nearCache.publishInvalidation(DOMAIN));
+        assertNull(nearCache.getItem(1L));
+    }
+
+    @Test
+    @DisplayName("onMessage - 다른 인스턴스의 무효화 메시지를 받으면 로컬 캐시를 비움")
+    void onMessage_clearsLocalCache() {
+        nearCache.putItem(item(1L, null));
+        nearCache.putItem(item(2L, null));
+
+        nearCache.onMessage(new DefaultMessage(
+                TuningReportNearCache.INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                DOMAIN.getBytes(StandardCharsets.UTF_8)), null);
+
+        assertNull(nearCache.getItem(1L));
+        assertNull(nearCache.getItem(2L));
+    }
+
+    @Test
+    @DisplayName("getItem - 반응 수를 공유하지 않는 사본을 반환")
+    void getItem_returnsCopyWithoutSharedReactions() {
+        TuningReportListResponse.ReportItem original = item(1L, new TuningReportListResponse.Reactions(1, 2, 3, 4, 5));
+        nearCache.putItem(original);
+        original.setTitle("원본 변경");
+        original.getReactions().setCelebrate(100);
+
+        TuningReportListResponse.ReportItem first = nearCache.getItem(1L);
+        assertNotSame(original, first);
+        assertEquals("제목-1", first.getTitle());
+        assertNull(first.getReactions());
+        assertNull(first.getMyReactions());
+
+        // 호출자가 응답 조립 중 사본을 채워도 다음 조회에 새어 나가지 않아야 함
+        first.setTitle("응답 변경");
+        first.setReactions(new TuningReportListResponse.Reactions(9, 9, 9, 9, 9));
+
+        TuningReportListResponse.ReportItem second = nearCache.getItem(1L);
+        assertNotSame(first, second);
+        assertEquals("제목-1", second.getTitle());
+        assertNull(second.getReactions());
+    }
+
+    @Test
+    @DisplayName("recordItemL2 - 적중/미스 수만큼 태그별 카운터 증가")
+    void recordItemL2_incrementsTaggedCounters() {
+        nearCache.recordItemL2(3, 1);
+        nearCache.recordItemL2(2, 0);
+
+        assertEquals(5.0, l2Count("hit"));
+        assertEquals(1.0, l2Count("miss"));
+    }
+
+    private double l2Count(String result) {
+        return meterRegistry.get("tuningreport.cache.l2.gets")
+                .tag("cache", TuningReportNearCache.ITEMS)
+                .tag("result", result)
+                .counter()
+                .count();
+    }
+
+    private TuningReportListResponse.ReportItem item(Long reportId, TuningReportListResponse.Reactions reactions) {
+        return new TuningReportListResponse.ReportItem(
+                LocalDateTime.of(2025, 6, 1, 12, 0), reportId, "제목-" + reportId, "내용-" + reportId, reactions, null);
+    }
+}
@@ -0,0 +1,103 @@
+package com.hertz.hertz_be.domain.tuningreport.repository;
+
+import com.corundumstudio.socketio.SocketIOServer;
+import com.hertz.hertz_be.domain.channel.entity.SignalRoom;
+import com.hertz.hertz_be.domain.channel.entity.enums.Category;
+import com.hertz.hertz_be.domain.channel.entity.enums.MatchingStatus;
+import com.hertz.hertz_be.domain.channel.repository.SignalRoomRepository;
+import com.hertz.hertz_be.domain.tuningreport.entity.TuningReport;
+import com.hertz.hertz_be.domain.tuningreport.entity.enums.ReactionType;
+import com.hertz.hertz_be.domain.tuningreport.repository.projection.TuningReportUserReactionRepositoryCustom.ReactionRow;
+import com.hertz.hertz_be.domain.user.entity.User;
+import com.hertz.hertz_be.domain.user.repository.UserRepository;
+import com.hertz.hertz_be.global.config.TestContainersConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+
+import static com.hertz.hertz_be.domain.auth.fixture.UserFixture.createTestUser;
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@Testcontainers
+@ActiveProfiles("test")
+class TuningReportUserReactionRepositoryTest extends TestContainersConfig {
+
+    @MockBean
+    private SocketIOServer socketIOServer;
+
+    @Autowired private TuningReportUserReactionRepository reactionRepository;
+    @Autowired private TuningReportRepository tuningReportRepository;
+    @Autowired private SignalRoomRepository signalRoomRepository;
+    @Autowired private UserRepository userRepository;
+
+    private User reactor;
+    private TuningReport report;
+
+    @BeforeEach
+    void setUp() {
+        User sender = userRepository.save(createTestUser("kakaotech.com"));
+        User receiver = userRepository.save(createTestUser("kakaotech.com"));
+        reactor = userRepository.save(createTestUser("kakaotech.com"));
+        SignalRoom room = signalRoomRepository.save(SignalRoom.builder()
+                .senderUser(sender)
+                .receiverUser(receiver)
+                .category(Category.FRIEND)
+                .userPairSignal("sig-" + sender.getId() + "-" + receiver.getId())
+                .senderMatchingStatus(MatchingStatus.MATCHED)
+                .receiverMatchingStatus(MatchingStatus.MATCHED)
+                .build());
+        report = tuningReportRepository.save(TuningReport.builder()
+                .signalRoom(room)
+                .title("튜닝 리포트")
+                .content("내용")
+                .emailDomain("kakaotech.com")
+                .isVisible(true)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        reactionRepository.deleteAll();
+        tuningReportRepository.deleteAll();
+        signalRoomRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("batchUpsert - 탈퇴(삭제)한 사용자의 반응은 FK 위반 없이 건너뛰고 나머지만 반영")
+    void batchUpsert_skipsDeletedUser() {
+        User withdrawn = userRepository.save(createTestUser("kakaotech.com"));
+        Long withdrawnId = withdrawn.getId();
+        userRepository.delete(withdrawn);
+
+        reactionRepository.batchUpsert(List.of(
+                new ReactionRow(report.getId(), reactor.getId(), ReactionType.HEART),
+                new ReactionRow(report.getId(), withdrawnId, ReactionType.HEART)));
+
+        assertEquals(1, reactionRepository.count());
+        assertTrue(reactionRepository.existsByReportIdAndUserIdAndReactionType(report.getId(), reactor.getId(), ReactionType.HEART));
+        assertFalse(reactionRepository.existsByReportIdAndUserIdAndReactionType(report.getId(), withdrawnId, ReactionType.HEART));
+    }
+
+    @Test
+    @DisplayName("batchUpsert - 삭제된 리포트의 반응은 건너뛰고, 같은 청크를 다시 반영해도 중복되지 않음")
+    void batchUpsert_skipsMissingReportAndIsIdempotent() {
+        List<ReactionRow> rows = List.of(
+                new ReactionRow(report.getId(), reactor.getId(), ReactionType.CELEBRATE),
+                new ReactionRow(report.getId() + 1000, reactor.getId(), ReactionType.CELEBRATE));
+
+        reactionRepository.batchUpsert(rows);
+        reactionRepository.batchUpsert(rows);
+
+        assertEquals(1, reactionRepository.count());
+    }
+}
@@ -0,0 +1,127 @@
+package com.hertz.hertz_be.domain.tuningreport.service;
+
+import com.hertz.hertz_be.domain.tuningreport.dto.response.TuningReportListResponse;
+import com.hertz.hertz_be.domain.tuningreport.entity.enums.ReactionType;
+import com.hertz.hertz_be.domain.tuningreport.repository.TuningReportCacheManager;
+import com.hertz.hertz_be.domain.tuningreport.repository.projection.TuningReportUserReactionRepositoryCustom.ReactionRow;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TuningReportFlushSchedulerTest {
+
+    @Mock private TuningReportCacheManager cacheManager;
+    @Mock private TuningReportReactionTransactionalService txService;
+    @Mock private RedissonClient redissonClient;
+    @Mock private RLock lock;
+
+    private MeterRegistry meterRegistry;
+    private TuningReportFlushScheduler scheduler;
+
+    @BeforeEach
+    void setUp() throws InterruptedException {
+        meterRegistry = new SimpleMeterRegistry();
+        scheduler = new TuningReportFlushScheduler(cacheManager, txService, redissonClient, meterRegistry,
+                2, 10, 3, Duration.ofSeconds(1));
+
+        when(redissonClient.getLock(anyString())).thenReturn(lock);
+        when(lock.tryLock(anyLong(), eq(TimeUnit.MILLISECONDS))).thenReturn(true);
+        when(lock.isHeldByCurrentThread()).thenReturn(true);
+    }
+
+    @Test
+    @DisplayName("청크마다 트랜잭션 반영 후 ack, 큐가 비면 종료하고 처리 행 수를 기록")
+    void flushDirtyReports_appliesChunksAndAcks() {
+        TuningReportCacheManager.FlushSnapshot first = new TuningReportCacheManager.FlushSnapshot(
+                Map.of(1L, new TuningReportListResponse.Reactions(1, 0, 0, 0, 0)),
+                List.of(new ReactionRow(1L, 10L, ReactionType.CELEBRATE)),
+                List.of(new ReactionRow(2L, 10L, ReactionType.HEART)));
+        TuningReportCacheManager.FlushSnapshot second = new TuningReportCacheManager.FlushSnapshot(Map.of(), List.of(), List.of());
+
+        when(cacheManager.claimDirtyReports(2)).thenReturn(List.of(1L, 2L), List.of(3L), List.of());
+        when(cacheManager.readFlushSnapshot(List.of(1L, 2L))).thenReturn(first);
+        when(cacheManager.readFlushSnapshot(List.of(3L))).thenReturn(second);
+        when(txService.applyFlushChunk(first)).thenReturn(new TuningReportReactionTransactionalService.FlushResult(1, 1, 1));
+        when(txService.applyFlushChunk(second)).thenReturn(new TuningReportReactionTransactionalService.FlushResult(0, 0, 0));
+
+        scheduler.flushDirtyReports();
+
+        InOrder inOrder = inOrder(txService, cacheManager);
+        inOrder.verify(txService).applyFlushChunk(first);
+        inOrder.verify(cacheManager).ackFlushed(List.of(1L, 2L));
+        inOrder.verify(txService).applyFlushChunk(second);
+        inOrder.verify(cacheManager).ackFlushed(List.of(3L));
+        assertEquals(1.0, meterRegistry.get("tuningreport.flush.rows").tag("op", "upsert").counter().count());
+        verify(lock).unlock();
+    }
+
+    @Test
+    @DisplayName("DB 반영이 실패하면 ack 하지 않아 다음 실행에서 같은 청크를 다시 반영")
+    void flushDirtyReports_failureLeavesChunkPending() {
+        TuningReportCacheManager.FlushSnapshot snapshot = new TuningReportCacheManager.FlushSnapshot(Map.of(), List.of(), List.of());
+        when(cacheManager.claimDirtyReports(2)).thenReturn(List.of(1L));
+        when(cacheManager.readFlushSnapshot(List.of(1L))).thenReturn(snapshot);
+        when(txService.applyFlushChunk(snapshot)).thenThrow(new IllegalStateException("db down"));
+        when(cacheManager.oldestDirtySince()).thenReturn(System.currentTimeMillis() - 5_000);
+
+        scheduler.flushDirtyReports();
+
+        verify(cacheManager, never()).ackFlushed(any());
+        verify(cacheManager).recordFlushFailure(List.of(1L));
+        verify(cacheManager, never()).quarantineFlushing(anyLong());
+        assertTrue(meterRegistry.get("tuningreport.flush.lag").gauge().value() >= 5);
+    }
+
+    @Test
+    @DisplayName("같은 청크가 최대 횟수만큼 실패하면 리포트 단위로 반영하고 실패한 리포트만 격리한 뒤 다음 청크 진행")
+    void flushDirtyReports_quarantinesRepeatedlyFailingReport() {
+        TuningReportCacheManager.FlushSnapshot chunk = new TuningReportCacheManager.FlushSnapshot(Map.of(), List.of(), List.of());
+        TuningReportCacheManager.FlushSnapshot good = snapshotOf(1L);
+        TuningReportCacheManager.FlushSnapshot poisoned = snapshotOf(2L);
+        TuningReportCacheManager.FlushSnapshot next = snapshotOf(3L);
+
+        when(cacheManager.claimDirtyReports(2)).thenReturn(List.of(1L, 2L), List.of(3L), List.of());
+        when(cacheManager.readFlushSnapshot(List.of(1L, 2L))).thenReturn(chunk);
+        when(cacheManager.readFlushSnapshot(List.of(1L))).thenReturn(good);
+        when(cacheManager.readFlushSnapshot(List.of(2L))).thenReturn(poisoned);
+        when(cacheManager.readFlushSnapshot(List.of(3L))).thenReturn(next);
+        when(cacheManager.recordFlushFailure(List.of(1L, 2L))).thenReturn(3L);
+        when(txService.applyFlushChunk(any())).thenAnswer(invocation -> {
+            TuningReportCacheManager.FlushSnapshot snapshot = invocation.getArgument(0);
+            if (snapshot == chunk || snapshot == poisoned) throw new IllegalStateException("fk violation");
+            return new TuningReportReactionTransactionalService.FlushResult(1, 0, 0);
+        });
+
+        scheduler.flushDirtyReports();
+
+        verify(cacheManager, never()).ackFlushed(List.of(1L, 2L));
+        verify(cacheManager).ackFlushed(List.of(1L));
+        verify(cacheManager).quarantineFlushing(2L);
+        verify(cacheManager, never()).quarantineFlushing(1L);
+        verify(cacheManager).ackFlushed(List.of(3L));
+        assertEquals(1.0, meterRegistry.get("tuningreport.flush.quarantined").counter().count());
+    }
+
+    private TuningReportCacheManager.FlushSnapshot snapshotOf(Long reportId) {
+        return new TuningReportCacheManager.FlushSnapshot(
+                Map.of(reportId, new TuningReportListResponse.Reactions(0, 0, 0, 0, 0)), List.of(), List.of());
+    }
+}
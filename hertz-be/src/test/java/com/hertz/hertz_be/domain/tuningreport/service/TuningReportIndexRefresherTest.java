@@ -0,0 +1,83 @@
+package com.hertz.hertz_be.domain.tuningreport.service;
+
+import com.hertz.hertz_be.domain.tuningreport.repository.TuningReportCacheManager;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TuningReportIndexRefresherTest {
+
+    private static final String DOMAIN = "kakaotech.com";
+
+    @Mock private TuningReportCacheManager cacheManager;
+    @Mock private TuningReportTransactionalService transactionalService;
+    @Mock private RedissonClient redissonClient;
+    @Mock private RLock lock;
+
+    private MeterRegistry meterRegistry;
+    private TuningReportIndexRefresher refresher;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        refresher = new TuningReportIndexRefresher(cacheManager, transactionalService, redissonClient, meterRegistry,
+                Duration.ofSeconds(30));
+        when(redissonClient.getLock("lock:report:domain:" + DOMAIN)).thenReturn(lock);
+    }
+
+    @Test
+    @DisplayName("rebuild - 다른 요청이 재적재 중이면 기다리지 않고 false, DB 조회 없음")
+    void rebuild_lockBusy_returnsFalseWithoutWaiting() throws InterruptedException {
+        when(lock.tryLock(0, 30_000, TimeUnit.MILLISECONDS)).thenReturn(false);
+
+        assertFalse(refresher.rebuild(DOMAIN));
+        verifyNoInteractions(transactionalService);
+        verify(cacheManager, never()).cacheDomainIndex(anyString(), anyList(), any());
+    }
+
+    @Test
+    @DisplayName("rebuild - 락 획득 시 DB 정렬 키를 적재하고 소요 시간을 함께 기록")
+    void rebuild_lockAcquired_cachesIndexWithRebuildTime() throws InterruptedException {
+        List<TuningReportCacheManager.IndexEntry> entries =
+                List.of(new TuningReportCacheManager.IndexEntry(1L, LocalDateTime.of(2025, 1, 1, 0, 0), 3));
+        when(lock.tryLock(0, 30_000, TimeUnit.MILLISECONDS)).thenReturn(true);
+        when(lock.isHeldByCurrentThread()).thenReturn(true);
+        when(transactionalService.findIndexEntries(DOMAIN)).thenReturn(entries);
+
+        assertTrue(refresher.rebuild(DOMAIN));
+        verify(cacheManager).cacheDomainIndex(eq(DOMAIN), eq(entries), any(Duration.class));
+        verify(lock).unlock();
+        assertEquals(1, meterRegistry.get("tuningreport.cache.index.rebuild").tag("trigger", "miss").timer().count());
+    }
+
+    @Test
+    @DisplayName("refreshAsync - 조기 재적재로 기록하고 완료 후 같은 도메인을 다시 제출할 수 있음")
+    void refreshAsync_recordsEarlyTriggerAndReleasesDomain() throws InterruptedException {
+        when(lock.tryLock(0, 30_000, TimeUnit.MILLISECONDS)).thenReturn(true);
+        when(lock.isHeldByCurrentThread()).thenReturn(true);
+        when(transactionalService.findIndexEntries(DOMAIN)).thenReturn(List.of());
+
+        refresher.refreshAsync(DOMAIN);
+        refresher.refreshAsync(DOMAIN);
+
+        verify(transactionalService, times(2)).findIndexEntries(DOMAIN);
+        assertEquals(2, meterRegistry.get("tuningreport.cache.index.rebuild").tag("trigger", "early").timer().count());
+    }
+}
@@ -0,0 +1,78 @@
+package com.hertz.hertz_be.domain.tuningreport.service;
+
+import com.hertz.hertz_be.domain.tuningreport.dto.response.TuningReportListResponse;
+import com.hertz.hertz_be.domain.tuningreport.entity.enums.ReactionType;
+import com.hertz.hertz_be.domain.tuningreport.entity.enums.TuningReportSortType;
+import com.hertz.hertz_be.domain.tuningreport.repository.TuningReportCacheManager;
+import com.hertz.hertz_be.domain.user.service.UserDomainResolver;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TuningReportServiceTest {
+
+    private static final String DOMAIN = "kakaotech.com";
+    private static final Long USER_ID = 1L;
+
+    @Mock private TuningReportTransactionalService transactionalService;
+    @Mock private TuningReportCacheManager cacheManager;
+    @Mock private UserDomainResolver userDomainResolver;
+    @Mock private TuningReportIndexRefresher indexRefresher;
+
+    @InjectMocks
+    private TuningReportService tuningReportService;
+
+    @Test
+    @DisplayName("getReportList - 최대 크기를 넘는 페이지는 캐시를 거치지 않고 DB 페이지 조회")
+    void getReportList_oversizedPage_bypassesCache() {
+        TuningReportListResponse dbResponse = new TuningReportListResponse(List.of(), 0, 51, true);
+        when(transactionalService.fetchDirectlyFromDB(USER_ID, 0, 51, TuningReportSortType.LATEST)).thenReturn(dbResponse);
+
+        assertSame(dbResponse, tuningReportService.getReportList(USER_ID, 0, 51, TuningReportSortType.LATEST));
+
+        verifyNoInteractions(cacheManager, userDomainResolver, indexRefresher);
+    }
+
+    @Test
+    @DisplayName("getReportList - 캐시에 없는 아이템만 DB 에서 채우고, 그 사이 삭제 / 숨김된 리포트는 빼고 인덱스 순서대로 반환")
+    void getReportList_fillsMissingItemsSkippingRemovedReports() {
+        TuningReportListResponse.ReportItem cached = item(3L);
+        TuningReportListResponse.ReportItem loaded = item(2L);
+        TuningReportListResponse.Reactions pendingCounts = new TuningReportListResponse.Reactions(0, 0, 0, 0, 9);
+        TuningReportCacheManager.CachedPage page = new TuningReportCacheManager.CachedPage(
+                List.of(3L, 2L, 1L), Map.of(3L, cached), List.of(2L, 1L), Map.of(2L, pendingCounts), 3, false);
+
+        when(userDomainResolver.resolve(USER_ID)).thenReturn(DOMAIN);
+        when(cacheManager.getCachedPage(DOMAIN, TuningReportSortType.LATEST, 0, 10)).thenReturn(page);
+        // 1번 리포트는 삭제 / 숨김 처리되어 조회되지 않음
+        when(transactionalService.findReportItems(List.of(2L, 1L))).thenReturn(List.of(loaded));
+        when(cacheManager.getUserReactions(List.of(3L, 2L), USER_ID)).thenReturn(Map.of(2L, Set.of(ReactionType.HEART)));
+
+        TuningReportListResponse response = tuningReportService.getReportList(USER_ID, 0, 10, TuningReportSortType.LATEST);
+
+        assertEquals(List.of(3L, 2L), response.getList().stream().map(TuningReportListResponse.ReportItem::getReportId).toList());
+        assertEquals(9, response.getList().get(1).getReactions().getHeart());
+        assertTrue(response.getList().get(1).getMyReactions().isHeart());
+        verify(cacheManager).cacheReportItems(DOMAIN, List.of(loaded));
+        verify(indexRefresher, never()).rebuild(anyString());
+    }
+
+    private TuningReportListResponse.ReportItem item(Long reportId) {
+        return new TuningReportListResponse.ReportItem(
+                LocalDateTime.of(2025, 1, 1, 0, 0).plusMinutes(reportId), reportId, "튜닝 리포트 " + reportId, "내용",
+                new TuningReportListResponse.Reactions(1, 1, 1, 1, 1), null);
+    }
+}
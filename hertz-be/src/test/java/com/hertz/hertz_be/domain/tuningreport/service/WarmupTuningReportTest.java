@@ -0,0 +1,74 @@
+package com.hertz.hertz_be.domain.tuningreport.service;
+
+import com.hertz.hertz_be.domain.tuningreport.repository.TuningReportCacheManager;
+import com.hertz.hertz_be.domain.tuningreport.repository.TuningReportRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class WarmupTuningReportTest {
+
+    private static final String DOMAIN = "kakaotech.com";
+
+    @Mock private TuningReportCacheManager cacheManager;
+    @Mock private TuningReportTransactionalService transactionalService;
+    @Mock private TuningReportRepository tuningReportRepository;
+    @Mock private RedissonClient redissonClient;
+    @Mock private TuningReportIndexRefresher indexRefresher;
+    @Mock private RLock lock;
+
+    @InjectMocks
+    private WarmupTuningReport warmupTuningReport;
+
+    @BeforeEach
+    void setUp() throws InterruptedException {
+        ReflectionTestUtils.setField(warmupTuningReport, "rebuildRetryDelay", Duration.ZERO);
+        when(redissonClient.getLock("lock:warmup:" + DOMAIN)).thenReturn(lock);
+        when(lock.tryLock(0, 10, TimeUnit.SECONDS)).thenReturn(true);
+        when(lock.isHeldByCurrentThread()).thenReturn(true);
+        when(tuningReportRepository.findAllNotDeletedByEmailDomainOrderByCreatedAtDesc(eq(DOMAIN), any(Pageable.class)))
+                .thenReturn(Page.empty());
+    }
+
+    @Test
+    @DisplayName("warmupDomain - 다른 요청이 인덱스를 재적재 중이면 끝난 뒤 다시 재적재")
+    void warmupDomain_retriesRebuildWhileAnotherRebuildRuns() {
+        when(indexRefresher.rebuild(DOMAIN)).thenReturn(false, true);
+
+        warmupTuningReport.warmupDomain(DOMAIN);
+
+        verify(indexRefresher, times(2)).rebuild(DOMAIN);
+        verify(cacheManager).invalidateNearCache(DOMAIN);
+        verify(cacheManager).cacheReportItems(DOMAIN, List.of());
+        verify(lock).unlock();
+    }
+
+    @Test
+    @DisplayName("warmupDomain - 재시도해도 재적재 락을 얻지 못하면 진행 중인 재적재 결과를 쓰고 아이템 적재는 계속")
+    void warmupDomain_givesUpRebuildAfterMaxAttempts() {
+        when(indexRefresher.rebuild(DOMAIN)).thenReturn(false);
+
+        warmupTuningReport.warmupDomain(DOMAIN);
+
+        verify(indexRefresher, times(3)).rebuild(DOMAIN);
+        verify(cacheManager).cacheReportItems(DOMAIN, List.of());
+        verify(lock).unlock();
+    }
+}
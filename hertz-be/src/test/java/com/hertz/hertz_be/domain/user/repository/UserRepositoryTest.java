@@ -0,0 +1,89 @@
+package com.hertz.hertz_be.domain.user.repository;
+
+import com.corundumstudio.socketio.SocketIOServer;
+import com.hertz.hertz_be.domain.user.entity.User;
+import com.hertz.hertz_be.global.config.TestContainersConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static com.hertz.hertz_be.domain.auth.fixture.UserFixture.createTestUser;
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@Testcontainers
+@ActiveProfiles("test")
+class UserRepositoryTest extends TestContainersConfig {
+
+    @MockBean
+    private SocketIOServer socketIOServer;
+
+    @Autowired private UserRepository userRepository;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("findAllByEmailDomain - backfill 전 행(email_domain 비어 있음)도 email 로 찾고, 탈퇴 / 다른 도메인은 제외")
+    void findAllByEmailDomain_includesRowsNotYetBackfilled() {
+        User backfilled = userRepository.save(createTestUser("kakaotech.com"));
+        User notBackfilled = saveWithoutEmailDomain("kakaotech.com");
+        User withdrawn = userRepository.save(createTestUser("kakaotech.com"));
+        jdbcTemplate.update("UPDATE user SET deleted_at = ? WHERE id = ?", LocalDateTime.now(), withdrawn.getId());
+        userRepository.save(createTestUser("other.com"));
+        // 접미사만 같은 도메인은 포함하지 않음
+        saveWithoutEmailDomain("notkakaotech.com");
+
+        Set<Long> found = userRepository.findAllByEmailDomain("kakaotech.com").stream()
+                .map(User::getId)
+                .collect(Collectors.toSet());
+
+        assertEquals(Set.of(backfilled.getId(), notBackfilled.getId()), found);
+    }
+
+    @Test
+    @DisplayName("backfillEmailDomain - 비어 있는 행만 limit 개씩 채우고, 모두 채우면 0")
+    void backfillEmailDomain_fillsInChunks() {
+        List<User> users = List.of(
+                saveWithoutEmailDomain("kakaotech.com"),
+                saveWithoutEmailDomain("kakaotech.com"),
+                saveWithoutEmailDomain("other.com"));
+
+        assertEquals(2, userRepository.backfillEmailDomain(2));
+        assertEquals(1, userRepository.backfillEmailDomain(2));
+        assertEquals(0, userRepository.backfillEmailDomain(2));
+
+        assertEquals("other.com", userRepository.findEmailDomainById(users.get(2).getId()));
+        Integer remaining = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM user WHERE email_domain IS NULL", Integer.class);
+        assertEquals(0, remaining);
+    }
+
+    @Test
+    @DisplayName("findEmailDomainById - backfill 전 행은 email 에서 바로 계산")
+    void findEmailDomainById_fallsBackToEmail() {
+        User user = saveWithoutEmailDomain("kakaotech.com");
+
+        assertEquals("kakaotech.com", userRepository.findEmailDomainById(user.getId()));
+    }
+
+    // 컬럼 추가 전에 가입한 사용자처럼 email_domain 을 비움
+    private User saveWithoutEmailDomain(String domain) {
+        User user = userRepository.save(createTestUser(domain));
+        jdbcTemplate.update("UPDATE user SET email_domain = NULL WHERE id = ?", user.getId());
+        return user;
+    }
+}
@@ -0,0 +1,57 @@
+package com.hertz.hertz_be.domain.user.service;
+
+import com.hertz.hertz_be.domain.user.repository.UserRepository;
+import com.hertz.hertz_be.global.config.CacheConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * @Cacheable 은 프록시로 동작하므로 실제 CacheConfig 와 함께 스프링 컨텍스트에서 검증
+ */
+@SpringJUnitConfig(classes = {CacheConfig.class, UserDomainResolver.class})
+class UserDomainResolverTest {
+
+    @MockBean
+    private UserRepository userRepository;
+
+    @Autowired private UserDomainResolver userDomainResolver;
+    @Autowired private CacheManager cacheManager;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCache(UserDomainResolver.CACHE_NAME).clear();
+    }
+
+    @Test
+    @DisplayName("resolve - 같은 사용자는 한 번만 조회하고 이후에는 캐시에서 반환")
+    void resolve_cachesPerUser() {
+        when(userRepository.findEmailDomainById(1L)).thenReturn("kakaotech.com");
+        when(userRepository.findEmailDomainById(2L)).thenReturn("other.com");
+
+        assertEquals("kakaotech.com", userDomainResolver.resolve(1L));
+        assertEquals("kakaotech.com", userDomainResolver.resolve(1L));
+        assertEquals("other.com", userDomainResolver.resolve(2L));
+
+        verify(userRepository, times(1)).findEmailDomainById(1L);
+        verify(userRepository, times(1)).findEmailDomainById(2L);
+    }
+
+    @Test
+    @DisplayName("resolve - 없는(탈퇴한) 사용자는 캐시하지 않아 매번 다시 조회")
+    void resolve_doesNotCacheMissingUser() {
+        when(userRepository.findEmailDomainById(9L)).thenReturn(null);
+
+        assertNull(userDomainResolver.resolve(9L));
+        assertNull(userDomainResolver.resolve(9L));
+
+        verify(userRepository, times(2)).findEmailDomainById(9L);
+    }
+}
@@ -0,0 +1,87 @@
+package com.hertz.hertz_be.domain.user.service;
+
+import com.hertz.hertz_be.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserEmailDomainBackfillTest {
+
+    @Mock private UserRepository userRepository;
+    @Mock private RedissonClient redissonClient;
+    @Mock private RLock lock;
+
+    @InjectMocks
+    private UserEmailDomainBackfill backfill;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(backfill, "chunkSize", 100);
+        ReflectionTestUtils.setField(backfill, "backfillEnabled", true);
+    }
+
+    @Test
+    @DisplayName("backfill - chunk 가 가득 차는 동안 계속 채우고, 덜 찬 chunk 에서 종료")
+    void backfillOnStartup_loopsUntilPartialChunk() throws InterruptedException {
+        lockAcquired(true);
+        when(userRepository.backfillEmailDomain(100)).thenReturn(100, 100, 37);
+
+        backfill.backfillOnStartup();
+
+        verify(userRepository, times(3)).backfillEmailDomain(100);
+        verify(lock).unlock();
+    }
+
+    @Test
+    @DisplayName("backfill - 채울 행이 없으면 한 번만 조회")
+    void backfillOnStartup_nothingToFill() throws InterruptedException {
+        lockAcquired(true);
+        when(userRepository.backfillEmailDomain(100)).thenReturn(0);
+
+        backfill.backfillOnStartup();
+
+        verify(userRepository, times(1)).backfillEmailDomain(100);
+    }
+
+    @Test
+    @DisplayName("backfill - 다른 인스턴스가 락을 잡고 있으면 아무 것도 하지 않음")
+    void backfillOnStartup_skipsWhenLockNotAcquired() throws InterruptedException {
+        lockAcquired(false);
+
+        backfill.backfillOnStartup();
+
+        verifyNoInteractions(userRepository);
+        verify(lock, never()).unlock();
+    }
+
+    @Test
+    @DisplayName("backfill - 비활성화되어 있으면 락도 잡지 않음")
+    void backfillOnStartup_disabled() {
+        ReflectionTestUtils.setField(backfill, "backfillEnabled", false);
+
+        backfill.backfillOnStartup();
+
+        verifyNoInteractions(redissonClient, userRepository);
+    }
+
+    private void lockAcquired(boolean acquired) throws InterruptedException {
+        when(redissonClient.getLock(anyString())).thenReturn(lock);
+        when(lock.tryLock(0, 30, TimeUnit.MINUTES)).thenReturn(acquired);
+        if (acquired) {
+            when(lock.isHeldByCurrentThread()).thenReturn(true);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.hertz.hertz_be.global.batch;
+
+import com.hertz.hertz_be.domain.auth.fixture.UserFixture;
+import com.hertz.hertz_be.domain.channel.entity.SignalRoom;
+import com.hertz.hertz_be.domain.channel.fixture.SignalRoomFixture;
+import com.hertz.hertz_be.domain.channel.repository.SignalRoomRepository;
+import com.hertz.hertz_be.domain.tuningreport.entity.TuningReport;
+import com.hertz.hertz_be.domain.tuningreport.repository.TuningReportRepository;
+import com.hertz.hertz_be.global.exception.AiServerBadRequestException;
+import com.hertz.hertz_be.global.infra.ai.client.TuningAiClient;
+import com.hertz.hertz_be.global.infra.ai.dto.request.AiTuningReportGenerationRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.item.Chunk;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TuningReportGenerationWriterTest {
+
+    private static final String DOMAIN = "kakaotech.com";
+
+    @Mock private TuningReportRepository tuningReportRepository;
+    @Mock private TuningAiClient tuningAiClient;
+    @Mock private SignalRoomRepository signalRoomRepository;
+
+    @InjectMocks
+    private TuningReportGenerationWriter writer;
+
+    @Captor
+    private ArgumentCaptor<List<TuningReport>> reportsCaptor;
+
+    private SignalRoom firstRoom;
+    private SignalRoom secondRoom;
+    private AiTuningReportGenerationRequest firstRequest;
+    private AiTuningReportGenerationRequest secondRequest;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(writer, "aiConcurrency", 4);
+        firstRoom = SignalRoomFixture.createWithId(UserFixture.createDefaultSender(), UserFixture.createDefaultReceiver(), 10L);
+        secondRoom = SignalRoomFixture.createWithId(UserFixture.createDefaultSender(), UserFixture.createDefaultReceiver(), 20L);
+        firstRequest = AiTuningReportGenerationRequest.of(firstRoom, 5, null, null, DOMAIN);
+        secondRequest = AiTuningReportGenerationRequest.of(secondRoom, 5, null, null, DOMAIN);
+        when(signalRoomRepository.findAllById(List.of(10L, 20L))).thenReturn(List.of(firstRoom, secondRoom));
+    }
+
+    @Test
+    @DisplayName("write - 응답이 늦게 온 요청도 자신의 채팅방 리포트로 저장")
+    void write_pairsEachResponseWithItsRoom() {
+        when(tuningAiClient.requestTuningReportAsync(firstRequest))
+                .thenReturn(Mono.delay(Duration.ofMillis(50)).thenReturn(response("첫 번째")));
+        when(tuningAiClient.requestTuningReportAsync(secondRequest)).thenReturn(Mono.just(response("두 번째")));
+
+        writer.write(new Chunk<>(List.of(firstRequest, secondRequest)));
+
+        verify(tuningReportRepository).saveAll(reportsCaptor.capture());
+        List<TuningReport> reports = reportsCaptor.getValue();
+        assertEquals(2, reports.size());
+        assertSame(firstRoom, reports.get(0).getSignalRoom());
+        assertEquals("첫 번째", reports.get(0).getTitle());
+        assertSame(secondRoom, reports.get(1).getSignalRoom());
+        assertEquals("두 번째", reports.get(1).getTitle());
+    }
+
+    @Test
+    @DisplayName("write - 빈 응답(본문 없는 200)이 있으면 다른 방과 짝이 어긋나지 않도록 청크를 실패 처리하고 저장하지 않음")
+    void write_emptyResponse_failsChunk() {
+        when(tuningAiClient.requestTuningReportAsync(firstRequest)).thenReturn(Mono.empty());
+        // 첫 요청이 먼저 실패하면 두 번째 요청은 구독되지 않을 수 있음
+        lenient().when(tuningAiClient.requestTuningReportAsync(secondRequest)).thenReturn(Mono.just(response("두 번째")));
+
+        assertThrows(AiServerBadRequestException.class,
+                () -> writer.write(new Chunk<>(List.of(firstRequest, secondRequest))));
+
+        verify(tuningReportRepository, never()).saveAll(anyList());
+    }
+
+    private Map<String, Object> response(String title) {
+        return Map.of("data", Map.of("title", title, "content", title + " 내용"));
+    }
+}
@@ -1,14 +1,22 @@
 package com.hertz.hertz_be.global.kafka.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.hertz.hertz_be.global.kafka.dto.SseEventDto;
 import com.hertz.hertz_be.global.kafka.fixture.SseEventDtoFixture;
+import com.hertz.hertz_be.global.kafka.serializer.SseEventDeserializer;
 import com.hertz.hertz_be.global.kafka.servise.KafkaProducerService;
 import com.hertz.hertz_be.global.sse.SseService;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.serialization.StringDeserializer;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.test.utils.KafkaTestUtils;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
@@ -18,6 +26,12 @@ import org.testcontainers.junit.jupiter.Testcontainers;
 import org.testcontainers.utility.DockerImageName;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
@@ -42,6 +56,10 @@ class KafkaControllerTest {
     @Autowired private KafkaProducerService kafkaProducerService;
     @Autowired private SseService sseService;
     @Autowired private MockMvc mockMvc;
+    @Autowired private ObjectMapper objectMapper;
+
+    @Value("${kafka.topic.sse.name}")
+    private String sseTopic;
 
     @Test
     @DisplayName("KafkaController - healthcheck-topic 메시지 전송 성공")
@@ -60,6 +78,24 @@ class KafkaControllerTest {
         kafkaProducerService.sendSseEvent(event);
     }
 
+    @Test
+    @DisplayName("KafkaProducerService - SSE 이벤트 묶음은 같은 사용자 key 로 보낸 순서대로 적재")
+    void sendSseEvents_shouldSucceed() {
+        Long userId = 424242L;
+
+        kafkaProducerService.sendSseEvents(List.of(
+                SseEventDtoFixture.withAll(userId, "TEST_EVENT", "test-data"),
+                SseEventDtoFixture.withAll(userId, "nav-new-message", "")
+        ));
+
+        List<ConsumerRecord<String, SseEventDto>> records = pollSseEvents(userId, 2);
+        assertEquals(List.of("TEST_EVENT", "nav-new-message"),
+                records.stream().map(record -> record.value().eventName()).toList());
+        assertTrue(records.stream().allMatch(record -> userId.toString().equals(record.key())));
+        assertEquals(records.get(0).partition(), records.get(1).partition());
+        assertTrue(records.get(0).offset() < records.get(1).offset());
+    }
+
     @Test
     @DisplayName("KafkaProducerService - userId가 null인 이벤트 전송 시 NPE 발생")
     void sendSseEvent_shouldFail_whenUserIdIsNull() {
@@ -87,4 +123,27 @@ class KafkaControllerTest {
             sseService.sendErrorAndComplete(999999L, "E001", "없는 유저");
         });
     }
+
+    // 별도 consumer group 으로 SSE 토픽을 처음부터 읽어 해당 사용자 이벤트만 모음
+    private List<ConsumerRecord<String, SseEventDto>> pollSseEvents(Long userId, int expected) {
+        Map<String, Object> props = KafkaTestUtils.consumerProps(
+                kafkaContainer.getBootstrapServers(), "sse-events-test-" + UUID.randomUUID(), "false");
+        List<ConsumerRecord<String, SseEventDto>> records = new ArrayList<>();
+
+        try (Consumer<String, SseEventDto> consumer = new DefaultKafkaConsumerFactory<>(props,
+                new StringDeserializer(), new SseEventDeserializer(objectMapper)).createConsumer()) {
+            consumer.subscribe(List.of(sseTopic));
+            long deadline = System.currentTimeMillis() + Duration.ofSeconds(30).toMillis();
+            while (records.size() < expected && System.currentTimeMillis() < deadline) {
+                consumer.poll(Duration.ofMillis(500)).forEach(record -> {
+                    if (record.value() != null && userId.equals(record.value().userId())) {
+                        records.add(record);
+                    }
+                });
+            }
+        }
+
+        assertEquals(expected, records.size(), "제한 시간 내 SSE 이벤트를 모두 읽지 못함");
+        return records;
+    }
 }
@@ -0,0 +1,129 @@
+package com.hertz.hertz_be.global.kafka.serializer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hertz.hertz_be.domain.channel.dto.response.sse.ChannelListResponseDto;
+import com.hertz.hertz_be.domain.channel.dto.response.sse.MatchingConvertedResponseDto;
+import com.hertz.hertz_be.domain.channel.dto.response.sse.NewMessageResponseDto;
+import com.hertz.hertz_be.global.common.SseEventName;
+import com.hertz.hertz_be.global.kafka.dto.RenderedSseData;
+import com.hertz.hertz_be.global.kafka.dto.SseEventDto;
+import org.apache.kafka.common.errors.SerializationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SseEventSerializerTest {
+
+    private static final String TOPIC = "sse-event";
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final SseEventSerializer serializer = new SseEventSerializer(objectMapper);
+    private final SseEventDeserializer deserializer = new SseEventDeserializer(objectMapper);
+
+    private final NewMessageResponseDto newMessage = new NewMessageResponseDto(
+            10L, 2L, "상대방", "안녕하세요", "2025-01-01T12:00:00", "https://image", "COUPLE", 3);
+
+    @Test
+    @DisplayName("스키마 이벤트 - data 는 한 번 직렬화된 JSON 바이트 그대로 전달")
+    void typedEvent_roundTripsPreRenderedJson() throws Exception {
+        SseEventDto event = new SseEventDto(1L, SseEventName.NEW_MESSAGE_RECEPTION.getValue(), newMessage);
+
+        SseEventDto restored = deserializer.deserialize(TOPIC, serializer.serialize(TOPIC, event));
+
+        assertEquals(1L, restored.userId());
+        assertEquals(SseEventName.NEW_MESSAGE_RECEPTION.getValue(), restored.eventName());
+        RenderedSseData data = assertInstanceOf(RenderedSseData.class, restored.data());
+        assertArrayEquals(objectMapper.writeValueAsBytes(newMessage), data.bytes());
+        assertNull(data.roomId());
+    }
+
+    @Test
+    @DisplayName("스키마 이벤트 - 타입 헤더 / 이벤트 이름이 없어 JSON 레코드보다 작음")
+    void typedEvent_smallerThanJsonRecord() {
+        SseEventDto event = new SseEventDto(1L, SseEventName.NEW_MESSAGE_RECEPTION.getValue(), newMessage);
+
+        byte[] binary = serializer.serialize(TOPIC, event);
+        try (JsonSerializer<SseEventDto> jsonSerializer = new JsonSerializer<>(objectMapper)) {
+            byte[] json = jsonSerializer.serialize(TOPIC, event);
+            assertTrue(binary.length < json.length);
+        }
+    }
+
+    @Test
+    @DisplayName("CHAT_ROOM_UPDATE - 채팅방 id 를 data 앞에 기록해 payload 파싱 없이 합칠 수 있음")
+    void chatRoomUpdate_carriesRoomId() {
+        ChannelListResponseDto dto = new ChannelListResponseDto(
+                77L, "https://image", "상대방", "마지막 메세지", "2025-01-01T12:00:00", false, "COUPLE");
+
+        SseEventDto restored = deserializer.deserialize(TOPIC,
+                serializer.serialize(TOPIC, new SseEventDto(1L, SseEventName.CHAT_ROOM_UPDATE.getValue(), dto)));
+
+        assertEquals(77L, ((RenderedSseData) restored.data()).roomId());
+    }
+
+    @Test
+    @DisplayName("문자열 data / 스키마에 없는 이벤트 - 원문 그대로, 이벤트 이름 유지")
+    void stringAndCustomEvent_keepRawText() {
+        SseEventDto flag = deserializer.deserialize(TOPIC,
+                serializer.serialize(TOPIC, new SseEventDto(1L, SseEventName.NEW_ALARM.getValue(), "")));
+        SseEventDto custom = deserializer.deserialize(TOPIC,
+                serializer.serialize(TOPIC, new SseEventDto(2L, "TEST_EVENT", "test-data")));
+
+        assertEquals(0, ((RenderedSseData) flag.data()).bytes().length);
+        assertEquals("TEST_EVENT", custom.eventName());
+        assertEquals("test-data", new String(((RenderedSseData) custom.data()).bytes(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("매칭 전환 이벤트 - matchedAt 은 이전과 같은 배열 형식으로 클라이언트에 전달")
+    void matchingConverted_keepsMatchedAtArrayFormat() {
+        MatchingConvertedResponseDto dto = new MatchingConvertedResponseDto(
+                5L, LocalDateTime.of(2025, 1, 1, 12, 30, 15), 2L, "상대방");
+
+        SseEventDto restored = deserializer.deserialize(TOPIC,
+                serializer.serialize(TOPIC, new SseEventDto(1L, SseEventName.SIGNAL_MATCHING_CONVERSION.getValue(), dto)));
+
+        assertEquals("{\"channelRoomId\":5,\"matchedAt\":[2025,1,1,12,30,15],\"partnerId\":2,\"partnerNickname\":\"상대방\"}",
+                new String(((RenderedSseData) restored.data()).bytes(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("payload 타입이 스키마와 다르면 발행 시점에 SerializationException")
+    void payloadTypeMismatch_throws() {
+        SseEventDto event = new SseEventDto(1L, SseEventName.CHAT_ROOM_UPDATE.getValue(), newMessage);
+
+        assertThrows(SerializationException.class, () -> serializer.serialize(TOPIC, event));
+    }
+
+    @Test
+    @DisplayName("이전 JSON 형식 레코드도 읽음")
+    void legacyJsonRecord_isReadable() {
+        byte[] json = """
+                {"userId":3,"eventName":"nav-new-message","data":""}
+                """.getBytes(StandardCharsets.UTF_8);
+
+        SseEventDto restored = deserializer.deserialize(TOPIC, json);
+
+        assertEquals(3L, restored.userId());
+        assertEquals(SseEventName.NAV_NEW_MESSAGE.getValue(), restored.eventName());
+        assertEquals("", restored.data());
+    }
+
+    @Test
+    @DisplayName("DLQ 재발행 - 이미 직렬화된 data 는 다시 직렬화하지 않고 그대로 기록")
+    void renderedData_isWrittenAsIs() {
+        SseEventDto consumed = deserializer.deserialize(TOPIC,
+                serializer.serialize(TOPIC, new SseEventDto(1L, SseEventName.NEW_MESSAGE_RECEPTION.getValue(), newMessage)));
+
+        byte[] republished = serializer.serialize(TOPIC, consumed);
+
+        assertArrayEquals(serializer.serialize(TOPIC,
+                new SseEventDto(1L, SseEventName.NEW_MESSAGE_RECEPTION.getValue(), newMessage)), republished);
+    }
+}
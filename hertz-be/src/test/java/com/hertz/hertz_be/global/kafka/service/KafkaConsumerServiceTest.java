@@ -1,16 +1,25 @@
 package com.hertz.hertz_be.global.kafka.service;
 
+import com.hertz.hertz_be.global.common.SseEventName;
+import com.hertz.hertz_be.global.kafka.dto.RenderedSseData;
 import com.hertz.hertz_be.global.kafka.dto.SseEventDto;
-import com.hertz.hertz_be.global.kafka.exception.KafkaException;
 import com.hertz.hertz_be.global.kafka.servise.KafkaConsumerService;
 import com.hertz.hertz_be.global.sse.SseService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
+import org.springframework.kafka.listener.BatchListenerFailedException;
 import org.springframework.kafka.support.Acknowledgment;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
 import static com.hertz.hertz_be.global.kafka.fixture.SseEventDtoFixture.*;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -24,43 +33,131 @@ class KafkaConsumerServiceTest {
     @Mock
     private Acknowledgment acknowledgment;
 
-    @InjectMocks
+    private SimpleMeterRegistry meterRegistry;
     private KafkaConsumerService kafkaConsumerService;
 
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        kafkaConsumerService = new KafkaConsumerService(sseService, meterRegistry);
+    }
+
     @Test
-    @DisplayName("Kafka → SSE 전송 성공 시 ack 호출됨")
+    @DisplayName("Kafka → SSE 배치 전송 성공 시 배치당 ack 한 번 호출됨")
     void consumeToSse_success() {
         // given
-        SseEventDto event = withAll(1L, "chat", "Hello, Kafka!");
-        when(sseService.sendToClient(event.userId(), event.eventName(), event.data()))
-                .thenReturn(true);
+        SseEventDto first = withAll(1L, "chat", "Hello, Kafka!");
+        SseEventDto second = withAll(1L, "chat", "Hello again");
+        when(sseService.isConnectedLocally(1L)).thenReturn(true);
+        when(sseService.sendToClient(eq(1L), eq("chat"), any())).thenReturn(true);
 
         // when
-        kafkaConsumerService.consumeToSse(event, acknowledgment);
+        kafkaConsumerService.consumeToSse(records(first, second), acknowledgment);
 
         // then
-        verify(sseService).sendToClient(event.userId(), event.eventName(), event.data());
-        verify(acknowledgment).acknowledge();
+        verify(sseService).sendToClient(1L, "chat", "Hello, Kafka!");
+        verify(sseService).sendToClient(1L, "chat", "Hello again");
+        verify(acknowledgment, times(1)).acknowledge();
     }
 
     @Test
-    @DisplayName("Kafka → SSE 전송 중 예외 발생 시 KafkaException throw")
-    void consumeToSse_shouldThrowKafkaException_whenSseFails() {
+    @DisplayName("Kafka → SSE 전송 중 예외 발생 시 실패 레코드를 지정한 BatchListenerFailedException throw")
+    void consumeToSse_shouldThrowBatchListenerFailedException_whenSseFails() {
         // given
-        SseEventDto event = withAll(1L, "chat", "This will fail");
-        when(sseService.sendToClient(event.userId(), event.eventName(), event.data()))
+        SseEventDto ok = withAll(1L, "chat", "ok");
+        SseEventDto fail = withAll(1L, "chat", "This will fail");
+        List<ConsumerRecord<String, SseEventDto>> records = records(ok, fail);
+        when(sseService.isConnectedLocally(1L)).thenReturn(true);
+        when(sseService.sendToClient(1L, "chat", "ok")).thenReturn(true);
+        when(sseService.sendToClient(1L, "chat", "This will fail"))
                 .thenThrow(new RuntimeException("SSE 실패"));
 
         // when & then
-        KafkaException exception = assertThrows(KafkaException.class, () -> {
-            kafkaConsumerService.consumeToSse(event, acknowledgment);
+        BatchListenerFailedException exception = assertThrows(BatchListenerFailedException.class, () -> {
+            kafkaConsumerService.consumeToSse(records, acknowledgment);
         });
 
         assertTrue(exception.getMessage().contains("Kafka → SSE 처리 중 알 수 없는 예외 발생"));
-        verify(sseService).sendToClient(event.userId(), event.eventName(), event.data());
+        assertSame(records.get(1), exception.getRecord());
         verify(acknowledgment, never()).acknowledge();
     }
 
+    @Test
+    @DisplayName("Kafka → SSE 이 노드에 연결이 없는 사용자면 전송 없이 ack")
+    void consumeToSse_notConnectedLocally_acksWithoutSending() {
+        // given
+        SseEventDto event = withAll(1L, "chat", "other node");
+        when(sseService.isConnectedLocally(event.userId())).thenReturn(false);
+
+        // when
+        kafkaConsumerService.consumeToSse(records(event), acknowledgment);
+
+        // then
+        verify(sseService, never()).sendToClient(any(), any(), any());
+        verify(acknowledgment).acknowledge();
+    }
+
+    @Test
+    @DisplayName("Kafka → SSE 상태 플래그 이벤트는 사용자 / 채팅방별 마지막 것만 전송")
+    void consumeToSse_coalescesStateEventsPerUserAndRoom() {
+        // given
+        String nav = SseEventName.NAV_NEW_MESSAGE.getValue();
+        String navNone = SseEventName.NAV_NO_ANY_NEW_MESSAGE.getValue();
+        String alarm = SseEventName.NEW_ALARM.getValue();
+        String roomUpdate = SseEventName.CHAT_ROOM_UPDATE.getValue();
+        String message = SseEventName.NEW_MESSAGE_RECEPTION.getValue();
+
+        List<ConsumerRecord<String, SseEventDto>> records = records(
+                new SseEventDto(1L, nav, ""),
+                new SseEventDto(1L, roomUpdate, Map.of("channelRoomId", 10, "lastMessage", "a")),
+                new SseEventDto(1L, message, "m1"),
+                new SseEventDto(1L, roomUpdate, Map.of("channelRoomId", 11, "lastMessage", "b")),
+                new SseEventDto(1L, roomUpdate, Map.of("channelRoomId", 10, "lastMessage", "c")),
+                new SseEventDto(1L, message, "m2"),
+                new SseEventDto(2L, nav, ""),
+                new SseEventDto(1L, navNone, ""),
+                new SseEventDto(1L, alarm, "")
+        );
+        when(sseService.isConnectedLocally(anyLong())).thenReturn(true);
+        when(sseService.sendToClient(anyLong(), anyString(), any())).thenReturn(true);
+
+        // when
+        kafkaConsumerService.consumeToSse(records, acknowledgment);
+
+        // then
+        InOrder inOrder = inOrder(sseService);
+        inOrder.verify(sseService).sendToClient(1L, message, "m1");
+        inOrder.verify(sseService).sendToClient(1L, roomUpdate, Map.of("channelRoomId", 11, "lastMessage", "b"));
+        inOrder.verify(sseService).sendToClient(1L, roomUpdate, Map.of("channelRoomId", 10, "lastMessage", "c"));
+        inOrder.verify(sseService).sendToClient(1L, message, "m2");
+        inOrder.verify(sseService).sendToClient(2L, nav, "");
+        inOrder.verify(sseService).sendToClient(1L, navNone, "");
+        inOrder.verify(sseService).sendToClient(1L, alarm, "");
+        verify(sseService, never()).sendToClient(1L, nav, "");
+        verify(sseService, times(7)).sendToClient(anyLong(), anyString(), any());
+        verify(acknowledgment).acknowledge();
+
+        assertEquals(9.0, meterRegistry.get("sse.consumer.events").tag("result", "received").counter().count());
+        assertEquals(2.0, meterRegistry.get("sse.consumer.events").tag("result", "coalesced").counter().count());
+    }
+
+    @Test
+    @DisplayName("Kafka → SSE 미리 직렬화된 data 는 바이트 그대로 전송")
+    void consumeToSse_sendsPreRenderedBytes() {
+        // given
+        byte[] json = "{\"channelRoomId\":10}".getBytes();
+        SseEventDto event = new SseEventDto(1L, SseEventName.NEW_MESSAGE_RECEPTION.getValue(), new RenderedSseData(json, null));
+        when(sseService.isConnectedLocally(1L)).thenReturn(true);
+        when(sseService.sendToClient(1L, SseEventName.NEW_MESSAGE_RECEPTION.getValue(), json)).thenReturn(true);
+
+        // when
+        kafkaConsumerService.consumeToSse(records(event), acknowledgment);
+
+        // then
+        verify(sseService).sendToClient(1L, SseEventName.NEW_MESSAGE_RECEPTION.getValue(), json);
+        verify(acknowledgment).acknowledge();
+    }
+
     @Test
     @DisplayName("DLQ 메시지 소비 - 로그 출력 (예외 없음)")
     void consumeDlq_logsFailedEvent() {
@@ -78,4 +175,12 @@ class KafkaConsumerServiceTest {
     void consumeHealthcheck_logsMessage() {
         kafkaConsumerService.consumeHealthcheck("Kafka consumer is alive");
     }
+
+    private List<ConsumerRecord<String, SseEventDto>> records(SseEventDto... events) {
+        List<ConsumerRecord<String, SseEventDto>> records = new ArrayList<>();
+        for (int i = 0; i < events.length; i++) {
+            records.add(new ConsumerRecord<>("sse-event", 0, i, events[i].userId().toString(), events[i]));
+        }
+        return records;
+    }
 }
@@ -0,0 +1,133 @@
+package com.hertz.hertz_be.global.kafka.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hertz.hertz_be.global.kafka.config.KafkaConsumerConfig;
+import com.hertz.hertz_be.global.kafka.config.KafkaProducerConfig;
+import com.hertz.hertz_be.global.kafka.dto.RenderedSseData;
+import com.hertz.hertz_be.global.kafka.dto.SseEventDto;
+import com.hertz.hertz_be.global.kafka.servise.KafkaConsumerService;
+import com.hertz.hertz_be.global.sse.SseService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.admin.NewTopic;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.BatchAcknowledgingMessageListener;
+import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.kafka.listener.MessageListener;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.EmbeddedKafkaKraftBroker;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * SSE 배치 처리 실패 → DeadLetterPublishingRecoverer 재발행 → DLQ 리스너 수신까지 실제 설정(직렬화 / 역직렬화)으로 확인 (임베디드 Kafka)
+ */
+class SseDlqRoundTripTest {
+
+    private static final String SSE_TOPIC = "sse-event-dlq-test";
+    private static final String DLQ_TOPIC = "sse-event-dlq-test-dlq";
+
+    private static EmbeddedKafkaBroker broker;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<ConcurrentMessageListenerContainer<String, SseEventDto>> containers = new ArrayList<>();
+
+    private KafkaConsumerConfig consumerConfig;
+    private KafkaTemplate<String, SseEventDto> kafkaTemplate;
+
+    @BeforeAll
+    static void setUpBroker() {
+        broker = new EmbeddedKafkaKraftBroker(1, 1);
+        broker.afterPropertiesSet();
+        broker.addTopics(new NewTopic(SSE_TOPIC, 1, (short) 1), new NewTopic(DLQ_TOPIC, 1, (short) 1));
+    }
+
+    @AfterAll
+    static void tearDownBroker() {
+        broker.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        KafkaProducerConfig producerConfig = new KafkaProducerConfig();
+        ReflectionTestUtils.setField(producerConfig, "bootstrapServers", broker.getBrokersAsString());
+        ReflectionTestUtils.setField(producerConfig, "acksConfig", "all");
+        ReflectionTestUtils.setField(producerConfig, "retry", 3);
+        ReflectionTestUtils.setField(producerConfig, "enableIdempotence", true);
+        ReflectionTestUtils.setField(producerConfig, "maxInflight", 3);
+        ReflectionTestUtils.setField(producerConfig, "lingerMs", 5);
+        ReflectionTestUtils.setField(producerConfig, "batchSize", 32768);
+        ReflectionTestUtils.setField(producerConfig, "compressionType", "lz4");
+        ReflectionTestUtils.setField(producerConfig, "bufferMemory", 33554432L);
+        kafkaTemplate = producerConfig.kafkaTemplate(producerConfig.producerFactory(objectMapper, meterRegistry));
+
+        consumerConfig = new KafkaConsumerConfig();
+        ReflectionTestUtils.setField(consumerConfig, "bootstrapServers", broker.getBrokersAsString());
+        ReflectionTestUtils.setField(consumerConfig, "autoOffsetReset", "earliest");
+        ReflectionTestUtils.setField(consumerConfig, "sseGroupId", "sse-test");
+        ReflectionTestUtils.setField(consumerConfig, "SseDLQTopicName", DLQ_TOPIC);
+        ReflectionTestUtils.setField(consumerConfig, "SseDLQGroupId", "sse-dlq-test");
+        ReflectionTestUtils.setField(consumerConfig, "sseMaxPollRecords", 500);
+        ReflectionTestUtils.setField(consumerConfig, "sseConcurrency", 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        containers.forEach(ConcurrentMessageListenerContainer::stop);
+        kafkaTemplate.getProducerFactory().reset();
+    }
+
+    @Test
+    @DisplayName("전송 실패한 SSE 이벤트는 바이너리 포맷 그대로 DLQ 에 재발행되고 consumeDlq 가 디코딩해 수신")
+    void failedBatch_isRepublishedAndReadByDlqListener() {
+        SseService sseService = mock(SseService.class);
+        when(sseService.isConnectedLocally(anyLong())).thenReturn(true);
+        when(sseService.sendToClient(anyLong(), anyString(), any())).thenThrow(new IllegalStateException("emitter 종료됨"));
+        KafkaConsumerService consumerService = spy(new KafkaConsumerService(sseService, meterRegistry));
+
+        DefaultErrorHandler errorHandler = consumerConfig.sseEventErrorHandler(kafkaTemplate);
+        ConcurrentMessageListenerContainer<String, SseEventDto> sseContainer = consumerConfig
+                .sseFactory(consumerConfig.sseConsumerFactory(meterRegistry, objectMapper), errorHandler)
+                .createContainer(SSE_TOPIC);
+        sseContainer.getContainerProperties().setGroupId("sse-" + UUID.randomUUID());
+        sseContainer.setupMessageListener((BatchAcknowledgingMessageListener<String, SseEventDto>) consumerService::consumeToSse);
+
+        ConcurrentMessageListenerContainer<String, SseEventDto> dlqContainer = consumerConfig
+                .sseDlqFactory(objectMapper)
+                .createContainer(DLQ_TOPIC);
+        dlqContainer.getContainerProperties().setGroupId("sse-dlq-" + UUID.randomUUID());
+        dlqContainer.setupMessageListener((MessageListener<String, SseEventDto>) record -> consumerService.consumeDlq(record.value()));
+
+        start(sseContainer);
+        start(dlqContainer);
+
+        kafkaTemplate.send(SSE_TOPIC, "7", new SseEventDto(7L, "TEST_EVENT", "test-data"));
+        kafkaTemplate.flush();
+
+        verify(consumerService, timeout(30_000)).consumeDlq(argThat(event ->
+                event.userId() == 7L
+                        && "TEST_EVENT".equals(event.eventName())
+                        && event.data() instanceof RenderedSseData rendered
+                        && "test-data".equals(new String(rendered.bytes(), StandardCharsets.UTF_8))));
+    }
+
+    private void start(ConcurrentMessageListenerContainer<String, SseEventDto> container) {
+        containers.add(container);
+        container.start();
+    }
+}
@@ -0,0 +1,190 @@
+package com.hertz.hertz_be.global.kafka.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hertz.hertz_be.domain.channel.dto.response.sse.NewMessageResponseDto;
+import com.hertz.hertz_be.global.common.SseEventName;
+import com.hertz.hertz_be.global.kafka.dto.SseEventDto;
+import com.hertz.hertz_be.global.kafka.serializer.SseEventDeserializer;
+import com.hertz.hertz_be.global.kafka.serializer.SseEventSerializer;
+import com.hertz.hertz_be.global.kafka.servise.KafkaConsumerService;
+import com.hertz.hertz_be.global.sse.SseService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.BatchAcknowledgingMessageListener;
+import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.EmbeddedKafkaKraftBroker;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * SSE 토픽 파티션 수 / 리스너 concurrency 에 따른 소비 처리량 측정 (임베디드 Kafka)
+ * - ./gradlew benchmarkTest (기본 test 태스크에서는 제외)
+ * - 같은 이벤트를 파티션 1개 / 4개 토픽에 미리 적재한 뒤, concurrency = 파티션 수인 배치 리스너로 모두 소비하는 시간 측정
+ *   (consumer group 참여 시간은 빼고 첫 이벤트 처리 시점부터 측정)
+ * - 이벤트 처리 비용은 건당 고정 지연으로 흉내냄 (리스너 스레드가 병목인 상황)
+ * - 사용자별 순서: 이벤트 data 에 사용자별 증가 번호를 넣고 받은 순서가 역전되지 않는지 확인
+ * - 레코드는 운영과 같은 SseEventSerializer / SseEventDeserializer 바이너리 포맷으로 주고받음
+ */
+@Tag("benchmark")
+class SsePartitionScalingBenchmarkTest {
+
+    private static final int USERS = 200;
+    private static final int EVENTS_PER_USER = 40;
+    private static final int TOTAL_EVENTS = USERS * EVENTS_PER_USER;
+    private static final long PROCESSING_NANOS = TimeUnit.MICROSECONDS.toNanos(200);
+
+    private static final Logger log = LoggerFactory.getLogger(SsePartitionScalingBenchmarkTest.class);
+
+    private static final ObjectMapper OBJECT_MAPPER = Jackson2ObjectMapperBuilder.json().build();
+
+    private static EmbeddedKafkaBroker broker;
+
+    @BeforeAll
+    static void setUp() {
+        broker = new EmbeddedKafkaKraftBroker(1, 1);
+        broker.afterPropertiesSet();
+    }
+
+    @AfterAll
+    static void tearDown() {
+        broker.destroy();
+    }
+
+    @Test
+    @DisplayName("파티션 / concurrency 를 늘리면 처리량이 늘고 사용자별 순서는 유지")
+    void throughputScalesWithPartitions() throws Exception {
+        Result single = consumeAll(1);
+        Result scaled = consumeAll(4);
+
+        log.info("[sse partitions] partitions=1: {} events in {}ms ({} events/s), order violations={}",
+                TOTAL_EVENTS, single.elapsedMs(), Math.round(single.throughput()), single.orderViolations());
+        log.info("[sse partitions] partitions=4: {} events in {}ms ({} events/s), order violations={}, speedup=x{}",
+                TOTAL_EVENTS, scaled.elapsedMs(), Math.round(scaled.throughput()), scaled.orderViolations(),
+                String.format("%.2f", scaled.throughput() / single.throughput()));
+
+        assertEquals(0, single.orderViolations());
+        assertEquals(0, scaled.orderViolations());
+        // 배율은 실행 환경(코어 수 / 부하)에 따라 달라지므로 로그로만 보고, 검증은 순서 관계만
+        assertTrue(scaled.throughput() > single.throughput(),
+                "파티션 4개 처리량이 1개보다 낮음");
+    }
+
+    private record Result(long elapsedMs, int orderViolations) {
+        double throughput() {
+            return TOTAL_EVENTS * 1000.0 / Math.max(1, elapsedMs);
+        }
+    }
+
+    private Result consumeAll(int partitions) throws Exception {
+        String topic = "sse-event-p" + partitions;
+        broker.addTopics(new NewTopic(topic, partitions, (short) 1));
+        produce(topic);
+
+        CountDownLatch done = new CountDownLatch(TOTAL_EVENTS);
+        Map<Long, Integer> lastSeq = new ConcurrentHashMap<>();
+        AtomicInteger orderViolations = new AtomicInteger();
+        AtomicLong firstProcessedAt = new AtomicLong();
+
+        SseService sseService = mock(SseService.class, withSettings().stubOnly());
+        when(sseService.isConnectedLocally(anyLong())).thenReturn(true);
+        when(sseService.sendToClient(anyLong(), anyString(), any())).thenAnswer(invocation -> {
+            firstProcessedAt.compareAndSet(0, System.nanoTime());
+            Long userId = invocation.getArgument(0);
+            // 컨슈머는 미리 직렬화된 data 바이트를 그대로 넘김
+            int seq = OBJECT_MAPPER.readTree((byte[]) invocation.getArgument(2)).get("lastPageNumber").asInt();
+            Integer previous = lastSeq.put(userId, seq);
+            if (previous != null && previous >= seq) {
+                orderViolations.incrementAndGet();
+            }
+            LockSupport.parkNanos(PROCESSING_NANOS);
+            done.countDown();
+            return true;
+        });
+        KafkaConsumerService consumerService = new KafkaConsumerService(sseService, new SimpleMeterRegistry());
+
+        ContainerProperties containerProperties = new ContainerProperties(topic);
+        containerProperties.setGroupId("sse-benchmark-" + UUID.randomUUID());
+        containerProperties.setAckMode(ContainerProperties.AckMode.MANUAL);
+        containerProperties.setMessageListener((BatchAcknowledgingMessageListener<String, SseEventDto>) consumerService::consumeToSse);
+
+        ConcurrentMessageListenerContainer<String, SseEventDto> container =
+                new ConcurrentMessageListenerContainer<>(consumerFactory(), containerProperties);
+        container.setConcurrency(partitions);
+
+        container.start();
+        try {
+            assertTrue(done.await(2, TimeUnit.MINUTES), "제한 시간 내 모든 이벤트를 소비하지 못함");
+            long elapsed = System.nanoTime() - firstProcessedAt.get();
+            return new Result(Duration.ofNanos(elapsed).toMillis(), orderViolations.get());
+        } finally {
+            container.stop();
+        }
+    }
+
+    // 사용자 순서대로 번갈아 적재 (같은 사용자 이벤트는 data 가 1, 2, 3 ... 순서)
+    private void produce(String topic) {
+        Map<String, Object> props = new HashMap<>();
+        props.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, broker.getBrokersAsString());
+        props.put(ProducerConfig.LINGER_MS_CONFIG, 5);
+
+        DefaultKafkaProducerFactory<String, SseEventDto> producerFactory = new DefaultKafkaProducerFactory<>(props,
+                new StringSerializer(), new SseEventSerializer(OBJECT_MAPPER));
+        try {
+            KafkaTemplate<String, SseEventDto> template = new KafkaTemplate<>(producerFactory);
+            for (int seq = 1; seq <= EVENTS_PER_USER; seq++) {
+                for (long userId = 1; userId <= USERS; userId++) {
+                    template.send(topic, String.valueOf(userId),
+                            new SseEventDto(userId, SseEventName.NEW_MESSAGE_RECEPTION.getValue(), newMessage(userId, seq)));
+                }
+            }
+            template.flush();
+        } finally {
+            producerFactory.destroy();
+        }
+    }
+
+    private DefaultKafkaConsumerFactory<String, SseEventDto> consumerFactory() {
+        Map<String, Object> props = new HashMap<>();
+        props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, broker.getBrokersAsString());
+        props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        props.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, 500);
+        return new DefaultKafkaConsumerFactory<>(props, new StringDeserializer(),
+                new SseEventDeserializer(OBJECT_MAPPER));
+    }
+
+    // 순서 확인용 사용자별 증가 번호는 lastPageNumber 에 넣음
+    private NewMessageResponseDto newMessage(long userId, int seq) {
+        return new NewMessageResponseDto(userId, userId + 1, "상대방", "메세지 " + seq,
+                "2025-01-01T12:00:00", "https://image", "COUPLE", seq);
+    }
+}
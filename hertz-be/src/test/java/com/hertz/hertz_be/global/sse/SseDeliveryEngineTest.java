@@ -0,0 +1,119 @@
+package com.hertz.hertz_be.global.sse;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class SseDeliveryEngineTest {
+
+    private final Long userId = 1L;
+
+    // 제출된 drain 작업을 바로 실행하지 않고 모아 두었다가 테스트에서 실행
+    private final List<Runnable> pendingDrains = new ArrayList<>();
+
+    private SimpleMeterRegistry meterRegistry;
+    private SseDeliveryEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        engine = new SseDeliveryEngine(meterRegistry, 2, pendingDrains::add);
+    }
+
+    @Test
+    @DisplayName("send - 큐에 넣은 순서대로 한 번의 drain 에서 전송")
+    void send_drainsInOrder() throws IOException {
+        SseEmitter emitter = mock(SseEmitter.class);
+        engine.open(userId, emitter, () -> {});
+
+        assertTrue(engine.send(emitter, "a", "1"));
+        assertTrue(engine.send(emitter, "b", "2"));
+        assertEquals(1, pendingDrains.size());
+
+        runDrains();
+
+        verify(emitter, times(2)).send(any(SseEmitter.SseEventBuilder.class));
+    }
+
+    @Test
+    @DisplayName("heartbeat - 보낼 이벤트가 밀려 있으면 생략")
+    void heartbeat_coalescedWhenQueueNotEmpty() throws IOException {
+        SseEmitter emitter = mock(SseEmitter.class);
+        engine.open(userId, emitter, () -> {});
+
+        engine.send(emitter, "a", "1");
+        engine.heartbeat(emitter, "heartbeat", "heartbeat");
+        runDrains();
+
+        verify(emitter, times(1)).send(any(SseEmitter.SseEventBuilder.class));
+        assertEquals(1.0, meterRegistry.get("sse.delivery.dropped").tag("reason", "coalesced").counter().count());
+    }
+
+    @Test
+    @DisplayName("send - 큐가 가득 차면 느린 클라이언트로 보고 연결 종료")
+    void send_closesSlowConsumerWhenQueueFull() {
+        SseEmitter emitter = mock(SseEmitter.class);
+        AtomicBoolean closed = new AtomicBoolean();
+        engine.open(userId, emitter, () -> closed.set(true));
+
+        engine.send(emitter, "a", "1");
+        engine.send(emitter, "b", "2");
+
+        assertFalse(engine.send(emitter, "c", "3"));
+        assertTrue(closed.get());
+        verify(emitter).complete();
+        assertEquals(1.0, meterRegistry.get("sse.delivery.dropped").tag("reason", "slow_consumer").counter().count());
+        assertFalse(engine.send(emitter, "d", "4"));
+    }
+
+    @Test
+    @DisplayName("drain - 전송 실패 시 남은 이벤트를 버리고 연결 종료")
+    void drain_terminatesOnSendFailure() throws IOException {
+        SseEmitter emitter = mock(SseEmitter.class);
+        doThrow(IOException.class).when(emitter).send(any(SseEmitter.SseEventBuilder.class));
+        AtomicBoolean closed = new AtomicBoolean();
+        engine.open(userId, emitter, () -> closed.set(true));
+
+        engine.send(emitter, "a", "1");
+        engine.send(emitter, "b", "2");
+        runDrains();
+
+        verify(emitter, times(1)).send(any(SseEmitter.SseEventBuilder.class));
+        verify(emitter).complete();
+        assertTrue(closed.get());
+    }
+
+    @Test
+    @DisplayName("shutdown - 남은 큐를 버리고 executor 를 종료, 이후 전송은 받지 않음")
+    void shutdown_closesExecutorAndDropsQueuedEvents() throws IOException {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        SseDeliveryEngine shutdownEngine = new SseDeliveryEngine(meterRegistry, 2, executor);
+        SseEmitter emitter = mock(SseEmitter.class);
+        shutdownEngine.open(userId, emitter, () -> {});
+
+        shutdownEngine.shutdown();
+
+        assertTrue(executor.isShutdown());
+        assertFalse(shutdownEngine.send(emitter, "a", "1"));
+        verify(emitter, never()).send(any(SseEmitter.SseEventBuilder.class));
+    }
+
+    private void runDrains() {
+        while (!pendingDrains.isEmpty()) {
+            pendingDrains.remove(0).run();
+        }
+    }
+}
@@ -4,15 +4,21 @@ import com.hertz.hertz_be.domain.auth.repository.RefreshTokenRepository;
 import com.hertz.hertz_be.domain.auth.responsecode.AuthResponseCode;
 import com.hertz.hertz_be.domain.user.repository.UserRepository;
 import com.hertz.hertz_be.global.common.SseEventName;
-import com.hertz.hertz_be.global.kafka.exception.KafkaException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.*;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -25,6 +31,16 @@ class SseServiceTest {
     @Mock
     private RefreshTokenRepository refreshTokenRepository;
 
+    @Mock
+    private SsePresenceRegistry presenceRegistry;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    // 전송 큐를 호출 스레드에서 바로 비우도록 구성
+    @Spy
+    private SseDeliveryEngine deliveryEngine = new SseDeliveryEngine(new SimpleMeterRegistry(), 64, Runnable::run);
+
     @InjectMocks
     private SseService sseService;
 
@@ -38,16 +54,19 @@ class SseServiceTest {
     @Test
     @DisplayName("SSE 구독 - 신규 연결 성공")
     void subscribe_newConnection_success() {
+        when(refreshTokenRepository.getRefreshToken(userId)).thenReturn("token");
         when(userRepository.existsById(userId)).thenReturn(true);
 
         SseEmitter emitter = sseService.subscribe(userId);
 
         assertNotNull(emitter);
+        verify(presenceRegistry).register(userId);
     }
 
     @Test
     @DisplayName("SSE 구독 - 존재하지 않는 유저일 경우 에러 이벤트 전송")
     void subscribe_nonExistentUser_shouldSendError() {
+        when(refreshTokenRepository.getRefreshToken(userId)).thenReturn("token");
         when(userRepository.existsById(userId)).thenReturn(false);
 
         SseEmitter emitter = sseService.subscribe(userId);
@@ -58,11 +77,12 @@ class SseServiceTest {
     @Test
     @DisplayName("SSE 구독 - 이미 연결된 유저가 재구독 시도 시 connect success 재전송")
     void subscribe_existingEmitter_shouldSendConnectSuccessAgain() throws Exception {
+        when(refreshTokenRepository.getRefreshToken(userId)).thenReturn("token");
         when(userRepository.existsById(userId)).thenReturn(true);
 
         SseEmitter emitter = spy(new SseEmitter(1800000L));
         // 직접 emitters 맵에 삽입
-        getEmitterMap(sseService).put(userId, emitter);
+        connect(emitter);
 
         SseEmitter returned = sseService.subscribe(userId);
 
@@ -76,53 +96,51 @@ class SseServiceTest {
         String eventName = "test-event";
         String data = "hello";
 
-        when(refreshTokenRepository.getRefreshToken(userId)).thenReturn("valid-token");
-
         SseEmitter emitter = spy(new SseEmitter(1800000L));
-        getEmitterMap(sseService).put(userId, emitter);
+        connect(emitter);
 
         boolean result = sseService.sendToClient(userId, eventName, data);
 
         assertTrue(result);
         verify(emitter).send(any(SseEmitter.SseEventBuilder.class));
+        verifyNoInteractions(refreshTokenRepository);
     }
 
     @Test
-    @DisplayName("sendToClient - 리프레시 토큰 없음")
-    void sendToClient_shouldReturnFalse_whenNoRefreshToken() {
+    @DisplayName("SSE 구독 - 리프레시 토큰 없으면 연결하지 않고 종료")
+    void subscribe_noRefreshToken_shouldReject() {
         when(refreshTokenRepository.getRefreshToken(userId)).thenReturn(null);
 
-        boolean result = sseService.sendToClient(userId, "event", "data");
+        SseEmitter emitter = sseService.subscribe(userId);
 
-        assertFalse(result);
+        assertNotNull(emitter);
+        assertFalse(getEmitterMap(sseService).containsKey(userId));
+        verify(presenceRegistry, never()).register(any());
+        verifyNoInteractions(userRepository);
     }
 
     @Test
-    @DisplayName("sendToClient - emitter 없을 경우 false 반환")
+    @DisplayName("sendToClient - emitter 없을 경우 Redis 조회 없이 false 반환")
     void sendToClient_shouldReturnFalse_whenEmitterMissing() {
-        when(refreshTokenRepository.getRefreshToken(userId)).thenReturn("token");
-
         boolean result = sseService.sendToClient(userId, "event", "data");
 
         assertFalse(result);
+        verify(refreshTokenRepository, never()).getRefreshToken(any());
     }
 
     @Test
-    @DisplayName("sendToClient - IOException 발생 시 KafkaException 전환")
-    void sendToClient_shouldThrow_whenIOException() throws Exception {
-        when(refreshTokenRepository.getRefreshToken(userId)).thenReturn("token");
+    @DisplayName("sendToClient - 전송 중 IOException 발생 시 Kafka 로 예외를 넘기지 않고 연결 종료")
+    void sendToClient_shouldCloseEmitter_whenIOException() throws Exception {
         SseEmitter emitter = mock(SseEmitter.class);
         doThrow(IOException.class).when(emitter).send(any(SseEmitter.SseEventBuilder.class));
 
         // emitter를 직접 맵에 주입
-        getEmitterMap(sseService).put(userId, emitter);
+        connect(emitter);
 
-        KafkaException exception = assertThrows(KafkaException.class, () -> {
-            sseService.sendToClient(userId, "test", "data");
-        });
+        assertDoesNotThrow(() -> sseService.sendToClient(userId, "test", "data"));
 
-        assertTrue(exception.getMessage().contains("IOException"));
         verify(emitter).complete(); // emitter 정리 확인
+        assertFalse(getEmitterMap(sseService).containsKey(userId));
     }
 
     @Test
@@ -139,21 +157,64 @@ class SseServiceTest {
     }
 
     @Test
-    @DisplayName("disconnect - 정상 종료")
-    void disconnect_shouldRemoveEmitter() {
-        SseEmitter emitter = sseService.subscribe(userId);
+    @DisplayName("onMessage - 세션 폐기 메세지 수신 시 오류 이벤트 전송 후 연결 종료")
+    void onMessage_revoke_sendsErrorAndClosesEmitter() throws IOException {
+        SseEmitter emitter = spy(new SseEmitter(1800000L));
+        connect(emitter);
+        when(presenceRegistry.getNodeId()).thenReturn("node-a");
+        when(presenceRegistry.parse("REVOKE:1")).thenReturn(Optional.of(
+                new SsePresenceRegistry.ControlMessage(SsePresenceRegistry.ControlType.REVOKE, userId, null)));
+
+        sseService.onMessage(new DefaultMessage(
+                SsePresenceRegistry.CONTROL_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                "REVOKE:1".getBytes(StandardCharsets.UTF_8)), null);
+
+        verify(emitter).send(any(SseEmitter.SseEventBuilder.class));
+        verify(emitter).complete();
+        assertFalse(getEmitterMap(sseService).containsKey(userId));
+        verify(presenceRegistry).release(userId);
+    }
 
-        sseService.disconnect(userId);
+    @Test
+    @DisplayName("onMessage - 다른 노드에서 재구독하면 이 노드의 이전 연결 종료")
+    void onMessage_takeoverFromOtherNode_closesLocalEmitter() {
+        SseEmitter emitter = spy(new SseEmitter(1800000L));
+        getEmitterMap(sseService).put(userId, emitter);
+        when(presenceRegistry.getNodeId()).thenReturn("node-a");
+        when(presenceRegistry.parse("TAKEOVER:1:node-b")).thenReturn(Optional.of(
+                new SsePresenceRegistry.ControlMessage(SsePresenceRegistry.ControlType.TAKEOVER, userId, "node-b")));
+
+        sseService.onMessage(new DefaultMessage(
+                SsePresenceRegistry.CONTROL_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                "TAKEOVER:1:node-b".getBytes(StandardCharsets.UTF_8)), null);
 
-        // emitters에서 제거되었는지 확인
+        verify(emitter).complete();
         assertFalse(getEmitterMap(sseService).containsKey(userId));
     }
 
+    @Test
+    @DisplayName("onMessage - 자신이 발행한 재구독 메세지는 무시")
+    void onMessage_takeoverFromSelf_keepsEmitter() {
+        SseEmitter emitter = spy(new SseEmitter(1800000L));
+        getEmitterMap(sseService).put(userId, emitter);
+        when(presenceRegistry.getNodeId()).thenReturn("node-a");
+        when(presenceRegistry.parse("TAKEOVER:1:node-a")).thenReturn(Optional.of(
+                new SsePresenceRegistry.ControlMessage(SsePresenceRegistry.ControlType.TAKEOVER, userId, "node-a")));
+
+        sseService.onMessage(new DefaultMessage(
+                SsePresenceRegistry.CONTROL_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                "TAKEOVER:1:node-a".getBytes(StandardCharsets.UTF_8)), null);
+
+        verify(emitter, never()).complete();
+        assertTrue(getEmitterMap(sseService).containsKey(userId));
+    }
+
     @Test
     @DisplayName("sendPeriodicPings - emitter가 있을 때 heartbeat 전송")
     void sendPeriodicPings_shouldSendHeartbeat() {
+        ReflectionTestUtils.setField(sseService, "heartbeatShards", 1);
         SseEmitter emitter = spy(new SseEmitter(1800000L));
-        getEmitterMap(sseService).put(userId, emitter);
+        connect(emitter);
 
         sseService.sendPeriodicPings();
 
@@ -164,6 +225,42 @@ class SseServiceTest {
         }
     }
 
+    @Test
+    @DisplayName("sendPeriodicPings - tick 마다 해당 shard 사용자에게만 heartbeat 전송")
+    void sendPeriodicPings_sendsOnlyToCurrentShard() throws IOException {
+        ReflectionTestUtils.setField(sseService, "heartbeatShards", 2);
+        SseEmitter even = spy(new SseEmitter(1800000L));
+        SseEmitter odd = spy(new SseEmitter(1800000L));
+        sseService.putEmitter(2L, even);
+        deliveryEngine.open(2L, even, () -> {});
+        sseService.putEmitter(3L, odd);
+        deliveryEngine.open(3L, odd, () -> {});
+
+        sseService.sendPeriodicPings();
+
+        verify(even).send(any(SseEmitter.SseEventBuilder.class));
+        verify(odd, never()).send(any(SseEmitter.SseEventBuilder.class));
+        verify(presenceRegistry).refresh(List.of(2L));
+    }
+
+    @Test
+    @DisplayName("sendPeriodicPings - 연결이 끊긴 사용자는 shard 에서 빠져 heartbeat / presence 갱신 대상에서 제외")
+    void sendPeriodicPings_skipsDisconnectedUser() {
+        ReflectionTestUtils.setField(sseService, "heartbeatShards", 1);
+        SseEmitter emitter = spy(new SseEmitter(1800000L));
+        connect(emitter);
+
+        sseService.sendErrorAndComplete(userId, "404", "Not Found");
+        sseService.sendPeriodicPings();
+
+        verify(presenceRegistry, never()).refresh(any());
+    }
+
+    private void connect(SseEmitter emitter) {
+        sseService.putEmitter(userId, emitter);
+        deliveryEngine.open(userId, emitter, () -> getEmitterMap(sseService).remove(userId, emitter));
+    }
+
     // SseService의 private 필드인 emitters에 접근하기 위한 리플렉션 헬퍼 메서드
     @SuppressWarnings("unchecked")
     private Map<Long, SseEmitter> getEmitterMap(SseService service) {
@@ -0,0 +1,58 @@
+package com.hertz.hertz_be.global.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AESUtilTest {
+
+    private static final String SECRET = Base64.getEncoder().encodeToString(new byte[32]);
+
+    private final AESUtil ecbUtil = new AESUtil(SECRET, false);
+    private final AESUtil gcmUtil = new AESUtil(SECRET, true);
+
+    @Test
+    @DisplayName("GCM 모드 - 버전 접두사를 붙여 암호화하고 복호화 시 원문 복원")
+    void encrypt_gcm_roundTrip() {
+        String encrypted = gcmUtil.encrypt("안녕하세요");
+
+        assertTrue(encrypted.startsWith(AESUtil.GCM_PREFIX));
+        assertNotEquals(encrypted, gcmUtil.encrypt("안녕하세요"));
+        assertEquals("안녕하세요", gcmUtil.decrypt(encrypted));
+    }
+
+    @Test
+    @DisplayName("GCM 모드에서도 접두사 없는 기존 ECB 암호문 복호화")
+    void decrypt_legacyEcb_withGcmEnabled() {
+        String legacy = ecbUtil.encrypt("기존 메세지");
+
+        assertFalse(legacy.startsWith(AESUtil.GCM_PREFIX));
+        assertEquals("기존 메세지", gcmUtil.decrypt(legacy));
+    }
+
+    @Test
+    @DisplayName("GCM 암호문이 변조되면 복호화 실패")
+    void decrypt_tamperedGcm_throwsException() {
+        byte[] payload = Base64.getDecoder().decode(gcmUtil.encrypt("hello").substring(AESUtil.GCM_PREFIX.length()));
+        payload[payload.length - 1] ^= 1;
+
+        String tampered = AESUtil.GCM_PREFIX + Base64.getEncoder().encodeToString(payload);
+
+        assertThrows(RuntimeException.class, () -> gcmUtil.decrypt(tampered));
+    }
+
+    @Test
+    @DisplayName("decryptAll - 순서를 유지하고 실패/null 항목은 null 반환")
+    void decryptAll_keepsOrder() {
+        List<String> encrypted = Arrays.asList(gcmUtil.encrypt("a"), "invalid", null, ecbUtil.encrypt("b"));
+
+        List<String> result = gcmUtil.decryptAll(encrypted);
+
+        assertEquals(Arrays.asList("a", null, null, "b"), result);
+    }
+}